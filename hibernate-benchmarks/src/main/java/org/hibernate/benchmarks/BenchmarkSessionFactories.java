@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.benchmarks.model.PurchaseOrder;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+/**
+ * Builds the {@link SessionFactory} instances and the data set shared by the benchmarks.
+ * <p/>
+ * Every factory is bound to its own in-memory H2 database so that benchmarks (and the
+ * different parameterizations of a benchmark) never see each other's data.
+ */
+public final class BenchmarkSessionFactories {
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private BenchmarkSessionFactories() {
+	}
+
+	/**
+	 * Build a SessionFactory for the benchmark domain model
+	 *
+	 * @param settings Additional settings, overriding the defaults
+	 */
+	public static SessionFactory buildSessionFactory(Map<String, Object> settings) {
+		final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DRIVER, "org.h2.Driver" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:benchmark" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, 50 )
+				.applySetting( AvailableSettings.ORDER_INSERTS, true );
+		registryBuilder.applySettings( settings );
+
+		final StandardServiceRegistry registry = registryBuilder.build();
+		try {
+			return new MetadataSources( registry )
+					.addAnnotatedClass( Customer.class )
+					.addAnnotatedClass( PurchaseOrder.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Populate the database with the given number of customers, each having the
+	 * given number of orders.
+	 *
+	 * @return The identifiers of the created customers
+	 */
+	public static long[] populate(SessionFactory sessionFactory, int customers, int ordersPerCustomer) {
+		final long[] ids = new long[customers];
+		sessionFactory.inTransaction(
+				session -> {
+					final LocalDate today = LocalDate.of( 2021, 1, 1 );
+					for ( int i = 0; i < customers; i++ ) {
+						final Customer customer = new Customer( "customer " + i, "customer" + i + "@example.org", i % 100, i * 10d );
+						session.persist( customer );
+						for ( int j = 0; j < ordersPerCustomer; j++ ) {
+							session.persist( new PurchaseOrder( "order " + i + "/" + j, today.plusDays( j ), j * 1.5d, customer ) );
+						}
+						if ( i % 500 == 0 ) {
+							session.flush();
+							session.clear();
+						}
+						ids[i] = customer.getId();
+					}
+				}
+		);
+		return ids;
+	}
+
+	public static void close(SessionFactory sessionFactory) {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures flushing a large persistence context, which is dominated by
+ * {@code DefaultFlushEntityEventListener#dirtyCheck} being applied to every managed entity.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class FlushDirtyCheckBenchmark {
+	@Param( { "1000", "10000" } )
+	public int managedEntities;
+
+	private SessionFactory sessionFactory;
+
+	private Session session;
+	private List<Customer> customers;
+	private int next;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.buildSessionFactory( Collections.emptyMap() );
+		BenchmarkSessionFactories.populate( sessionFactory, managedEntities, 0 );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		BenchmarkSessionFactories.close( sessionFactory );
+	}
+
+	@Setup( Level.Iteration )
+	public void openSession() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		customers = session.createQuery( "select c from Customer c", Customer.class ).list();
+	}
+
+	@TearDown( Level.Iteration )
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	/**
+	 * Flush a persistence context in which nothing changed: pure dirty-checking cost
+	 */
+	@Benchmark
+	public void flushUnchanged() {
+		session.flush();
+	}
+
+	/**
+	 * Flush a persistence context in which a single entity changed
+	 */
+	@Benchmark
+	public void flushSingleChange() {
+		final Customer customer = customers.get( next );
+		next = ( next + 1 ) % customers.size();
+		customer.setBalance( customer.getBalance() + 1 );
+		session.flush();
+	}
+}
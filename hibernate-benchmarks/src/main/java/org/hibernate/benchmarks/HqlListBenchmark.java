@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code QuerySqmImpl#list} for a simple HQL query, with the query plan cache
+ * disabled ("cold" - the query is interpreted and translated on every execution) and
+ * enabled.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class HqlListBenchmark {
+	private static final String HQL = "select c from Customer c where c.age = :age and c.name like :name order by c.id";
+	private static final String IN_LIST_HQL = "select c from Customer c where c.id in (:ids)";
+
+	@Param( { "false", "true" } )
+	public boolean planCacheEnabled;
+
+	private SessionFactory sessionFactory;
+	private long[] ids;
+	private Session session;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.buildSessionFactory(
+				Collections.singletonMap( AvailableSettings.QUERY_PLAN_CACHE_ENABLED, planCacheEnabled )
+		);
+		ids = BenchmarkSessionFactories.populate( sessionFactory, 1_000, 0 );
+		session = sessionFactory.openSession();
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		session.close();
+		BenchmarkSessionFactories.close( sessionFactory );
+	}
+
+	@Benchmark
+	public List<Customer> list() {
+		session.clear();
+		return session.createQuery( HQL, Customer.class )
+				.setParameter( "age", 42 )
+				.setParameter( "name", "customer%" )
+				.list();
+	}
+
+	@Benchmark
+	public List<Customer> listWithInList() {
+		session.clear();
+		return session.createQuery( IN_LIST_HQL, Customer.class )
+				.setParameterList( "ids", new Long[] { ids[1], ids[2], ids[3], ids[5], ids[8], ids[13] } )
+				.list();
+	}
+}
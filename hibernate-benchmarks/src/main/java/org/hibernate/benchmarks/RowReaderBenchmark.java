@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.PurchaseOrder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures result assembly ({@code StandardRowReader#readRow}) for entity results,
+ * including a fetched to-one association, and for scalar projections.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class RowReaderBenchmark {
+	private static final int ORDERS_PER_CUSTOMER = 10;
+
+	@Param( { "100", "10000" } )
+	public int rows;
+
+	private SessionFactory sessionFactory;
+	private Session session;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.buildSessionFactory( Collections.emptyMap() );
+		BenchmarkSessionFactories.populate( sessionFactory, Math.max( 1, rows / ORDERS_PER_CUSTOMER ), ORDERS_PER_CUSTOMER );
+		session = sessionFactory.openSession();
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		session.close();
+		BenchmarkSessionFactories.close( sessionFactory );
+	}
+
+	@Benchmark
+	public List<PurchaseOrder> entities() {
+		session.clear();
+		return session.createQuery( "select o from PurchaseOrder o join fetch o.customer", PurchaseOrder.class )
+				.setMaxResults( rows )
+				.list();
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		return session.createQuery( "select o.id, o.reference, o.placed, o.amount, c.name from PurchaseOrder o join o.customer c", Object[].class )
+				.setMaxResults( rows )
+				.list();
+	}
+}
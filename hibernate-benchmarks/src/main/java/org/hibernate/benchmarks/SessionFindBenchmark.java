@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code SessionImpl#find}, both for an entity which needs to be loaded from the
+ * database and for an entity which is already part of the persistence context.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class SessionFindBenchmark {
+	private static final int CUSTOMERS = 1_000;
+
+	private SessionFactory sessionFactory;
+	private long[] ids;
+	private int next;
+
+	private Session managedSession;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.buildSessionFactory( Collections.emptyMap() );
+		ids = BenchmarkSessionFactories.populate( sessionFactory, CUSTOMERS, 0 );
+
+		managedSession = sessionFactory.openSession();
+		for ( long id : ids ) {
+			managedSession.find( Customer.class, id );
+		}
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		managedSession.close();
+		BenchmarkSessionFactories.close( sessionFactory );
+	}
+
+	private long nextId() {
+		final long id = ids[next];
+		next = ( next + 1 ) % ids.length;
+		return id;
+	}
+
+	@Benchmark
+	public Customer findFromDatabase() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.find( Customer.class, nextId() );
+		}
+	}
+
+	@Benchmark
+	public Customer findFromPersistenceContext() {
+		return managedSession.find( Customer.class, nextId() );
+	}
+}
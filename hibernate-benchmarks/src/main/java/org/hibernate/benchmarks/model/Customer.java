@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+/**
+ * A simple entity made of basic attributes only
+ */
+@Entity
+public class Customer {
+	@Id
+	@GeneratedValue( strategy = GenerationType.SEQUENCE, generator = "customer_seq" )
+	@SequenceGenerator( name = "customer_seq", allocationSize = 50 )
+	private Long id;
+	private String name;
+	private String email;
+	private int age;
+	private double balance;
+
+	public Customer() {
+	}
+
+	public Customer(String name, String email, int age, double balance) {
+		this.name = name;
+		this.email = email;
+		this.age = age;
+		this.balance = balance;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public int getAge() {
+		return age;
+	}
+
+	public void setAge(int age) {
+		this.age = age;
+	}
+
+	public double getBalance() {
+		return balance;
+	}
+
+	public void setBalance(double balance) {
+		this.balance = balance;
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import java.time.LocalDate;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+
+/**
+ * An entity with a to-one association, used to exercise joined result assembly
+ */
+@Entity
+public class PurchaseOrder {
+	@Id
+	@GeneratedValue( strategy = GenerationType.SEQUENCE, generator = "order_seq" )
+	@SequenceGenerator( name = "order_seq", allocationSize = 50 )
+	private Long id;
+	private String reference;
+	private LocalDate placed;
+	private double amount;
+	@ManyToOne( fetch = FetchType.LAZY )
+	private Customer customer;
+
+	public PurchaseOrder() {
+	}
+
+	public PurchaseOrder(String reference, LocalDate placed, double amount, Customer customer) {
+		this.reference = reference;
+		this.placed = placed;
+		this.amount = amount;
+		this.customer = customer;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getReference() {
+		return reference;
+	}
+
+	public void setReference(String reference) {
+		this.reference = reference;
+	}
+
+	public LocalDate getPlaced() {
+		return placed;
+	}
+
+	public void setPlaced(LocalDate placed) {
+		this.placed = placed;
+	}
+
+	public double getAmount() {
+		return amount;
+	}
+
+	public void setAmount(double amount) {
+		this.amount = amount;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public void setCustomer(Customer customer) {
+		this.customer = customer;
+	}
+}
@@ -0,0 +1,16 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+/**
+ * JMH micro-benchmarks covering the ORM hot paths.
+ * <p/>
+ * Run them using {@code ./gradlew :hibernate-benchmarks:jmh}, optionally restricting the run
+ * using {@code -PjmhIncludes=<regex>}.  The GC profiler is enabled by default so that the
+ * allocation rate per operation is reported along with the timings, and the results are
+ * written to {@code build/reports/jmh/results.json}.
+ */
+package org.hibernate.benchmarks;
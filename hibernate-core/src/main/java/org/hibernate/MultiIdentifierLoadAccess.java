@@ -101,6 +101,27 @@ public interface MultiIdentifierLoadAccess<T> {
 	 */
 	MultiIdentifierLoadAccess<T> enableOrderedReturn(boolean enabled);
 
+	/**
+	 * Specify the number of batches of ids to load at the same time, each on a connection
+	 * of its own, when loading from a {@link StatelessSession} without locking.  Otherwise,
+	 * batches are always loaded one after the other.
+	 * <p/>
+	 * The batches are loaded by StatelessSessions of their own, outside of the transaction
+	 * of the current session, which means that the lazy associations of the returned entities
+	 * cannot be fetched.  It is meant for read-only loads of large numbers of entities, such
+	 * as for reporting.
+	 * <p/>
+	 * The batches are loaded by threads shared by all the parallel loads of the SessionFactory,
+	 * whose number is limited by {@value org.hibernate.cfg.AvailableSettings#MULTI_LOAD_MAX_THREADS}.
+	 * Each of these threads obtains a connection of its own while loading batches.
+	 *
+	 * @param parallelism The maximum number of batches loaded at the same time; values
+	 * lower than 2 (the default being 1) disable parallel loading.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	MultiIdentifierLoadAccess<T> withParallelism(int parallelism);
+
 	/**
 	 * Perform a load of multiple entities by identifiers.  See {@link #enableOrderedReturn}
 	 * and {@link #enableReturnOfDeletedEntities} for options which effect
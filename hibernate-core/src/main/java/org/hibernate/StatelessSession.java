@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.stream.Stream;
+
 /**
  * A command-oriented API for performing bulk operations against a database.
  * <p/>
@@ -47,6 +49,39 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	Object insert(String entityName, Object entity);
 
+	/**
+	 * Insert the rows of all the instances of the given stream, as if by {@link #insert(Object)},
+	 * but through the fastest means of loading rows offered by the database, such as
+	 * {@code COPY ... FROM STDIN} on PostgreSQL, or else through multi-row inserts.
+	 * <p/>
+	 * The rows are loaded in chunks, so that the instances need not all be held in memory.
+	 * Instances whose identifiers are generated by the database on insertion are inserted
+	 * one at a time.
+	 *
+	 * @param entityClass The class of the entities to be inserted
+	 * @param entities new transient instances
+	 *
+	 * @return the number of inserted instances
+	 *
+	 * @see org.hibernate.dialect.Dialect#getBulkInsertSupport()
+	 */
+	@Incubating
+	<T> long bulkInsert(Class<T> entityClass, Stream<? extends T> entities);
+
+	/**
+	 * Insert the rows of all the instances of the given stream, as if by {@link #insert(String, Object)},
+	 * but through the fastest means of loading rows offered by the database.
+	 *
+	 * @param entityName The entityName for the entities to be inserted
+	 * @param entities new transient instances
+	 *
+	 * @return the number of inserted instances
+	 *
+	 * @see #bulkInsert(Class, Stream)
+	 */
+	@Incubating
+	long bulkInsert(String entityName, Stream<?> entities);
+
 	/**
 	 * Update a row.
 	 *
@@ -119,6 +154,32 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	<T> T get(Class<T> entityClass, Object id, LockMode lockMode);
 
+	/**
+	 * Create a {@link MultiIdentifierLoadAccess} instance to retrieve multiple rows at once
+	 * as specified by primary key values.
+	 *
+	 * @param entityClass The class of the entities to retrieve
+	 *
+	 * @return load delegate for loading the specified entity type by primary key values,
+	 * as detached entity instances
+	 *
+	 * @see MultiIdentifierLoadAccess#withParallelism(int)
+	 */
+	<T> MultiIdentifierLoadAccess<T> byMultipleIds(Class<T> entityClass);
+
+	/**
+	 * Create a {@link MultiIdentifierLoadAccess} instance to retrieve multiple rows at once
+	 * as specified by primary key values.
+	 *
+	 * @param entityName The name of the entities to retrieve
+	 *
+	 * @return load delegate for loading the specified entity type by primary key values,
+	 * as detached entity instances
+	 *
+	 * @see MultiIdentifierLoadAccess#withParallelism(int)
+	 */
+	<T> MultiIdentifierLoadAccess<T> byMultipleIds(String entityName);
+
 	/**
 	 * Refresh the entity instance state from the database.
 	 *
@@ -0,0 +1,338 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A Scanner persisting the results of another Scanner to a snapshot file, and reusing them instead of
+ * scanning again for as long as the scanned archives are unchanged, which is determined by a fingerprint
+ * of the path, size and last modification time of their files.  Computing the fingerprint only reads
+ * file attributes, whereas scanning the archives parses every class they contain.
+ * <p/>
+ * Only archives on the file system can be fingerprinted: environments with other archives are always
+ * scanned.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SCANNER_SNAPSHOT
+ */
+public class SnapshotScanner implements Scanner {
+	private static final Logger log = Logger.getLogger( SnapshotScanner.class );
+
+	private static final String FINGERPRINT = "fingerprint ";
+	private static final String PACKAGE = "package ";
+	private static final String CLASS = "class ";
+	private static final String MAPPING = "mapping ";
+
+	private final Scanner delegate;
+	private final Path snapshotFile;
+
+	public SnapshotScanner(Scanner delegate, Path snapshotFile) {
+		this.delegate = delegate;
+		this.snapshotFile = snapshotFile;
+	}
+
+	@Override
+	public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters params) {
+		final long start = System.nanoTime();
+		final List<Path> archives = archives( environment );
+		final String fingerprint = archives == null ? null : fingerprint( environment, options, archives );
+		if ( fingerprint == null ) {
+			log.debugf( "Scanned archives can not be fingerprinted, ignoring scan snapshot [%s]", snapshotFile );
+			return delegate.scan( environment, options, params );
+		}
+
+		final ScanResult snapshot = readSnapshot( fingerprint, archives );
+		if ( snapshot != null ) {
+			log.debugf(
+					"Using scan snapshot [%s], read in %s ms",
+					snapshotFile,
+					TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start )
+			);
+			return snapshot;
+		}
+
+		final long scanStart = System.nanoTime();
+		final ScanResult scanResult = delegate.scan( environment, options, params );
+		log.debugf(
+				"Scanned archives in %s ms, writing scan snapshot [%s]",
+				TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - scanStart ),
+				snapshotFile
+		);
+		writeSnapshot( fingerprint, scanResult );
+		return scanResult;
+	}
+
+	/**
+	 * The scanned archives, or {@code null} if some are not on the file system
+	 */
+	private static List<Path> archives(ScanEnvironment environment) {
+		final List<URL> urls = new ArrayList<>();
+		if ( environment.getRootUrl() != null ) {
+			urls.add( environment.getRootUrl() );
+		}
+		if ( environment.getNonRootUrls() != null ) {
+			urls.addAll( environment.getNonRootUrls() );
+		}
+		final List<Path> archives = new ArrayList<>( urls.size() );
+		for ( URL url : urls ) {
+			if ( !"file".equals( url.getProtocol() ) ) {
+				return null;
+			}
+			try {
+				archives.add( Paths.get( url.toURI() ) );
+			}
+			catch (URISyntaxException | IllegalArgumentException e) {
+				return null;
+			}
+		}
+		return archives;
+	}
+
+	/**
+	 * The fingerprint of the scanning environment, or {@code null} if the archives could not be read
+	 */
+	private static String fingerprint(ScanEnvironment environment, ScanOptions options, List<Path> archives) {
+		try {
+			final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+			update( digest, Version.getVersionString() );
+			update( digest, options.canDetectUnlistedClassesInRoot() + " "
+					+ options.canDetectUnlistedClassesInNonRoot() + " "
+					+ options.canDetectHibernateMappingFiles() );
+			update( digest, String.valueOf( environment.getExplicitlyListedClassNames() ) );
+			update( digest, String.valueOf( environment.getExplicitlyListedMappingFiles() ) );
+			for ( Path archive : archives ) {
+				update( digest, archive.toString() );
+				if ( Files.isDirectory( archive ) ) {
+					final List<Path> files;
+					try ( Stream<Path> paths = Files.walk( archive ) ) {
+						files = paths.filter( Files::isRegularFile ).sorted().collect( Collectors.toList() );
+					}
+					for ( Path file : files ) {
+						update( digest, archive.relativize( file ).toString().replace( File.separatorChar, '/' ) );
+						updateWithAttributes( digest, file );
+					}
+				}
+				else if ( Files.isRegularFile( archive ) ) {
+					updateWithAttributes( digest, archive );
+				}
+				else {
+					update( digest, "<missing>" );
+				}
+			}
+			final StringBuilder fingerprint = new StringBuilder();
+			for ( byte b : digest.digest() ) {
+				fingerprint.append( String.format( "%02x", b ) );
+			}
+			return fingerprint.toString();
+		}
+		catch (IOException e) {
+			log.debugf( e, "Unable to fingerprint scanned archives" );
+			return null;
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to fingerprint scanned archives", e );
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update( value.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+
+	private static void updateWithAttributes(MessageDigest digest, Path file) throws IOException {
+		final BasicFileAttributes attributes = Files.readAttributes( file, BasicFileAttributes.class );
+		update( digest, attributes.size() + " " + attributes.lastModifiedTime().toMillis() );
+	}
+
+	/**
+	 * The scan result recorded by the snapshot, or {@code null} if there is no snapshot, or if it is stale
+	 */
+	private ScanResult readSnapshot(String fingerprint, List<Path> archives) {
+		if ( !Files.isRegularFile( snapshotFile ) ) {
+			return null;
+		}
+		try {
+			final List<String> lines = Files.readAllLines( snapshotFile, StandardCharsets.UTF_8 );
+			if ( lines.isEmpty() || !lines.get( 0 ).equals( FINGERPRINT + fingerprint ) ) {
+				log.debugf( "Scan snapshot [%s] is stale", snapshotFile );
+				return null;
+			}
+
+			final Set<PackageDescriptor> packages = new HashSet<>();
+			final Set<ClassDescriptor> classes = new HashSet<>();
+			final Set<MappingFileDescriptor> mappingFiles = new HashSet<>();
+			for ( String line : lines.subList( 1, lines.size() ) ) {
+				if ( line.startsWith( PACKAGE ) ) {
+					final String name = line.substring( PACKAGE.length() );
+					packages.add(
+							new PackageDescriptorImpl(
+									name,
+									new ArchiveEntryAccess( name.replace( '.', '/' ) + "/package-info.class", archives )
+							)
+					);
+				}
+				else if ( line.startsWith( CLASS ) ) {
+					final int separator = line.indexOf( ' ', CLASS.length() );
+					final String name = line.substring( separator + 1 );
+					classes.add(
+							new ClassDescriptorImpl(
+									name,
+									ClassDescriptor.Categorization.valueOf( line.substring( CLASS.length(), separator ) ),
+									new ArchiveEntryAccess( name.replace( '.', '/' ) + ".class", archives )
+							)
+					);
+				}
+				else if ( line.startsWith( MAPPING ) ) {
+					final String name = line.substring( MAPPING.length() );
+					final URL url = locate( name, archives );
+					if ( url == null ) {
+						log.debugf( "Mapping file [%s] of scan snapshot [%s] not found", name, snapshotFile );
+						return null;
+					}
+					mappingFiles.add( new MappingFileDescriptorImpl( name, new UrlInputStreamAccess( url ) ) );
+				}
+			}
+			return new ScanResultImpl( packages, classes, mappingFiles );
+		}
+		catch (IOException | IllegalArgumentException | IndexOutOfBoundsException e) {
+			log.debugf( e, "Unable to read scan snapshot [%s]", snapshotFile );
+			return null;
+		}
+	}
+
+	private void writeSnapshot(String fingerprint, ScanResult scanResult) {
+		final List<String> entries = new ArrayList<>();
+		for ( PackageDescriptor packageDescriptor : scanResult.getLocatedPackages() ) {
+			entries.add( PACKAGE + packageDescriptor.getName() );
+		}
+		for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+			entries.add( CLASS + classDescriptor.getCategorization() + ' ' + classDescriptor.getName() );
+		}
+		for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
+			entries.add( MAPPING + mappingFileDescriptor.getName() );
+		}
+		entries.sort( null );
+
+		final List<String> lines = new ArrayList<>( entries.size() + 1 );
+		lines.add( FINGERPRINT + fingerprint );
+		lines.addAll( entries );
+		try {
+			final Path directory = snapshotFile.toAbsolutePath().getParent();
+			Files.createDirectories( directory );
+			final Path temporaryFile = Files.createTempFile( directory, snapshotFile.getFileName().toString(), ".tmp" );
+			try {
+				Files.write( temporaryFile, lines, StandardCharsets.UTF_8 );
+				try {
+					Files.move( temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+				}
+				catch (AtomicMoveNotSupportedException e) {
+					Files.move( temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING );
+				}
+			}
+			finally {
+				Files.deleteIfExists( temporaryFile );
+			}
+			log.debugf( "Wrote scan snapshot [%s]", snapshotFile );
+		}
+		catch (IOException e) {
+			log.warnf( e, "Unable to write scan snapshot [%s]", snapshotFile );
+		}
+	}
+
+	/**
+	 * Locate the given entry in the archives
+	 *
+	 * @return The URL of the entry, or {@code null} if not found
+	 */
+	private static URL locate(String name, List<Path> archives) throws IOException {
+		for ( Path archive : archives ) {
+			if ( Files.isDirectory( archive ) ) {
+				final Path file = archive.resolve( name );
+				if ( Files.isRegularFile( file ) ) {
+					return file.toUri().toURL();
+				}
+			}
+			else if ( Files.isRegularFile( archive ) ) {
+				try ( JarFile jarFile = new JarFile( archive.toFile() ) ) {
+					if ( jarFile.getEntry( name ) != null ) {
+						return new URL( "jar:" + archive.toUri() + "!/" + name );
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Access to an entry of the scanned archives, located when first accessed
+	 */
+	private static class ArchiveEntryAccess implements InputStreamAccess {
+		private final String name;
+		private final List<Path> archives;
+
+		private ArchiveEntryAccess(String name, List<Path> archives) {
+			this.name = name;
+			this.archives = archives;
+		}
+
+		@Override
+		public String getStreamName() {
+			return name;
+		}
+
+		@Override
+		public InputStream accessInputStream() {
+			final URL url;
+			try {
+				url = locate( name, archives );
+			}
+			catch (IOException e) {
+				throw new HibernateException( "Could not locate archive entry : " + name, e );
+			}
+			if ( url == null ) {
+				throw new HibernateException( "Could not locate archive entry : " + name );
+			}
+			return new UrlInputStreamAccess( url ).accessInputStream();
+		}
+	}
+}
@@ -8,6 +8,8 @@ package org.hibernate.boot.model.process.internal;
 
 import java.lang.reflect.Constructor;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -16,6 +18,7 @@ import java.util.Set;
 import org.hibernate.boot.MappingException;
 import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
 import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.SnapshotScanner;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.internal.StandardScanner;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
@@ -34,6 +37,8 @@ import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.XmlMappingBinderAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.service.ServiceRegistry;
 
 import org.jboss.logging.Logger;
@@ -71,7 +76,7 @@ public class ScanningCoordinator {
 
 		// NOTE : the idea with JandexInitializer/JandexInitManager was to allow adding classes
 		// to the index as we discovered them via scanning and .  Currently
-		final Scanner scanner = buildScanner( bootstrapContext, classLoaderAccess );
+		final Scanner scanner = applySnapshot( buildScanner( bootstrapContext, classLoaderAccess ), bootstrapContext );
 		final ScanResult scanResult = scanner.scan(
 				bootstrapContext.getScanEnvironment(),
 				bootstrapContext.getScanOptions(),
@@ -81,6 +86,20 @@ public class ScanningCoordinator {
 		applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
 	}
 
+	private static Scanner applySnapshot(Scanner scanner, BootstrapContext bootstrapContext) {
+		final Object snapshotSetting = bootstrapContext.getServiceRegistry()
+				.getService( ConfigurationService.class )
+				.getSettings()
+				.get( AvailableSettings.SCANNER_SNAPSHOT );
+		if ( snapshotSetting == null || snapshotSetting.toString().isEmpty() ) {
+			return scanner;
+		}
+		final Path snapshotFile = snapshotSetting instanceof Path
+				? (Path) snapshotSetting
+				: Paths.get( snapshotSetting.toString() );
+		return new SnapshotScanner( scanner, snapshotFile );
+	}
+
 	private static final Class[] SINGLE_ARG = new Class[] { ArchiveDescriptorFactory.class };
 
 	@SuppressWarnings("unchecked")
@@ -21,9 +21,11 @@ import org.hibernate.boot.registry.selector.StrategyRegistrationProvider;
 import org.hibernate.boot.registry.selector.spi.DialectSelector;
 import org.hibernate.boot.registry.selector.spi.StrategySelectionException;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.cache.internal.CompactCacheEntryCodec;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
 import org.hibernate.cache.internal.SimpleCacheKeysFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.query.sqm.mutation.internal.cte.CteMutationStrategy;
@@ -110,6 +112,7 @@ public class StrategySelectorBuilder {
 		addSqmMultiTableMutationStrategies( strategySelector );
 		addImplicitNamingStrategies( strategySelector );
 		addCacheKeysFactories( strategySelector );
+		addCacheEntryCodecs( strategySelector );
 		addJsonFormatMappers( strategySelector );
 
 		// apply auto-discovered registrations
@@ -232,6 +235,14 @@ public class StrategySelectorBuilder {
 		);
 	}
 
+	private void addCacheEntryCodecs(StrategySelectorImpl strategySelector) {
+		strategySelector.registerStrategyImplementor(
+				CacheEntryCodec.class,
+				CompactCacheEntryCodec.SHORT_NAME,
+				CompactCacheEntryCodec.class
+		);
+	}
+
 	private void addJsonFormatMappers(StrategySelectorImpl strategySelector) {
 		strategySelector.registerStrategyImplementor(
 				FormatMapper.class,
@@ -21,6 +21,7 @@ import org.hibernate.boot.SchemaAutoTooling;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -198,6 +199,15 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isQueryCacheEnabled();
 
+	/**
+	 * Are cached query results invalidated per entity rather than per table?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_QUERY_CACHE_ENTITY_INVALIDATION
+	 */
+	default boolean isQueryCacheEntityInvalidationEnabled() {
+		return false;
+	}
+
 	TimestampsCacheFactory getTimestampsCacheFactory();
 
 	String getCacheRegionPrefix();
@@ -206,6 +216,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * The codec used to encode entity cache entries when they are serialized,
+	 * or {@code null} to use Java serialization.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_ENTRY_CODEC
+	 */
+	default CacheEntryCodec getCacheEntryCodec() {
+		return null;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
 	boolean isAutoEvictCollectionCache();
@@ -216,6 +236,15 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isJdbcBatchVersionedData();
 
+	/**
+	 * Should batched entity inserts be executed as multi-row insert statements?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_MULTI_ROW_INSERTS
+	 */
+	default boolean isMultiRowInsertBatchingEnabled() {
+		return false;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	/**
@@ -228,6 +257,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	Integer getJdbcFetchSize();
 
+	/**
+	 * The number of rows to read ahead of time on a background thread for forward-only
+	 * scrolling and streaming queries, or {@code 0} to disable reading ahead.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SCROLL_READ_AHEAD_SIZE
+	 */
+	default int getScrollReadAheadSize() {
+		return 0;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	default boolean doesConnectionProviderDisableAutoCommit() {
@@ -303,6 +342,25 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * The maximum number of SQL translations kept by a cached select query plan.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_TRANSLATIONS
+	 */
+	default int getQueryPlanCacheMaxTranslations() {
+		return 16;
+	}
+
+	/**
+	 * The number of times the rows of a query are read before a row reader
+	 * specialized for its results is generated, or {@code 0} if never.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#COMPILED_ROW_READER_THRESHOLD
+	 */
+	default int getCompiledRowReaderThreshold() {
+		return 0;
+	}
+
 	default boolean nativeExceptionHandling51Compliance() {
 		return false;
 	}
@@ -311,6 +369,15 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
 
+	/**
+	 * Should the statistics keep latency histograms for queries and entity loads?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 */
+	default boolean isStatisticsLatencyHistogramsEnabled() {
+		return false;
+	}
+
 	/**
 	 * @deprecated Since 5.4.1, this is no longer used.
 	 */
@@ -363,6 +430,25 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * Should bytecode generated comparators be used to dirty check entities
+	 * which are not enhanced for lazy loading?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_DIRTY_CHECK_OPTIMIZER
+	 */
+	default boolean isDirtyCheckOptimizerEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should flushes only visit the entities possibly changed since the last flush?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH
+	 */
+	default boolean isIncrementalFlushEnabled() {
+		return false;
+	}
+
 	boolean isOmitJoinOfSuperclassTablesEnabled();
 
 	int getPreferredSqlTypeCodeForBoolean();
@@ -24,7 +24,9 @@ import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.CompositeOwner;
 import org.hibernate.engine.spi.CompositeTracker;
 import org.hibernate.engine.spi.ExtendedSelfDirtinessTracker;
+import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.SelfDirtinessNotifier;
 import org.hibernate.internal.util.collections.ArrayHelper;
 
 import net.bytebuddy.asm.Advice;
@@ -66,12 +68,17 @@ class CodeTemplates {
 	static class TrackChange {
 		@Advice.OnMethodEnter
 		static void $$_hibernate_trackChange(
+				@Advice.This ManagedEntity self,
 				@Advice.Argument(0) String name,
 				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
 			if ( $$_hibernate_tracker == null ) {
 				$$_hibernate_tracker = new SimpleFieldTracker();
 			}
+			final boolean wasEmpty = $$_hibernate_tracker.isEmpty();
 			$$_hibernate_tracker.add( name );
+			if ( wasEmpty && !$$_hibernate_tracker.isEmpty() ) {
+				SelfDirtinessNotifier.markPossiblyDirty( self );
+			}
 		}
 	}
 
@@ -42,6 +42,7 @@ import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.ManagedMappedSuperclass;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.SelfDirtinessNotifier;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
@@ -189,7 +190,7 @@ public class EnhancerImpl implements Enhancer {
 				List<AnnotatedFieldDescription> collectionFields = collectCollectionFields( managedCtClass );
 
 				if ( collectionFields.isEmpty() ) {
-					builder = builder.implement( SelfDirtinessTracker.class )
+					builder = builder.implement( SelfDirtinessTracker.class, SelfDirtinessNotifier.class )
 							.defineField( EnhancerConstants.TRACKER_FIELD_NAME, DirtyTracker.class, FieldPersistence.TRANSIENT, Visibility.PRIVATE )
 									.annotateField( AnnotationDescription.Builder.ofType( Transient.class ).build() )
 							.defineMethod( EnhancerConstants.TRACKER_CHANGER_NAME, void.class, Visibility.PUBLIC )
@@ -208,7 +209,7 @@ public class EnhancerImpl implements Enhancer {
 									.intercept( implementationGetCollectionTrackerWithoutCollections );
 				}
 				else {
-					builder = builder.implement( ExtendedSelfDirtinessTracker.class )
+					builder = builder.implement( ExtendedSelfDirtinessTracker.class, SelfDirtinessNotifier.class )
 							.defineField( EnhancerConstants.TRACKER_FIELD_NAME, DirtyTracker.class, FieldPersistence.TRANSIENT, Visibility.PRIVATE )
 									.annotateField( AnnotationDescription.Builder.ofType( Transient.class ).build() )
 							.defineField( EnhancerConstants.TRACKER_COLLECTION_NAME, CollectionTracker.class, FieldPersistence.TRANSIENT, Visibility.PRIVATE )
@@ -16,14 +16,21 @@ import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.CompiledRowReader;
 
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
@@ -41,10 +48,17 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
+	private static final String DIRTY_CHECK_OPTIMIZER_NAMING_SUFFIX = "HibernateDirtyCheckOptimizer";
+	private static final String COMPILED_ROW_READER_NAMING_SUFFIX = "HibernateCompiledRowReader";
 	private static final ElementMatcher.Junction newInstanceMethodName = ElementMatchers.named( "newInstance" );
 	private static final ElementMatcher.Junction getPropertyValuesMethodName = ElementMatchers.named( "getPropertyValues" );
 	private static final ElementMatcher.Junction setPropertyValuesMethodName = ElementMatchers.named( "setPropertyValues" );
 	private static final ElementMatcher.Junction getPropertyNamesMethodName = ElementMatchers.named( "getPropertyNames" );
+	private static final ElementMatcher.Junction findDirtyMethodName = ElementMatchers.named( "findDirty" );
+	private static final ElementMatcher.Junction getOptimizedPropertiesMethodName = ElementMatchers.named( "getOptimizedProperties" );
+	private static final ElementMatcher.Junction coordinateInitializersMethodName = ElementMatchers.named( "coordinateInitializers" );
+	private static final ElementMatcher.Junction assembleRowMethodName = ElementMatchers.named( "assembleRow" );
+	private static final ElementMatcher.Junction afterRowMethodName = ElementMatchers.named( "afterRow" );
 
 	private final ByteBuddyState byteBuddyState;
 
@@ -123,6 +137,54 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	@Override
+	public DirtyCheckOptimizer getDirtyCheckOptimizer(final Class clazz, final Class[] valueTypes) {
+		final String[] equalityMethodNames = new String[Math.min( valueTypes.length, Long.SIZE )];
+		long optimizedProperties = 0L;
+		for ( int i = 0; i < equalityMethodNames.length; i++ ) {
+			equalityMethodNames[i] = DirtyCheckHelper.resolveMethodName( valueTypes[i] );
+			if ( equalityMethodNames[i] != null ) {
+				optimizedProperties |= 1L << i;
+			}
+		}
+		if ( optimizedProperties == 0L ) {
+			return null;
+		}
+
+		final long optimizedPropertiesMask = optimizedProperties;
+		final Class dirtyCheckOptimizer = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( DIRTY_CHECK_OPTIMIZER_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( DirtyCheckOptimizer.class )
+				.method( findDirtyMethodName )
+						.intercept( new Implementation.Simple( new FindDirty( equalityMethodNames ) ) )
+				.method( getOptimizedPropertiesMethodName )
+						.intercept( new Implementation.Simple( new ReturnLongConstant( optimizedPropertiesMask ) ) )
+		);
+
+		try {
+			return (DirtyCheckOptimizer) dirtyCheckOptimizer.newInstance();
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
+	@Override
+	public Class<?> getCompiledRowReaderClass(int assemblerCount, CompiledRowReader.InitializerKind[] initializerKinds) {
+		return byteBuddyState.load( CompiledRowReader.class, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( COMPILED_ROW_READER_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( CompiledRowReader.class.getName() ) ) )
+				.subclass( CompiledRowReader.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_PUBLIC )
+				.method( coordinateInitializersMethodName )
+						.intercept( new Implementation.Simple( new CoordinateInitializers( initializerKinds ) ) )
+				.method( assembleRowMethodName )
+						.intercept( new Implementation.Simple( new AssembleRow( assemblerCount ) ) )
+				.method( afterRowMethodName )
+						.intercept( new Implementation.Simple( new AfterRow( initializerKinds.length ) ) )
+		);
+	}
+
 	public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
@@ -222,6 +284,240 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	/**
+	 * Unrolled comparison of each optimized property, accumulating the dirty properties in a bit mask:
+	 * {@code dirty |= ( 1 - ( helper( previous[i], current[i] ) ? 1 : 0 ) ) << i}.  The generated code
+	 * is branch-free, and each property gets its own call site.
+	 */
+	private static class FindDirty implements ByteCodeAppender {
+
+		private static final String HELPER_INTERNAL_NAME = Type.getInternalName( DirtyCheckHelper.class );
+		private static final String HELPER_DESCRIPTOR = Type.getMethodDescriptor(
+				Type.BOOLEAN_TYPE,
+				Type.getType( Object.class ),
+				Type.getType( Object.class )
+		);
+
+		private final String[] equalityMethodNames;
+
+		public FindDirty(String[] equalityMethodNames) {
+			this.equalityMethodNames = equalityMethodNames;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			// local variables: 0 - this, 1 - currentState, 2 - previousState, 3 (and 4) - the dirty bit mask
+			methodVisitor.visitInsn( Opcodes.LCONST_0 );
+			methodVisitor.visitVarInsn( Opcodes.LSTORE, 3 );
+			for ( int i = 0; i < equalityMethodNames.length; i++ ) {
+				if ( equalityMethodNames[i] == null ) {
+					continue;
+				}
+				methodVisitor.visitVarInsn( Opcodes.LLOAD, 3 );
+				methodVisitor.visitInsn( Opcodes.ICONST_1 );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitLdcInsn( i );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitLdcInsn( i );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKESTATIC,
+						HELPER_INTERNAL_NAME,
+						equalityMethodNames[i],
+						HELPER_DESCRIPTOR,
+						false
+				);
+				methodVisitor.visitInsn( Opcodes.ISUB );
+				methodVisitor.visitInsn( Opcodes.I2L );
+				methodVisitor.visitLdcInsn( i );
+				methodVisitor.visitInsn( Opcodes.LSHL );
+				methodVisitor.visitInsn( Opcodes.LOR );
+				methodVisitor.visitVarInsn( Opcodes.LSTORE, 3 );
+			}
+			methodVisitor.visitVarInsn( Opcodes.LLOAD, 3 );
+			methodVisitor.visitInsn( Opcodes.LRETURN );
+			return new Size( 6, instrumentedMethod.getStackSize() + 2 );
+		}
+	}
+
+	private static class ReturnLongConstant implements ByteCodeAppender {
+
+		private final long value;
+
+		public ReturnLongConstant(long value) {
+			this.value = value;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			methodVisitor.visitLdcInsn( value );
+			methodVisitor.visitInsn( Opcodes.LRETURN );
+			return new Size( 2, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static final String ROW_READER_INTERNAL_NAME = Type.getInternalName( CompiledRowReader.class );
+	private static final String INITIALIZER_INTERNAL_NAME = Type.getInternalName( Initializer.class );
+	private static final String INITIALIZER_METHOD_DESCRIPTOR = Type.getMethodDescriptor(
+			Type.VOID_TYPE,
+			Type.getType( RowProcessingState.class )
+	);
+
+	/**
+	 * Calls the given method of the initializer at the given index:
+	 * {@code this.initializers[index].method( rowProcessingState )}
+	 */
+	private static void invokeInitializer(MethodVisitor methodVisitor, int index, String methodName) {
+		methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+		methodVisitor.visitFieldInsn(
+				Opcodes.GETFIELD,
+				ROW_READER_INTERNAL_NAME,
+				"initializers",
+				Type.getDescriptor( Initializer[].class )
+		);
+		methodVisitor.visitLdcInsn( index );
+		methodVisitor.visitInsn( Opcodes.AALOAD );
+		methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+		methodVisitor.visitMethodInsn(
+				Opcodes.INVOKEINTERFACE,
+				INITIALIZER_INTERNAL_NAME,
+				methodName,
+				INITIALIZER_METHOD_DESCRIPTOR,
+				true
+		);
+	}
+
+	/**
+	 * Unrolled phases of {@code StandardRowReader#coordinateInitializers}, where the kind of each
+	 * initializer is known upfront and each call gets its own call site.
+	 */
+	private static class CoordinateInitializers implements ByteCodeAppender {
+
+		private final CompiledRowReader.InitializerKind[] initializerKinds;
+
+		public CoordinateInitializers(CompiledRowReader.InitializerKind[] initializerKinds) {
+			this.initializerKinds = initializerKinds;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			// local variables: 0 - this, 1 - rowProcessingState, 2 - options
+			for ( int i = 0; i < initializerKinds.length; i++ ) {
+				if ( initializerKinds[i] != CompiledRowReader.InitializerKind.COLLECTION ) {
+					invokeInitializer( methodVisitor, i, "resolveKey" );
+				}
+			}
+			for ( int i = 0; i < initializerKinds.length; i++ ) {
+				if ( initializerKinds[i] == CompiledRowReader.InitializerKind.COLLECTION ) {
+					invokeInitializer( methodVisitor, i, "resolveKey" );
+				}
+			}
+			for ( int i = 0; i < initializerKinds.length; i++ ) {
+				if ( initializerKinds[i] != CompiledRowReader.InitializerKind.DELAYED_FETCH ) {
+					invokeInitializer( methodVisitor, i, "resolveInstance" );
+				}
+			}
+			for ( int i = 0; i < initializerKinds.length; i++ ) {
+				if ( initializerKinds[i] == CompiledRowReader.InitializerKind.DELAYED_FETCH ) {
+					invokeInitializer( methodVisitor, i, "resolveInstance" );
+				}
+			}
+			for ( int i = 0; i < initializerKinds.length; i++ ) {
+				invokeInitializer( methodVisitor, i, "initializeInstance" );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 3, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	/**
+	 * Unrolled assembly of the row: {@code row[i] = this.assemblers[i].assemble( rowProcessingState, options )}
+	 */
+	private static class AssembleRow implements ByteCodeAppender {
+
+		private static final String ASSEMBLER_INTERNAL_NAME = Type.getInternalName( DomainResultAssembler.class );
+		private static final String ASSEMBLE_DESCRIPTOR = Type.getMethodDescriptor(
+				Type.getType( Object.class ),
+				Type.getType( RowProcessingState.class ),
+				Type.getType( JdbcValuesSourceProcessingOptions.class )
+		);
+
+		private final int assemblerCount;
+
+		public AssembleRow(int assemblerCount) {
+			this.assemblerCount = assemblerCount;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			// local variables: 0 - this, 1 - rowProcessingState, 2 - options
+			methodVisitor.visitLdcInsn( assemblerCount );
+			methodVisitor.visitTypeInsn( Opcodes.ANEWARRAY, Type.getInternalName( Object.class ) );
+			for ( int i = 0; i < assemblerCount; i++ ) {
+				methodVisitor.visitInsn( Opcodes.DUP );
+				methodVisitor.visitLdcInsn( i );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+				methodVisitor.visitFieldInsn(
+						Opcodes.GETFIELD,
+						ROW_READER_INTERNAL_NAME,
+						"assemblers",
+						Type.getDescriptor( DomainResultAssembler[].class )
+				);
+				methodVisitor.visitLdcInsn( i );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKEINTERFACE,
+						ASSEMBLER_INTERNAL_NAME,
+						"assemble",
+						ASSEMBLE_DESCRIPTOR,
+						true
+				);
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 7, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	/**
+	 * Unrolled {@code this.initializers[i].finishUpRow( rowProcessingState )}
+	 */
+	private static class AfterRow implements ByteCodeAppender {
+
+		private final int initializerCount;
+
+		public AfterRow(int initializerCount) {
+			this.initializerCount = initializerCount;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int i = 0; i < initializerCount; i++ ) {
+				invokeInitializer( methodVisitor, i, "finishUpRow" );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 3, instrumentedMethod.getStackSize() );
+		}
+	}
+
 	private static void findAccessors(
 			Class clazz,
 			String[] getterNames,
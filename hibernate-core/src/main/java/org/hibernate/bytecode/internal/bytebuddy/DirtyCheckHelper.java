@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Type-specialized equality checks invoked by the dirty checking optimizers generated by
+ * {@link BytecodeProviderImpl}.
+ * <p/>
+ * Each method has the exact semantic of {@link Objects#equals}, but statically binds the call to
+ * {@code equals} when the value is of the expected (final) type, so that the per-property call sites
+ * of the generated code can be inlined.
+ * <p/>
+ * Must be public as it is called from generated code.
+ */
+public final class DirtyCheckHelper {
+	private static final Map<Class<?>, String> METHOD_NAMES = new HashMap<>();
+
+	static {
+		METHOD_NAMES.put( String.class, "stringsEqual" );
+		METHOD_NAMES.put( Long.class, "longsEqual" );
+		METHOD_NAMES.put( Integer.class, "integersEqual" );
+		METHOD_NAMES.put( Short.class, "shortsEqual" );
+		METHOD_NAMES.put( Byte.class, "bytesEqual" );
+		METHOD_NAMES.put( Boolean.class, "booleansEqual" );
+		METHOD_NAMES.put( Character.class, "charactersEqual" );
+		METHOD_NAMES.put( Double.class, "doublesEqual" );
+		METHOD_NAMES.put( Float.class, "floatsEqual" );
+		METHOD_NAMES.put( UUID.class, "uuidsEqual" );
+		METHOD_NAMES.put( LocalDate.class, "localDatesEqual" );
+		METHOD_NAMES.put( LocalDateTime.class, "localDateTimesEqual" );
+		METHOD_NAMES.put( LocalTime.class, "localTimesEqual" );
+		METHOD_NAMES.put( Instant.class, "instantsEqual" );
+	}
+
+	private DirtyCheckHelper() {
+	}
+
+	/**
+	 * The name of the method handling values of the given type, or {@code null} if the type is not supported.
+	 * All methods have the {@code (Object, Object)boolean} signature.
+	 */
+	static String resolveMethodName(Class<?> valueType) {
+		return valueType == null ? null : METHOD_NAMES.get( valueType );
+	}
+
+	public static boolean stringsEqual(Object one, Object another) {
+		return one instanceof String ? ( (String) one ).equals( another ) : Objects.equals( one, another );
+	}
+
+	public static boolean longsEqual(Object one, Object another) {
+		return one instanceof Long ? ( (Long) one ).equals( another ) : Objects.equals( one, another );
+	}
+
+	public static boolean integersEqual(Object one, Object another) {
+		return one instanceof Integer ? ( (Integer) one ).equals( another ) : Objects.equals( one, another );
+	}
+
+	public static boolean shortsEqual(Object one, Object another) {
+		return one instanceof Short ? ( (Short) one ).equals( another ) : Objects.equals( one, another );
+	}
+
+	public static boolean bytesEqual(Object one, Object another) {
+		return one instanceof Byte ? ( (Byte) one ).equals( another ) : Objects.equals( one, another );
+	}
+
+	public static boolean booleansEqual(Object one, Object another) {
+		return one instanceof Boolean ? ( (Boolean) one ).equals( another ) : Objects.equals( one, another );
+	}
+
+	public static boolean charactersEqual(Object one, Object another) {
+		return one instanceof Character ? ( (Character) one ).equals( another ) : Objects.equals( one, another );
+	}
+
+	public static boolean doublesEqual(Object one, Object another) {
+		return one instanceof Double ? ( (Double) one ).equals( another ) : Objects.equals( one, another );
+	}
+
+	public static boolean floatsEqual(Object one, Object another) {
+		return one instanceof Float ? ( (Float) one ).equals( another ) : Objects.equals( one, another );
+	}
+
+	public static boolean uuidsEqual(Object one, Object another) {
+		return one instanceof UUID ? ( (UUID) one ).equals( another ) : Objects.equals( one, another );
+	}
+
+	public static boolean localDatesEqual(Object one, Object another) {
+		return one instanceof LocalDate ? ( (LocalDate) one ).equals( another ) : Objects.equals( one, another );
+	}
+
+	public static boolean localDateTimesEqual(Object one, Object another) {
+		return one instanceof LocalDateTime ? ( (LocalDateTime) one ).equals( another ) : Objects.equals( one, another );
+	}
+
+	public static boolean localTimesEqual(Object one, Object another) {
+		return one instanceof LocalTime ? ( (LocalTime) one ).equals( another ) : Objects.equals( one, another );
+	}
+
+	public static boolean instantsEqual(Object one, Object another) {
+		return one instanceof Instant ? ( (Instant) one ).equals( another ) : Objects.equals( one, another );
+	}
+}
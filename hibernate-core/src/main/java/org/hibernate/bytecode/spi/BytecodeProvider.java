@@ -9,6 +9,7 @@ package org.hibernate.bytecode.spi;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.service.Service;
+import org.hibernate.sql.results.spi.CompiledRowReader;
 
 /**
  * Contract for providers of bytecode services to Hibernate.
@@ -16,6 +17,8 @@ import org.hibernate.service.Service;
  * Bytecode requirements break down into the following areas<ol>
  *     <li>proxy generation (both for runtime-lazy-loading and basic proxy generation) {@link #getProxyFactoryFactory()}</li>
  *     <li>bean reflection optimization {@link #getReflectionOptimizer}</li>
+ *     <li>dirty checking optimization {@link #getDirtyCheckOptimizer}</li>
+ *     <li>row reader generation {@link #getCompiledRowReaderClass}</li>
  * </ol>
  *
  * @author Steve Ebersole
@@ -41,6 +44,35 @@ public interface BytecodeProvider extends Service {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class clazz, String[] getterNames, String[] setterNames, Class[] types);
 
+	/**
+	 * Retrieve the DirtyCheckOptimizer delegate for this provider, comparing the state of
+	 * instances of the given class using value equality.
+	 *
+	 * @param clazz The entity class.
+	 * @param valueTypes The Java type of the values of each property to be optimized, or {@code null}
+	 * for the properties which should not be optimized.  Only the first 64 properties may be optimized.
+	 *
+	 * @return The dirty checking optimization delegate, or {@code null} if not supported by this provider
+	 * or if none of the given types may be optimized.
+	 */
+	default DirtyCheckOptimizer getDirtyCheckOptimizer(Class clazz, Class[] valueTypes) {
+		return null;
+	}
+
+	/**
+	 * Generate a subclass of {@link CompiledRowReader} reading rows with the given number of
+	 * assemblers and initializers of the given kinds.  The subclass must have a public
+	 * constructor with the same parameters as the constructor of CompiledRowReader.
+	 *
+	 * @param assemblerCount The number of result assemblers
+	 * @param initializerKinds The kind of each initializer
+	 *
+	 * @return The generated class, or {@code null} if not supported by this provider
+	 */
+	default Class<?> getCompiledRowReaderClass(int assemblerCount, CompiledRowReader.InitializerKind[] initializerKinds) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
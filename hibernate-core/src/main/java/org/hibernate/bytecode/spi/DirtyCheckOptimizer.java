@@ -0,0 +1,34 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.spi;
+
+/**
+ * Represents dirty checking optimization for a particular entity class: a comparison of the
+ * current state of an entity against its loaded state which bypasses the
+ * {@link org.hibernate.type.Type} abstraction for properties using value equality.
+ * <p/>
+ * Properties are identified by their index in the entity state arrays, and sets of properties are
+ * represented as bit masks; hence only the first 64 properties of an entity may be optimized.
+ *
+ * @see BytecodeProvider#getDirtyCheckOptimizer
+ */
+public interface DirtyCheckOptimizer {
+	/**
+	 * Get the bit mask of the properties handled by this optimizer.
+	 */
+	long getOptimizedProperties();
+
+	/**
+	 * Compare the optimized properties of the current state against the previous state.
+	 *
+	 * @param currentState The current state of the entity
+	 * @param previousState The baseline state of the entity
+	 *
+	 * @return The bit mask of the optimized properties found to be dirty
+	 */
+	long findDirty(Object[] currentState, Object[] previousState);
+}
@@ -0,0 +1,416 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * A {@link CacheEntryCodec} writing the disassembled state of entity cache entries in a compact,
+ * versioned binary format.
+ * <p/>
+ * Each value is written as a one byte tag followed by a dedicated encoding for the basic Java types
+ * of entity attributes (numbers using variable-length encoding, strings as UTF-8, temporal values as
+ * their epoch-based fields, ...), which avoids the class descriptors and object headers written by
+ * Java serialization.  Component state is written recursively, and values of any other type fall back
+ * to Java serialization.  The format is self-describing, so that decoding needs no mapping information.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_ENTRY_CODEC
+ */
+public final class CompactCacheEntryCodec implements CacheEntryCodec {
+	/**
+	 * The short name of this codec, for use with {@link org.hibernate.cfg.AvailableSettings#CACHE_ENTRY_CODEC}
+	 */
+	public static final String SHORT_NAME = "compact";
+
+	/**
+	 * Singleton access
+	 */
+	public static final CompactCacheEntryCodec INSTANCE = new CompactCacheEntryCodec();
+
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte FLOAT = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte STRING = 10;
+	private static final byte BIG_INTEGER = 11;
+	private static final byte BIG_DECIMAL = 12;
+	private static final byte BYTES = 13;
+	private static final byte UUID_VALUE = 14;
+	private static final byte DATE = 15;
+	private static final byte SQL_DATE = 16;
+	private static final byte SQL_TIME = 17;
+	private static final byte SQL_TIMESTAMP = 18;
+	private static final byte LOCAL_DATE = 19;
+	private static final byte LOCAL_TIME = 20;
+	private static final byte LOCAL_DATE_TIME = 21;
+	private static final byte INSTANT = 22;
+	private static final byte ENUM = 23;
+	private static final byte ARRAY = 24;
+	private static final byte UNFETCHED_PROPERTY = 25;
+	private static final byte UNKNOWN_PROPERTY = 26;
+	private static final byte SERIALIZED = 127;
+
+	@Override
+	public byte[] encode(CacheEntry entry) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 128 );
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			output.writeByte( FORMAT_VERSION );
+			writeString( output, entry.getSubclass() );
+			writeValue( output, entry.getVersion() );
+			writeArray( output, entry.getDisassembledState() );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Unable to encode cache entry for " + entry.getSubclass(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public CacheEntry decode(byte[] bytes) {
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( bytes ) ) ) {
+			final byte formatVersion = input.readByte();
+			if ( formatVersion != FORMAT_VERSION ) {
+				throw new CacheException( "Unsupported cache entry format version [" + formatVersion + "]" );
+			}
+			final String subclass = readString( input );
+			final Object version = readValue( input );
+			final Serializable[] disassembledState = readArray( input );
+			return new StandardCacheEntryImpl( disassembledState, subclass, version, this );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Unable to decode cache entry", e );
+		}
+	}
+
+	private static void writeArray(DataOutputStream output, Serializable[] values) throws IOException {
+		writeVarInt( output, values.length );
+		for ( Serializable value : values ) {
+			writeValue( output, value );
+		}
+	}
+
+	private static Serializable[] readArray(DataInputStream input) throws IOException {
+		final Serializable[] values = new Serializable[readVarInt( input )];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = (Serializable) readValue( input );
+		}
+		return values;
+	}
+
+	private static void writeValue(DataOutputStream output, Object value) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+			return;
+		}
+		if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED_PROPERTY );
+			return;
+		}
+		if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			output.writeByte( UNKNOWN_PROPERTY );
+			return;
+		}
+
+		// exact class checks, subclasses (java.sql.Timestamp extends Date, ...) carry additional state
+		final Class<?> valueClass = value.getClass();
+		if ( valueClass == String.class ) {
+			output.writeByte( STRING );
+			writeString( output, (String) value );
+		}
+		else if ( valueClass == Integer.class ) {
+			output.writeByte( INTEGER );
+			writeVarLong( output, (Integer) value );
+		}
+		else if ( valueClass == Long.class ) {
+			output.writeByte( LONG );
+			writeVarLong( output, (Long) value );
+		}
+		else if ( valueClass == Boolean.class ) {
+			output.writeByte( (Boolean) value ? TRUE : FALSE );
+		}
+		else if ( valueClass == Short.class ) {
+			output.writeByte( SHORT );
+			writeVarLong( output, (Short) value );
+		}
+		else if ( valueClass == Byte.class ) {
+			output.writeByte( BYTE );
+			output.writeByte( (Byte) value );
+		}
+		else if ( valueClass == Double.class ) {
+			output.writeByte( DOUBLE );
+			output.writeDouble( (Double) value );
+		}
+		else if ( valueClass == Float.class ) {
+			output.writeByte( FLOAT );
+			output.writeFloat( (Float) value );
+		}
+		else if ( valueClass == Character.class ) {
+			output.writeByte( CHARACTER );
+			output.writeChar( (Character) value );
+		}
+		else if ( valueClass == BigDecimal.class ) {
+			final BigDecimal decimal = (BigDecimal) value;
+			output.writeByte( BIG_DECIMAL );
+			writeVarLong( output, decimal.scale() );
+			writeBytes( output, decimal.unscaledValue().toByteArray() );
+		}
+		else if ( valueClass == BigInteger.class ) {
+			output.writeByte( BIG_INTEGER );
+			writeBytes( output, ( (BigInteger) value ).toByteArray() );
+		}
+		else if ( valueClass == byte[].class ) {
+			output.writeByte( BYTES );
+			writeBytes( output, (byte[]) value );
+		}
+		else if ( valueClass == UUID.class ) {
+			final UUID uuid = (UUID) value;
+			output.writeByte( UUID_VALUE );
+			output.writeLong( uuid.getMostSignificantBits() );
+			output.writeLong( uuid.getLeastSignificantBits() );
+		}
+		else if ( valueClass == java.sql.Timestamp.class ) {
+			final java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+			output.writeByte( SQL_TIMESTAMP );
+			writeVarLong( output, timestamp.getTime() );
+			writeVarLong( output, timestamp.getNanos() );
+		}
+		else if ( valueClass == java.sql.Date.class ) {
+			output.writeByte( SQL_DATE );
+			writeVarLong( output, ( (java.sql.Date) value ).getTime() );
+		}
+		else if ( valueClass == java.sql.Time.class ) {
+			output.writeByte( SQL_TIME );
+			writeVarLong( output, ( (java.sql.Time) value ).getTime() );
+		}
+		else if ( valueClass == Date.class ) {
+			output.writeByte( DATE );
+			writeVarLong( output, ( (Date) value ).getTime() );
+		}
+		else if ( valueClass == LocalDate.class ) {
+			output.writeByte( LOCAL_DATE );
+			writeVarLong( output, ( (LocalDate) value ).toEpochDay() );
+		}
+		else if ( valueClass == LocalTime.class ) {
+			output.writeByte( LOCAL_TIME );
+			writeVarLong( output, ( (LocalTime) value ).toNanoOfDay() );
+		}
+		else if ( valueClass == LocalDateTime.class ) {
+			final LocalDateTime dateTime = (LocalDateTime) value;
+			output.writeByte( LOCAL_DATE_TIME );
+			writeVarLong( output, dateTime.toLocalDate().toEpochDay() );
+			writeVarLong( output, dateTime.toLocalTime().toNanoOfDay() );
+		}
+		else if ( valueClass == Instant.class ) {
+			final Instant instant = (Instant) value;
+			output.writeByte( INSTANT );
+			writeVarLong( output, instant.getEpochSecond() );
+			writeVarLong( output, instant.getNano() );
+		}
+		else if ( value instanceof Enum ) {
+			final Enum<?> enumValue = (Enum<?>) value;
+			output.writeByte( ENUM );
+			writeString( output, enumValue.getDeclaringClass().getName() );
+			writeString( output, enumValue.name() );
+		}
+		else if ( valueClass == Serializable[].class ) {
+			// the disassembled state of a component
+			output.writeByte( ARRAY );
+			writeArray( output, (Serializable[]) value );
+		}
+		else {
+			output.writeByte( SERIALIZED );
+			writeBytes( output, SerializationHelper.serialize( (Serializable) value ) );
+		}
+	}
+
+	private static Object readValue(DataInputStream input) throws IOException {
+		final byte tag = input.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case BYTE:
+				return input.readByte();
+			case SHORT:
+				return (short) readVarLong( input );
+			case INTEGER:
+				return (int) readVarLong( input );
+			case LONG:
+				return readVarLong( input );
+			case FLOAT:
+				return input.readFloat();
+			case DOUBLE:
+				return input.readDouble();
+			case CHARACTER:
+				return input.readChar();
+			case STRING:
+				return readString( input );
+			case BIG_INTEGER:
+				return new BigInteger( readBytes( input ) );
+			case BIG_DECIMAL: {
+				final int scale = (int) readVarLong( input );
+				return new BigDecimal( new BigInteger( readBytes( input ) ), scale );
+			}
+			case BYTES:
+				return readBytes( input );
+			case UUID_VALUE:
+				return new UUID( input.readLong(), input.readLong() );
+			case DATE:
+				return new Date( readVarLong( input ) );
+			case SQL_DATE:
+				return new java.sql.Date( readVarLong( input ) );
+			case SQL_TIME:
+				return new java.sql.Time( readVarLong( input ) );
+			case SQL_TIMESTAMP: {
+				final java.sql.Timestamp timestamp = new java.sql.Timestamp( readVarLong( input ) );
+				timestamp.setNanos( (int) readVarLong( input ) );
+				return timestamp;
+			}
+			case LOCAL_DATE:
+				return LocalDate.ofEpochDay( readVarLong( input ) );
+			case LOCAL_TIME:
+				return LocalTime.ofNanoOfDay( readVarLong( input ) );
+			case LOCAL_DATE_TIME: {
+				final LocalDate date = LocalDate.ofEpochDay( readVarLong( input ) );
+				return LocalDateTime.of( date, LocalTime.ofNanoOfDay( readVarLong( input ) ) );
+			}
+			case INSTANT: {
+				final long epochSecond = readVarLong( input );
+				return Instant.ofEpochSecond( epochSecond, readVarLong( input ) );
+			}
+			case ENUM:
+				return readEnum( readString( input ), readString( input ) );
+			case ARRAY:
+				return readArray( input );
+			case UNFETCHED_PROPERTY:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN_PROPERTY:
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case SERIALIZED:
+				return SerializationHelper.deserialize( readBytes( input ) );
+			default:
+				throw new CacheException( "Unknown value tag [" + tag + "] in cache entry" );
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object readEnum(String className, String name) {
+		try {
+			final Class enumClass = Class.forName( className, false, enumClassLoader() );
+			return Enum.valueOf( enumClass, name );
+		}
+		catch (ClassNotFoundException e) {
+			throw new CacheException( "Unable to load enum class of cache entry value: " + className, e );
+		}
+	}
+
+	private static ClassLoader enumClassLoader() {
+		final ClassLoader contextClassLoader = SerializationHelper.defaultClassLoader();
+		return contextClassLoader == null ? SerializationHelper.hibernateClassLoader() : contextClassLoader;
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		writeBytes( output, value.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		return new String( readBytes( input ), StandardCharsets.UTF_8 );
+	}
+
+	private static void writeBytes(DataOutputStream output, byte[] value) throws IOException {
+		writeVarInt( output, value.length );
+		output.write( value );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] value = new byte[readVarInt( input )];
+		input.readFully( value );
+		return value;
+	}
+
+	private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+		while ( ( value & ~0x7F ) != 0 ) {
+			output.writeByte( ( value & 0x7F ) | 0x80 );
+			value >>>= 7;
+		}
+		output.writeByte( value );
+	}
+
+	private static int readVarInt(DataInputStream input) throws IOException {
+		int value = 0;
+		for ( int shift = 0; shift < 32; shift += 7 ) {
+			final byte b = input.readByte();
+			value |= ( b & 0x7F ) << shift;
+			if ( ( b & 0x80 ) == 0 ) {
+				return value;
+			}
+		}
+		throw new CacheException( "Malformed variable-length integer in cache entry" );
+	}
+
+	/**
+	 * Write a signed value using zig-zag and variable-length encoding, so that small
+	 * negative and positive values both take few bytes.
+	 */
+	private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+		long zigZag = ( value << 1 ) ^ ( value >> 63 );
+		while ( ( zigZag & ~0x7FL ) != 0 ) {
+			output.writeByte( (int) ( ( zigZag & 0x7F ) | 0x80 ) );
+			zigZag >>>= 7;
+		}
+		output.writeByte( (int) zigZag );
+	}
+
+	private static long readVarLong(DataInputStream input) throws IOException {
+		long zigZag = 0;
+		for ( int shift = 0; shift < 64; shift += 7 ) {
+			final byte b = input.readByte();
+			zigZag |= (long) ( b & 0x7F ) << shift;
+			if ( ( b & 0x80 ) == 0 ) {
+				return ( zigZag >>> 1 ) ^ -( zigZag & 1 );
+			}
+		}
+		throw new CacheException( "Malformed variable-length integer in cache entry" );
+	}
+
+	private Object readResolve() {
+		return INSTANCE;
+	}
+}
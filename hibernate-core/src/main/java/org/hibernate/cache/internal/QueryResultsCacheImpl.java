@@ -8,18 +8,26 @@ package org.hibernate.cache.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.EntityInvalidationKey;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.SecondLevelCacheLogger;
 import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
 
 /**
  * The standard implementation of the Hibernate QueryCache interface.  Works
@@ -61,7 +69,55 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 				session.getTransactionStartTimestamp(),
 				deepCopy( results )
 		);
+		return put( key, cacheItem, session );
+	}
+
+	@Override
+	public boolean put(
+			final QueryKey key,
+			final List results,
+			final Collection<EntityKey> entityKeys,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		if ( entityKeys == null || entityKeys.isEmpty() || !timestampsCache.isEntityInvalidationEnabled() ) {
+			return put( key, results, session );
+		}
+
+		if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
+			SecondLevelCacheLogger.INSTANCE.debugf(
+					"Caching query results in region: %s; timestamp=%s; entities=%s",
+					cacheRegion.getName(),
+					session.getTransactionStartTimestamp(),
+					entityKeys.size()
+			);
+		}
+
+		// the results may only be checked against the entities they contain when they
+		// were read from the tables of these entities alone, see #isUpToDate
+		final Set<EntityInvalidationKey> entities = new HashSet<>();
+		final Map<EntityPersister, Boolean> persisters = new IdentityHashMap<>();
+		final Set<String> entitySpaces = new HashSet<>();
+		for ( EntityKey entityKey : entityKeys ) {
+			entities.add( EntityInvalidationKey.forEntity( entityKey ) );
+			final EntityPersister rootPersister = entityKey.getPersister()
+					.getRootEntityDescriptor()
+					.getEntityPersister();
+			if ( persisters.put( rootPersister, Boolean.TRUE ) == null ) {
+				for ( Serializable space : rootPersister.getQuerySpaces() ) {
+					entitySpaces.add( (String) space );
+				}
+			}
+		}
 
+		final CacheItem cacheItem = new CacheItem(
+				session.getTransactionStartTimestamp(),
+				deepCopy( results ),
+				entitySpaces,
+				entities
+		);
+		return put( key, cacheItem, session );
+	}
+
+	private boolean put(QueryKey key, CacheItem cacheItem, SharedSessionContractImplementor session) {
 		try {
 			session.getEventListenerManager().cachePutStart();
 			cacheRegion.putIntoCache( key, cacheItem, session );
@@ -95,7 +151,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !isUpToDate( spaces, cacheItem, session ) ) {
 			if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
 				SecondLevelCacheLogger.INSTANCE.debug( "Cached query results were not up-to-date" );
 			}
@@ -127,7 +183,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !isUpToDate( spaces, cacheItem, session ) ) {
 			if ( SecondLevelCacheLogger.DEBUG_ENABLED ) {
 				SecondLevelCacheLogger.INSTANCE.debug( "Cached query results were not up-to-date" );
 			}
@@ -141,6 +197,26 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return deepCopy( cacheItem.results );
 	}
 
+	private boolean isUpToDate(
+			Collection<String> spaces,
+			CacheItem cacheItem,
+			SharedSessionContractImplementor session) {
+		if ( cacheItem.entities != null && cacheItem.entitySpaces.containsAll( spaces ) ) {
+			return timestampsCache.isUpToDate( spaces, cacheItem.entities, cacheItem.timestamp, session );
+		}
+		return timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session );
+	}
+
+	private boolean isUpToDate(
+			String[] spaces,
+			CacheItem cacheItem,
+			SharedSessionContractImplementor session) {
+		if ( cacheItem.entities != null ) {
+			return isUpToDate( Arrays.asList( spaces ), cacheItem, session );
+		}
+		return timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session );
+	}
+
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
 		CacheItem cachedItem = null;
 		try {
@@ -161,10 +237,18 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	public static class CacheItem implements Serializable {
 		private final long timestamp;
 		private final List results;
+		private final Set<String> entitySpaces;
+		private final Set<EntityInvalidationKey> entities;
 
 		CacheItem(long timestamp, List results) {
+			this( timestamp, results, null, null );
+		}
+
+		CacheItem(long timestamp, List results, Set<String> entitySpaces, Set<EntityInvalidationKey> entities) {
 			this.timestamp = timestamp;
 			this.results = results;
+			this.entitySpaces = entitySpaces;
+			this.entities = entities;
 		}
 	}
 }
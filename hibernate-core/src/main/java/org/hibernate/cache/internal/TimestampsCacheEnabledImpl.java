@@ -7,8 +7,12 @@
 package org.hibernate.cache.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
+import org.hibernate.cache.spi.EntityInvalidationKey;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsRegion;
@@ -30,9 +34,15 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public static final boolean DEBUG_ENABLED = log.isDebugEnabled();
 
 	private final TimestampsRegion timestampsRegion;
+	private final boolean entityInvalidationEnabled;
 
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
+		this( timestampsRegion, false );
+	}
+
+	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion, boolean entityInvalidationEnabled) {
 		this.timestampsRegion = timestampsRegion;
+		this.entityInvalidationEnabled = entityInvalidationEnabled;
 	}
 
 	@Override
@@ -40,9 +50,35 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return timestampsRegion;
 	}
 
+	@Override
+	public boolean isEntityInvalidationEnabled() {
+		return entityInvalidationEnabled;
+	}
+
+	@Override
+	public void preInvalidate(
+			String[] spaces,
+			SharedSessionContractImplementor session) {
+		preInvalidateKeys( spaceKeys( spaces, entityInvalidationEnabled ), session );
+	}
+
 	@Override
 	public void preInvalidate(
 			String[] spaces,
+			Collection<EntityInvalidationKey> entities,
+			SharedSessionContractImplementor session) {
+		if ( entityInvalidationEnabled ) {
+			final List<Serializable> keys = spaceKeys( spaces, false );
+			keys.addAll( entities );
+			preInvalidateKeys( keys, session );
+		}
+		else {
+			preInvalidate( spaces, session );
+		}
+	}
+
+	private void preInvalidateKeys(
+			List<? extends Serializable> keys,
 			SharedSessionContractImplementor session) {
 		final SessionFactoryImplementor factory = session.getFactory();
 		final RegionFactory regionFactory = factory.getCache().getRegionFactory();
@@ -55,7 +91,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		final boolean debugEnabled = log.isDebugEnabled();
 
-		for ( Serializable space : spaces ) {
+		for ( Serializable space : keys ) {
 			if ( debugEnabled ) {
 				log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
 			}
@@ -81,13 +117,34 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public void invalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
+		invalidateKeys( spaceKeys( spaces, entityInvalidationEnabled ), session );
+	}
+
+	@Override
+	public void invalidate(
+			String[] spaces,
+			Collection<EntityInvalidationKey> entities,
+			SharedSessionContractImplementor session) {
+		if ( entityInvalidationEnabled ) {
+			final List<Serializable> keys = spaceKeys( spaces, false );
+			keys.addAll( entities );
+			invalidateKeys( keys, session );
+		}
+		else {
+			invalidate( spaces, session );
+		}
+	}
+
+	private void invalidateKeys(
+			List<? extends Serializable> keys,
+			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		final boolean stats = statistics.isStatisticsEnabled();
 
 		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
 		final boolean debugEnabled = log.isDebugEnabled();
 
-		for ( Serializable space : spaces ) {
+		for ( Serializable space : keys ) {
 			if ( debugEnabled ) {
 				log.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
 			}
@@ -107,6 +164,23 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		}
 	}
 
+	/**
+	 * The keys of the timestamps of the given spaces.  With entity invalidation, changes
+	 * which may add rows to, or remove rows from, the results of queries over a space are
+	 * also recorded under a {@link RowSetKey}, which is all that the results made of
+	 * entities need to check beside the entities themselves.
+	 */
+	private static List<Serializable> spaceKeys(String[] spaces, boolean includeRowSetKeys) {
+		final List<Serializable> keys = new ArrayList<>( includeRowSetKeys ? spaces.length * 2 : spaces.length );
+		keys.addAll( Arrays.asList( spaces ) );
+		if ( includeRowSetKeys ) {
+			for ( String space : spaces ) {
+				keys.add( new RowSetKey( space ) );
+			}
+		}
+		return keys;
+	}
+
 	@Override
 	public boolean isUpToDate(
 			String[] spaces,
@@ -174,6 +248,33 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return true;
 	}
 
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			Collection<EntityInvalidationKey> entities,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		if ( !entityInvalidationEnabled ) {
+			return isUpToDate( spaces, timestamp, session );
+		}
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+
+		for ( String space : spaces ) {
+			if ( isSpaceOutOfDate( new RowSetKey( space ), timestamp, session, statistics ) ) {
+				return false;
+			}
+		}
+
+		for ( EntityInvalidationKey entity : entities ) {
+			if ( isSpaceOutOfDate( entity, timestamp, session, statistics ) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	private Long getLastUpdateTimestampForSpace(Serializable space, SharedSessionContractImplementor session) {
 		Long ts = null;
 		try {
@@ -186,4 +287,32 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return ts;
 	}
 
+	/**
+	 * The key of the timestamp of the last change which may have added rows to, or
+	 * removed rows from, the results of queries over a space: insertions, collection
+	 * changes, bulk and native mutation queries
+	 */
+	private static final class RowSetKey implements Serializable {
+		private final String space;
+
+		private RowSetKey(String space) {
+			this.space = space;
+		}
+
+		@Override
+		public int hashCode() {
+			return space.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof RowSetKey
+					&& space.equals( ( (RowSetKey) other ).space );
+		}
+
+		@Override
+		public String toString() {
+			return "RowSetKey[" + space + ']';
+		}
+	}
 }
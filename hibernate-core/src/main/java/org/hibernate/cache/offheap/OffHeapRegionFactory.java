@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.offheap.internal.OffHeapCache;
+import org.hibernate.cache.offheap.internal.OffHeapDomainDataRegion;
+import org.hibernate.cache.offheap.internal.OffHeapQueryResultsRegion;
+import org.hibernate.cache.offheap.internal.OffHeapStorageAccess;
+import org.hibernate.cache.offheap.internal.TimestampsStorageAccess;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * A RegionFactory keeping the cached data of entity, collection, natural-id and query
+ * results regions serialized in off-heap memory, so that large caches of reference data
+ * neither inflate the old generation nor prolong garbage collection.
+ * <p/>
+ * The memory used by each region is bounded, and entries are evicted according to the
+ * W-TinyLFU policy once the bound is reached.  The bound applies to each region separately
+ * and is configured through {@link #MAX_SIZE}, or per region by appending the unqualified
+ * region name to that setting, e.g. {@code hibernate.cache.offheap.max_size.com.acme.Country}.
+ * <p/>
+ * Use it by setting {@value org.hibernate.cfg.AvailableSettings#CACHE_REGION_FACTORY}
+ * to the name of this class.
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The maximum number of bytes of off-heap memory used by a single region, 32MB by default.
+	 * Appending {@code .<region name>} configures the bound of a specific region.
+	 */
+	public static final String MAX_SIZE = "hibernate.cache.offheap.max_size";
+
+	/**
+	 * The size, in bytes, of the direct buffers allocated for the entries of a region, 1MB by default.
+	 */
+	public static final String SLAB_SIZE = "hibernate.cache.offheap.slab_size";
+
+	/**
+	 * The allocation unit, in bytes, of the entries within the direct buffers, 128 by default.
+	 * Every entry occupies a whole number of blocks.
+	 */
+	public static final String BLOCK_SIZE = "hibernate.cache.offheap.block_size";
+
+	private static final int DEFAULT_MAX_SIZE = 32 * 1024 * 1024;
+	private static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+	private static final int DEFAULT_BLOCK_SIZE = 128;
+
+	private Map configValues;
+	private int slabSize;
+	private int blockSize;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		this.configValues = configValues;
+		this.slabSize = ConfigurationHelper.getInt( SLAB_SIZE, configValues, DEFAULT_SLAB_SIZE );
+		this.blockSize = ConfigurationHelper.getInt( BLOCK_SIZE, configValues, DEFAULT_BLOCK_SIZE );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		configValues = null;
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new OffHeapDomainDataRegion(
+				regionConfig,
+				this,
+				createStorageAccess( regionConfig.getRegionName() ),
+				getImplicitCacheKeysFactory(),
+				buildingContext
+		);
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new OffHeapQueryResultsRegion( regionName, this, createStorageAccess( regionName ) );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TimestampsStorageAccess();
+	}
+
+	private OffHeapStorageAccess createStorageAccess(String regionName) {
+		final long maxSize = ConfigurationHelper.getLong(
+				MAX_SIZE + '.' + regionName,
+				configValues,
+				ConfigurationHelper.getInt( MAX_SIZE, configValues, DEFAULT_MAX_SIZE )
+		);
+		return new OffHeapStorageAccess( regionName, new OffHeapCache( maxSize, slabSize, blockSize ) );
+	}
+}
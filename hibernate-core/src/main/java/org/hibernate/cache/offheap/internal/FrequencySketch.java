@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap.internal;
+
+import org.hibernate.internal.util.MathHelper;
+
+/**
+ * A Count-Min sketch with 4-bit counters estimating how often keys were accessed recently,
+ * used as the admission filter of the {@link OffHeapCache} W-TinyLFU eviction policy.
+ * <p/>
+ * Every counter is halved once the number of increments reaches a sample size proportional
+ * to the table size, so that the estimates favor recent popularity.  Not thread-safe, the
+ * sketch is always accessed under the lock of its segment.
+ */
+final class FrequencySketch {
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L,
+			0xb492b66fbe98f273L,
+			0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int additions;
+
+	FrequencySketch(int expectedEntries) {
+		final int size = MathHelper.ceilingPowerOfTwo( Math.max( 16, Math.min( expectedEntries, 1 << 24 ) ) );
+		this.table = new long[size];
+		this.tableMask = size - 1;
+		this.sampleSize = 10 * size;
+	}
+
+	/**
+	 * The estimated number of recent accesses of the key with the given hash, at most 15.
+	 */
+	int frequency(int hash) {
+		final int spread = spread( hash );
+		final int start = ( spread & 3 ) << 2;
+		int frequency = 15;
+		for ( int i = 0; i < 4; i++ ) {
+			final int offset = ( start + i ) << 2;
+			final int count = (int) ( ( table[indexOf( spread, i )] >>> offset ) & 0xfL );
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record an access of the key with the given hash.
+	 */
+	void increment(int hash) {
+		final int spread = spread( hash );
+		final int start = ( spread & 3 ) << 2;
+		boolean added = false;
+		for ( int i = 0; i < 4; i++ ) {
+			final int index = indexOf( spread, i );
+			final int offset = ( start + i ) << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				added = true;
+			}
+		}
+		if ( added && ++additions == sampleSize ) {
+			reset();
+		}
+	}
+
+	private void reset() {
+		for ( int i = 0; i < table.length; i++ ) {
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		additions = additions >>> 1;
+	}
+
+	private int indexOf(int spread, int i) {
+		long hash = ( spread + SEEDS[i] ) * SEEDS[i];
+		hash += hash >>> 32;
+		return ( (int) hash ) & tableMask;
+	}
+
+	static int spread(int hash) {
+		int x = ( ( hash >>> 16 ) ^ hash ) * 0x45d9f3b;
+		x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+		return ( x >>> 16 ) ^ x;
+	}
+}
@@ -0,0 +1,497 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded cache of byte arrays, keeping the bytes in direct {@link ByteBuffer} slabs
+ * outside of the Java heap.  Only the keys and a small amount of bookkeeping per entry
+ * live on the heap.
+ * <p/>
+ * The cache is split into segments, each guarded by its own lock and owning an equal share
+ * of the memory bound.  A segment allocates slabs lazily and divides them into blocks of
+ * a fixed size; the value of an entry is stored in as many blocks as needed, which need not
+ * be contiguous, so that memory never fragments.
+ * <p/>
+ * Entries are evicted according to the W-TinyLFU policy: new entries enter a small LRU
+ * window, and entries leaving the window are only admitted into the main segmented-LRU
+ * space when a {@link FrequencySketch} estimates them to be accessed more frequently than
+ * the entry they would replace.  This keeps one-off reads, such as those of a large
+ * query result, from flushing the frequently used reference data out of the cache.
+ */
+public class OffHeapCache {
+	private static final int MAX_SEGMENTS = 16;
+
+	private final Segment[] segments;
+	private final int segmentShift;
+	private final int blockSize;
+
+	/**
+	 * Constructs an OffHeapCache
+	 *
+	 * @param maxBytes The maximum number of bytes of off-heap memory used for values
+	 * @param slabSize The size of the direct buffers allocated
+	 * @param blockSize The allocation unit of values within the slabs
+	 */
+	public OffHeapCache(long maxBytes, int slabSize, int blockSize) {
+		if ( blockSize <= 0 || slabSize < blockSize ) {
+			throw new IllegalArgumentException(
+					"Invalid off-heap cache slab size [" + slabSize + "] or block size [" + blockSize + "]"
+			);
+		}
+		this.blockSize = blockSize;
+		if ( maxBytes < slabSize ) {
+			// a single slab, shrunk to the memory bound
+			slabSize = (int) Math.max( blockSize, maxBytes - maxBytes % blockSize );
+		}
+		else {
+			slabSize = slabSize - slabSize % blockSize;
+		}
+
+		final long slabCount = Math.max( 1, maxBytes / slabSize );
+		int segmentCount = 1;
+		while ( segmentCount < MAX_SEGMENTS && segmentCount * 2L <= slabCount ) {
+			segmentCount <<= 1;
+		}
+		this.segments = new Segment[segmentCount];
+		this.segmentShift = 32 - Integer.numberOfTrailingZeros( segmentCount );
+		final int slabsPerSegment = (int) Math.min( Integer.MAX_VALUE / ( slabSize / blockSize ), slabCount / segmentCount );
+		for ( int i = 0; i < segmentCount; i++ ) {
+			segments[i] = new Segment( slabsPerSegment, slabSize / blockSize );
+		}
+	}
+
+	/**
+	 * Get a copy of the bytes stored for the given key
+	 *
+	 * @return The bytes, or {@code null} if there is no entry for the key
+	 */
+	public byte[] get(Object key) {
+		final int hash = FrequencySketch.spread( key.hashCode() );
+		return segmentFor( hash ).get( key, hash );
+	}
+
+	/**
+	 * Store the bytes for the given key, replacing any previous entry.  The entry might be
+	 * rejected by the eviction policy, in which case any previous entry is still removed.
+	 */
+	public void put(Object key, byte[] value) {
+		final int hash = FrequencySketch.spread( key.hashCode() );
+		segmentFor( hash ).put( key, hash, value );
+	}
+
+	public void remove(Object key) {
+		final int hash = FrequencySketch.spread( key.hashCode() );
+		segmentFor( hash ).remove( key );
+	}
+
+	public boolean contains(Object key) {
+		final int hash = FrequencySketch.spread( key.hashCode() );
+		return segmentFor( hash ).contains( key );
+	}
+
+	/**
+	 * Remove all entries, giving the off-heap memory back
+	 */
+	public void clear() {
+		for ( Segment segment : segments ) {
+			segment.clear();
+		}
+	}
+
+	public long getEntryCount() {
+		long count = 0;
+		for ( Segment segment : segments ) {
+			count += segment.entryCount();
+		}
+		return count;
+	}
+
+	/**
+	 * The number of bytes of off-heap memory used by the entries
+	 */
+	public long getSizeInBytes() {
+		long blocks = 0;
+		for ( Segment segment : segments ) {
+			blocks += segment.usedBlocks();
+		}
+		return blocks * blockSize;
+	}
+
+	public long getEvictionCount() {
+		long count = 0;
+		for ( Segment segment : segments ) {
+			count += segment.evictionCount;
+		}
+		return count;
+	}
+
+	private Segment segmentFor(int hash) {
+		return segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+	}
+
+	private static final int WINDOW = 0;
+	private static final int PROBATION = 1;
+	private static final int PROTECTED = 2;
+
+	/**
+	 * The bookkeeping of an entry: its key, position in the LRU queues and the blocks holding its value.
+	 */
+	private static final class Node {
+		private final Object key;
+		private final int hash;
+		private final int[] blocks;
+		private final int length;
+
+		private int queue;
+		private Node previous;
+		private Node next;
+
+		private Node(Object key, int hash, int[] blocks, int length) {
+			this.key = key;
+			this.hash = hash;
+			this.blocks = blocks;
+			this.length = length;
+		}
+
+		private int weight() {
+			return blocks.length;
+		}
+	}
+
+	/**
+	 * A doubly-linked LRU queue of nodes, the least recently used one first.
+	 */
+	private static final class AccessOrderQueue {
+		private Node first;
+		private Node last;
+		private long weight;
+
+		private void addLast(Node node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+			weight += node.weight();
+		}
+
+		private void remove(Node node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			weight -= node.weight();
+		}
+
+		private void moveToLast(Node node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		private void clear() {
+			first = null;
+			last = null;
+			weight = 0;
+		}
+	}
+
+	private final class Segment {
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final int maxSlabs;
+		private final int blocksPerSlab;
+		private final long maxBlocks;
+		private final long windowMax;
+		private final long mainMax;
+		private final long protectedMax;
+
+		private final Map<Object, Node> nodes = new HashMap<>();
+		private final AccessOrderQueue window = new AccessOrderQueue();
+		private final AccessOrderQueue probation = new AccessOrderQueue();
+		private final AccessOrderQueue protectedQueue = new AccessOrderQueue();
+		private final FrequencySketch sketch;
+
+		private ByteBuffer[] slabs;
+		private int allocatedSlabs;
+		private int[] freeBlocks;
+		private int freeBlockCount;
+
+		private volatile int entryCount;
+		private volatile long usedBlocks;
+		private volatile long evictionCount;
+
+		private Segment(int maxSlabs, int blocksPerSlab) {
+			this.maxSlabs = maxSlabs;
+			this.blocksPerSlab = blocksPerSlab;
+			this.maxBlocks = (long) maxSlabs * blocksPerSlab;
+			this.windowMax = Math.max( 1, maxBlocks / 100 );
+			this.mainMax = maxBlocks - windowMax;
+			this.protectedMax = mainMax * 4 / 5;
+			this.sketch = new FrequencySketch( (int) Math.min( Integer.MAX_VALUE, maxBlocks ) );
+			this.slabs = new ByteBuffer[maxSlabs];
+			this.freeBlocks = new int[0];
+		}
+
+		private byte[] get(Object key, int hash) {
+			lock.lock();
+			try {
+				sketch.increment( hash );
+				final Node node = nodes.get( key );
+				if ( node == null ) {
+					return null;
+				}
+				final byte[] value = read( node );
+				onAccess( node );
+				return value;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void put(Object key, int hash, byte[] value) {
+			final int weight = Math.max( 1, ( value.length + blockSize - 1 ) / blockSize );
+			lock.lock();
+			try {
+				sketch.increment( hash );
+				final Node existing = nodes.remove( key );
+				if ( existing != null ) {
+					queueOf( existing ).remove( existing );
+					release( existing );
+				}
+				if ( weight > maxBlocks || !makeRoom( hash, weight ) ) {
+					return;
+				}
+				final Node node = new Node( key, hash, allocate( weight ), value.length );
+				write( node, value );
+				node.queue = WINDOW;
+				window.addLast( node );
+				nodes.put( key, node );
+				entryCount = nodes.size();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void remove(Object key) {
+			lock.lock();
+			try {
+				final Node node = nodes.remove( key );
+				if ( node != null ) {
+					queueOf( node ).remove( node );
+					release( node );
+					entryCount = nodes.size();
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private boolean contains(Object key) {
+			lock.lock();
+			try {
+				return nodes.containsKey( key );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void clear() {
+			lock.lock();
+			try {
+				nodes.clear();
+				window.clear();
+				probation.clear();
+				protectedQueue.clear();
+				// drop the slabs, so that the memory is reclaimed along with the direct buffers
+				slabs = new ByteBuffer[maxSlabs];
+				allocatedSlabs = 0;
+				freeBlocks = new int[0];
+				freeBlockCount = 0;
+				entryCount = 0;
+				usedBlocks = 0;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private int entryCount() {
+			return entryCount;
+		}
+
+		private long usedBlocks() {
+			return usedBlocks;
+		}
+
+		// eviction policy ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+		private AccessOrderQueue queueOf(Node node) {
+			switch ( node.queue ) {
+				case WINDOW:
+					return window;
+				case PROBATION:
+					return probation;
+				default:
+					return protectedQueue;
+			}
+		}
+
+		private void onAccess(Node node) {
+			switch ( node.queue ) {
+				case WINDOW:
+					window.moveToLast( node );
+					break;
+				case PROBATION:
+					probation.remove( node );
+					node.queue = PROTECTED;
+					protectedQueue.addLast( node );
+					while ( protectedQueue.weight > protectedMax ) {
+						final Node demoted = protectedQueue.first;
+						protectedQueue.remove( demoted );
+						demoted.queue = PROBATION;
+						probation.addLast( demoted );
+					}
+					break;
+				default:
+					protectedQueue.moveToLast( node );
+			}
+		}
+
+		/**
+		 * Make room for a new entry of the given weight in the window, moving the entries
+		 * leaving the window into the main space, subject to admission.
+		 *
+		 * @return {@code false} if the new entry was rejected
+		 */
+		private boolean makeRoom(int hash, int weight) {
+			while ( window.weight + weight > windowMax && window.first != null ) {
+				final Node candidate = window.first;
+				window.remove( candidate );
+				admitToMain( candidate );
+			}
+			// only entries larger than the window itself still need to compete for space
+			while ( usedBlocks + weight > maxBlocks ) {
+				final Node victim = mainVictim();
+				if ( victim == null || sketch.frequency( hash ) <= sketch.frequency( victim.hash ) ) {
+					return false;
+				}
+				queueOf( victim ).remove( victim );
+				evict( victim );
+			}
+			return true;
+		}
+
+		private void admitToMain(Node candidate) {
+			while ( probation.weight + protectedQueue.weight + candidate.weight() > mainMax ) {
+				final Node victim = mainVictim();
+				if ( victim == null || sketch.frequency( candidate.hash ) <= sketch.frequency( victim.hash ) ) {
+					evict( candidate );
+					return;
+				}
+				queueOf( victim ).remove( victim );
+				evict( victim );
+			}
+			candidate.queue = PROBATION;
+			probation.addLast( candidate );
+		}
+
+		private Node mainVictim() {
+			return probation.first != null ? probation.first : protectedQueue.first;
+		}
+
+		private void evict(Node node) {
+			nodes.remove( node.key );
+			release( node );
+			entryCount = nodes.size();
+			evictionCount++;
+		}
+
+		// block storage ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+		private int[] allocate(int count) {
+			while ( freeBlockCount < count ) {
+				allocateSlab();
+			}
+			final int[] blocks = new int[count];
+			for ( int i = 0; i < count; i++ ) {
+				blocks[i] = freeBlocks[--freeBlockCount];
+			}
+			usedBlocks += count;
+			return blocks;
+		}
+
+		private void allocateSlab() {
+			final int slab = allocatedSlabs++;
+			slabs[slab] = ByteBuffer.allocateDirect( blocksPerSlab * blockSize );
+			if ( freeBlocks.length < freeBlockCount + blocksPerSlab ) {
+				final int[] grown = new int[allocatedSlabs * blocksPerSlab];
+				System.arraycopy( freeBlocks, 0, grown, 0, freeBlockCount );
+				freeBlocks = grown;
+			}
+			// pushed in reverse, so that blocks are handed out in address order
+			for ( int i = blocksPerSlab - 1; i >= 0; i-- ) {
+				freeBlocks[freeBlockCount++] = slab * blocksPerSlab + i;
+			}
+		}
+
+		private void release(Node node) {
+			for ( int block : node.blocks ) {
+				freeBlocks[freeBlockCount++] = block;
+			}
+			usedBlocks -= node.blocks.length;
+		}
+
+		private void write(Node node, byte[] value) {
+			int offset = 0;
+			for ( int block : node.blocks ) {
+				final int length = Math.min( blockSize, value.length - offset );
+				final ByteBuffer slab = slabs[block / blocksPerSlab];
+				slab.position( ( block % blocksPerSlab ) * blockSize );
+				slab.put( value, offset, length );
+				offset += length;
+			}
+		}
+
+		private byte[] read(Node node) {
+			final byte[] value = new byte[node.length];
+			int offset = 0;
+			for ( int block : node.blocks ) {
+				final int length = Math.min( blockSize, value.length - offset );
+				final ByteBuffer slab = slabs[block / blocksPerSlab];
+				slab.position( ( block % blocksPerSlab ) * blockSize );
+				slab.get( value, offset, length );
+				offset += length;
+			}
+			return value;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap.internal;
+
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+
+/**
+ * QueryResultsRegion of the off-heap cache, reporting the statistics of its {@link OffHeapCache}.
+ */
+public class OffHeapQueryResultsRegion extends QueryResultsRegionTemplate implements ExtendedStatisticsSupport {
+	private final OffHeapCache cache;
+
+	public OffHeapQueryResultsRegion(String name, RegionFactory regionFactory, OffHeapStorageAccess storageAccess) {
+		super( name, regionFactory, storageAccess );
+		this.cache = storageAccess.getCache();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return cache.getEntryCount();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return cache.getSizeInBytes();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return cache.getEvictionCount();
+	}
+}
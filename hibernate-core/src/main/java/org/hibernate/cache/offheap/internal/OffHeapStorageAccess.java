@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.io.Serializable;
+
+import org.hibernate.cache.spi.SecondLevelCacheLogger;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+/**
+ * StorageAccess implementation keeping the values of a region serialized in an {@link OffHeapCache}.
+ * Values are stored by value: each read returns a fresh copy of the cached value.
+ *
+ * @see org.hibernate.cache.offheap.OffHeapRegionFactory
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private final String regionName;
+	private final OffHeapCache cache;
+
+	public OffHeapStorageAccess(String regionName, OffHeapCache cache) {
+		this.regionName = regionName;
+		this.cache = cache;
+	}
+
+	public OffHeapCache getCache() {
+		return cache;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] bytes = cache.get( key );
+		if ( bytes == null ) {
+			return null;
+		}
+		try {
+			return decode( bytes );
+		}
+		catch (SerializationException e) {
+			SecondLevelCacheLogger.INSTANCE.debugf( e, "Unable to read entry of off-heap cache region [%s]", regionName );
+			cache.remove( key );
+			return null;
+		}
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final byte[] bytes = encode( value );
+		if ( bytes == null ) {
+			// the previous value must not survive a failed put
+			cache.remove( key );
+		}
+		else {
+			cache.put( key, bytes );
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return cache.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		cache.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		cache.remove( key );
+	}
+
+	@Override
+	public void release() {
+		cache.clear();
+	}
+
+	private byte[] encode(Object value) {
+		if ( !( value instanceof Serializable ) ) {
+			SecondLevelCacheLogger.INSTANCE.debugf(
+					"Value of type [%s] is not serializable, not caching it in off-heap cache region [%s]",
+					value == null ? null : value.getClass().getName(),
+					regionName
+			);
+			return null;
+		}
+		try {
+			return SerializationHelper.serialize( (Serializable) value );
+		}
+		catch (SerializationException e) {
+			SecondLevelCacheLogger.INSTANCE.debugf( e, "Unable to serialize value for off-heap cache region [%s]", regionName );
+			return null;
+		}
+	}
+
+	private Object decode(byte[] bytes) {
+		return SerializationHelper.deserialize( bytes );
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * StorageAccess for the update timestamps region of the off-heap cache.  The timestamps are
+ * few, small and read by every query cache lookup, so they are kept on the heap.
+ */
+public class TimestampsStorageAccess implements StorageAccess {
+	private final ConcurrentMap<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return timestamps.get( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		timestamps.put( key, value );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return timestamps.containsKey( key );
+	}
+
+	@Override
+	public void evictData() {
+		timestamps.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		timestamps.remove( key );
+	}
+
+	@Override
+	public void release() {
+		timestamps.clear();
+	}
+}
@@ -0,0 +1,12 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+/**
+ * A bundled second-level cache provider keeping cached data in bounded off-heap memory,
+ * see {@link org.hibernate.cache.offheap.OffHeapRegionFactory}.
+ */
+package org.hibernate.cache.offheap;
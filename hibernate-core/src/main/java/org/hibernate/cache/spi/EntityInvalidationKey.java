@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.EntityKey;
+
+/**
+ * Identifies, in the timestamps region, a group of entities of an entity hierarchy
+ * whose updates and deletions invalidate the cached query results containing them.
+ * See {@link org.hibernate.cfg.AvailableSettings#USE_QUERY_CACHE_ENTITY_INVALIDATION}.
+ * <p/>
+ * The identifiers of each hierarchy are hashed to a fixed number of groups, so that the
+ * timestamps region stays bounded however many distinct entities are updated, at the
+ * cost of occasionally invalidating results containing another entity of the same group.
+ */
+public final class EntityInvalidationKey implements Serializable {
+	private static final int GROUP_COUNT = 4096;
+
+	private final String rootEntityName;
+	private final int group;
+
+	private EntityInvalidationKey(String rootEntityName, int group) {
+		this.rootEntityName = rootEntityName;
+		this.group = group;
+	}
+
+	/**
+	 * The key of the group the given entity belongs to
+	 */
+	public static EntityInvalidationKey forEntity(EntityKey entityKey) {
+		return new EntityInvalidationKey(
+				entityKey.getPersister().getRootEntityName(),
+				Math.floorMod( entityKey.hashCode(), GROUP_COUNT )
+		);
+	}
+
+	@Override
+	public int hashCode() {
+		return 37 * rootEntityName.hashCode() + group;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if ( !( other instanceof EntityInvalidationKey ) ) {
+			return false;
+		}
+
+		final EntityInvalidationKey that = (EntityInvalidationKey) other;
+		return group == that.group
+				&& rootEntityName.equals( that.rootEntityName );
+	}
+
+	@Override
+	public String toString() {
+		return "EntityInvalidationKey[" + rootEntityName + '#' + group + ']';
+	}
+}
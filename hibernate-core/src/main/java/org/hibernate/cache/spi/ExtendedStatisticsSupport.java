@@ -17,4 +17,13 @@ public interface ExtendedStatisticsSupport {
 	long getElementCountOnDisk();
 
 	long getSizeInMemory();
+
+	/**
+	 * The number of entries evicted from the region to respect its size bounds,
+	 * or {@link org.hibernate.stat.CacheRegionStatistics#NO_EXTENDED_STAT_SUPPORT_RETURN}
+	 * if the provider does not track evictions.
+	 */
+	default long getEvictionCount() {
+		return org.hibernate.stat.CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
 }
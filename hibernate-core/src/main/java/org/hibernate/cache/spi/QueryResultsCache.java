@@ -6,11 +6,13 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -42,6 +44,29 @@ public interface QueryResultsCache {
 			List result,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Put a result into the query cache, along with the entities it was read from, so that
+	 * it may be invalidated only when these entities change.
+	 *
+	 * @param key The cache key
+	 * @param result The results to cache
+	 * @param entityKeys The keys of the entities read from the results
+	 * @param session The originating session
+	 *
+	 * @return Whether the put actually happened.
+	 *
+	 * @throws HibernateException Indicates a problem delegating to the underlying cache.
+	 *
+	 * @see TimestampsCache#isEntityInvalidationEnabled()
+	 */
+	default boolean put(
+			QueryKey key,
+			List result,
+			Collection<EntityKey> entityKeys,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return put( key, result, session );
+	}
+
 	/**
 	 * Get results from the cache.
 	 *
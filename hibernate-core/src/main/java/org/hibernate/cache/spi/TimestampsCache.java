@@ -56,6 +56,51 @@ public interface TimestampsCache {
 			Long timestamp,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Are cached query results invalidated per entity?  If not, the methods dealing with
+	 * {@link EntityInvalidationKey entity invalidation keys} behave like their counterparts
+	 * dealing with spaces alone.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_QUERY_CACHE_ENTITY_INVALIDATION
+	 */
+	default boolean isEntityInvalidationEnabled() {
+		return false;
+	}
+
+	/**
+	 * Perform pre-invalidation of the passed entities, whose rows in the passed
+	 * spaces (table names) are being updated or deleted
+	 */
+	default void preInvalidate(
+			String[] spaces,
+			Collection<EntityInvalidationKey> entities,
+			SharedSessionContractImplementor session) {
+		preInvalidate( spaces, session );
+	}
+
+	/**
+	 * Perform invalidation of the passed entities, whose rows in the passed
+	 * spaces (table names) were updated or deleted
+	 */
+	default void invalidate(
+			String[] spaces,
+			Collection<EntityInvalidationKey> entities,
+			SharedSessionContractImplementor session) {
+		invalidate( spaces, session );
+	}
+
+	/**
+	 * Perform an up-to-date check of cached query results made of the passed entities,
+	 * read from the given set of query spaces.
+	 */
+	default boolean isUpToDate(
+			Collection<String> spaces,
+			Collection<EntityInvalidationKey> entities,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		return isUpToDate( spaces, timestamp, session );
+	}
+
 	default void clear() throws CacheException {
 		getRegion().clear();
 	}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+/**
+ * Contract for encoding {@link StandardCacheEntryImpl entity cache entries} to bytes, used in place of
+ * the default Java serialization of their state whenever a cache provider serializes the entries,
+ * for example to store them off-heap or to replicate them across a cluster.
+ * <p/>
+ * The encoded bytes must be self-contained, since they may be decoded by another JVM or after a restart.
+ * Implementations are themselves serialized alongside the bytes they produce, and should therefore
+ * be stateless singletons resolving to a shared instance when deserialized.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_ENTRY_CODEC
+ */
+public interface CacheEntryCodec extends Serializable {
+	/**
+	 * Encode the given entry
+	 *
+	 * @param entry The cache entry
+	 *
+	 * @return The encoded entry
+	 */
+	byte[] encode(CacheEntry entry);
+
+	/**
+	 * Decode an entry previously {@linkplain #encode encoded} by this codec
+	 *
+	 * @param bytes The encoded entry
+	 *
+	 * @return The decoded cache entry
+	 */
+	CacheEntry decode(byte[] bytes);
+}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+/**
+ * The serialized form of a {@link StandardCacheEntryImpl} encoded by a {@link CacheEntryCodec}.
+ *
+ * @see StandardCacheEntryImpl#writeReplace()
+ */
+final class EncodedCacheEntry implements Serializable {
+	private final CacheEntryCodec codec;
+	private final byte[] bytes;
+
+	EncodedCacheEntry(CacheEntryCodec codec, byte[] bytes) {
+		this.codec = codec;
+		this.bytes = bytes;
+	}
+
+	private Object readResolve() {
+		return codec.decode( bytes );
+	}
+}
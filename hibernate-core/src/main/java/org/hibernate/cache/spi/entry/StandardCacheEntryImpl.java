@@ -32,6 +32,7 @@ public class StandardCacheEntryImpl implements CacheEntry {
 	private final Serializable[] disassembledState;
 	private final Object version;
 	private final String subclass;
+	private final transient CacheEntryCodec codec;
 
 	/**
 	 * Constructs a StandardCacheEntryImpl
@@ -60,12 +61,31 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		);
 		this.subclass = persister.getEntityName();
 		this.version = version;
+		this.codec = persister.getFactory().getSessionFactoryOptions().getCacheEntryCodec();
 	}
 
 	StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
+		this( disassembledState, subclass, version, null );
+	}
+
+	/**
+	 * Constructs a StandardCacheEntryImpl from previously disassembled state, used when
+	 * decoding an entry encoded by a {@link CacheEntryCodec}
+	 *
+	 * @param disassembledState The disassembled state
+	 * @param subclass The entity name
+	 * @param version The current version (if versioned)
+	 * @param codec The codec used when this entry is serialized again, if any
+	 */
+	public StandardCacheEntryImpl(
+			Serializable[] disassembledState,
+			String subclass,
+			Object version,
+			CacheEntryCodec codec) {
 		this.disassembledState = disassembledState;
 		this.subclass = subclass;
 		this.version = version;
+		this.codec = codec;
 	}
 
 
@@ -161,6 +181,13 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		return state;
 	}
 
+	/**
+	 * Serialize the entry in the format of the configured {@link CacheEntryCodec}, if any.
+	 */
+	private Object writeReplace() {
+		return codec == null ? this : new EncodedCacheEntry( codec, codec.encode( this ) );
+	}
+
 	@Override
 	public String toString() {
 		return "CacheEntry(" + subclass + ')';
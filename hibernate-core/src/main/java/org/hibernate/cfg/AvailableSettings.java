@@ -627,6 +627,22 @@ public interface AvailableSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * The path of a file where the results of scanning are persisted, to be reused by later
+	 * bootstraps instead of scanning again, for as long as a fingerprint of the path, size and
+	 * last modification time of the files of the scanned archives matches.  The file may be
+	 * created at build time, by bootstrapping once, and is rewritten whenever it is found to
+	 * be stale.  The time spent scanning, or reading the snapshot, is logged at debug level.
+	 * <p/>
+	 * Only applies when all scanned archives are on the file system.  By default, no results are
+	 * persisted.
+	 *
+	 * @see org.hibernate.boot.archive.scan.internal.SnapshotScanner
+	 *
+	 * @since 6.0
+	 */
+	String SCANNER_SNAPSHOT = "hibernate.archive.scan_snapshot";
+
 	/**
 	 * Used to specify the {@link org.hibernate.boot.model.naming.ImplicitNamingStrategy} class to use.  The following
 	 * short-names are defined for this setting:<ul>
@@ -753,6 +769,19 @@ public interface AvailableSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * The maximum number of threads loading batches of ids at the same time, shared by all the
+	 * {@linkplain org.hibernate.MultiIdentifierLoadAccess#withParallelism(int) parallel multi-loads}
+	 * of a SessionFactory.  Each of these threads holds a JDBC connection of its own while it loads
+	 * batches, so the value should leave enough connections in the pool for the sessions of the
+	 * application.  Batches wait for a thread to become available once the limit is reached.
+	 * <p/>
+	 * Defaults to the number of available processors.
+	 *
+	 * @since 6.0
+	 */
+	String MULTI_LOAD_MAX_THREADS = "hibernate.multi_load.max_threads";
+
 	/**
 	 * Use <tt>java.io</tt> streams to read / write binary data from / to JDBC
 	 */
@@ -777,6 +806,21 @@ public interface AvailableSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The number of rows read ahead of time from the JDBC {@link java.sql.ResultSet}, on a
+	 * background thread, for queries executed via {@link org.hibernate.query.Query#stream()}
+	 * or {@link org.hibernate.query.Query#scroll(org.hibernate.ScrollMode)} with
+	 * {@link org.hibernate.ScrollMode#FORWARD_ONLY}.  Reading rows then overlaps with the
+	 * processing of the rows already read.  A virtual thread is used for reading when the
+	 * JVM supports them.
+	 * <p/>
+	 * Only suitable when the JDBC driver supports using a connection from multiple threads
+	 * concurrently.  If <tt>0</tt>, the default, rows are read on the thread consuming them.
+	 *
+	 * @since 6.0
+	 */
+	String SCROLL_READ_AHEAD_SIZE = "hibernate.jdbc.scroll_read_ahead_size";
+
 	/**
 	 * Maximum JDBC batch size. A nonzero value enables batch updates.
 	 */
@@ -791,6 +835,25 @@ public interface AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * Should batched entity inserts be executed as multi-row {@code INSERT ... VALUES (..), (..)}
+	 * statements rather than via JDBC statement batching?  The number of rows per statement is
+	 * bounded by the {@link #STATEMENT_BATCH_SIZE batch size}, and by the
+	 * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit() parameter count limit}
+	 * and {@linkplain org.hibernate.dialect.Dialect#getValuesListRowCountLimit() row count limit}
+	 * of the database.
+	 * <p/>
+	 * Useful with JDBC drivers which send batched statements one at a time.  Consider enabling
+	 * {@link #ORDER_INSERTS} as well, so that inserts of the same entity type are grouped.
+	 * Only applies to Dialects which {@linkplain org.hibernate.dialect.Dialect#supportsMultiRowInsertBatch() support}
+	 * multi-row inserts.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	String BATCH_MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
 	/**
 	 * Default JDBC TimeZone. Unless specified, the JVM default TimeZone is going to be used by the underlying JDBC Driver.
 	 *
@@ -838,6 +901,19 @@ public interface AvailableSettings {
 	 */
 	String ENFORCE_LEGACY_PROXY_CLASSNAMES = "hibernate.bytecode.enforce_legacy_proxy_classnames";
 
+	/**
+	 * Use bytecode generated comparators to dirty check the basic properties of entities
+	 * which are not enhanced for lazy loading, bypassing the {@link org.hibernate.type.Type}
+	 * abstraction for properties compared by value equality.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @see org.hibernate.bytecode.spi.DirtyCheckOptimizer
+	 *
+	 * @since 6.0
+	 */
+	String USE_DIRTY_CHECK_OPTIMIZER = "hibernate.bytecode.use_dirty_check_optimizer";
+
 
 	/**
 	 * Controls the base integer for binding JDBC-style ({@code ?}) ordinal
@@ -1004,6 +1080,22 @@ public interface AvailableSettings {
 	 */
 	String ORDER_UPDATES = "hibernate.order_updates";
 
+	/**
+	 * Enable incremental flushing, whereby a flush only visits the entities added to the
+	 * persistence context or possibly changed since the last flush, rather than every managed
+	 * entity.  Changes are only tracked for entities enhanced for inline dirty tracking by this
+	 * version of the enhancer, which have no collections, no mutable properties and no cascaded
+	 * associations; other entities are visited by every flush, as usual.  Every entity is also
+	 * visited when an {@link org.hibernate.Interceptor} or flush entity event listeners other
+	 * than the standard one are registered.  Entity updates are scheduled in the order the
+	 * entities were registered as possibly dirty, which {@link #ORDER_UPDATES} normalizes.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	String INCREMENTAL_FLUSH = "hibernate.flush.incremental";
+
 	/**
 	 * Enable ordering of insert statements for the purpose of more efficient JDBC batching.
 	 */
@@ -1187,6 +1279,27 @@ public interface AvailableSettings {
 	 */
 	String USE_QUERY_CACHE = "hibernate.cache.use_query_cache";
 
+	/**
+	 * Should cached query results be invalidated by the updates and deletions of the entities
+	 * they contain, rather than by any change to the tables they were read from?
+	 * <p/>
+	 * When enabled, the entity keys read by a cacheable query are recorded along with its
+	 * results, and updating or deleting an entity only invalidates the cached results which
+	 * contain it.  Insertions, collection changes, bulk and native mutation queries still
+	 * invalidate every cached result read from the affected tables, as do all changes to
+	 * the results of queries which are not made of entities read from these tables alone,
+	 * such as projections, aggregations and queries joining entities which are not returned.
+	 * <p/>
+	 * This assumes that updating an entity which is not part of the cached results of a query
+	 * does not make it match the restrictions of that query: use it for queries restricting
+	 * on attributes which are not updated, or when such staleness is acceptable.
+	 * <p/>
+	 * Disabled by default.
+	 *
+	 * @since 6.0
+	 */
+	String USE_QUERY_CACHE_ENTITY_INVALIDATION = "hibernate.cache.use_query_cache_entity_invalidation";
+
 	/**
 	 * The {@link TimestampsCacheFactory} implementation class.
 	 */
@@ -1207,6 +1320,18 @@ public interface AvailableSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Specifies the {@link org.hibernate.cache.spi.entry.CacheEntryCodec} used to encode entity cache
+	 * entries whenever the cache provider serializes them.  By default, entries are written using Java
+	 * serialization.  Can refer to:<ul>
+	 *     <li>an Object implementing {@link org.hibernate.cache.spi.entry.CacheEntryCodec}</li>
+	 *     <li>a Class implementing {@link org.hibernate.cache.spi.entry.CacheEntryCodec}</li>
+	 *     <li>FQN of a Class implementing {@link org.hibernate.cache.spi.entry.CacheEntryCodec}</li>
+	 *     <li>'compact' as a short name for {@link org.hibernate.cache.internal.CompactCacheEntryCodec}</li>
+	 * </ul>
+	 */
+	String CACHE_ENTRY_CODEC = "hibernate.cache.entry_codec";
+
 	/**
 	 * Enables the automatic eviction of a bi-directional association's collection cache when an element in the
 	 * ManyToOne collection is added/updated/removed without properly managing the change on the OneToMany side.
@@ -1286,6 +1411,42 @@ public interface AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
 
+	/**
+	 * The maximum number of SQL translations kept by a cached select query plan.  A plan
+	 * keeps a translation for each combination of the sizes of its multi-valued parameters
+	 * and of the presence of a limit or offset it is executed with.  Enabling
+	 * {@link #IN_CLAUSE_PARAMETER_PADDING} bounds the number of different sizes of an IN list.
+	 * Default is 16.
+	 *
+	 * @since 6.0
+	 */
+	String QUERY_PLAN_CACHE_MAX_TRANSLATIONS = "hibernate.query.plan_cache_max_translations";
+
+	/**
+	 * The number of times the rows of a cached select query plan are read before a
+	 * {@link org.hibernate.sql.results.spi.RowReader} specialized for the results of the
+	 * query is generated, with the calls to the assemblers and initializers of each row
+	 * unrolled so that each gets its own call site.  A class is generated for each such
+	 * query, and is never unloaded.  If <tt>0</tt>, the default, rows are always read by
+	 * the generic {@link org.hibernate.sql.results.internal.StandardRowReader}.
+	 *
+	 * @since 6.0
+	 */
+	String COMPILED_ROW_READER_THRESHOLD = "hibernate.query.compiled_row_reader_threshold";
+
+	/**
+	 * Names the {@link org.hibernate.sql.exec.spi.NonBlockingSelectDriver} executing the queries
+	 * run through {@link org.hibernate.query.Query#listAsync()}.  Can reference<ul>
+	 *     <li>NonBlockingSelectDriver instance</li>
+	 *     <li>NonBlockingSelectDriver implementation {@link Class} reference</li>
+	 *     <li>NonBlockingSelectDriver implementation class name (FQN)</li>
+	 * </ul>
+	 * By default, no driver is available and such queries fail.
+	 *
+	 * @since 6.0
+	 */
+	String NON_BLOCKING_SELECT_DRIVER = "hibernate.query.non_blocking_select_driver";
+
 	/**
 	 * Should we not use contextual LOB creation (aka based on {@link java.sql.Connection#createBlob()} et al).
 	 */
@@ -1678,6 +1839,21 @@ public interface AvailableSettings {
 	 */
 	String HBM2DDL_JDBC_METADATA_EXTRACTOR_STRATEGY = "hibernate.hbm2ddl.jdbc_metadata_extraction_strategy";
 
+	/**
+	 * The number of threads, each using a JDBC connection of its own, used to extract the index and
+	 * foreign key information of existing tables when the schema is updated using the
+	 * {@link JdbcMetadaAccessStrategy#GROUPED} strategy.
+	 * <p/>
+	 * The default value is {@code 1}, in which case the information is extracted on demand, table by table,
+	 * through the connection used to extract the tables.
+	 * <p/>
+	 * Only schema update benefits from this setting: schema validation reads tables and columns, not
+	 * indexes and foreign keys, and is not made any faster, whatever the database.
+	 *
+	 * @since 6.0
+	 */
+	String HBM2DDL_JDBC_METADATA_EXTRACTOR_THREADS = "hibernate.hbm2ddl.jdbc_metadata_extraction_threads";
+
 	/**
 	 * Identifies the delimiter to use to separate schema management statements in script outputs.
 	 * The default value is <code>;</code>.
@@ -2220,6 +2396,20 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
 
+	/**
+	 * Should the {@link org.hibernate.stat.Statistics} keep a histogram of the execution times of
+	 * each query, and of the times taken by loading and fetching each entity by its identifier?
+	 * The histograms report percentiles of these times, see {@link org.hibernate.stat.LatencyStatistics}.
+	 * <p/>
+	 * Each histogram takes a few kilobytes of memory, so consider the number of
+	 * {@link #QUERY_STATISTICS_MAX_SIZE distinct queries} kept when enabling them.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	String STATISTICS_LATENCY_HISTOGRAMS = "hibernate.statistics.latency_histograms";
+
 	/**
 	 * This setting defines the {@link org.hibernate.id.SequenceMismatchStrategy} used when
 	 * Hibernate detects a mismatch between a sequence configuration in an entity mapping
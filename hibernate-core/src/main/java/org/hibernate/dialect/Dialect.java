@@ -49,6 +49,7 @@ import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.boot.model.relational.AuxiliaryDatabaseObject;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.dialect.function.CastFunction;
 import org.hibernate.dialect.function.CastStrEmulation;
 import org.hibernate.dialect.function.CoalesceIfnullEmulation;
@@ -3149,6 +3150,28 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * Return the limit that the underlying database places on the number of JDBC parameters
+	 * of a single statement.  If the database defines no such limits, simply return zero or
+	 * less-than-zero.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 */
+	public int getParameterCountLimit() {
+		return 0;
+	}
+
+	/**
+	 * Return the limit that the underlying database places on the number of rows of the
+	 * {@code VALUES} list of a single {@code INSERT} statement.  If the database defines no
+	 * such limits, simply return zero or less-than-zero.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 */
+	public int getValuesListRowCountLimit() {
+		return 0;
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
@@ -3405,6 +3428,30 @@ public abstract class Dialect implements ConversionContext {
 		return true;
 	}
 
+	/**
+	 * Can batched inserts be executed as a single {@code INSERT} statement with a multi-row
+	 * {@code VALUES} list, as rendered for a batch, without any emulation of the SQL AST translator?
+	 *
+	 * @return {@code true} if batched inserts may be executed as multi-row inserts
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_MULTI_ROW_INSERTS
+	 */
+	public boolean supportsMultiRowInsertBatch() {
+		return supportsValuesListForInsert();
+	}
+
+	/**
+	 * The support for loading rows in bulk offered by this dialect/database, used by
+	 * {@link org.hibernate.StatelessSession#bulkInsert(Class, java.util.stream.Stream)}.
+	 * Without such support, rows are loaded with multi-row inserts, if
+	 * {@linkplain #supportsMultiRowInsertBatch() supported}, or with batched inserts.
+	 *
+	 * @return The BulkInsertSupport, or {@code null} if there is none
+	 */
+	public BulkInsertSupport getBulkInsertSupport() {
+		return null;
+	}
+
 	/**
 	 * Does this dialect/database support SKIP_LOCKED timeout.
 	 *
@@ -16,6 +16,8 @@ import org.hibernate.LockOptions;
 import org.hibernate.PessimisticLockException;
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.MySQLLoadDataBulkInsertSupport;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.function.FieldFunction;
 import org.hibernate.dialect.hint.IndexQueryHintHandler;
@@ -862,6 +864,17 @@ public class MySQLDialect extends Dialect {
 
 	// Overridden informational metadata ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
+	@Override
+	public int getParameterCountLimit() {
+		// the protocol uses a 16 bit unsigned integer for the number of parameters
+		return 65535;
+	}
+
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return MySQLLoadDataBulkInsertSupport.INSTANCE;
+	}
+
 	@Override
 	public boolean supportsLobValueChangePropagation() {
 		// note: at least my local MySQL 5.1 install shows this not working...
@@ -908,6 +908,12 @@ public class OracleDialect extends Dialect {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsertBatch() {
+		// Oracle only supports inserting a single row with the VALUES clause
+		return false;
+	}
+
 	@Override
 	public boolean forceLobAsLastValue() {
 		return true;
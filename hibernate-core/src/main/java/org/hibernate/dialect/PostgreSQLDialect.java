@@ -26,6 +26,8 @@ import org.hibernate.PessimisticLockException;
 import org.hibernate.QueryTimeoutException;
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.PostgreSQLCopyBulkInsertSupport;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.identity.IdentityColumnSupport;
 import org.hibernate.dialect.identity.PostgreSQLIdentityColumnSupport;
@@ -460,6 +462,17 @@ public class PostgreSQLDialect extends Dialect {
 		return getVersion().isSameOrAfter( 8, 2 );
 	}
 
+	@Override
+	public int getParameterCountLimit() {
+		// the wire protocol uses a 16 bit integer for the number of parameters
+		return 32767;
+	}
+
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return driverKind == PostgreSQLDriverKind.PG_JDBC ? PostgreSQLCopyBulkInsertSupport.INSTANCE : null;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return getVersion().isSameOrAfter( 9, 1 );
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Base support for bulk loading facilities reading rows as text, one line per row, with
+ * tab separated values, {@code \N} for null values and backslash escapes for tabs, line
+ * breaks and backslashes within values.  This format is understood by both the PostgreSQL
+ * {@code COPY} and the MySQL {@code LOAD DATA} statements.
+ */
+public abstract class AbstractTextBulkInsertSupport implements BulkInsertSupport {
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	@Override
+	public long load(String tableName, String[] columnNames, List<Object[]> rows, Connection connection)
+			throws SQLException {
+		final StringBuilder text = new StringBuilder( rows.size() * columnNames.length * 8 );
+		for ( Object[] row : rows ) {
+			for ( int i = 0; i < row.length; i++ ) {
+				if ( i > 0 ) {
+					text.append( '\t' );
+				}
+				if ( row[i] == null ) {
+					text.append( "\\N" );
+				}
+				else if ( row[i] instanceof byte[] ) {
+					appendBinary( text, (byte[]) row[i] );
+				}
+				else {
+					appendEscaped( text, toText( row[i] ) );
+				}
+			}
+			text.append( '\n' );
+		}
+		return load( tableName, columnNames, rows, text.toString(), connection );
+	}
+
+	/**
+	 * Load the given text representation of the rows into the table
+	 */
+	protected abstract long load(
+			String tableName,
+			String[] columnNames,
+			List<Object[]> rows,
+			String text,
+			Connection connection) throws SQLException;
+
+	/**
+	 * Append the text representation of a binary value
+	 */
+	protected abstract void appendBinary(StringBuilder text, byte[] value);
+
+	/**
+	 * The text representation of a value, other than a binary value, before escaping
+	 */
+	protected String toText(Object value) {
+		if ( value instanceof BigDecimal ) {
+			return ( (BigDecimal) value ).toPlainString();
+		}
+		return value.toString();
+	}
+
+	protected static void appendHex(StringBuilder text, byte[] value) {
+		for ( byte b : value ) {
+			text.append( HEX_DIGITS[( b >> 4 ) & 0xF] ).append( HEX_DIGITS[b & 0xF] );
+		}
+	}
+
+	private static void appendEscaped(StringBuilder text, String value) {
+		for ( int i = 0; i < value.length(); i++ ) {
+			final char c = value.charAt( i );
+			switch ( c ) {
+				case '\\':
+					text.append( "\\\\" );
+					break;
+				case '\t':
+					text.append( "\\t" );
+					break;
+				case '\n':
+					text.append( "\\n" );
+					break;
+				case '\r':
+					text.append( "\\r" );
+					break;
+				default:
+					text.append( c );
+			}
+		}
+	}
+}
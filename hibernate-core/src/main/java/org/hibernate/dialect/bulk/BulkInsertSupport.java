@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loads rows into a table through a database specific bulk loading facility, such as
+ * {@code COPY ... FROM STDIN} on PostgreSQL, bypassing the parsing and planning of an
+ * {@code INSERT} statement per row.
+ *
+ * @see org.hibernate.dialect.Dialect#getBulkInsertSupport()
+ * @see org.hibernate.StatelessSession#bulkInsert(Class, java.util.stream.Stream)
+ */
+public interface BulkInsertSupport {
+	/**
+	 * Can rows be loaded through the given connection?  Bulk loading facilities usually
+	 * depend on the JDBC driver, and sometimes on its configuration.
+	 *
+	 * @param connection The JDBC connection
+	 *
+	 * @return {@code true} if {@link #load} may be used with the connection
+	 */
+	boolean isAvailable(Connection connection) throws SQLException;
+
+	/**
+	 * Load the given rows into the table.
+	 *
+	 * @param tableName The name of the table
+	 * @param columnNames The names of the columns of the rows
+	 * @param rows The rows, each holding the values of the columns as bound to a JDBC
+	 * {@link java.sql.PreparedStatement}, with binary streams and character streams already
+	 * read into {@code byte[]} and {@code String} values
+	 * @param connection The JDBC connection
+	 *
+	 * @return The number of loaded rows, or a negative number if unknown
+	 */
+	long load(String tableName, String[] columnNames, List<Object[]> rows, Connection connection)
+			throws SQLException;
+}
@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.internal.util.ReflectHelper;
+
+/**
+ * Loads rows through the {@code LOAD DATA LOCAL INFILE} statement of MySQL, streaming them
+ * from memory with the {@code setLocalInfileInputStream} extension of MySQL Connector/J,
+ * which is accessed reflectively.
+ * <p/>
+ * Only available on connections allowing local files to be loaded, that is with the
+ * {@code allowLoadLocalInfile} property of the driver enabled.
+ * <p/>
+ * Since {@code LOAD DATA} reads values as strings, binary values are sent as hexadecimal
+ * strings, and boolean values as numbers, each converted back by the {@code SET} clause.
+ * <p/>
+ * With {@code LOCAL}, MySQL reports invalid values and duplicate keys as warnings rather than
+ * errors, storing truncated values or skipping the rows.  Any warning therefore fails the load.
+ */
+public class MySQLLoadDataBulkInsertSupport extends AbstractTextBulkInsertSupport {
+	/**
+	 * Singleton access
+	 */
+	public static final MySQLLoadDataBulkInsertSupport INSTANCE = new MySQLLoadDataBulkInsertSupport();
+
+	@Override
+	public boolean isAvailable(Connection connection) throws SQLException {
+		if ( ConnectorJ.STATEMENT_CLASS == null || !connection.isWrapperFor( ConnectorJ.CONNECTION_CLASS ) ) {
+			return false;
+		}
+		try {
+			final Object propertySet = ConnectorJ.GET_PROPERTY_SET.invoke( connection.unwrap( ConnectorJ.CONNECTION_CLASS ) );
+			final Object property = ConnectorJ.GET_BOOLEAN_PROPERTY.invoke( propertySet, "allowLoadLocalInfile" );
+			return Boolean.TRUE.equals( ConnectorJ.GET_VALUE.invoke( property ) );
+		}
+		catch (InvocationTargetException | IllegalAccessException e) {
+			return false;
+		}
+	}
+
+	@Override
+	protected long load(
+			String tableName,
+			String[] columnNames,
+			List<Object[]> rows,
+			String text,
+			Connection connection) throws SQLException {
+		final String sql = loadDataStatement( tableName, columnNames, rows );
+		try ( Statement statement = connection.createStatement() ) {
+			ConnectorJ.SET_LOCAL_INFILE_INPUT_STREAM.invoke(
+					statement.unwrap( ConnectorJ.STATEMENT_CLASS ),
+					new ByteArrayInputStream( text.getBytes( StandardCharsets.UTF_8 ) )
+			);
+			final long loadedRows = statement.executeUpdate( sql );
+			final SQLWarning warning = statement.getWarnings();
+			if ( warning != null ) {
+				throw new SQLException(
+						"Loading rows into " + tableName + " raised warnings: " + warning.getMessage(),
+						warning.getSQLState(),
+						warning.getErrorCode(),
+						warning
+				);
+			}
+			return loadedRows;
+		}
+		catch (InvocationTargetException e) {
+			if ( e.getCause() instanceof SQLException ) {
+				throw (SQLException) e.getCause();
+			}
+			throw new HibernateException( "Unable to load rows into " + tableName, e.getCause() );
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Unable to load rows into " + tableName, e );
+		}
+	}
+
+	private static String loadDataStatement(String tableName, String[] columnNames, List<Object[]> rows) {
+		final StringBuilder sql = new StringBuilder( "load data local infile 'rows' into table " )
+				.append( tableName )
+				.append( " character set utf8mb4 fields terminated by '\\t' escaped by '\\\\' lines terminated by '\\n' (" );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ", " );
+			}
+			sql.append( "@c" ).append( i );
+		}
+		sql.append( ") set " );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ", " );
+			}
+			sql.append( columnNames[i] ).append( " = " );
+			final Object value = firstNonNullValue( rows, i );
+			if ( value instanceof byte[] ) {
+				sql.append( "unhex(@c" ).append( i ).append( ')' );
+			}
+			else if ( value instanceof Boolean ) {
+				// bit columns can not be loaded from strings
+				sql.append( "cast(@c" ).append( i ).append( " as unsigned)" );
+			}
+			else {
+				sql.append( "@c" ).append( i );
+			}
+		}
+		return sql.toString();
+	}
+
+	private static Object firstNonNullValue(List<Object[]> rows, int column) {
+		for ( Object[] row : rows ) {
+			if ( row[column] != null ) {
+				return row[column];
+			}
+		}
+		return null;
+	}
+
+	@Override
+	protected void appendBinary(StringBuilder text, byte[] value) {
+		appendHex( text, value );
+	}
+
+	@Override
+	protected String toText(Object value) {
+		if ( value instanceof Boolean ) {
+			return (Boolean) value ? "1" : "0";
+		}
+		return super.toText( value );
+	}
+
+	/**
+	 * The extensions of MySQL Connector/J, if available
+	 */
+	private static class ConnectorJ {
+		private static final Class<?> CONNECTION_CLASS;
+		private static final Class<?> STATEMENT_CLASS;
+		private static final Method SET_LOCAL_INFILE_INPUT_STREAM;
+		private static final Method GET_PROPERTY_SET;
+		private static final Method GET_BOOLEAN_PROPERTY;
+		private static final Method GET_VALUE;
+
+		static {
+			Class<?> connectionClass;
+			Class<?> statementClass;
+			Method setLocalInfileInputStream;
+			Method getPropertySet;
+			Method getBooleanProperty;
+			Method getValue;
+			try {
+				connectionClass = ReflectHelper.classForName(
+						"com.mysql.cj.jdbc.JdbcConnection",
+						MySQLLoadDataBulkInsertSupport.class
+				);
+				statementClass = ReflectHelper.classForName(
+						"com.mysql.cj.jdbc.JdbcStatement",
+						MySQLLoadDataBulkInsertSupport.class
+				);
+				setLocalInfileInputStream = statementClass.getMethod( "setLocalInfileInputStream", InputStream.class );
+				getPropertySet = connectionClass.getMethod( "getPropertySet" );
+				getBooleanProperty = getPropertySet.getReturnType().getMethod( "getBooleanProperty", String.class );
+				getValue = getBooleanProperty.getReturnType().getMethod( "getValue" );
+			}
+			catch (ClassNotFoundException | NoSuchMethodException e) {
+				connectionClass = null;
+				statementClass = null;
+				setLocalInfileInputStream = null;
+				getPropertySet = null;
+				getBooleanProperty = null;
+				getValue = null;
+			}
+			CONNECTION_CLASS = connectionClass;
+			STATEMENT_CLASS = statementClass;
+			SET_LOCAL_INFILE_INPUT_STREAM = setLocalInfileInputStream;
+			GET_PROPERTY_SET = getPropertySet;
+			GET_BOOLEAN_PROPERTY = getBooleanProperty;
+			GET_VALUE = getValue;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.internal.util.ReflectHelper;
+
+/**
+ * Loads rows through the {@code COPY ... FROM STDIN} statement of PostgreSQL, using the
+ * {@code CopyManager} of the PostgreSQL JDBC driver, which is accessed reflectively.
+ * <p/>
+ * The rows are sent in the text format of {@code COPY}, which the server parses with the input
+ * functions of the column types, so that no type specific encoding is needed.
+ */
+public class PostgreSQLCopyBulkInsertSupport extends AbstractTextBulkInsertSupport {
+	/**
+	 * Singleton access
+	 */
+	public static final PostgreSQLCopyBulkInsertSupport INSTANCE = new PostgreSQLCopyBulkInsertSupport();
+
+	@Override
+	public boolean isAvailable(Connection connection) throws SQLException {
+		return PgJdbc.CONNECTION_CLASS != null && connection.isWrapperFor( PgJdbc.CONNECTION_CLASS );
+	}
+
+	@Override
+	protected long load(
+			String tableName,
+			String[] columnNames,
+			List<Object[]> rows,
+			String text,
+			Connection connection) throws SQLException {
+		final String sql = "copy " + tableName + " (" + String.join( ", ", columnNames ) + ") from stdin";
+		try {
+			final Object copyManager = PgJdbc.GET_COPY_API.invoke( connection.unwrap( PgJdbc.CONNECTION_CLASS ) );
+			return (Long) PgJdbc.COPY_IN.invoke( copyManager, sql, new StringReader( text ) );
+		}
+		catch (InvocationTargetException e) {
+			if ( e.getCause() instanceof SQLException ) {
+				throw (SQLException) e.getCause();
+			}
+			throw new HibernateException( "Unable to copy rows into " + tableName, e.getCause() );
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Unable to copy rows into " + tableName, e );
+		}
+	}
+
+	@Override
+	protected void appendBinary(StringBuilder text, byte[] value) {
+		// the hex format of bytea, with its backslash escaped
+		text.append( "\\\\x" );
+		appendHex( text, value );
+	}
+
+	/**
+	 * The copy API of the PostgreSQL JDBC driver, if available
+	 */
+	private static class PgJdbc {
+		private static final Class<?> CONNECTION_CLASS;
+		private static final Method GET_COPY_API;
+		private static final Method COPY_IN;
+
+		static {
+			Class<?> connectionClass;
+			Method getCopyApi;
+			Method copyIn;
+			try {
+				connectionClass = ReflectHelper.classForName(
+						"org.postgresql.PGConnection",
+						PostgreSQLCopyBulkInsertSupport.class
+				);
+				getCopyApi = connectionClass.getMethod( "getCopyAPI" );
+				copyIn = getCopyApi.getReturnType().getMethod( "copyIn", String.class, Reader.class );
+			}
+			catch (ClassNotFoundException | NoSuchMethodException e) {
+				connectionClass = null;
+				getCopyApi = null;
+				copyIn = null;
+			}
+			CONNECTION_CLASS = connectionClass;
+			GET_COPY_API = getCopyApi;
+			COPY_IN = copyIn;
+		}
+	}
+}
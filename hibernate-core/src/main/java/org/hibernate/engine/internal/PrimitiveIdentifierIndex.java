@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.HashMap;
+
+import org.hibernate.internal.util.collections.LongObjectHashMap;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.IntegerJavaTypeDescriptor;
+import org.hibernate.type.descriptor.java.LongJavaTypeDescriptor;
+
+/**
+ * Index of values by entity hierarchy and primitive identifier value, for entities whose identifier
+ * is a plain {@code long} or {@code int}.
+ * <p/>
+ * Used by {@link StatefulPersistenceContext} alongside its {@link org.hibernate.engine.spi.EntityKey}
+ * keyed maps, so that lookups for such entities need neither an {@code EntityKey} nor calls to the
+ * identifier {@link Type} for hashing and equality.  Entries are grouped by root entity name, consistent
+ * with the definition of {@code EntityKey} equality.
+ * <p/>
+ * Callers must check {@link #isIndexed} before using any of the other methods.
+ */
+final class PrimitiveIdentifierIndex {
+	private final HashMap<String, LongObjectHashMap<Object>> valuesByRootEntityName = new HashMap<>();
+
+	/**
+	 * Can values for the given entity type and identifier be kept in this index?
+	 */
+	static boolean isIndexed(EntityPersister persister, Object id) {
+		if ( id instanceof Long || id instanceof Integer ) {
+			final Type identifierType = persister.getIdentifierType();
+			if ( identifierType instanceof BasicType ) {
+				// the identifier value must be compared the same way the identifier type would do
+				final Class<?> javaTypeClass = ( (BasicType<?>) identifierType ).getJavaTypeDescriptor().getClass();
+				return javaTypeClass == LongJavaTypeDescriptor.class && id instanceof Long
+						|| javaTypeClass == IntegerJavaTypeDescriptor.class && id instanceof Integer;
+			}
+		}
+		return false;
+	}
+
+	Object get(EntityPersister persister, Object id) {
+		final LongObjectHashMap<Object> values = valuesByRootEntityName.get( persister.getRootEntityName() );
+		return values == null ? null : values.get( ( (Number) id ).longValue() );
+	}
+
+	Object put(EntityPersister persister, Object id, Object value) {
+		return valuesByRootEntityName.computeIfAbsent( persister.getRootEntityName(), name -> new LongObjectHashMap<>() )
+				.put( ( (Number) id ).longValue(), value );
+	}
+
+	Object remove(EntityPersister persister, Object id) {
+		final LongObjectHashMap<Object> values = valuesByRootEntityName.get( persister.getRootEntityName() );
+		return values == null ? null : values.remove( ( (Number) id ).longValue() );
+	}
+}
@@ -11,6 +11,7 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,8 +19,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -49,6 +52,8 @@ import org.hibernate.engine.spi.NaturalIdResolutions;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.SelfDirtinessNotifier;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -57,6 +62,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -105,6 +111,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	// Loaded entity instances, by EntityKey
 	private HashMap<EntityKey, Object> entitiesByKey;
 
+	// Loaded entity instances with long/int identifiers, by identifier value; kept in sync with entitiesByKey
+	private PrimitiveIdentifierIndex entitiesByPrimitiveId;
+
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
 
@@ -115,6 +124,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	// that have *not* been loaded
 	private HashMap<EntityKey, Object> entitySnapshotsByKey;
 
+	// Snapshots of entities with long/int identifiers, by identifier value; kept in sync with entitySnapshotsByKey
+	private PrimitiveIdentifierIndex entitySnapshotsByPrimitiveId;
+
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection> arrayHolders;
 
@@ -150,6 +162,18 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private boolean defaultReadOnly;
 	private boolean hasNonReadOnlyEntities;
 
+	// When flushing incrementally, the entries visited by the next flush, with their entity:
+	// those added or registered as possibly dirty since the last flush, and those whose
+	// changes are not tracked
+	private final boolean incrementalFlush;
+	private LinkedHashMap<EntityEntry, Object> possiblyDirtyEntries;
+
+	// The table spaces a flush might modify, those of the entities and collections associated
+	// with this context since it was last cleared, and the persisters they were collected from
+	private HashSet<Serializable> flushableSpaces;
+	private IdentitySet<Object> flushableSpacesPersisters;
+	private boolean flushableSpacesUnknown;
+
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
 
@@ -161,6 +185,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.incrementalFlush = session.getFactory().getSessionFactoryOptions().isIncrementalFlushEnabled();
 	}
 
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
@@ -243,10 +268,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		arrayHolders = null;
 		entitiesByKey = null;
+		entitiesByPrimitiveId = null;
 		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
+		possiblyDirtyEntries = null;
+		flushableSpaces = null;
+		flushableSpacesPersisters = null;
+		flushableSpacesUnknown = false;
 		parentsByChild = null;
 		entitySnapshotsByKey = null;
+		entitySnapshotsByPrimitiveId = null;
 		collectionsByKey = null;
 		nonlazyCollections = null;
 		collectionEntries = null;
@@ -283,6 +314,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public void setEntryStatus(EntityEntry entry, Status status) {
 		entry.setStatus( status );
 		setHasNonReadOnlyEnties( status );
+		addFlushableSpaces( entry.getPersister(), status );
 	}
 
 	private void setHasNonReadOnlyEnties(Status status) {
@@ -306,21 +338,40 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, EntityPersister persister) throws HibernateException {
-		final EntityKey key = session.generateEntityKey( id, persister );
-		final Object cached = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( key );
+		final Object cached = getSnapshot( persister, id );
 		if ( cached != null ) {
 			return cached == NO_ROW ? null : (Object[]) cached;
 		}
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
-			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
-			}
-			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
+			putSnapshot( session.generateEntityKey( id, persister ), snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
 		}
 	}
 
+	private Object getSnapshot(EntityPersister persister, Object id) {
+		if ( entitySnapshotsByKey == null ) {
+			return null;
+		}
+		else if ( PrimitiveIdentifierIndex.isIndexed( persister, id ) ) {
+			return entitySnapshotsByPrimitiveId.get( persister, id );
+		}
+		else {
+			return entitySnapshotsByKey.get( session.generateEntityKey( id, persister ) );
+		}
+	}
+
+	private void putSnapshot(EntityKey key, Object snapshot) {
+		if ( entitySnapshotsByKey == null ) {
+			entitySnapshotsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitySnapshotsByPrimitiveId = new PrimitiveIdentifierIndex();
+		}
+		entitySnapshotsByKey.put( key, snapshot );
+		if ( PrimitiveIdentifierIndex.isIndexed( key.getPersister(), key.getIdentifier() ) ) {
+			entitySnapshotsByPrimitiveId.put( key.getPersister(), key.getIdentifier(), snapshot );
+		}
+	}
+
 	@Override
 	public Object getNaturalIdSnapshot(Object id, EntityPersister persister) throws HibernateException {
 		if ( !persister.hasNaturalIdentifier() ) {
@@ -371,7 +422,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Object[] getCachedDatabaseSnapshot(EntityKey key) {
-		final Object snapshot = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( key );
+		final Object snapshot = getSnapshot( key.getPersister(), key.getIdentifier() );
 		if ( snapshot == NO_ROW ) {
 			throw new IllegalStateException(
 					"persistence context reported no row snapshot for "
@@ -383,10 +434,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
-		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
-		}
-		entitiesByKey.put( key, entity );
+		putEntity( key, entity );
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
 		if ( fetchQueue != null ) {
 			fetchQueue.removeBatchLoadableEntityKey( key );
@@ -395,19 +443,66 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Object getEntity(EntityKey key) {
-		return entitiesByKey == null ? null : entitiesByKey.get( key );
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		else if ( PrimitiveIdentifierIndex.isIndexed( key.getPersister(), key.getIdentifier() ) ) {
+			return entitiesByPrimitiveId.get( key.getPersister(), key.getIdentifier() );
+		}
+		else {
+			return entitiesByKey.get( key );
+		}
+	}
+
+	@Override
+	public Object getEntity(EntityPersister persister, Object id) {
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		else if ( PrimitiveIdentifierIndex.isIndexed( persister, id ) ) {
+			return entitiesByPrimitiveId.get( persister, id );
+		}
+		else {
+			return entitiesByKey.get( session.generateEntityKey( id, persister ) );
+		}
 	}
 
 	@Override
 	public boolean containsEntity(EntityKey key) {
-		return entitiesByKey != null && entitiesByKey.containsKey( key );
+		return getEntity( key ) != null;
+	}
+
+	@Override
+	public boolean containsEntity(EntityPersister persister, Object id) {
+		return getEntity( persister, id ) != null;
+	}
+
+	private void putEntity(EntityKey key, Object entity) {
+		if ( entitiesByKey == null ) {
+			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByPrimitiveId = new PrimitiveIdentifierIndex();
+		}
+		entitiesByKey.put( key, entity );
+		if ( PrimitiveIdentifierIndex.isIndexed( key.getPersister(), key.getIdentifier() ) ) {
+			entitiesByPrimitiveId.put( key.getPersister(), key.getIdentifier(), entity );
+		}
+	}
+
+	private Object removeEntityByKey(EntityKey key) {
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		if ( PrimitiveIdentifierIndex.isIndexed( key.getPersister(), key.getIdentifier() ) ) {
+			entitiesByPrimitiveId.remove( key.getPersister(), key.getIdentifier() );
+		}
+		return entitiesByKey.remove( key );
 	}
 
 	@Override
 	public Object removeEntity(EntityKey key) {
 		final Object entity;
 		if ( entitiesByKey != null ) {
-			entity = entitiesByKey.remove( key );
+			entity = removeEntityByKey( key );
 			if ( entitiesByUniqueKey != null ) {
 				final Iterator itr = entitiesByUniqueKey.values().iterator();
 				while ( itr.hasNext() ) {
@@ -425,6 +520,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		parentsByChild = null;
 		if ( entitySnapshotsByKey != null ) {
 			entitySnapshotsByKey.remove( key );
+			if ( PrimitiveIdentifierIndex.isIndexed( key.getPersister(), key.getIdentifier() ) ) {
+				entitySnapshotsByPrimitiveId.remove( key.getPersister(), key.getIdentifier() );
+			}
 		}
 		if ( nullifiableEntityKeys != null ) {
 			nullifiableEntityKeys.remove( key );
@@ -457,7 +555,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public EntityEntry removeEntry(Object entity) {
-		return entityEntryContext.removeEntityEntry( entity );
+		final EntityEntry entry = entityEntryContext.removeEntityEntry( entity );
+		if ( possiblyDirtyEntries != null && entry != null ) {
+			possiblyDirtyEntries.remove( entry );
+		}
+		return entry;
 	}
 
 	@Override
@@ -560,6 +662,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entityEntryContext.addEntityEntry( entity, e );
 
 		setHasNonReadOnlyEnties( status );
+		addFlushableSpaces( persister, status );
+		if ( incrementalFlush ) {
+			markPossiblyDirty( entity, e );
+		}
 		return e;
 	}
 
@@ -567,11 +673,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			final Object entity,
 			final Status status) {
 
-		((ManagedEntity)entity).$$_hibernate_getEntityEntry().setStatus( status );
-		entityEntryContext.addEntityEntry( entity, ((ManagedEntity)entity).$$_hibernate_getEntityEntry() );
+		final EntityEntry entry = ( (ManagedEntity) entity ).$$_hibernate_getEntityEntry();
+		entry.setStatus( status );
+		entityEntryContext.addEntityEntry( entity, entry );
 
 		setHasNonReadOnlyEnties( status );
-		return ((ManagedEntity)entity).$$_hibernate_getEntityEntry();
+		addFlushableSpaces( entry.getPersister(), status );
+		if ( incrementalFlush ) {
+			markPossiblyDirty( entity, entry );
+		}
+		return entry;
 	}
 
 	@Override
@@ -765,10 +876,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
-		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
-		}
-		entitiesByKey.put( key, entity );
+		putEntity( key, entity );
 	}
 
 	@Override
@@ -903,6 +1011,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	private void addCollection(PersistentCollection coll, CollectionEntry entry, Object key) {
 		getOrInitializeCollectionEntries().put( coll, entry );
+		addFlushableSpaces( entry.getLoadedPersister() );
 		final CollectionKey collectionKey = new CollectionKey( entry.getLoadedPersister(), key );
 		final PersistentCollection old = addCollectionByKey( collectionKey, coll );
 		if ( old != null ) {
@@ -935,6 +1044,62 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private void addCollection(PersistentCollection collection, CollectionPersister persister) {
 		final CollectionEntry ce = new CollectionEntry( persister, collection );
 		getOrInitializeCollectionEntries().put( collection, ce );
+		addFlushableSpaces( persister );
+	}
+
+	private void addFlushableSpaces(EntityPersister persister, Status status) {
+		if ( flushableSpacesUnknown || status == Status.LOADING || status == Status.GONE ) {
+			return;
+		}
+		final boolean hasCascades = persister.hasCascades();
+		if ( !hasCascades && ( status == Status.READ_ONLY || !persister.isMutable() ) ) {
+			// never updated by a flush, and deleted by an action queued right away
+			return;
+		}
+		if ( flushableSpacesPersisters == null ) {
+			flushableSpacesPersisters = new IdentitySet<>();
+			flushableSpaces = new HashSet<>();
+		}
+		if ( flushableSpacesPersisters.add( persister ) ) {
+			if ( hasCascades ) {
+				// cascades at flush time might reach entities of any kind
+				flushableSpacesUnknown = true;
+			}
+			else {
+				Collections.addAll( flushableSpaces, persister.getPropertySpaces() );
+			}
+		}
+	}
+
+	private void addFlushableSpaces(CollectionPersister persister) {
+		if ( flushableSpacesUnknown || persister == null ) {
+			return;
+		}
+		if ( flushableSpacesPersisters == null ) {
+			flushableSpacesPersisters = new IdentitySet<>();
+			flushableSpaces = new HashSet<>();
+		}
+		if ( flushableSpacesPersisters.add( persister ) ) {
+			Collections.addAll( flushableSpaces, persister.getCollectionSpaces() );
+			// changes to the collection may increment the version of its owner
+			Collections.addAll( flushableSpaces, persister.getOwnerEntityPersister().getPropertySpaces() );
+		}
+	}
+
+	@Override
+	public boolean mightFlushToSpaces(Set<?> spaces) {
+		if ( flushableSpacesUnknown ) {
+			return true;
+		}
+		if ( flushableSpaces == null ) {
+			return false;
+		}
+		for ( Object space : spaces ) {
+			if ( flushableSpaces.contains( space ) ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -1240,6 +1405,80 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entityEntryContext.reentrantSafeEntityEntries();
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Entry<Object,EntityEntry>[] reentrantSafeFlushableEntityEntries() {
+		if ( !incrementalFlush ) {
+			return entityEntryContext.reentrantSafeEntityEntries();
+		}
+		if ( possiblyDirtyEntries == null ) {
+			return new Entry[0];
+		}
+
+		final ArrayList<Entry<Object,EntityEntry>> entries = new ArrayList<>( possiblyDirtyEntries.size() );
+		final Iterator<Entry<EntityEntry, Object>> iterator = possiblyDirtyEntries.entrySet().iterator();
+		while ( iterator.hasNext() ) {
+			final Entry<EntityEntry, Object> possiblyDirty = iterator.next();
+			final Object entity = possiblyDirty.getValue();
+			final EntityEntry entry = possiblyDirty.getKey();
+			if ( entityEntryContext.getEntityEntry( entity ) == entry ) {
+				entries.add( new AbstractMap.SimpleImmutableEntry<>( entity, entry ) );
+			}
+			else {
+				// the entry was replaced by another one, registered on its own
+				iterator.remove();
+			}
+		}
+		return entries.toArray( new Entry[0] );
+	}
+
+	@Override
+	public void markPossiblyDirty(Object entity, EntityEntry entry) {
+		if ( incrementalFlush ) {
+			if ( possiblyDirtyEntries == null ) {
+				possiblyDirtyEntries = new LinkedHashMap<>( INIT_COLL_SIZE );
+			}
+			possiblyDirtyEntries.put( entry, entity );
+		}
+	}
+
+	@Override
+	public void afterFlushEntity(Object entity, EntityEntry entry) {
+		if ( possiblyDirtyEntries != null && isTrackedAndClean( entity, entry ) ) {
+			possiblyDirtyEntries.remove( entry );
+		}
+	}
+
+	/**
+	 * Whether the entity is known to be unchanged, and to register itself as possibly dirty as soon
+	 * as it changes, so that flushes need not visit it meanwhile.  This is the case of the entities
+	 * which the flush listener only dirty checks through their enhanced dirty tracker (see
+	 * {@link AbstractEntityEntry#requiresDirtyCheck}), provided the tracker notifies its changes
+	 * (see {@link SelfDirtinessNotifier}), and which have no collection to reach and no association
+	 * to cascade to.
+	 */
+	private static boolean isTrackedAndClean(Object entity, EntityEntry entry) {
+		final Status status = entry.getStatus();
+		if ( status != Status.MANAGED && status != Status.READ_ONLY ) {
+			return false;
+		}
+		if ( !( entity instanceof SelfDirtinessTracker ) || !( entity instanceof SelfDirtinessNotifier ) ) {
+			return false;
+		}
+		if ( entity instanceof PersistentAttributeInterceptable ) {
+			final PersistentAttributeInterceptor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
+			if ( interceptor instanceof EnhancementAsProxyLazinessInterceptor ) {
+				// writes to an un-initialized enhancement-as-proxy reference are recorded by its interceptor
+				return false;
+			}
+		}
+		final EntityPersister persister = entry.getPersister();
+		return !persister.hasCollections()
+				&& !persister.hasMutableProperties()
+				&& !persister.hasCascades()
+				&& !( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+	}
+
 	@Override
 	public Object getOwnerId(String entityName, String propertyName, Object childEntity, Map mergeMap) {
 		final String collectionRole = entityName + '.' + propertyName;
@@ -1525,11 +1764,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		}
 		entry.setReadOnly( readOnly, entity );
 		hasNonReadOnlyEntities = hasNonReadOnlyEntities || ! readOnly;
+		addFlushableSpaces( entry.getPersister(), entry.getStatus() );
+		markPossiblyDirty( entity, entry );
 	}
 
 	@Override
 	public void replaceDelayedEntityIdentityInsertKeys(EntityKey oldKey, Object generatedId) {
-		final Object entity = entitiesByKey == null ? null : entitiesByKey.remove( oldKey );
+		final Object entity = removeEntityByKey( oldKey );
 		final EntityEntry oldEntry = entityEntryContext.removeEntityEntry( entity );
 		this.parentsByChild = null;
 
@@ -1679,8 +1920,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
 			rtn.entitiesByKey = CollectionHelper.mapOfSize( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitiesByPrimitiveId = new PrimitiveIdentifierIndex();
 			for ( int i = 0; i < count; i++ ) {
-				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
+				rtn.putEntity( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
 
 			count = ois.readInt();
@@ -1718,11 +1960,19 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
 			rtn.entitySnapshotsByKey = CollectionHelper.mapOfSize( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitySnapshotsByPrimitiveId = new PrimitiveIdentifierIndex();
 			for ( int i = 0; i < count; i++ ) {
-				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
+				rtn.putSnapshot( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
 
 			rtn.entityEntryContext = EntityEntryContext.deserialize( ois, rtn );
+			// the entries are not added through addEntry()
+			rtn.flushableSpacesUnknown = true;
+			if ( rtn.incrementalFlush ) {
+				for ( Entry<Object, EntityEntry> entry : rtn.entityEntryContext.reentrantSafeEntityEntries() ) {
+					rtn.markPossiblyDirty( entry.getKey(), entry.getValue() );
+				}
+			}
 
 			count = ois.readInt();
 			if ( LOG.isTraceEnabled() ) {
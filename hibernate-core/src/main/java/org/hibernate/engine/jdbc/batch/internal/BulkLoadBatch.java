@@ -0,0 +1,303 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.type.descriptor.java.DataHelper;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} implementation which loads the rows of batched
+ * {@code INSERT ... VALUES (...)} statements through a {@link BulkInsertSupport}, instead of executing
+ * the statements.
+ * <p/>
+ * The statements handed out by {@link #getBatchStatement} only record the parameter values bound for each
+ * row.  Once the given number of rows is reached for a statement, the recorded rows of all statements are
+ * loaded, in the order the statements were first used in, so that rows of superclass tables are loaded
+ * before rows of subclass tables.
+ * <p/>
+ * The table, columns and literal values of each statement are given by its {@link LoadTarget}, as exposed by
+ * {@link org.hibernate.persister.entity.AbstractEntityPersister#getBulkLoadTargets()}.
+ *
+ * @see org.hibernate.StatelessSession#bulkInsert(Class, java.util.stream.Stream)
+ */
+public class BulkLoadBatch extends AbstractBatchImpl {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			BulkLoadBatch.class.getName()
+	);
+
+	private final Map<String, LoadTarget> loadTargets;
+	private final int rowsPerLoad;
+	private final BulkInsertSupport bulkInsertSupport;
+	private final Map<String, PendingRows> pendingRowsBySql = new LinkedHashMap<>();
+
+	private PendingRows currentRows;
+
+	/**
+	 * Constructs a BulkLoadBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param loadTargets The target of each statement whose rows are loaded, by its SQL
+	 * @param rowsPerLoad The maximum number of rows loaded at once into a table.
+	 * @param bulkInsertSupport The means of loading the rows
+	 */
+	public BulkLoadBatch(
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			Map<String, LoadTarget> loadTargets,
+			int rowsPerLoad,
+			BulkInsertSupport bulkInsertSupport) {
+		super( key, jdbcCoordinator );
+		this.loadTargets = loadTargets;
+		this.rowsPerLoad = rowsPerLoad;
+		this.bulkInsertSupport = bulkInsertSupport;
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		if ( sql == null ) {
+			throw new IllegalArgumentException( "sql must be non-null." );
+		}
+		if ( callable ) {
+			throw new HibernateException( "bulk loading does not support callable statements" );
+		}
+		currentRows = pendingRowsBySql.get( sql );
+		if ( currentRows == null ) {
+			final LoadTarget target = loadTargets.get( sql );
+			if ( target == null ) {
+				throw new HibernateException( "statement can not be executed through bulk loading: " + sql );
+			}
+			currentRows = new PendingRows( sql, target );
+			pendingRowsBySql.put( sql, currentRows );
+			// registered so that the batch is considered non-empty on execution
+			getStatements().put( sql, currentRows.recorder );
+		}
+		return currentRows.recorder;
+	}
+
+	@Override
+	public void addToBatch() {
+		currentRows.addRow();
+		if ( currentRows.rows.size() >= rowsPerLoad ) {
+			notifyObserversImplicitExecution();
+			doExecuteBatch();
+		}
+	}
+
+	@Override
+	protected void doExecuteBatch() {
+		for ( PendingRows pendingRows : pendingRowsBySql.values() ) {
+			if ( !pendingRows.rows.isEmpty() ) {
+				loadRows( pendingRows );
+			}
+		}
+	}
+
+	private void loadRows(PendingRows pendingRows) {
+		final int rowCount = pendingRows.rows.size();
+		final String tableName = pendingRows.target.tableName;
+		LOG.debugf( "Bulk loading %s rows into %s", rowCount, tableName );
+		try {
+			final long loadedRows = bulkInsertSupport.load(
+					tableName,
+					pendingRows.target.columnNames,
+					pendingRows.rows,
+					getJdbcCoordinator().getLogicalConnection().getPhysicalConnection()
+			);
+			if ( getKey().getExpectation() != Expectations.NONE && loadedRows >= 0 && loadedRows != rowCount ) {
+				throw new StaleStateException(
+						"Bulk load returned unexpected row count; actual row count: " + loadedRows
+								+ "; expected: " + rowCount + "; table: " + tableName
+				);
+			}
+		}
+		catch (SQLException e) {
+			LOG.unableToExecuteBatch( e, pendingRows.sql );
+			throw sqlExceptionHelper().convert( e, "could not bulk load rows", pendingRows.sql );
+		}
+		catch (RuntimeException e) {
+			LOG.unableToExecuteBatch( e, pendingRows.sql );
+			throw e;
+		}
+		finally {
+			pendingRows.rows.clear();
+		}
+	}
+
+	@Override
+	protected void releaseStatements() {
+		pendingRowsBySql.clear();
+		currentRows = null;
+		getStatements().clear();
+		getJdbcCoordinator().afterStatementExecution();
+	}
+
+	/**
+	 * The table and columns of a single-row INSERT statement, along with its literal values
+	 */
+	public static class LoadTarget {
+		private final String tableName;
+		private final String[] columnNames;
+		private final Object[] literals;
+		private final int[] parameterColumns;
+
+		/**
+		 * Constructs a LoadTarget
+		 *
+		 * @param tableName The name of the table
+		 * @param columnNames The names of the columns of the rows
+		 * @param literals The values of the columns given as literals, {@code null} for the other columns
+		 * @param parameterColumns The column of each parameter, in order
+		 */
+		public LoadTarget(String tableName, String[] columnNames, Object[] literals, int[] parameterColumns) {
+			this.tableName = tableName;
+			this.columnNames = columnNames;
+			this.literals = literals;
+			this.parameterColumns = parameterColumns;
+		}
+	}
+
+	/**
+	 * The rows pending for a single-row INSERT statement.
+	 */
+	private class PendingRows {
+		private final String sql;
+		private final LoadTarget target;
+
+		private final PreparedStatement recorder;
+		private final List<Object[]> rows = new ArrayList<>();
+		private Object[] currentRow;
+
+		private PendingRows(String sql, LoadTarget target) {
+			this.sql = sql;
+			this.target = target;
+			this.currentRow = target.literals.clone();
+			this.recorder = (PreparedStatement) Proxy.newProxyInstance(
+					getClass().getClassLoader(),
+					new Class[] { PreparedStatement.class },
+					new RecordingHandler( this )
+			);
+		}
+
+		private void addRow() {
+			rows.add( currentRow );
+			currentRow = target.literals.clone();
+		}
+
+		private void setParameter(int position, Object value) {
+			if ( position < 1 || position > target.parameterColumns.length ) {
+				throw new HibernateException( "Invalid parameter position " + position + " for bulk loading: " + sql );
+			}
+			currentRow[target.parameterColumns[position - 1]] = value;
+		}
+	}
+
+	/**
+	 * Records the parameter values bound to the current row of a {@link PendingRows}, as the values
+	 * expected by {@link BulkInsertSupport#load}.
+	 */
+	private class RecordingHandler implements InvocationHandler {
+		private final PendingRows pendingRows;
+
+		private RecordingHandler(PendingRows pendingRows) {
+			this.pendingRows = pendingRows;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			final String name = method.getName();
+			if ( name.startsWith( "set" ) && args != null && args.length >= 2 && args[0] instanceof Integer ) {
+				pendingRows.setParameter( (Integer) args[0], name.equals( "setNull" ) ? null : toLoadableValue( name, args ) );
+				return null;
+			}
+			switch ( name ) {
+				case "clearParameters":
+					pendingRows.currentRow = pendingRows.target.literals.clone();
+					return null;
+				case "clearBatch":
+					pendingRows.rows.clear();
+					pendingRows.currentRow = pendingRows.target.literals.clone();
+					return null;
+				case "close":
+					return null;
+				case "isClosed":
+				case "isWrapperFor":
+					return false;
+				case "getConnection":
+					return getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode( proxy );
+				case "toString":
+					return "BulkLoadBatch statement [" + pendingRows.sql + "]";
+				default:
+					throw new HibernateException(
+							"Unable to bind values through PreparedStatement#" + name
+									+ ", which is not supported by bulk loading: " + pendingRows.sql
+					);
+			}
+		}
+	}
+
+	private static Object toLoadableValue(String setter, Object[] args) throws SQLException {
+		final Object value = args[1];
+		if ( value instanceof InputStream ) {
+			final byte[] bytes = DataHelper.extractBytes( (InputStream) value );
+			return setter.equals( "setAsciiStream" ) ? new String( bytes, StandardCharsets.US_ASCII ) : bytes;
+		}
+		else if ( value instanceof Reader ) {
+			return DataHelper.extractString( (Reader) value );
+		}
+		else if ( value instanceof Blob ) {
+			return DataHelper.extractBytes( ( (Blob) value ).getBinaryStream() );
+		}
+		else if ( value instanceof Clob ) {
+			return DataHelper.extractString( (Clob) value );
+		}
+		else if ( value instanceof java.util.Date && args.length == 3 && args[2] instanceof Calendar ) {
+			// the value is to be bound in the time zone of the calendar
+			final ZoneId zone = ( (Calendar) args[2] ).getTimeZone().toZoneId();
+			if ( value instanceof java.sql.Timestamp ) {
+				return LocalDateTime.ofInstant( ( (java.sql.Timestamp) value ).toInstant(), zone );
+			}
+			final Instant instant = Instant.ofEpochMilli( ( (java.util.Date) value ).getTime() );
+			return value instanceof java.sql.Time
+					? instant.atZone( zone ).toLocalTime()
+					: instant.atZone( zone ).toLocalDate();
+		}
+		return value;
+	}
+}
@@ -0,0 +1,288 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.internal.RowRecordingStatement.ParameterBinding;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.resource.jdbc.ResourceRegistry;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} implementation which combines the rows of a batched
+ * {@code INSERT ... VALUES (...)} statement into multi-row {@code INSERT ... VALUES (...), (...), ...} statements,
+ * instead of relying on JDBC statement batching.
+ * <p/>
+ * The statements handed out by {@link #getBatchStatement} only record the parameter values bound for each row.
+ * Once the batch size, or the number of rows allowed by the
+ * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit() parameter count limit} or the
+ * {@linkplain org.hibernate.dialect.Dialect#getValuesListRowCountLimit() row count limit} of the database,
+ * is reached for a statement, the recorded values are bound to a multi-row statement which is then executed.
+ * Statements which cannot be recognized as single-row inserts are executed one row at a time.
+ *
+ * @see MultiRowInsertBatchKey
+ */
+public class MultiRowInsertBatch extends AbstractBatchImpl {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			MultiRowInsertBatch.class.getName()
+	);
+
+	private static final String VALUES = ") values (";
+
+	private final int batchSize;
+	private final int parameterCountLimit;
+	private final int rowCountLimit;
+	private final Map<String, PendingRows> pendingRowsBySql = new LinkedHashMap<>();
+
+	private PendingRows currentRows;
+
+	/**
+	 * Constructs a MultiRowInsertBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The maximum number of rows inserted by a single statement.
+	 */
+	public MultiRowInsertBatch(BatchKey key, JdbcCoordinator jdbcCoordinator, int batchSize) {
+		super( key, jdbcCoordinator );
+		if ( !key.getExpectation().canBeBatched() ) {
+			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
+		}
+		this.batchSize = batchSize;
+		final Dialect dialect = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getDialect();
+		this.parameterCountLimit = dialect.getParameterCountLimit();
+		this.rowCountLimit = dialect.getValuesListRowCountLimit();
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		if ( sql == null ) {
+			throw new IllegalArgumentException( "sql must be non-null." );
+		}
+		if ( callable ) {
+			throw new HibernateException( "multi-row insert batching does not support callable statements" );
+		}
+		currentRows = pendingRowsBySql.get( sql );
+		if ( currentRows == null ) {
+			currentRows = new PendingRows( sql );
+			pendingRowsBySql.put( sql, currentRows );
+			// registered so that the batch is considered non-empty on execution
+			getStatements().put( sql, currentRows.recorder );
+		}
+		return currentRows.recorder;
+	}
+
+	@Override
+	public void addToBatch() {
+		currentRows.addRow();
+		if ( currentRows.rows.size() >= currentRows.maxRows ) {
+			notifyObserversImplicitExecution();
+			// the pending rows of all statements are executed, since the rows of other tables
+			// of the same entities may be referenced by foreign keys
+			doExecuteBatch();
+		}
+	}
+
+	@Override
+	protected void doExecuteBatch() {
+		// the statements are executed in the order they were first used in, so that rows of
+		// superclass tables are inserted before rows of subclass tables
+		for ( PendingRows pendingRows : pendingRowsBySql.values() ) {
+			if ( !pendingRows.rows.isEmpty() ) {
+				executeRows( pendingRows );
+			}
+		}
+	}
+
+	private void executeRows(PendingRows pendingRows) {
+		final int rowCount = pendingRows.rows.size();
+		final String sql = pendingRows.sqlFor( rowCount );
+		LOG.debugf( "Executing multi-row insert of %s rows", rowCount );
+		try {
+			final PreparedStatement statement = pendingRows.statementFor( rowCount, sql );
+			for ( int i = 0; i < rowCount; i++ ) {
+				final int offset = i * pendingRows.parametersPerRow;
+				for ( ParameterBinding binding : pendingRows.rows.get( i ) ) {
+					binding.bind( statement, offset );
+				}
+			}
+			final int insertedRows = getJdbcCoordinator().getResultSetReturn().executeUpdate( statement );
+			if ( getKey().getExpectation() != Expectations.NONE && insertedRows >= 0 && insertedRows != rowCount ) {
+				throw new StaleStateException(
+						"Multi-row insert returned unexpected row count; actual row count: " + insertedRows
+								+ "; expected: " + rowCount + "; statement executed: " + sql
+				);
+			}
+		}
+		catch (SQLException e) {
+			abortBatch();
+			LOG.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper().convert( e, "could not execute batch", sql );
+		}
+		catch (RuntimeException e) {
+			abortBatch();
+			LOG.unableToExecuteBatch( e, sql );
+			throw e;
+		}
+		finally {
+			pendingRows.rows.clear();
+		}
+	}
+
+	@Override
+	protected void releaseStatements() {
+		final ResourceRegistry resourceRegistry = getJdbcCoordinator().getResourceRegistry();
+		for ( PendingRows pendingRows : pendingRowsBySql.values() ) {
+			for ( PreparedStatement statement : pendingRows.statementsByRowCount.values() ) {
+				resourceRegistry.release( statement );
+			}
+		}
+		pendingRowsBySql.clear();
+		currentRows = null;
+		getStatements().clear();
+		getJdbcCoordinator().afterStatementExecution();
+	}
+
+	/**
+	 * The rows pending for a single-row INSERT statement.
+	 */
+	private class PendingRows {
+		private final String sql;
+		// the statement up to the VALUES clause, and its single row
+		private final String prefix;
+		private final String row;
+		private final int parametersPerRow;
+		private final int maxRows;
+
+		private final RowRecordingStatement recorder;
+		private final List<List<ParameterBinding>> rows = new ArrayList<>();
+
+		private final Map<Integer, PreparedStatement> statementsByRowCount = new HashMap<>();
+
+		private PendingRows(String sql) {
+			this.sql = sql;
+			final int rowStart = findRowStart( sql );
+			if ( rowStart < 0 ) {
+				this.prefix = null;
+				this.row = null;
+				this.parametersPerRow = 0;
+				this.maxRows = 1;
+			}
+			else {
+				this.prefix = sql.substring( 0, rowStart );
+				this.row = sql.substring( rowStart );
+				this.parametersPerRow = countParameters( row );
+				int maxRows = batchSize;
+				if ( parameterCountLimit > 0 && parametersPerRow > 0 ) {
+					maxRows = Math.min( maxRows, parameterCountLimit / parametersPerRow );
+				}
+				if ( rowCountLimit > 0 ) {
+					maxRows = Math.min( maxRows, rowCountLimit );
+				}
+				this.maxRows = Math.max( 1, maxRows );
+			}
+			this.recorder = new RowRecordingStatement(
+					sql,
+					() -> getJdbcCoordinator().getLogicalConnection().getPhysicalConnection(),
+					rows::clear
+			);
+		}
+
+		private void addRow() {
+			rows.add( recorder.takeRow() );
+		}
+
+		private String sqlFor(int rowCount) {
+			if ( rowCount == 1 ) {
+				return sql;
+			}
+			final StringBuilder buffer = new StringBuilder( prefix.length() + ( row.length() + 2 ) * rowCount );
+			buffer.append( prefix ).append( row );
+			for ( int i = 1; i < rowCount; i++ ) {
+				buffer.append( ", " ).append( row );
+			}
+			return buffer.toString();
+		}
+
+		private PreparedStatement statementFor(int rowCount, String sql) {
+			PreparedStatement statement = statementsByRowCount.get( rowCount );
+			if ( statement == null ) {
+				statement = getJdbcCoordinator().getStatementPreparer().prepareStatement( sql, false );
+				statementsByRowCount.put( rowCount, statement );
+			}
+			else {
+				sqlStatementLogger().logStatement( sql );
+			}
+			return statement;
+		}
+	}
+
+	/**
+	 * Locate the parenthesized row of the VALUES clause, which must extend to the end of the statement.
+	 *
+	 * @return The position of the opening parenthesis, or -1 if the statement is not a single-row insert
+	 */
+	static int findRowStart(String sql) {
+		final int valuesIndex = sql.lastIndexOf( VALUES );
+		if ( valuesIndex < 0 || sql.charAt( sql.length() - 1 ) != ')' ) {
+			return -1;
+		}
+		final int rowStart = valuesIndex + VALUES.length() - 1;
+		int depth = 0;
+		boolean quoted = false;
+		for ( int i = rowStart; i < sql.length(); i++ ) {
+			final char c = sql.charAt( i );
+			if ( c == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( !quoted ) {
+				if ( c == '(' ) {
+					depth++;
+				}
+				else if ( c == ')' && --depth == 0 ) {
+					return i == sql.length() - 1 ? rowStart : -1;
+				}
+			}
+		}
+		return -1;
+	}
+
+	private static int countParameters(String row) {
+		int count = 0;
+		boolean quoted = false;
+		for ( int i = 0; i < row.length(); i++ ) {
+			final char c = row.charAt( i );
+			if ( c == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( c == '?' && !quoted ) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
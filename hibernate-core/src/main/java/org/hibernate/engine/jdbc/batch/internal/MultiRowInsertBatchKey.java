@@ -0,0 +1,27 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import org.hibernate.jdbc.Expectation;
+
+/**
+ * BatchKey for INSERT statements which may be combined into multi-row INSERT statements
+ * by a {@link MultiRowInsertBatch}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_MULTI_ROW_INSERTS
+ */
+public class MultiRowInsertBatchKey extends BasicBatchKey {
+	/**
+	 * Constructs a MultiRowInsertBatchKey
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for the batch
+	 */
+	public MultiRowInsertBatchKey(String comparison, Expectation expectation) {
+		super( comparison, expectation );
+	}
+}
@@ -0,0 +1,599 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.HibernateException;
+
+/**
+ * The {@link PreparedStatement} handed out by a {@link MultiRowInsertBatch}, which records the parameters
+ * bound to a row as typed {@link ParameterBinding}s, to be bound later, at the offset of the row, to the
+ * statement inserting several rows.  Executing the statement, or changing its settings, is not supported.
+ */
+final class RowRecordingStatement implements PreparedStatement {
+	/**
+	 * A parameter bound to a row
+	 */
+	@FunctionalInterface
+	interface ParameterBinding {
+		/**
+		 * Bind the parameter to the given statement
+		 *
+		 * @param statement The statement inserting several rows
+		 * @param offset The number of parameters of the rows preceding the row of the parameter
+		 */
+		void bind(PreparedStatement statement, int offset) throws SQLException;
+	}
+
+	private final String sql;
+	private final Supplier<Connection> connectionAccess;
+	private final Runnable clearBatchAction;
+
+	private List<ParameterBinding> currentRow = new ArrayList<>();
+
+	RowRecordingStatement(String sql, Supplier<Connection> connectionAccess, Runnable clearBatchAction) {
+		this.sql = sql;
+		this.connectionAccess = connectionAccess;
+		this.clearBatchAction = clearBatchAction;
+	}
+
+	/**
+	 * The parameters bound since the previous call, which start a new row
+	 */
+	List<ParameterBinding> takeRow() {
+		final List<ParameterBinding> row = currentRow;
+		currentRow = new ArrayList<>( row.size() );
+		return row;
+	}
+
+	private void record(ParameterBinding binding) {
+		currentRow.add( binding );
+	}
+
+	private static HibernateException unsupported(String name) {
+		return new HibernateException( "PreparedStatement#" + name + " is not supported by multi-row insert batching" );
+	}
+
+	@Override
+	public void setArray(int parameterIndex, Array x) {
+		record( (statement, offset) -> statement.setArray( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x) {
+		record( (statement, offset) -> statement.setAsciiStream( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x, int length) {
+		record( (statement, offset) -> statement.setAsciiStream( parameterIndex + offset, x, length ) );
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x, long length) {
+		record( (statement, offset) -> statement.setAsciiStream( parameterIndex + offset, x, length ) );
+	}
+
+	@Override
+	public void setBigDecimal(int parameterIndex, BigDecimal x) {
+		record( (statement, offset) -> statement.setBigDecimal( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x) {
+		record( (statement, offset) -> statement.setBinaryStream( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x, int length) {
+		record( (statement, offset) -> statement.setBinaryStream( parameterIndex + offset, x, length ) );
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x, long length) {
+		record( (statement, offset) -> statement.setBinaryStream( parameterIndex + offset, x, length ) );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream x) {
+		record( (statement, offset) -> statement.setBlob( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream x, long length) {
+		record( (statement, offset) -> statement.setBlob( parameterIndex + offset, x, length ) );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, Blob x) {
+		record( (statement, offset) -> statement.setBlob( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setBoolean(int parameterIndex, boolean x) {
+		record( (statement, offset) -> statement.setBoolean( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setByte(int parameterIndex, byte x) {
+		record( (statement, offset) -> statement.setByte( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setBytes(int parameterIndex, byte[] x) {
+		record( (statement, offset) -> statement.setBytes( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader x) {
+		record( (statement, offset) -> statement.setCharacterStream( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader x, int length) {
+		record( (statement, offset) -> statement.setCharacterStream( parameterIndex + offset, x, length ) );
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader x, long length) {
+		record( (statement, offset) -> statement.setCharacterStream( parameterIndex + offset, x, length ) );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader x) {
+		record( (statement, offset) -> statement.setClob( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader x, long length) {
+		record( (statement, offset) -> statement.setClob( parameterIndex + offset, x, length ) );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Clob x) {
+		record( (statement, offset) -> statement.setClob( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setDate(int parameterIndex, Date x) {
+		record( (statement, offset) -> statement.setDate( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setDate(int parameterIndex, Date x, Calendar calendar) {
+		record( (statement, offset) -> statement.setDate( parameterIndex + offset, x, calendar ) );
+	}
+
+	@Override
+	public void setDouble(int parameterIndex, double x) {
+		record( (statement, offset) -> statement.setDouble( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setFloat(int parameterIndex, float x) {
+		record( (statement, offset) -> statement.setFloat( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setInt(int parameterIndex, int x) {
+		record( (statement, offset) -> statement.setInt( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setLong(int parameterIndex, long x) {
+		record( (statement, offset) -> statement.setLong( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader x) {
+		record( (statement, offset) -> statement.setNCharacterStream( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader x, long length) {
+		record( (statement, offset) -> statement.setNCharacterStream( parameterIndex + offset, x, length ) );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader x) {
+		record( (statement, offset) -> statement.setNClob( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader x, long length) {
+		record( (statement, offset) -> statement.setNClob( parameterIndex + offset, x, length ) );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, NClob x) {
+		record( (statement, offset) -> statement.setNClob( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setNString(int parameterIndex, String x) {
+		record( (statement, offset) -> statement.setNString( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType) {
+		record( (statement, offset) -> statement.setNull( parameterIndex + offset, sqlType ) );
+	}
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType, String typeName) {
+		record( (statement, offset) -> statement.setNull( parameterIndex + offset, sqlType, typeName ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x) {
+		record( (statement, offset) -> statement.setObject( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType) {
+		record( (statement, offset) -> statement.setObject( parameterIndex + offset, x, targetSqlType ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) {
+		record( (statement, offset) -> statement.setObject( parameterIndex + offset, x, targetSqlType, scaleOrLength ) );
+	}
+
+	@Override
+	public void setRef(int parameterIndex, Ref x) {
+		record( (statement, offset) -> statement.setRef( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setRowId(int parameterIndex, RowId x) {
+		record( (statement, offset) -> statement.setRowId( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setSQLXML(int parameterIndex, SQLXML x) {
+		record( (statement, offset) -> statement.setSQLXML( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setShort(int parameterIndex, short x) {
+		record( (statement, offset) -> statement.setShort( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setString(int parameterIndex, String x) {
+		record( (statement, offset) -> statement.setString( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x) {
+		record( (statement, offset) -> statement.setTime( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x, Calendar calendar) {
+		record( (statement, offset) -> statement.setTime( parameterIndex + offset, x, calendar ) );
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x) {
+		record( (statement, offset) -> statement.setTimestamp( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x, Calendar calendar) {
+		record( (statement, offset) -> statement.setTimestamp( parameterIndex + offset, x, calendar ) );
+	}
+
+	@Override
+	public void setURL(int parameterIndex, URL x) {
+		record( (statement, offset) -> statement.setURL( parameterIndex + offset, x ) );
+	}
+
+	@Override
+	@SuppressWarnings("deprecation")
+	public void setUnicodeStream(int parameterIndex, InputStream x, int length) {
+		record( (statement, offset) -> statement.setUnicodeStream( parameterIndex + offset, x, length ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, SQLType targetSqlType) {
+		record( (statement, offset) -> statement.setObject( parameterIndex + offset, x, targetSqlType ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) {
+		record( (statement, offset) -> statement.setObject( parameterIndex + offset, x, targetSqlType, scaleOrLength ) );
+	}
+
+
+	@Override
+	public void clearParameters() {
+		currentRow.clear();
+	}
+
+	@Override
+	public void clearBatch() {
+		currentRow.clear();
+		clearBatchAction.run();
+	}
+
+	@Override
+	public void close() {
+		// the statements inserting the rows are released by the batch
+	}
+
+	@Override
+	public boolean isClosed() {
+		return false;
+	}
+
+	@Override
+	public Connection getConnection() {
+		return connectionAccess.get();
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) {
+		return false;
+	}
+
+	@Override
+	public boolean execute() {
+		throw unsupported( "execute" );
+	}
+
+	@Override
+	public int executeUpdate() {
+		throw unsupported( "executeUpdate" );
+	}
+
+	@Override
+	public ResultSet executeQuery() {
+		throw unsupported( "executeQuery" );
+	}
+
+	@Override
+	public ParameterMetaData getParameterMetaData() {
+		throw unsupported( "getParameterMetaData" );
+	}
+
+	@Override
+	public ResultSetMetaData getMetaData() {
+		throw unsupported( "getMetaData" );
+	}
+
+	@Override
+	public void addBatch() {
+		throw unsupported( "addBatch" );
+	}
+
+	@Override
+	public boolean execute(String sql) {
+		throw unsupported( "execute" );
+	}
+
+	@Override
+	public boolean execute(String sql, int autoGeneratedKeys) {
+		throw unsupported( "execute" );
+	}
+
+	@Override
+	public boolean execute(String sql, int[] columnIndexes) {
+		throw unsupported( "execute" );
+	}
+
+	@Override
+	public boolean execute(String sql, String[] columnNames) {
+		throw unsupported( "execute" );
+	}
+
+	@Override
+	public int executeUpdate(String sql) {
+		throw unsupported( "executeUpdate" );
+	}
+
+	@Override
+	public int executeUpdate(String sql, int autoGeneratedKeys) {
+		throw unsupported( "executeUpdate" );
+	}
+
+	@Override
+	public int executeUpdate(String sql, int[] columnIndexes) {
+		throw unsupported( "executeUpdate" );
+	}
+
+	@Override
+	public int executeUpdate(String sql, String[] columnNames) {
+		throw unsupported( "executeUpdate" );
+	}
+
+	@Override
+	public ResultSet executeQuery(String sql) {
+		throw unsupported( "executeQuery" );
+	}
+
+	@Override
+	public void addBatch(String sql) {
+		throw unsupported( "addBatch" );
+	}
+
+	@Override
+	public int[] executeBatch() {
+		throw unsupported( "executeBatch" );
+	}
+
+	@Override
+	public boolean getMoreResults() {
+		throw unsupported( "getMoreResults" );
+	}
+
+	@Override
+	public boolean getMoreResults(int current) {
+		throw unsupported( "getMoreResults" );
+	}
+
+	@Override
+	public ResultSet getGeneratedKeys() {
+		throw unsupported( "getGeneratedKeys" );
+	}
+
+	@Override
+	public ResultSet getResultSet() {
+		throw unsupported( "getResultSet" );
+	}
+
+	@Override
+	public int getUpdateCount() {
+		throw unsupported( "getUpdateCount" );
+	}
+
+	@Override
+	public SQLWarning getWarnings() {
+		throw unsupported( "getWarnings" );
+	}
+
+	@Override
+	public void clearWarnings() {
+		throw unsupported( "clearWarnings" );
+	}
+
+	@Override
+	public void cancel() {
+		throw unsupported( "cancel" );
+	}
+
+	@Override
+	public void closeOnCompletion() {
+		throw unsupported( "closeOnCompletion" );
+	}
+
+	@Override
+	public boolean isCloseOnCompletion() {
+		throw unsupported( "isCloseOnCompletion" );
+	}
+
+	@Override
+	public boolean isPoolable() {
+		throw unsupported( "isPoolable" );
+	}
+
+	@Override
+	public void setPoolable(boolean poolable) {
+		throw unsupported( "setPoolable" );
+	}
+
+	@Override
+	public void setCursorName(String name) {
+		throw unsupported( "setCursorName" );
+	}
+
+	@Override
+	public void setEscapeProcessing(boolean enable) {
+		throw unsupported( "setEscapeProcessing" );
+	}
+
+	@Override
+	public int getFetchDirection() {
+		throw unsupported( "getFetchDirection" );
+	}
+
+	@Override
+	public void setFetchDirection(int direction) {
+		throw unsupported( "setFetchDirection" );
+	}
+
+	@Override
+	public int getFetchSize() {
+		throw unsupported( "getFetchSize" );
+	}
+
+	@Override
+	public void setFetchSize(int rows) {
+		throw unsupported( "setFetchSize" );
+	}
+
+	@Override
+	public int getMaxFieldSize() {
+		throw unsupported( "getMaxFieldSize" );
+	}
+
+	@Override
+	public void setMaxFieldSize(int max) {
+		throw unsupported( "setMaxFieldSize" );
+	}
+
+	@Override
+	public int getMaxRows() {
+		throw unsupported( "getMaxRows" );
+	}
+
+	@Override
+	public void setMaxRows(int max) {
+		throw unsupported( "setMaxRows" );
+	}
+
+	@Override
+	public int getQueryTimeout() {
+		throw unsupported( "getQueryTimeout" );
+	}
+
+	@Override
+	public void setQueryTimeout(int seconds) {
+		throw unsupported( "setQueryTimeout" );
+	}
+
+	@Override
+	public int getResultSetConcurrency() {
+		throw unsupported( "getResultSetConcurrency" );
+	}
+
+	@Override
+	public int getResultSetHoldability() {
+		throw unsupported( "getResultSetHoldability" );
+	}
+
+	@Override
+	public int getResultSetType() {
+		throw unsupported( "getResultSetType" );
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) {
+		throw unsupported( "unwrap" );
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch statement [" + sql + "]";
+	}
+}
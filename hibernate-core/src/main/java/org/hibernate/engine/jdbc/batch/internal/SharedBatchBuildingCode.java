@@ -21,6 +21,9 @@ final class SharedBatchBuildingCode {
 		final int jdbcBatchSizeToUse = sessionJdbcBatchSize == null ?
 				defaultJdbcBatchSize :
 				sessionJdbcBatchSize;
+		if ( jdbcBatchSizeToUse > 1 && key instanceof MultiRowInsertBatchKey ) {
+			return new MultiRowInsertBatch( key, jdbcCoordinator, jdbcBatchSizeToUse );
+		}
 		return jdbcBatchSizeToUse > 1
 				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
 				: new NonBatchingBatch( key, jdbcCoordinator );
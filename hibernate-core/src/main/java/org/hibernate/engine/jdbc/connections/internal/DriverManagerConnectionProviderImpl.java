@@ -10,14 +10,22 @@ import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.util.Enumeration;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -34,18 +42,28 @@ import org.hibernate.service.spi.ServiceException;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.Stoppable;
+import org.hibernate.stat.ConnectionPoolStatistics;
 
 import static org.hibernate.internal.log.ConnectionPoolingLogger.CONNECTIONS_LOGGER;
 import static org.hibernate.internal.log.ConnectionPoolingLogger.CONNECTIONS_MESSAGE_LOGGER;
 
 /**
  * A connection provider that uses the {@link DriverManager} directly to open connections and provides
- * a very rudimentary connection pool.
+ * a simple connection pool.
  * <p/>
- * IMPL NOTE : not intended for production use!
+ * Threads waiting for a connection once the pool has reached its maximum size give up after the
+ * number of milliseconds set by {@value #MAX_WAIT} (30 seconds by default).  Idle connections are
+ * validated in the background, at the interval in seconds set by {@value #VALIDATION_INTERVAL}, through
+ * {@link Connection#isValid(int)} with the timeout in seconds set by {@value #VALIDATION_TIMEOUT}.  Connections
+ * are not validated when obtained from, or released to, the pool, unless {@value #VALIDATE_ON_BORROW} is
+ * enabled, in which case every connection obtained costs a round trip to the database.  Idle connections
+ * are closed when no longer valid or, beyond the minimum size, when idle for longer than the number of
+ * seconds set by {@value #IDLE_TIMEOUT}.  Connections in use for longer than the number of seconds set by
+ * {@value #LEAK_DETECTION_THRESHOLD} are reported as possible leaks.  The pool metrics are exposed through
+ * {@link org.hibernate.stat.Statistics#getConnectionPoolStatistics()}.
  * <p/>
- * Thanks to Oleg Varaksin and his article on object pooling using the {@link java.util.concurrent} package, from
- * which much of the pooling code here is derived.  See http://ovaraksin.blogspot.com/2013/08/simple-and-lightweight-pool.html
+ * IMPL NOTE : prefer a dedicated connection pool (see the hibernate-hikaricp or hibernate-agroal
+ * integrations) for production use!
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -57,10 +75,20 @@ public class DriverManagerConnectionProviderImpl
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.SECONDS, 0 disables the validation
+	public static final String VALIDATION_TIMEOUT = "hibernate.connection.pool_validation_timeout";
+	public static final String VALIDATE_ON_BORROW = "hibernate.connection.pool_validate_on_borrow";
+	// in TimeUnit.MILLISECONDS
+	public static final String MAX_WAIT = "hibernate.connection.pool_max_wait";
+	// in TimeUnit.SECONDS
+	public static final String IDLE_TIMEOUT = "hibernate.connection.pool_idle_timeout";
+	// in TimeUnit.SECONDS
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
 	private volatile PoolState state;
+	private volatile int validationTimeout;
 
 	// create the pool ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -74,6 +102,7 @@ public class DriverManagerConnectionProviderImpl
 	@Override
 	public void configure(Map configurationValues) {
 		CONNECTIONS_MESSAGE_LOGGER.usingHibernateBuiltInConnectionPool();
+		validationTimeout = ConfigurationHelper.getInt( VALIDATION_TIMEOUT, configurationValues, 5 );
 		PooledConnections pool = buildPool( configurationValues, serviceRegistry );
 		final long validationInterval = ConfigurationHelper.getLong( VALIDATION_INTERVAL, configurationValues, 30 );
 		PoolState newstate = new PoolState( pool, validationInterval );
@@ -89,6 +118,9 @@ public class DriverManagerConnectionProviderImpl
 		final int minSize = ConfigurationHelper.getInt( MIN_SIZE, configurationValues, 1 );
 		final int maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
 		final int initialSize = ConfigurationHelper.getInt( INITIAL_SIZE, configurationValues, minSize );
+		final long maxWait = ConfigurationHelper.getLong( MAX_WAIT, configurationValues, 30_000 );
+		final long idleTimeout = ConfigurationHelper.getLong( IDLE_TIMEOUT, configurationValues, 0 );
+		final long leakDetectionThreshold = ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 );
 
 		ConnectionCreator connectionCreator = buildCreator( configurationValues, serviceRegistry );
 		PooledConnections.Builder pooledConnectionBuilder = new PooledConnections.Builder(
@@ -98,7 +130,13 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.maxWait( maxWait );
+		pooledConnectionBuilder.idleTimeout( idleTimeout );
+		pooledConnectionBuilder.leakDetectionThreshold( leakDetectionThreshold );
 		pooledConnectionBuilder.validator( this );
+		pooledConnectionBuilder.validateOnBorrow(
+				ConfigurationHelper.getBoolean( VALIDATE_ON_BORROW, configurationValues, false )
+		);
 		return pooledConnectionBuilder.build();
 	}
 
@@ -277,7 +315,8 @@ public class DriverManagerConnectionProviderImpl
 	@Override
 	public boolean isUnwrappableAs(Class unwrapType) {
 		return ConnectionProvider.class.equals( unwrapType ) ||
-				DriverManagerConnectionProviderImpl.class.isAssignableFrom( unwrapType );
+				DriverManagerConnectionProviderImpl.class.isAssignableFrom( unwrapType ) ||
+				ConnectionPoolStatistics.class.equals( unwrapType );
 	}
 
 	@Override
@@ -287,13 +326,16 @@ public class DriverManagerConnectionProviderImpl
 				DriverManagerConnectionProviderImpl.class.isAssignableFrom( unwrapType ) ) {
 			return (T) this;
 		}
+		else if ( ConnectionPoolStatistics.class.equals( unwrapType ) ) {
+			return (T) state.pool;
+		}
 		else {
 			throw new UnknownUnwrapTypeException( unwrapType );
 		}
 	}
 
 	protected void validateConnectionsReturned() {
-		int allocationCount = state.pool.allConnections.size() - state.pool.availableConnections.size();
+		int allocationCount = state.pool.getActiveConnectionCount();
 		if ( allocationCount != 0 ) {
 			CONNECTIONS_MESSAGE_LOGGER.error( "Connection leak detected: there are " + allocationCount + " unclosed connections!");
 		}
@@ -329,7 +371,16 @@ public class DriverManagerConnectionProviderImpl
 
 	@Override
 	public boolean isValid(Connection connection) throws SQLException {
-		return true;
+		if ( validationTimeout <= 0 ) {
+			return true;
+		}
+		try {
+			return connection.isValid( validationTimeout );
+		}
+		catch (SQLFeatureNotSupportedException | AbstractMethodError e) {
+			// assume it is valid if the driver does not support the check
+			return true;
+		}
 	}
 
 	@Internal
@@ -337,16 +388,60 @@ public class DriverManagerConnectionProviderImpl
 		state.pool.releasePooledConnections();
 	}
 
-	public static class PooledConnections {
-
-		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
-		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+	/**
+	 * The pool itself.  Connections are tracked by a {@link PooledConnection} of their own, whose state
+	 * is changed by compare-and-set, so that obtaining and releasing connections never blocks:
+	 * <ul>
+	 *     <li>a thread first tries to get back the connection it released last, if still idle,</li>
+	 *     <li>then polls the idle connections, most recently released first,</li>
+	 *     <li>then opens a new connection, unless the pool has reached its maximum size,</li>
+	 *     <li>
+	 *         and otherwise waits, up to the configured maximum wait, for a connection to be
+	 *         released, which is handed over directly to one of the waiting threads.
+	 *     </li>
+	 * </ul>
+	 * The background validation closes idle connections which are no longer valid or, beyond
+	 * the minimum size, have been idle for longer than the configured idle timeout, and reports
+	 * connections in use for longer than the configured leak detection threshold.
+	 */
+	public static class PooledConnections implements ConnectionPoolStatistics {
+
+		private static final int IDLE = 0;
+		private static final int IN_USE = 1;
+		// taken out of the pool by the background validation
+		private static final int RESERVED = 2;
+		private static final int REMOVED = -1;
+
+		// waiting threads poll the handoff queue in slices, and check the idle connections in between,
+		// as a connection released just before a thread starts waiting is not handed over
+		private static final long HANDOFF_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos( 10 );
+
+		private final ConcurrentHashMap<Connection, PooledConnection> allConnections = new ConcurrentHashMap<>();
+		// the idle connections, most recently released first; may hold connections claimed since
+		private final ConcurrentLinkedDeque<PooledConnection> availableConnections = new ConcurrentLinkedDeque<>();
+		private final SynchronousQueue<PooledConnection> handoffQueue = new SynchronousQueue<>( true );
+		// weakly referenced, and replaced when the connections are closed, so that the threads of the
+		// application do not hold on to the connections of a closed pool
+		private volatile ThreadLocal<WeakReference<PooledConnection>> lastReleased = new ThreadLocal<>();
+
+		// includes the connections being opened
+		private final AtomicInteger connectionCount = new AtomicInteger();
+		private final AtomicInteger activeCount = new AtomicInteger();
+		private final AtomicInteger pendingThreadCount = new AtomicInteger();
+		private final LongAdder acquisitionCount = new LongAdder();
+		private final LongAdder acquisitionTimeoutCount = new LongAdder();
+		private final LongAdder evictionCount = new LongAdder();
+		private final AtomicLong maxAcquisitionTime = new AtomicLong();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
+		private final boolean validateOnBorrow;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long maxWaitNanos;
+		private final long idleTimeoutNanos;
+		private final long leakDetectionThresholdNanos;
 
 		private volatile boolean primed;
 
@@ -357,15 +452,21 @@ public class DriverManagerConnectionProviderImpl
 			connectionValidator = builder.connectionValidator == null
 					? ConnectionValidator.ALWAYS_VALID
 					: builder.connectionValidator;
+			validateOnBorrow = builder.validateOnBorrow;
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			maxWaitNanos = TimeUnit.MILLISECONDS.toNanos( builder.maxWait );
+			idleTimeoutNanos = TimeUnit.SECONDS.toNanos( builder.idleTimeout );
+			leakDetectionThresholdNanos = TimeUnit.SECONDS.toNanos( builder.leakDetectionThreshold );
 			CONNECTIONS_MESSAGE_LOGGER.hibernateConnectionPoolSize( maxSize, minSize );
 			addConnections( builder.initialSize );
 		}
 
 		public void validate() {
-			final int size = size();
+			validateIdleConnections();
+
+			final int size = connectionCount.get();
 
 			if ( !primed && size >= minSize ) {
 				// IMPL NOTE : the purpose of primed is to allow the pool to lazily reach its
@@ -386,10 +487,88 @@ public class DriverManagerConnectionProviderImpl
 			}
 		}
 
+		/**
+		 * Closes the idle connections which are no longer valid, or idle for too long, and reports
+		 * the connections in use for too long
+		 */
+		private void validateIdleConnections() {
+			final long now = System.nanoTime();
+			int evictable = connectionCount.get() - minSize;
+			for ( PooledConnection pooled : allConnections.values() ) {
+				if ( pooled.state.get() == IN_USE ) {
+					detectLeak( pooled, now );
+				}
+				else if ( pooled.state.compareAndSet( IDLE, RESERVED ) ) {
+					if ( idleTimeoutNanos > 0 && evictable > 0 && now - pooled.lastAccessTime > idleTimeoutNanos ) {
+						CONNECTIONS_LOGGER.debug( "Closing idle pooled connection" );
+						closeConnection( pooled.connection, null );
+						evictionCount.increment();
+						evictable--;
+					}
+					else if ( !isValid( pooled.connection ) ) {
+						CONNECTIONS_LOGGER.debug( "Closing invalid pooled connection" );
+						closeConnection( pooled.connection, null );
+						evictionCount.increment();
+						evictable--;
+					}
+					else {
+						pooled.state.set( IDLE );
+						// it may have been polled, and dropped, while reserved
+						offerAvailable( pooled );
+					}
+				}
+			}
+		}
+
+		private boolean isValid(Connection conn) {
+			try {
+				return !conn.isClosed() && connectionValidator.isValid( conn );
+			}
+			catch (SQLException e) {
+				return false;
+			}
+		}
+
+		private void detectLeak(PooledConnection pooled, long now) {
+			if ( leakDetectionThresholdNanos > 0
+					&& !pooled.leakReported
+					&& now - pooled.borrowTime > leakDetectionThresholdNanos ) {
+				pooled.leakReported = true;
+				CONNECTIONS_LOGGER.warnf(
+						"Connection obtained by thread [%s] has been in use for more than %s seconds; it may have been leaked",
+						pooled.borrowerName,
+						TimeUnit.NANOSECONDS.toSeconds( leakDetectionThresholdNanos )
+				);
+			}
+		}
+
 		public void add(Connection conn) throws SQLException {
+			final PooledConnection pooled = allConnections.get( conn );
+			if ( pooled == null ) {
+				// not (or no longer) part of the pool
+				closeConnection( conn, null );
+				return;
+			}
+			if ( pooled.state.get() != IN_USE ) {
+				CONNECTIONS_LOGGER.debug( "Ignoring the release of a pooled connection which is not in use" );
+				return;
+			}
 			final Connection connection = releaseConnection( conn );
 			if ( connection != null ) {
-				availableConnections.offer( connection );
+				pooled.lastAccessTime = System.nanoTime();
+				activeCount.decrementAndGet();
+				pooled.state.set( IDLE );
+				lastReleased.set( new WeakReference<>( pooled ) );
+				if ( pendingThreadCount.get() > 0 && handoffQueue.offer( pooled ) ) {
+					return;
+				}
+				offerAvailable( pooled );
+			}
+		}
+
+		private void offerAvailable(PooledConnection pooled) {
+			if ( pooled.queued.compareAndSet( false, true ) ) {
+				availableConnections.offerFirst( pooled );
 			}
 		}
 
@@ -398,9 +577,8 @@ public class DriverManagerConnectionProviderImpl
 			try {
 				conn.setAutoCommit( true );
 				conn.clearWarnings();
-				if ( connectionValidator.isValid( conn ) ) {
-					return conn;
-				}
+				// the connection is validated in the background, or when borrowed again
+				return conn;
 			}
 			catch (SQLException ex) {
 				t = ex;
@@ -411,29 +589,132 @@ public class DriverManagerConnectionProviderImpl
 		}
 
 		public Connection poll() throws SQLException {
-			Connection conn;
+			final long start = System.nanoTime();
+			final PooledConnection pooled = acquire( start );
+			pooled.borrowTime = System.nanoTime();
+			pooled.borrowerName = Thread.currentThread().getName();
+			pooled.leakReported = false;
+
+			acquisitionCount.increment();
+			final long acquisitionTime = TimeUnit.NANOSECONDS.toMillis( pooled.borrowTime - start );
+			long max;
 			do {
-				conn = availableConnections.poll();
-				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
-							addConnections( 1 );
-							return poll();
+				max = maxAcquisitionTime.get();
+			} while ( acquisitionTime > max && !maxAcquisitionTime.compareAndSet( max, acquisitionTime ) );
+
+			return pooled.connection;
+		}
+
+		private PooledConnection acquire(long start) {
+			boolean pending = false;
+			try {
+				while ( true ) {
+					PooledConnection pooled = claimAvailable();
+					if ( pooled == null ) {
+						pooled = open();
+					}
+					if ( pooled == null ) {
+						final long remaining = start + maxWaitNanos - System.nanoTime();
+						if ( remaining <= 0 ) {
+							acquisitionTimeoutCount.increment();
+							throw new HibernateException(
+									"The internal connection pool has reached its maximum size and no connection became available within "
+											+ TimeUnit.NANOSECONDS.toMillis( maxWaitNanos ) + " ms!"
+							);
+						}
+						if ( !pending ) {
+							pendingThreadCount.incrementAndGet();
+							pending = true;
+						}
+						try {
+							pooled = handoffQueue.poll( Math.min( remaining, HANDOFF_SLICE_NANOS ), TimeUnit.NANOSECONDS );
+						}
+						catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							throw new HibernateException( "Interrupted while waiting for a connection of the internal connection pool", e );
+						}
+						if ( pooled == null || !claim( pooled ) ) {
+							continue;
 						}
 					}
-					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available!" );
+					if ( prepareConnection( pooled.connection ) != null ) {
+						return pooled;
+					}
+				}
+			}
+			finally {
+				if ( pending ) {
+					pendingThreadCount.decrementAndGet();
+				}
+			}
+		}
+
+		private PooledConnection claimAvailable() {
+			final ThreadLocal<WeakReference<PooledConnection>> lastReleased = this.lastReleased;
+			final WeakReference<PooledConnection> lastReference = lastReleased.get();
+			if ( lastReference != null ) {
+				final PooledConnection last = lastReference.get();
+				if ( last != null && claim( last ) ) {
+					return last;
+				}
+				if ( last == null || last.state.get() == REMOVED ) {
+					lastReleased.remove();
+				}
+			}
+			PooledConnection pooled;
+			while ( ( pooled = availableConnections.pollFirst() ) != null ) {
+				pooled.queued.set( false );
+				if ( claim( pooled ) ) {
+					return pooled;
+				}
+			}
+			return null;
+		}
+
+		private boolean claim(PooledConnection pooled) {
+			if ( pooled.state.compareAndSet( IDLE, IN_USE ) ) {
+				activeCount.incrementAndGet();
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Opens a new connection, in use, unless the pool has reached its maximum size
+		 */
+		private PooledConnection open() {
+			int count;
+			do {
+				count = connectionCount.get();
+				if ( count >= maxSize ) {
+					return null;
 				}
-				conn = prepareConnection( conn );
-			} while ( conn == null );
-			return conn;
+			} while ( !connectionCount.compareAndSet( count, count + 1 ) );
+
+			final PooledConnection pooled = createPooledConnection( IN_USE );
+			activeCount.incrementAndGet();
+			return pooled;
+		}
+
+		private PooledConnection createPooledConnection(int state) {
+			final Connection connection;
+			try {
+				connection = connectionCreator.createConnection();
+			}
+			catch (RuntimeException e) {
+				connectionCount.decrementAndGet();
+				throw e;
+			}
+			final PooledConnection pooled = new PooledConnection( connection, state );
+			allConnections.put( connection, pooled );
+			return pooled;
 		}
 
 		protected Connection prepareConnection(Connection conn) {
 			Exception t = null;
 			try {
 				conn.setAutoCommit( autoCommit );
-				if ( connectionValidator.isValid( conn ) ) {
+				if ( !validateOnBorrow || connectionValidator.isValid( conn ) ) {
 					return conn;
 				}
 			}
@@ -456,48 +737,62 @@ public class DriverManagerConnectionProviderImpl
 				}
 			}
 			finally {
-				allConnections.remove( conn );
+				final PooledConnection pooled = allConnections.remove( conn );
+				if ( pooled != null ) {
+					connectionCount.decrementAndGet();
+					if ( pooled.state.getAndSet( REMOVED ) == IN_USE ) {
+						activeCount.decrementAndGet();
+					}
+				}
 			}
 		}
 
 		public void close() throws SQLException {
 			try {
-				int allocationCount = allConnections.size() - availableConnections.size();
+				int allocationCount = activeCount.get();
 				if(allocationCount > 0) {
 					CONNECTIONS_LOGGER.error( "Connection leak detected: there are " + allocationCount + " unclosed connections upon shutting down pool " + getUrl());
 				}
 			}
 			finally {
-				for ( Connection connection : allConnections ) {
+				clearLastReleased();
+				for ( Connection connection : allConnections.keySet() ) {
 					connection.close();
 				}
 			}
 		}
 
+		private void clearLastReleased() {
+			lastReleased.remove();
+			// the connections last released by other threads can only be dropped along with the thread local
+			lastReleased = new ThreadLocal<>();
+		}
+
+		/**
+		 * The number of idle connections
+		 */
 		public int size() {
-			return availableConnections.size();
+			return getIdleConnectionCount();
 		}
 
 		protected void removeConnections(int numberToBeRemoved) {
-			for ( int i = 0; i < numberToBeRemoved; i++ ) {
-				Connection connection = availableConnections.poll();
-				try {
-					if ( connection != null ) {
-						connection.close();
-					}
-					allConnections.remove( connection );
-				}
-				catch (SQLException e) {
-					CONNECTIONS_MESSAGE_LOGGER.unableToCloseConnection( e );
+			int removed = 0;
+			PooledConnection pooled;
+			// the least recently released first
+			while ( removed < numberToBeRemoved && ( pooled = availableConnections.pollLast() ) != null ) {
+				pooled.queued.set( false );
+				if ( pooled.state.compareAndSet( IDLE, RESERVED ) ) {
+					closeConnection( pooled.connection, null );
+					removed++;
 				}
 			}
 		}
 
 		protected void addConnections(int numberOfConnections) {
 			for ( int i = 0; i < numberOfConnections; i++ ) {
-				Connection connection = connectionCreator.createConnection();
-				allConnections.add( connection );
-				availableConnections.add( connection );
+				connectionCount.incrementAndGet();
+				final PooledConnection pooled = createPooledConnection( IDLE );
+				offerAvailable( pooled );
 			}
 		}
 
@@ -507,18 +802,85 @@ public class DriverManagerConnectionProviderImpl
 
 		@Internal
 		public void releasePooledConnections() {
-			for ( Connection connection : allConnections ) {
+			clearLastReleased();
+			for ( Connection connection : allConnections.keySet() ) {
 				closeConnection( connection, null );
 			}
 		}
 
+		@Override
+		public int getConnectionCount() {
+			return connectionCount.get();
+		}
+
+		@Override
+		public int getActiveConnectionCount() {
+			return activeCount.get();
+		}
+
+		@Override
+		public int getIdleConnectionCount() {
+			return Math.max( 0, connectionCount.get() - activeCount.get() );
+		}
+
+		@Override
+		public int getPendingThreadCount() {
+			return pendingThreadCount.get();
+		}
+
+		@Override
+		public int getMaxSize() {
+			return maxSize;
+		}
+
+		@Override
+		public long getAcquisitionCount() {
+			return acquisitionCount.sum();
+		}
+
+		@Override
+		public long getAcquisitionTimeoutCount() {
+			return acquisitionTimeoutCount.sum();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return evictionCount.sum();
+		}
+
+		@Override
+		public long getMaxAcquisitionTime() {
+			return maxAcquisitionTime.get();
+		}
+
+		private static class PooledConnection {
+			private final Connection connection;
+			private final AtomicInteger state;
+			// whether it is in the available connections
+			private final AtomicBoolean queued = new AtomicBoolean();
+
+			private volatile long lastAccessTime = System.nanoTime();
+			private volatile long borrowTime;
+			private volatile String borrowerName;
+			private volatile boolean leakReported;
+
+			private PooledConnection(Connection connection, int state) {
+				this.connection = connection;
+				this.state = new AtomicInteger( state );
+			}
+		}
+
 		public static class Builder {
 			private final ConnectionCreator connectionCreator;
 			private ConnectionValidator connectionValidator;
+			private boolean validateOnBorrow;
 			private boolean autoCommit;
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long maxWait = 30_000;
+			private long idleTimeout;
+			private long leakDetectionThreshold;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -540,11 +902,43 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			/**
+			 * @param maxWait in milliseconds
+			 */
+			public Builder maxWait(long maxWait) {
+				this.maxWait = maxWait;
+				return this;
+			}
+
+			/**
+			 * @param idleTimeout in seconds
+			 */
+			public Builder idleTimeout(long idleTimeout) {
+				this.idleTimeout = idleTimeout;
+				return this;
+			}
+
+			/**
+			 * @param leakDetectionThreshold in seconds
+			 */
+			public Builder leakDetectionThreshold(long leakDetectionThreshold) {
+				this.leakDetectionThreshold = leakDetectionThreshold;
+				return this;
+			}
+
 			public Builder validator(ConnectionValidator connectionValidator) {
 				this.connectionValidator = connectionValidator;
 				return this;
 			}
 
+			/**
+			 * @param validateOnBorrow whether connections are validated each time they are obtained from the pool
+			 */
+			public Builder validateOnBorrow(boolean validateOnBorrow) {
+				this.validateOnBorrow = validateOnBorrow;
+				return this;
+			}
+
 			public PooledConnections build() {
 				return new PooledConnections( this );
 			}
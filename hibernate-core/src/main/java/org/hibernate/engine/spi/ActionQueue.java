@@ -11,6 +11,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -27,6 +28,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.PropertyValueException;
 import org.hibernate.action.internal.AbstractEntityInsertAction;
 import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
@@ -42,6 +44,7 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.EntityInvalidationKey;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
@@ -398,7 +401,10 @@ public class ActionQueue {
 			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( convertTimestampSpaces( executable.getPropertySpaces() ) );
+			invalidateSpaces(
+					convertTimestampSpaces( executable.getPropertySpaces() ),
+					Collections.singletonList( executable )
+			);
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -626,7 +632,7 @@ public class ActionQueue {
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
 				Set propertySpaces = list.getQuerySpaces();
-				invalidateSpaces( convertTimestampSpaces( propertySpaces ) );
+				invalidateSpaces( convertTimestampSpaces( propertySpaces ), list );
 			}
 		}
 
@@ -654,7 +660,53 @@ public class ActionQueue {
 	 * This method is now called once per execution of an ExecutableList or once for execution of an Execution.
 	 *
 	 * @param spaces The spaces to invalidate
+	 * @param executables The executables which changed the spaces
 	 */
+	private void invalidateSpaces(String[] spaces, Iterable<? extends Executable> executables) {
+		final Set<EntityInvalidationKey> changedEntities = changedEntities( executables );
+		if ( changedEntities == null ) {
+			invalidateSpaces( spaces );
+		}
+		else {
+			invalidateEntities( spaces, changedEntities );
+		}
+	}
+
+	/**
+	 * The entities updated or deleted by the given executables, or {@code null} if cached
+	 * query results are not invalidated per entity, or some of the executables do more
+	 * than updating or deleting entities.
+	 */
+	private Set<EntityInvalidationKey> changedEntities(Iterable<? extends Executable> executables) {
+		if ( !session.getFactory().getCache().getTimestampsCache().isEntityInvalidationEnabled() ) {
+			return null;
+		}
+
+		final Set<EntityInvalidationKey> entities = new HashSet<>();
+		for ( Executable executable : executables ) {
+			if ( !( executable instanceof EntityUpdateAction || executable instanceof EntityDeleteAction ) ) {
+				return null;
+			}
+			final EntityAction action = (EntityAction) executable;
+			entities.add(
+					EntityInvalidationKey.forEntity(
+							session.generateEntityKey( action.getId(), action.getPersister() )
+					)
+			);
+		}
+		return entities;
+	}
+
+	private void invalidateEntities(String[] spaces, Set<EntityInvalidationKey> entities) {
+		if ( spaces != null && spaces.length > 0 ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.addEntitiesToInvalidate( spaces, entities );
+			session.getFactory().getCache().getTimestampsCache().preInvalidate( spaces, entities, session );
+		}
+	}
+
 	private void invalidateSpaces(String... spaces) {
 		if ( spaces != null && spaces.length > 0 ) {
 			for ( Serializable s : spaces ) {
@@ -969,6 +1021,8 @@ public class ActionQueue {
 	 */
 	private static class AfterTransactionCompletionProcessQueue extends AbstractTransactionCompletionProcessQueue<AfterTransactionCompletionProcess> {
 		private Set<String> querySpacesToInvalidate = new HashSet<>();
+		private Set<String> entitySpacesToInvalidate = new HashSet<>();
+		private Set<EntityInvalidationKey> entitiesToInvalidate = new HashSet<>();
 
 		private AfterTransactionCompletionProcessQueue(SessionImplementor session) {
 			super( session );
@@ -978,6 +1032,11 @@ public class ActionQueue {
 			querySpacesToInvalidate.add( space );
 		}
 
+		public void addEntitiesToInvalidate(String[] spaces, Set<EntityInvalidationKey> entities) {
+			Collections.addAll( entitySpacesToInvalidate, spaces );
+			entitiesToInvalidate.addAll( entities );
+		}
+
 		public void afterTransactionCompletion(boolean success) {
 			while ( !processes.isEmpty() ) {
 				try {
@@ -997,8 +1056,17 @@ public class ActionQueue {
 						querySpacesToInvalidate.toArray( new String[querySpacesToInvalidate.size()] ),
 						session
 				);
+				if ( !entitiesToInvalidate.isEmpty() ) {
+					session.getFactory().getCache().getTimestampsCache().invalidate(
+							entitySpacesToInvalidate.toArray( new String[entitySpacesToInvalidate.size()] ),
+							entitiesToInvalidate,
+							session
+					);
+				}
 			}
 			querySpacesToInvalidate.clear();
+			entitySpacesToInvalidate.clear();
+			entitiesToInvalidate.clear();
 		}
 	}
 
@@ -10,6 +10,7 @@ import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
@@ -174,6 +175,36 @@ public interface PersistenceContext {
 	 */
 	boolean containsEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance of the given entity type with the given identifier.
+	 * <p/>
+	 * Equivalent to {@link #getEntity(EntityKey)}, but allows implementations to look the
+	 * entity up without building an {@link EntityKey}.
+	 *
+	 * @param persister The entity type
+	 * @param id The entity identifier
+	 *
+	 * @return The matching entity, or {@code null}
+	 */
+	default Object getEntity(EntityPersister persister, Object id) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
+	/**
+	 * Is there an entity of the given entity type with the given identifier in the persistence context
+	 * <p/>
+	 * Equivalent to {@link #containsEntity(EntityKey)}, but allows implementations to look the
+	 * entity up without building an {@link EntityKey}.
+	 *
+	 * @param persister The entity type
+	 * @param id The entity identifier
+	 *
+	 * @return {@code true} indicates an entity was found; otherwise {@code false}
+	 */
+	default boolean containsEntity(EntityPersister persister, Object id) {
+		return containsEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Remove an entity.  Also clears up all other state associated with the entity aside from the {@link EntityEntry}
 	 *
@@ -499,6 +530,44 @@ public interface PersistenceContext {
 	 */
 	Map.Entry<Object,EntityEntry>[] reentrantSafeEntityEntries();
 
+	/**
+	 * Provides access to the entity/EntityEntry combos to be visited by a flush, in a manner that is safe from
+	 * reentrant access: all of them, unless {@link org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH flushing
+	 * incrementally}, in which case only those added or {@linkplain #markPossiblyDirty registered as possibly dirty}
+	 * since they were last flushed, along with those whose changes are not tracked.
+	 */
+	Map.Entry<Object,EntityEntry>[] reentrantSafeFlushableEntityEntries();
+
+	/**
+	 * Register the entity as possibly changed since it was last flushed, so that the next flush visits it
+	 * when {@link org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH flushing incrementally}.
+	 *
+	 * @param entity The entity
+	 * @param entry Its entry
+	 */
+	void markPossiblyDirty(Object entity, EntityEntry entry);
+
+	/**
+	 * Notification that the entity has been visited by a flush.  When flushing incrementally, an entity whose
+	 * changes are tracked is then skipped by subsequent flushes, until registered as possibly dirty again.
+	 *
+	 * @param entity The entity
+	 * @param entry Its entry
+	 */
+	void afterFlushEntity(Object entity, EntityEntry entry);
+
+	/**
+	 * Whether a flush might modify any of the given table spaces, that is whether modifiable entities or
+	 * collections mapped to any of them have been associated with this persistence context since it was
+	 * last cleared.  Always {@code true} once an entity cascading to other entities has been, since flush
+	 * time cascades might reach entities of any kind.
+	 *
+	 * @param spaces The table spaces
+	 *
+	 * @return {@code false} if no change to the given spaces can be pending
+	 */
+	boolean mightFlushToSpaces(Set<?> spaces);
+
 	/**
 	 * Get the mapping from entity instance to entity entry
 	 *
@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import org.hibernate.engine.internal.MutableEntityEntry;
+
+/**
+ * Marker for a {@link SelfDirtinessTracker} which registers its entity as possibly dirty with
+ * its persistence context (see {@link PersistenceContext#markPossiblyDirty}) as soon as it
+ * tracks a change.
+ * <p/>
+ * This contract is introduced into the entity by the bytecode enhancer.  Entity classes enhanced
+ * by earlier versions of the enhancer, and entity classes implementing SelfDirtinessTracker
+ * themselves, track their changes without notifying, so incremental flushes have to dirty check
+ * them every time.
+ */
+public interface SelfDirtinessNotifier {
+	/**
+	 * Registers an enhanced entity as possibly dirty with the persistence context it is associated with,
+	 * if any.  Called by the dirty tracker of the entity when it records its first change since it was
+	 * last cleared.  Persistence contexts not flushing incrementally ignore the registration.
+	 *
+	 * @param managedEntity The entity
+	 *
+	 * @see PersistenceContext#markPossiblyDirty
+	 */
+	static void markPossiblyDirty(ManagedEntity managedEntity) {
+		final EntityEntry entityEntry = managedEntity.$$_hibernate_getEntityEntry();
+		// an ImmutableEntityEntry may be shared by several persistence contexts, and its entity never needs flushing
+		if ( entityEntry instanceof MutableEntityEntry ) {
+			final PersistenceContext persistenceContext = ( (MutableEntityEntry) entityEntry ).getPersistenceContext();
+			if ( persistenceContext != null ) {
+				persistenceContext.markPossiblyDirty( managedEntity.$$_hibernate_getEntityInstance(), entityEntry );
+			}
+		}
+	}
+}
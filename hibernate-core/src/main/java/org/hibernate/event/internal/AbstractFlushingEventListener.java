@@ -9,6 +9,7 @@ package org.hibernate.event.internal;
 import java.util.IdentityHashMap;
 import java.util.Map;
 
+import org.hibernate.EmptyInterceptor;
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
 import org.hibernate.action.internal.CollectionRecreateAction;
@@ -139,8 +140,9 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		LOG.debug( "Processing flush-time cascades" );
 
 		final Object anything = getAnything();
+		// entities skipped by incremental flushes have nothing to cascade to
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
-		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeFlushableEntityEntries() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			EntityEntry entry = me.getValue();
 			Status status = entry.getStatus();
@@ -214,7 +216,12 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		// So this needs to be safe from concurrent modification problems.
 
-		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
+		// The entities skipped by incremental flushes are those for which the standard listener does
+		// nothing, but other listeners and interceptors get to see every entity
+		final Map.Entry<Object,EntityEntry>[] entityEntries = isStandardFlushEntityListenerOnly( flushListeners )
+				&& source.getInterceptor() == EmptyInterceptor.INSTANCE
+				? persistenceContext.reentrantSafeFlushableEntityEntries()
+				: persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
 		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
@@ -226,6 +233,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 			if ( status != Status.LOADING && status != Status.GONE ) {
 				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
+				persistenceContext.afterFlushEntity( me.getKey(), entry );
 			}
 		}
 
@@ -234,6 +242,16 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		return count;
 	}
 
+	private static boolean isStandardFlushEntityListenerOnly(EventListenerGroup<FlushEntityEventListener> flushListeners) {
+		if ( flushListeners.count() != 1 ) {
+			return false;
+		}
+		for ( FlushEntityEventListener listener : flushListeners.listeners() ) {
+			return listener.getClass() == DefaultFlushEntityEventListener.class;
+		}
+		return false;
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
@@ -6,6 +6,8 @@
  */
 package org.hibernate.event.internal;
 
+import java.util.Set;
+
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.ActionQueue;
@@ -42,7 +44,7 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 		try {
 			eventListenerManager.partialFlushStart();
 
-			if ( flushMightBeNeeded( source ) ) {
+			if ( flushMightBeNeeded( source ) && flushMightBeNeededForQuerySpaces( event, source ) ) {
 				// Need to get the number of collection removals before flushing to executions
 				// (because flushing to executions can add collection removal actions to the action queue).
 				final ActionQueue actionQueue = source.getActionQueue();
@@ -84,6 +86,28 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 				|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
 	}
 
+	/**
+	 * Cheap check, before dirty checking the persistence context, that there might be changes to flush to
+	 * the spaces of the query: pending actions, or entities or collections mapped to these spaces
+	 */
+	private boolean flushMightBeNeededForQuerySpaces(AutoFlushEvent event, final EventSource source) {
+		if ( source.getHibernateFlushMode() == FlushMode.ALWAYS ) {
+			return true;
+		}
+		final Set<?> querySpaces = event.getQuerySpaces();
+		if ( querySpaces.isEmpty() ) {
+			// the flush would not be executed
+			return false;
+		}
+		if ( source.getActionQueue().areTablesToBeUpdated( querySpaces )
+				|| source.getPersistenceContextInternal().mightFlushToSpaces( querySpaces ) ) {
+			return true;
+		}
+		LOG.trace( "No change can be pending for the query spaces, skipping flush" );
+		event.setFlushRequired( false );
+		return false;
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
@@ -596,6 +596,10 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	protected Object loadFromDatasource(
 			final LoadEvent event,
 			final EntityPersister persister) {
+		final StatisticsImplementor statistics = event.getSession().getFactory().getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
+
 		Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -614,9 +618,15 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			entity = ( (HibernateProxy) entity ).getHibernateLazyInitializer().getImplementation();
 		}
 
-		final StatisticsImplementor statistics = event.getSession().getFactory().getStatistics();
-		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
-			statistics.fetchEntity( event.getEntityClassName() );
+		if ( stats ) {
+			if ( event.isAssociationFetch() ) {
+				statistics.fetchEntity( event.getEntityClassName() );
+			}
+			statistics.entityLoadExecuted(
+					persister.getEntityName(),
+					event.isAssociationFetch(),
+					System.nanoTime() - startTime
+			);
 		}
 
 		return entity;
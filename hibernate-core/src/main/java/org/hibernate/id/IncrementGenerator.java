@@ -12,6 +12,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
@@ -53,6 +54,8 @@ public class IncrementGenerator implements StandardGenerator {
 	private String sql;
 
 	private IntegralDataTypeHolder previousValueHolder;
+	// not a monitor, since the initial value is read from the database while holding it
+	private final ReentrantLock lock = new ReentrantLock();
 
 	/**
 	 * @deprecated Exposed for tests only.
@@ -63,11 +66,17 @@ public class IncrementGenerator implements StandardGenerator {
 	}
 
 	@Override
-	public synchronized Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
-		if ( sql != null ) {
-			initializePreviousValueHolder( session );
+	public Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+		lock.lock();
+		try {
+			if ( sql != null ) {
+				initializePreviousValueHolder( session );
+			}
+			return previousValueHolder.makeValueThenIncrement();
+		}
+		finally {
+			lock.unlock();
 		}
-		return previousValueHolder.makeValueThenIncrement();
 	}
 
 	@Override
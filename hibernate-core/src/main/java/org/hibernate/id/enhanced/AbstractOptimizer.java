@@ -10,6 +10,11 @@ import org.hibernate.HibernateException;
 
 /**
  * Common support for optimizer implementations.
+ * <p/>
+ * Implementations which share their generation state between threads guard it with a
+ * {@link java.util.concurrent.locks.ReentrantLock} rather than a {@code synchronized} block.
+ * The state is held while the {@link AccessCallback} accesses the database, and a virtual
+ * thread blocking inside a monitor would pin its carrier thread for that whole time.
  *
  * @author Steve Ebersole
  */
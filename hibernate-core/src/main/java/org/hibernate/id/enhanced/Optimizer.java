@@ -27,8 +27,11 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * All known implementors are synchronized. Consider carefully if a new
-	 * implementation could drop this requirement.
+	 * All known implementors are thread-safe. Consider carefully if a new
+	 * implementation could drop this requirement.  Implementors should prefer
+	 * a {@link java.util.concurrent.locks.Lock} to {@code synchronized}, since
+	 * the callback may block on the database while the lock is held, which would
+	 * pin the carrier of a virtual thread.
 	 *
 	 * @param callback Callback to access the underlying value source.
 	 * @return The generated identifier value.
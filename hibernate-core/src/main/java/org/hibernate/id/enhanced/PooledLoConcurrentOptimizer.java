@@ -0,0 +1,207 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which does not serialize access to the generation state.
+ * <p/>
+ * Values are handed out of the current range by atomically incrementing a counter, so threads never
+ * wait on each other while the range is not exhausted.  Once half of the current range has been
+ * handed out, the thread which obtained the value at that point reads the next range from the
+ * database ahead of time, while all other threads keep on using the current range.  When the current
+ * range runs out, the range read ahead is simply swapped in.  Should the current range run out while
+ * a range is still being read, the threads needing a value block until that read completes rather
+ * than reading a range of their own.
+ * <p/>
+ * Note that the read-ahead happens on the thread (and so, through the {@link AccessCallback}) of
+ * the session which reached the threshold: the callback is bound to that session and its JDBC
+ * resources, so it cannot be handed over to a background thread.
+ * <p/>
+ * Since ranges may be read ahead and then discarded if two threads race to replace an exhausted
+ * range, this optimizer may leave more gaps in the generated values than {@link PooledLoOptimizer}.
+ *
+ * @see PooledLoOptimizer
+ */
+public class PooledLoConcurrentOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoConcurrentOptimizer.class.getName()
+	);
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a PooledLoConcurrentOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoConcurrentOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final long value = locateGenerationState( callback.getTenantIdentifier() ).generate( callback );
+		return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass )
+				.initialize( value )
+				.makeValue();
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState;
+		}
+		else {
+			return tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		}
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final Range range = noTenantState.current.get();
+		if ( range == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass )
+				.initialize( range.lastSourceValue );
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	/**
+	 * A range of values obtained from a single database value.
+	 */
+	private static class Range {
+		// last value read from db source
+		private final long lastSourceValue;
+		// the value at which the next range is read ahead
+		private final long readAheadValue;
+		// the value at which we'll need the next range
+		private final long upperLimitValue;
+		// the next value to hand out
+		private final AtomicLong nextValue;
+
+		private Range(long lastSourceValue, int incrementSize) {
+			this.lastSourceValue = lastSourceValue;
+			this.upperLimitValue = lastSourceValue + incrementSize;
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			final long lowValue = Math.max( lastSourceValue, 1 );
+			this.readAheadValue = lowValue + ( incrementSize / 2 );
+			this.nextValue = new AtomicLong( lowValue );
+		}
+	}
+
+	private class GenerationState {
+		// the range values are currently handed out from
+		private final AtomicReference<Range> current = new AtomicReference<>();
+		// the range read ahead of time, to be used once the current one is exhausted
+		private final AtomicReference<Range> next = new AtomicReference<>();
+		// completed once the thread currently reading a range from the database is done with it
+		private final AtomicReference<CompletableFuture<Void>> reading = new AtomicReference<>();
+
+		private long generate(AccessCallback callback) {
+			while ( true ) {
+				final Range range = current.get();
+				if ( range != null ) {
+					final long value = range.nextValue.getAndIncrement();
+					if ( value < range.upperLimitValue ) {
+						// exactly one thread obtains this value, no need for further coordination
+						if ( value == range.readAheadValue ) {
+							readAhead( callback );
+						}
+						return value;
+					}
+				}
+				replace( range, callback );
+			}
+		}
+
+		private void readAhead(AccessCallback callback) {
+			if ( next.get() != null ) {
+				return;
+			}
+			final CompletableFuture<Void> read = new CompletableFuture<>();
+			if ( reading.compareAndSet( null, read ) ) {
+				try {
+					next.compareAndSet( null, readRange( callback ) );
+				}
+				finally {
+					endReading( read );
+				}
+			}
+		}
+
+		private void replace(Range exhausted, AccessCallback callback) {
+			while ( current.get() == exhausted ) {
+				final Range readAhead = next.getAndSet( null );
+				if ( readAhead != null ) {
+					install( exhausted, readAhead );
+					continue;
+				}
+
+				final CompletableFuture<Void> read = new CompletableFuture<>();
+				final CompletableFuture<Void> pending = reading.compareAndExchange( null, read );
+				if ( pending != null ) {
+					// another thread is reading the next range: wait for it, then look again
+					// (should that read have failed, this thread simply tries on its own)
+					pending.join();
+					continue;
+				}
+				try {
+					if ( current.get() == exhausted && next.get() == null ) {
+						install( exhausted, readRange( callback ) );
+					}
+				}
+				finally {
+					endReading( read );
+				}
+			}
+		}
+
+		private void install(Range exhausted, Range replacement) {
+			if ( !current.compareAndSet( exhausted, replacement ) ) {
+				// some other thread already replaced the range: keep ours for later if we can,
+				// otherwise its values are simply lost
+				next.compareAndSet( null, replacement );
+			}
+		}
+
+		private void endReading(CompletableFuture<Void> read) {
+			reading.set( null );
+			// wakes up the threads waiting for the range, which is already published
+			read.complete( null );
+		}
+
+		private Range readRange(AccessCallback callback) {
+			final Number sourceValue = callback.getNextValue().makeValue();
+			return new Range( sourceValue.longValue(), incrementSize );
+		}
+	}
+}
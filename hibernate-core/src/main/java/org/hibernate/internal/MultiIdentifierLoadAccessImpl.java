@@ -12,6 +12,7 @@ import java.util.function.Supplier;
 import org.hibernate.CacheMode;
 import org.hibernate.LockOptions;
 import org.hibernate.MultiIdentifierLoadAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
@@ -22,7 +23,7 @@ import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
  * @author Steve Ebersole
  */
 class MultiIdentifierLoadAccessImpl<T> implements MultiIdentifierLoadAccess<T>, MultiIdLoadOptions {
-	private final SessionImpl session;
+	private final SharedSessionContractImplementor session;
 	private final EntityPersister entityPersister;
 
 	private LockOptions lockOptions;
@@ -35,8 +36,9 @@ class MultiIdentifierLoadAccessImpl<T> implements MultiIdentifierLoadAccess<T>,
 	private boolean sessionCheckingEnabled;
 	private boolean returnOfDeletedEntitiesEnabled;
 	private boolean orderedReturnEnabled = true;
+	private int parallelism = 1;
 
-	public MultiIdentifierLoadAccessImpl(SessionImpl session, EntityPersister entityPersister) {
+	public MultiIdentifierLoadAccessImpl(SharedSessionContractImplementor session, EntityPersister entityPersister) {
 		this.session = session;
 		this.entityPersister = entityPersister;
 	}
@@ -119,6 +121,17 @@ class MultiIdentifierLoadAccessImpl<T> implements MultiIdentifierLoadAccess<T>,
 		return this;
 	}
 
+	@Override
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	@Override
+	public MultiIdentifierLoadAccess<T> withParallelism(int parallelism) {
+		this.parallelism = Math.max( 1, parallelism );
+		return this;
+	}
+
 	@Override
 	@SuppressWarnings( "unchecked" )
 	public <K> List<T> multiLoad(K... ids) {
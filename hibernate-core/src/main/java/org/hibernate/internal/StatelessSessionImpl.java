@@ -6,26 +6,44 @@
  */
 package org.hibernate.internal;
 
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.MultiIdentifierLoadAccess;
 import org.hibernate.SessionException;
 import org.hibernate.StatelessSession;
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.BatchingBatch;
+import org.hibernate.engine.jdbc.batch.internal.BulkLoadBatch;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatch;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.transaction.internal.jta.JtaStatusHelper;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
@@ -40,6 +58,11 @@ import jakarta.transaction.SystemException;
 public class StatelessSessionImpl extends AbstractSharedSessionContract implements StatelessSession {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionImpl.class );
 
+	// the number of rows loaded at once into a table by bulk inserts, or inserted by a single
+	// statement when batching is not configured
+	private static final int BULK_LOAD_SIZE = 10_000;
+	private static final int DEFAULT_BULK_INSERT_BATCH_SIZE = 100;
+
 	private static LoadQueryInfluencers NO_INFLUENCERS = new LoadQueryInfluencers( null ) {
 		@Override
 		public String getInternalFetchProfile() {
@@ -78,6 +101,11 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		checkOpen();
 		EntityPersister persister = getEntityPersister( entityName, entity );
 		Object id = persister.getIdentifierGenerator().generate( this, entity );
+		Object[] state = getInsertState( persister, entity );
+		return insert( persister, id, state, entity );
+	}
+
+	private Object[] getInsertState(EntityPersister persister, Object entity) {
 		Object[] state = persister.getPropertyValues( entity );
 		if ( persister.isVersioned() ) {
 			boolean substitute = Versioning.seedVersion(
@@ -90,6 +118,10 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 				persister.setPropertyValues( entity, state );
 			}
 		}
+		return state;
+	}
+
+	private Object insert(EntityPersister persister, Object id, Object[] state, Object entity) {
 		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
 			id = persister.insert( state, entity, this );
 		}
@@ -100,6 +132,82 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return id;
 	}
 
+	@Override
+	public <T> long bulkInsert(Class<T> entityClass, Stream<? extends T> entities) {
+		checkOpen();
+		return bulkInsert( entityClass.getName(), entities );
+	}
+
+	@Override
+	public long bulkInsert(String entityName, Stream<?> entities) {
+		checkOpen();
+		// one batch per persister, each loading the rows of its tables in order
+		final Map<EntityPersister, Batch> batches = new LinkedHashMap<>();
+		long count = 0;
+		try {
+			final Iterator<?> iterator = entities.iterator();
+			while ( iterator.hasNext() ) {
+				final Object entity = iterator.next();
+				final EntityPersister persister = getEntityPersister( entityName, entity );
+				final Object id = persister.getIdentifierGenerator().generate( this, entity );
+				final Object[] state = getInsertState( persister, entity );
+				if ( id != IdentifierGeneratorHelper.POST_INSERT_INDICATOR
+						&& persister instanceof AbstractEntityPersister
+						&& ( (AbstractEntityPersister) persister ).canBulkInsert() ) {
+					final Batch batch = batches.computeIfAbsent( persister, this::buildBulkInsertBatch );
+					( (AbstractEntityPersister) persister ).insert( id, state, entity, batch, this );
+					persister.setIdentifier( entity, id, this );
+				}
+				else {
+					// the pending rows this instance might reference are loaded first
+					executeBulkInsertBatches( batches );
+					insert( persister, id, state, entity );
+					getJdbcCoordinator().executeBatch();
+				}
+				count++;
+			}
+			executeBulkInsertBatches( batches );
+		}
+		finally {
+			for ( Batch batch : batches.values() ) {
+				batch.release();
+			}
+		}
+		return count;
+	}
+
+	private Batch buildBulkInsertBatch(EntityPersister persister) {
+		final BatchKey key = new BasicBatchKey( persister.getEntityName() + "#BULK_INSERT", Expectations.BASIC );
+		final Dialect dialect = getJdbcServices().getDialect();
+		final BulkInsertSupport bulkInsertSupport = dialect.getBulkInsertSupport();
+		final Map<String, BulkLoadBatch.LoadTarget> loadTargets = bulkInsertSupport == null
+				? null
+				: ( (AbstractEntityPersister) persister ).getBulkLoadTargets();
+		if ( loadTargets != null ) {
+			try {
+				if ( bulkInsertSupport.isAvailable( getJdbcCoordinator().getLogicalConnection().getPhysicalConnection() ) ) {
+					return new BulkLoadBatch( key, getJdbcCoordinator(), loadTargets, BULK_LOAD_SIZE, bulkInsertSupport );
+				}
+			}
+			catch (SQLException e) {
+				throw getJdbcServices().getSqlExceptionHelper().convert( e, "could not determine bulk insert support" );
+			}
+		}
+		final Integer configuredBatchSize = getConfiguredJdbcBatchSize();
+		final int batchSize = configuredBatchSize != null && configuredBatchSize > 1
+				? configuredBatchSize
+				: DEFAULT_BULK_INSERT_BATCH_SIZE;
+		return dialect.supportsMultiRowInsertBatch()
+				? new MultiRowInsertBatch( key, getJdbcCoordinator(), batchSize )
+				: new BatchingBatch( key, getJdbcCoordinator(), batchSize );
+	}
+
+	private static void executeBulkInsertBatches(Map<EntityPersister, Batch> batches) {
+		for ( Batch batch : batches.values() ) {
+			batch.execute();
+		}
+	}
+
 
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -176,6 +284,30 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return result;
 	}
 
+	@Override
+	public <T> MultiIdentifierLoadAccess<T> byMultipleIds(Class<T> entityClass) {
+		return byMultipleIds( entityClass.getName() );
+	}
+
+	@Override
+	public <T> MultiIdentifierLoadAccess<T> byMultipleIds(String entityName) {
+		checkOpen();
+		return new MultiIdentifierLoadAccessImpl<T>( this, getFactory().getMetamodel().entityPersister( entityName ) ) {
+			@Override
+			public List<T> perform(Supplier<List<T>> executor) {
+				checkOpen();
+				try {
+					return super.perform( executor );
+				}
+				finally {
+					if ( temporaryPersistenceContext.isLoadFinished() ) {
+						temporaryPersistenceContext.clear();
+					}
+				}
+			}
+		};
+	}
+
 	@Override
 	public void refresh(Object entity) {
 		refresh( bestGuessEntityName( entity ), entity, LockMode.NONE );
@@ -274,17 +406,18 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		checkOpen();
 
 		final EntityPersister persister = getFactory().getMetamodel().entityPersister( entityName );
-		final EntityKey entityKey = generateEntityKey( id, persister );
 
 		// first, try to load it from the temp PC associated to this SS
 		final PersistenceContext persistenceContext = getPersistenceContext();
-		Object loaded = persistenceContext.getEntity( entityKey );
+		Object loaded = persistenceContext.getEntity( persister, id );
 		if ( loaded != null ) {
 			// we found it in the temp PC.  Should indicate we are in the midst of processing a result set
 			// containing eager fetches via join fetch
 			return loaded;
 		}
 
+		final EntityKey entityKey = generateEntityKey( id, persister );
+
 		if ( !eager ) {
 			// caller did not request forceful eager loading, see if we can create
 			// some form of proxy
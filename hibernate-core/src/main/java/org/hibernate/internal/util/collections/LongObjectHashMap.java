@@ -0,0 +1,200 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.Arrays;
+
+import org.hibernate.internal.util.MathHelper;
+
+/**
+ * Hash map keyed by primitive {@code long} values, using open addressing with linear probing.
+ * <p/>
+ * Neither the keys are boxed nor entry objects are allocated, which makes it suitable for
+ * maps looked up very frequently by numeric identifiers.  {@code null} values are not
+ * supported: a {@code null} result from {@link #get} means that no value is mapped to the key.
+ * <p/>
+ * This class is not thread-safe.
+ *
+ * @param <V> The type of the mapped values
+ */
+public final class LongObjectHashMap<V> {
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private long[] keys;
+	private Object[] values;
+	private int mask;
+	private int size;
+	private int resizeThreshold;
+
+	/**
+	 * Create a map with default sizing.
+	 */
+	public LongObjectHashMap() {
+		this( DEFAULT_CAPACITY / 2 );
+	}
+
+	/**
+	 * Create a map able to hold the given number of values without resizing.
+	 *
+	 * @param expectedSize The number of values expected to be held by the map
+	 */
+	public LongObjectHashMap(int expectedSize) {
+		allocate( MathHelper.ceilingPowerOfTwo( Math.max( expectedSize * 2, 2 ) ) );
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		// keep the load factor at most 0.5, so that probe sequences stay short
+		resizeThreshold = capacity / 2;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V get(long key) {
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		int index = indexFor( key );
+		Object value;
+		while ( ( value = values[index] ) != null ) {
+			if ( keys[index] == key ) {
+				return (V) value;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return null;
+	}
+
+	public boolean containsKey(long key) {
+		return get( key ) != null;
+	}
+
+	/**
+	 * Map the given value to the given key.
+	 *
+	 * @param key The key
+	 * @param value The value, which must not be {@code null}
+	 *
+	 * @return The value previously mapped to the key, or {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(long key, V value) {
+		if ( value == null ) {
+			throw new IllegalArgumentException( "null values are not supported" );
+		}
+		int index = indexFor( key );
+		Object existing;
+		while ( ( existing = values[index] ) != null ) {
+			if ( keys[index] == key ) {
+				values[index] = value;
+				return (V) existing;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		keys[index] = key;
+		values[index] = value;
+		if ( ++size > resizeThreshold ) {
+			rehash( values.length * 2 );
+		}
+		return null;
+	}
+
+	/**
+	 * Remove the value mapped to the given key.
+	 *
+	 * @param key The key
+	 *
+	 * @return The removed value, or {@code null} if no value was mapped to the key
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(long key) {
+		int index = indexFor( key );
+		Object existing;
+		while ( ( existing = values[index] ) != null ) {
+			if ( keys[index] == key ) {
+				closeGap( index );
+				size--;
+				return (V) existing;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return null;
+	}
+
+	public void clear() {
+		if ( size > 0 ) {
+			Arrays.fill( values, null );
+			size = 0;
+		}
+	}
+
+	/**
+	 * Backward shift deletion: move the entries following the removed one into the gap
+	 * whenever the gap is on their probe sequence, so that no tombstones are needed.
+	 */
+	private void closeGap(int gap) {
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		int index = ( gap + 1 ) & mask;
+		Object value;
+		while ( ( value = values[index] ) != null ) {
+			final int home = indexFor( keys[index] );
+			if ( ( ( index - home ) & mask ) >= ( ( index - gap ) & mask ) ) {
+				keys[gap] = keys[index];
+				values[gap] = value;
+				gap = index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		values[gap] = null;
+	}
+
+	private void rehash(int capacity) {
+		final long[] oldKeys = keys;
+		final Object[] oldValues = values;
+		allocate( capacity );
+		for ( int i = 0; i < oldValues.length; i++ ) {
+			final Object value = oldValues[i];
+			if ( value != null ) {
+				int index = indexFor( oldKeys[i] );
+				while ( values[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				keys[index] = oldKeys[i];
+				values[index] = value;
+			}
+		}
+	}
+
+	private int indexFor(long key) {
+		// spread sequential identifiers over the whole table
+		final long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) ( hash ^ ( hash >>> 32 ) ) & mask;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder buffer = new StringBuilder( "{" );
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] != null ) {
+				if ( buffer.length() > 1 ) {
+					buffer.append( ", " );
+				}
+				buffer.append( keys[i] ).append( '=' ).append( values[i] );
+			}
+		}
+		return buffer.append( '}' ).toString();
+	}
+}
@@ -9,10 +9,20 @@ package org.hibernate.loader.ast.internal;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.StatelessSession;
+import org.hibernate.StatelessSessionBuilder;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -83,7 +93,10 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 	public List<T> load(Object[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
 		assert ids != null;
 
-		if ( loadOptions.isOrderReturnEnabled() ) {
+		if ( isParallelLoad( loadOptions, session ) ) {
+			return performParallelMultiLoad( ids, session, loadOptions );
+		}
+		else if ( loadOptions.isOrderReturnEnabled() ) {
 			return performOrderedMultiLoad( ids, session, loadOptions );
 		}
 		else {
@@ -136,7 +149,8 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			}
 			final EntityKey entityKey = new EntityKey( id, entityDescriptor );
 
-			if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			if ( session instanceof EventSource
+					&& ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) ) {
 				LoadEvent loadEvent = new LoadEvent(
 						id,
 						entityDescriptor.getMappedClass().getName(),
@@ -230,6 +244,31 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			List<Object> idsInBatch,
 			LockOptions lockOptions,
 			SharedSessionContractImplementor session) {
+		final PreparedBatch batch = prepareBatch( idsInBatch, lockOptions, session );
+
+		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler;
+		if ( entityDescriptor.hasSubselectLoadableCollections() ) {
+			subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					batch.sqlAst,
+					batch.jdbcParameters,
+					batch.jdbcParameterBindings
+			);
+		}
+		else {
+			subSelectFetchableKeysHandler = null;
+		}
+
+		return executeBatch( batch, subSelectFetchableKeysHandler, session );
+	}
+
+	/**
+	 * Builds and translates the SQL AST loading the given ids
+	 */
+	private PreparedBatch prepareBatch(
+			List<Object> idsInBatch,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
 		assert idsInBatch != null;
 		assert ! idsInBatch.isEmpty();
 
@@ -279,22 +318,16 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		final JdbcSelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
 				.translate( jdbcParameterBindings, QueryOptions.NONE );
 
-		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler;
-		if ( entityDescriptor.hasSubselectLoadableCollections() ) {
-			subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
-					session.getPersistenceContext().getBatchFetchQueue(),
-					sqlAst,
-					jdbcParameters,
-					jdbcParameterBindings
-			);
-		}
-		else {
-			subSelectFetchableKeysHandler = null;
-		}
+		return new PreparedBatch( sqlAst, jdbcParameters, jdbcParameterBindings, jdbcSelect );
+	}
 
+	private List<T> executeBatch(
+			PreparedBatch batch,
+			SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler,
+			SharedSessionContractImplementor session) {
 		return JdbcSelectExecutorStandardImpl.INSTANCE.list(
-				jdbcSelect,
-				jdbcParameterBindings,
+				batch.jdbcSelect,
+				batch.jdbcParameterBindings,
 				new ExecutionContext() {
 					@Override
 					public SharedSessionContractImplementor getSession() {
@@ -350,7 +383,8 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 				? new LockOptions( LockMode.NONE )
 				: loadOptions.getLockOptions();
 
-		if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+		if ( session instanceof EventSource
+				&& ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) ) {
 			// the user requested that we exclude ids corresponding to already managed
 			// entities from the generated load SQL.  So here we will iterate all
 			// incoming id values and see whether it corresponds to an existing
@@ -466,6 +500,164 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		return result;
 	}
 
+	/**
+	 * Batches of ids are only loaded in parallel by stateless sessions, which neither check
+	 * nor populate a persistence context, and without locking, since the batches are not
+	 * loaded within the transaction of the session
+	 */
+	private static boolean isParallelLoad(MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
+		if ( loadOptions.getParallelism() < 2 || !( session instanceof StatelessSession ) ) {
+			return false;
+		}
+		final LockOptions lockOptions = loadOptions.getLockOptions();
+		return lockOptions == null
+				|| lockOptions.getLockMode() == LockMode.NONE
+				|| lockOptions.getLockMode() == LockMode.READ;
+	}
+
+	private List<T> performParallelMultiLoad(
+			Object[] ids,
+			SharedSessionContractImplementor session,
+			MultiIdLoadOptions loadOptions) {
+		if ( log.isTraceEnabled() ) {
+			log.tracef(
+					"#performParallelMultiLoad(`%s`, .., %s)",
+					entityDescriptor.getEntityName(),
+					loadOptions.getParallelism()
+			);
+		}
+
+		final LockOptions lockOptions = new LockOptions( LockMode.NONE );
+
+		final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final List<Object> idList = new ArrayList<>( ids.length );
+		for ( Object id : ids ) {
+			idList.add( coerce ? entityDescriptor.getIdentifierMapping().getJavaTypeDescriptor().coerce( id, session ) : id );
+		}
+
+		final int maxBatchSize;
+		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
+			maxBatchSize = loadOptions.getBatchSize();
+		}
+		else {
+			maxBatchSize = sessionFactory.getJdbcServices().getJdbcEnvironment().getDialect()
+					.getDefaultBatchLoadSizingStrategy()
+					.determineOptimalBatchLoadSize(
+							idJdbcTypeCount,
+							ids.length,
+							sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+					);
+		}
+
+		final List<PreparedBatch> batches = new ArrayList<>();
+		for ( int start = 0; start < idList.size(); start += maxBatchSize ) {
+			batches.add(
+					prepareBatch(
+							idList.subList( start, Math.min( idList.size(), start + maxBatchSize ) ),
+							lockOptions,
+							session
+					)
+			);
+		}
+
+		final List<T> entities;
+		if ( batches.size() == 1 ) {
+			entities = executeBatch( batches.get( 0 ), null, session );
+		}
+		else {
+			entities = executeBatchesInParallel( batches, loadOptions.getParallelism(), session );
+		}
+
+		if ( !loadOptions.isOrderReturnEnabled() ) {
+			return entities;
+		}
+
+		final Map<EntityKey, T> entitiesByKey = new HashMap<>( entities.size() );
+		for ( T entity : entities ) {
+			entitiesByKey.put( new EntityKey( entityDescriptor.getIdentifier( entity, session ), entityDescriptor ), entity );
+		}
+		final List<T> result = CollectionHelper.arrayList( idList.size() );
+		for ( Object id : idList ) {
+			result.add( entitiesByKey.get( new EntityKey( id, entityDescriptor ) ) );
+		}
+		return result;
+	}
+
+	/**
+	 * Executes the batches on at most the given number of threads of the {@link ParallelMultiLoadExecutor},
+	 * each executing the batches on a StatelessSession of its own, hence on a connection of its own
+	 */
+	private List<T> executeBatchesInParallel(
+			List<PreparedBatch> batches,
+			int maxParallelism,
+			SharedSessionContractImplementor session) {
+		final ParallelMultiLoadExecutor executor = sessionFactory.getServiceRegistry()
+				.getService( ParallelMultiLoadExecutor.class );
+		final int parallelism = Math.min( maxParallelism, Math.min( batches.size(), executor.getMaxThreads() ) );
+		final List<List<T>> batchResults = new ArrayList<>( Collections.nCopies( batches.size(), null ) );
+		final AtomicInteger nextBatch = new AtomicInteger();
+
+		final Callable<Void> worker = () -> {
+			final StatelessSessionBuilder<?> sessionBuilder = sessionFactory.withStatelessOptions();
+			if ( session.getTenantIdentifier() != null ) {
+				sessionBuilder.tenantIdentifier( session.getTenantIdentifier() );
+			}
+			try ( StatelessSession batchSession = sessionBuilder.openStatelessSession() ) {
+				final SharedSessionContractImplementor batchSessionImplementor = (SharedSessionContractImplementor) batchSession;
+				for ( int i = nextBatch.getAndIncrement(); i < batches.size(); i = nextBatch.getAndIncrement() ) {
+					batchResults.set( i, executeBatch( batches.get( i ), null, batchSessionImplementor ) );
+					batchSessionImplementor.getPersistenceContextInternal().clear();
+				}
+			}
+			catch (RuntimeException e) {
+				// make the other workers stop
+				nextBatch.set( batches.size() );
+				throw e;
+			}
+			return null;
+		};
+
+		try {
+			for ( Future<Void> future : executor.invokeAll( Collections.nCopies( parallelism, worker ) ) ) {
+				future.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while loading entities of type " + entityDescriptor.getEntityName(), e );
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new HibernateException( "Unable to load entities of type " + entityDescriptor.getEntityName(), e.getCause() );
+		}
+
+		final List<T> result = new ArrayList<>();
+		for ( List<T> batchResult : batchResults ) {
+			result.addAll( batchResult );
+		}
+		return result;
+	}
+
+	private static class PreparedBatch {
+		private final SelectStatement sqlAst;
+		private final List<JdbcParameter> jdbcParameters;
+		private final JdbcParameterBindings jdbcParameterBindings;
+		private final JdbcSelect jdbcSelect;
+
+		private PreparedBatch(
+				SelectStatement sqlAst,
+				List<JdbcParameter> jdbcParameters,
+				JdbcParameterBindings jdbcParameterBindings,
+				JdbcSelect jdbcSelect) {
+			this.sqlAst = sqlAst;
+			this.jdbcParameters = jdbcParameters;
+			this.jdbcParameterBindings = jdbcParameterBindings;
+			this.jdbcSelect = jdbcSelect;
+		}
+	}
+
 	private Boolean getReadOnlyFromLoadQueryInfluencers(SharedSessionContractImplementor session) {
 		Boolean readOnly = null;
 		final LoadQueryInfluencers loadQueryInfluencers = session.getLoadQueryInfluencers();
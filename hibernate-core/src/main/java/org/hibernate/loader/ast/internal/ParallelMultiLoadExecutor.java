@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * The threads loading batches of ids for the parallel multi-loads of a SessionFactory.
+ * <p/>
+ * At most {@link #getMaxThreads()} threads exist at a time, each holding a connection of its own
+ * while it loads batches.  Threads are created on demand and end once idle for a minute; tasks
+ * submitted while all threads are busy wait for one of them.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MULTI_LOAD_MAX_THREADS
+ */
+public class ParallelMultiLoadExecutor implements Service, Stoppable {
+	private final int maxThreads;
+	private final ThreadPoolExecutor executor;
+
+	public ParallelMultiLoadExecutor(int maxThreads) {
+		this.maxThreads = maxThreads;
+		final AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+				maxThreads,
+				maxThreads,
+				60,
+				TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				task -> {
+					final Thread thread = new Thread( task, "Hibernate multi-load #" + threadCount.incrementAndGet() );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		this.executor.allowCoreThreadTimeOut( true );
+	}
+
+	/**
+	 * The maximum number of threads loading batches at the same time
+	 */
+	public int getMaxThreads() {
+		return maxThreads;
+	}
+
+	/**
+	 * Executes the given tasks, waiting for all of them to complete
+	 *
+	 * @see java.util.concurrent.ExecutorService#invokeAll(Collection)
+	 */
+	public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+		return executor.invokeAll( tasks );
+	}
+
+	@Override
+	public void stop() {
+		executor.shutdownNow();
+	}
+}
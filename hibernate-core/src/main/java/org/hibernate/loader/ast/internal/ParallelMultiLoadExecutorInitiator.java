@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.ast.internal;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+/**
+ * Standard initiator for the {@link ParallelMultiLoadExecutor}
+ */
+public class ParallelMultiLoadExecutorInitiator implements SessionFactoryServiceInitiator<ParallelMultiLoadExecutor> {
+	/**
+	 * Singleton access
+	 */
+	public static final ParallelMultiLoadExecutorInitiator INSTANCE = new ParallelMultiLoadExecutorInitiator();
+
+	@Override
+	public Class<ParallelMultiLoadExecutor> getServiceInitiated() {
+		return ParallelMultiLoadExecutor.class;
+	}
+
+	@Override
+	public ParallelMultiLoadExecutor initiateService(SessionFactoryServiceInitiatorContext context) {
+		return buildExecutor( context.getServiceRegistry() );
+	}
+
+	@Override
+	public ParallelMultiLoadExecutor initiateService(
+			SessionFactoryImplementor sessionFactory,
+			SessionFactoryOptions sessionFactoryOptions,
+			ServiceRegistryImplementor registry) {
+		return buildExecutor( registry );
+	}
+
+	private static ParallelMultiLoadExecutor buildExecutor(ServiceRegistryImplementor registry) {
+		final int maxThreads = ConfigurationHelper.getInt(
+				AvailableSettings.MULTI_LOAD_MAX_THREADS,
+				registry.getService( ConfigurationService.class ).getSettings(),
+				Runtime.getRuntime().availableProcessors()
+		);
+		return new ParallelMultiLoadExecutor( Math.max( 1, maxThreads ) );
+	}
+}
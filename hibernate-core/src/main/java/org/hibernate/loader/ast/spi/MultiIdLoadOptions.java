@@ -25,4 +25,14 @@ public interface MultiIdLoadOptions extends MultiLoadOptions {
 	 * @return the session factory cache is checked first
 	 */
 	boolean isSecondLevelCacheCheckingEnabled();
+
+	/**
+	 * The number of connections on which batches of ids may be loaded at the same time,
+	 * when loading from a {@link org.hibernate.StatelessSession}.
+	 *
+	 * @return the number of batches loaded at the same time, {@code 1} by default
+	 */
+	default int getParallelism() {
+		return 1;
+	}
 }
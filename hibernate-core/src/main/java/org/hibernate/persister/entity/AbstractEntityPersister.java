@@ -55,6 +55,8 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
@@ -76,6 +78,9 @@ import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.BulkLoadBatch;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
@@ -254,12 +259,14 @@ import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.tuple.entity.EntityTuplizer;
 import org.hibernate.type.AnyType;
 import org.hibernate.type.AssociationType;
+import org.hibernate.type.AbstractStandardBasicType;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
+import org.hibernate.type.descriptor.java.AbstractClassJavaTypeDescriptor;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.MutabilityPlan;
 import org.hibernate.type.spi.TypeConfiguration;
@@ -332,6 +339,7 @@ public abstract class AbstractEntityPersister
 	private final String[][] propertyColumnReaderTemplates;
 	private final String[][] propertyColumnWriters;
 	private final boolean[][] propertyColumnUpdateable;
+	private final DirtyCheckOptimizer dirtyCheckOptimizer;
 	private final boolean[][] propertyColumnInsertable;
 	private final boolean[] propertyUniqueness;
 	private final boolean[] propertySelectable;
@@ -909,6 +917,7 @@ public abstract class AbstractEntityPersister
 		}
 		this.lobProperties = CollectionHelper.toSmallList( lobPropertiesLocalCollector );
 		hasFormulaProperties = foundFormula;
+		dirtyCheckOptimizer = buildDirtyCheckOptimizer( bootDescriptor, sessionFactoryOptions );
 		lazyPropertyColumnAliases = ArrayHelper.to2DStringArray( lazyColAliases );
 		lazyPropertyNames = ArrayHelper.toStringArray( lazyNames );
 		lazyPropertyNumbers = ArrayHelper.toIntArray( lazyNumbers );
@@ -1125,6 +1134,57 @@ public abstract class AbstractEntityPersister
 		return false;
 	}
 
+	private DirtyCheckOptimizer buildDirtyCheckOptimizer(
+			PersistentClass bootDescriptor,
+			SessionFactoryOptions sessionFactoryOptions) {
+		// lazy properties of enhanced entities may hold LazyPropertyInitializer.UNFETCHED_PROPERTY
+		if ( !sessionFactoryOptions.isDirtyCheckOptimizerEnabled()
+				|| representationStrategy.getMode() != RepresentationMode.POJO
+				|| entityMetamodel.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading() ) {
+			return null;
+		}
+
+		final NonIdentifierAttribute[] properties = entityMetamodel.getProperties();
+		final Class[] valueTypes = new Class[ Math.min( properties.length, Long.SIZE ) ];
+		for ( int i = 0; i < valueTypes.length; i++ ) {
+			final boolean[] columnUpdateability = propertyColumnUpdateable[i];
+			if ( properties[i].isDirtyCheckable()
+					&& columnUpdateability.length == 1
+					&& columnUpdateability[0] ) {
+				valueTypes[i] = determineValueEqualityJavaType( properties[i].getType() );
+			}
+		}
+
+		return factory.getServiceRegistry()
+				.getService( BytecodeProvider.class )
+				.getDirtyCheckOptimizer( bootDescriptor.getMappedClass(), valueTypes );
+	}
+
+	/**
+	 * Determine the Java type of the values of the given type if it is dirty checked
+	 * by plain {@link java.util.Objects#equals}, {@code null} otherwise
+	 */
+	private static Class<?> determineValueEqualityJavaType(Type type) {
+		if ( !( type instanceof AbstractStandardBasicType ) ) {
+			return null;
+		}
+		final JavaType<?> javaTypeDescriptor = ( (AbstractStandardBasicType<?>) type ).getJavaTypeDescriptor();
+		if ( isDeclaredBy( type.getClass(), "isEqual", AbstractStandardBasicType.class )
+				&& isDeclaredBy( javaTypeDescriptor.getClass(), "areEqual", AbstractClassJavaTypeDescriptor.class ) ) {
+			return javaTypeDescriptor.getJavaTypeClass();
+		}
+		return null;
+	}
+
+	private static boolean isDeclaredBy(Class<?> type, String comparisonMethodName, Class<?> declaringType) {
+		try {
+			return type.getMethod( comparisonMethodName, Object.class, Object.class ).getDeclaringClass() == declaringType;
+		}
+		catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
 	private boolean determineCanWriteToCache(PersistentClass persistentClass, EntityDataAccess cacheAccessStrategy) {
 		if ( cacheAccessStrategy == null ) {
 			return false;
@@ -2956,6 +3016,16 @@ public abstract class AbstractEntityPersister
 	 * Generate the SQL that inserts a row
 	 */
 	public String generateInsertString(boolean[] includeProperty, int j) {
+		final Insert insert = generateInsert( includeProperty, j );
+
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			insert.setComment( "insert " + getEntityName() );
+		}
+
+		return insert.toStatementString();
+	}
+
+	private Insert generateInsert(boolean[] includeProperty, int j) {
 
 		final Insert insert = createInsert().setTableName( getTableName( j ) );
 
@@ -3000,10 +3070,6 @@ public abstract class AbstractEntityPersister
 		// add the primary key
 		insert.addColumns( getKeyColumns( j ) );
 
-		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
-			insert.setComment( "insert " + getEntityName() );
-		}
-
 		// HHH-4635
 		// Oracle expects all Lob properties to be last in inserts
 		// and updates.  Insert them at the end.
@@ -3018,7 +3084,7 @@ public abstract class AbstractEntityPersister
 			}
 		}
 
-		return insert.toStatementString();
+		return insert;
 	}
 
 	/**
@@ -3260,6 +3326,19 @@ public abstract class AbstractEntityPersister
 
 	private BasicBatchKey insertBatchKey;
 
+	private boolean canUseMultiRowInserts() {
+		if ( !getFactory().getSessionFactoryOptions().isMultiRowInsertBatchingEnabled()
+				|| !getFactory().getJdbcServices().getDialect().supportsMultiRowInsertBatch() ) {
+			return false;
+		}
+		for ( int j = 0; j < getTableSpan(); j++ ) {
+			if ( isInsertCallable( j ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Perform an SQL INSERT.
 	 * <p/>
@@ -3300,10 +3379,9 @@ public abstract class AbstractEntityPersister
 						getIdentifierGenerator().supportsJdbcBatchInserts();
 
 		if ( useBatch && insertBatchKey == null ) {
-			insertBatchKey = new BasicBatchKey(
-					getEntityName() + "#INSERT",
-					expectation
-			);
+			insertBatchKey = canUseMultiRowInserts()
+					? new MultiRowInsertBatchKey( getEntityName() + "#INSERT", expectation )
+					: new BasicBatchKey( getEntityName() + "#INSERT", expectation );
 		}
 		final boolean callable = isInsertCallable( j );
 
@@ -3871,6 +3949,106 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * Can instances be inserted through {@link #insert(Object, Object[], Object, Batch, SharedSessionContractImplementor)},
+	 * that is are their identifiers known before insertion, their inserts not dynamic, not callable and
+	 * checked by row count, and none of their properties generated by the database on insertion?
+	 */
+	public boolean canBulkInsert() {
+		if ( entityMetamodel.isDynamicInsert()
+				|| hasInsertGeneratedProperties()
+				|| getIdentifierGenerator() instanceof PostInsertIdentifierGenerator ) {
+			return false;
+		}
+		for ( int j = 0; j < getTableSpan(); j++ ) {
+			if ( isInsertCallable( j ) || insertResultCheckStyles[j] != ExecuteUpdateResultCheckStyle.COUNT ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The tables, columns and parameters of the SQL INSERTs performed by
+	 * {@link #insert(Object, Object[], Object, Batch, SharedSessionContractImplementor)}, for loading the
+	 * inserted rows in bulk instead.
+	 *
+	 * @return The target of each INSERT, by its SQL, or {@code null} if the value of some column is written
+	 * by an expression, or the INSERT is custom SQL
+	 */
+	public Map<String, BulkLoadBatch.LoadTarget> getBulkLoadTargets() {
+		final Map<String, BulkLoadBatch.LoadTarget> loadTargets = new HashMap<>();
+		for ( int j = 0; j < getTableSpan(); j++ ) {
+			if ( customSQLInsert[j] != null ) {
+				return null;
+			}
+			final Map<String, String> columns = generateInsert( getPropertyInsertability(), j ).getColumns();
+
+			// the discriminator is written as a literal
+			final Insert discriminatorInsert = createInsert();
+			if ( j == 0 ) {
+				addDiscriminatorToInsert( discriminatorInsert );
+			}
+			final Map<String, String> discriminatorColumns = discriminatorInsert.getColumns();
+
+			final String[] columnNames = new String[columns.size()];
+			final Object[] literals = new Object[columnNames.length];
+			final List<Integer> parameterColumns = new ArrayList<>( columnNames.length );
+			int i = 0;
+			for ( Map.Entry<String, String> column : columns.entrySet() ) {
+				columnNames[i] = column.getKey();
+				if ( "?".equals( column.getValue() ) ) {
+					parameterColumns.add( i );
+				}
+				else if ( discriminatorColumns.containsKey( column.getKey() ) ) {
+					literals[i] = getDiscriminatorValue();
+				}
+				else {
+					return null;
+				}
+				i++;
+			}
+			loadTargets.put(
+					getSQLInsertStrings()[j],
+					new BulkLoadBatch.LoadTarget(
+							getTableName( j ),
+							columnNames,
+							literals,
+							ArrayHelper.toIntArray( parameterColumns )
+					)
+			);
+		}
+		return loadTargets;
+	}
+
+	/**
+	 * Perform the SQL INSERTs of an instance, whose identifier is known, through the given batch, for bulk
+	 * insertion.  The batch is neither executed nor released.
+	 */
+	public void insert(Object id, Object[] fields, Object object, Batch batch, SharedSessionContractImplementor session) {
+		// apply any pre-insert in-memory value generation
+		preInsertInMemoryValueGeneration( fields, object, session );
+
+		for ( int j = 0; j < getTableSpan(); j++ ) {
+			if ( isInverseTable( j ) || isNullableTable( j ) && isAllNull( fields, j ) ) {
+				continue;
+			}
+			final String sql = getSQLInsertStrings()[j];
+			try {
+				final PreparedStatement insert = batch.getBatchStatement( sql, false );
+				dehydrate( id, fields, null, getPropertyInsertability(), propertyColumnInsertable, j, insert, session, 1, false );
+				batch.addToBatch();
+			}
+			catch (SQLException e) {
+				throw getFactory().getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"could not insert: " + MessageHelper.infoString( this ),
+						sql
+				);
+			}
+		}
+	}
+
 	protected void preInsertInMemoryValueGeneration(Object[] fields, Object object, SharedSessionContractImplementor session) {
 		if ( getEntityMetamodel().hasPreInsertGeneratedValues() ) {
 			final InMemoryValueGenerationStrategy[] strategies = getEntityMetamodel().getInMemoryValueGenerationStrategies();
@@ -3896,9 +4074,8 @@ public abstract class AbstractEntityPersister
 			// first we need to locate the "loaded" state
 			//
 			// Note, it potentially could be a proxy, so doAfterTransactionCompletion the location the safe way...
-			final EntityKey key = session.generateEntityKey( id, this );
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			Object entity = persistenceContext.getEntity( key );
+			Object entity = persistenceContext.getEntity( this, id );
 			if ( entity != null ) {
 				EntityEntry entry = persistenceContext.getEntry( entity );
 				loadedState = entry.getLoadedState();
@@ -4391,13 +4568,15 @@ public abstract class AbstractEntityPersister
 	 */
 	public int[] findDirty(Object[] currentState, Object[] previousState, Object entity, SharedSessionContractImplementor session)
 			throws HibernateException {
-		int[] props = TypeHelper.findDirty(
-				entityMetamodel.getProperties(),
-				currentState,
-				previousState,
-				propertyColumnUpdateable,
-				session
-		);
+		int[] props = dirtyCheckOptimizer == null
+				? TypeHelper.findDirty(
+						entityMetamodel.getProperties(),
+						currentState,
+						previousState,
+						propertyColumnUpdateable,
+						session
+				)
+				: findDirtyOptimized( currentState, previousState, session );
 		if ( props == null ) {
 			return null;
 		}
@@ -4407,6 +4586,42 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * Variant of {@link TypeHelper#findDirty} delegating to the {@link #dirtyCheckOptimizer}
+	 * for the properties it handles.
+	 */
+	private int[] findDirtyOptimized(Object[] currentState, Object[] previousState, SharedSessionContractImplementor session) {
+		final NonIdentifierAttribute[] properties = entityMetamodel.getProperties();
+		final long optimizedProperties = dirtyCheckOptimizer.getOptimizedProperties();
+		final long dirtyOptimizedProperties = dirtyCheckOptimizer.findDirty( currentState, previousState );
+		int[] results = null;
+		int count = 0;
+		for ( int i = 0; i < properties.length; i++ ) {
+			final boolean dirty;
+			if ( i < Long.SIZE && ( optimizedProperties & ( 1L << i ) ) != 0 ) {
+				dirty = ( dirtyOptimizedProperties & ( 1L << i ) ) != 0;
+			}
+			else if ( currentState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				dirty = false;
+			}
+			else if ( previousState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				dirty = true;
+			}
+			else {
+				dirty = properties[i].isDirtyCheckable()
+						&& properties[i].getType().isDirty( previousState[i], currentState[i], propertyColumnUpdateable[i], session );
+			}
+
+			if ( dirty ) {
+				if ( results == null ) {
+					results = new int[properties.length];
+				}
+				results[count++] = i;
+			}
+		}
+		return count == 0 ? null : ArrayHelper.trim( results, count );
+	}
+
 	/**
 	 * Locate the property-indices of all properties considered to be dirty.
 	 *
@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import org.hibernate.Incubating;
+
+/**
+ * The results of a scalar or DTO projection query, read column by column into arrays
+ * rather than row by row into objects.  See {@link Query#columnar()}.
+ * <p/>
+ * There is one column per value selected by the query, in the order of selection.
+ * For a {@code select new} projection, the columns are the arguments of the constructor.
+ * Values have the same type as in the results of {@link Query#list()}, that is, after any
+ * {@link jakarta.persistence.AttributeConverter} is applied, and enums are enum values.
+ * An expression selected more than once is read only once, into columns sharing the same
+ * values.
+ * <p/>
+ * {@code Long}, {@code Integer}, {@code Short}, {@code Byte}, {@code Double} and
+ * {@code Float} values read from numeric JDBC types, without conversion, are stored
+ * unboxed, in {@code long[]}, {@code int[]} and {@code double[]} arrays, with nulls
+ * tracked separately.  Strings are dictionary encoded.  All other values are stored as
+ * objects.
+ *
+ * @since 6.0
+ */
+@Incubating
+public interface ColumnarResult {
+	/**
+	 * How the values of a column are stored
+	 */
+	enum ColumnKind {
+		/**
+		 * {@code Long} values, see {@link #getLongColumn}
+		 */
+		LONG,
+		/**
+		 * {@code Integer}, {@code Short} or {@code Byte} values, see {@link #getIntColumn}
+		 */
+		INT,
+		/**
+		 * {@code Double} or {@code Float} values, see {@link #getDoubleColumn}
+		 */
+		DOUBLE,
+		/**
+		 * Dictionary encoded strings, see {@link #getStringCodes} and {@link #getStringDictionary}
+		 */
+		STRING,
+		/**
+		 * Any other values, see {@link #getObject}
+		 */
+		OBJECT
+	}
+
+	/**
+	 * The number of rows read
+	 */
+	int getRowCount();
+
+	/**
+	 * The number of columns
+	 */
+	int getColumnCount();
+
+	/**
+	 * How the values of the given column are stored
+	 *
+	 * @param column The zero-based column index
+	 */
+	ColumnKind getColumnKind(int column);
+
+	/**
+	 * The Java type of the values of the given column
+	 *
+	 * @param column The zero-based column index
+	 */
+	Class<?> getColumnJavaType(int column);
+
+	/**
+	 * Whether the value of the given column in the given row is null
+	 *
+	 * @param row The zero-based row index
+	 * @param column The zero-based column index
+	 */
+	boolean isNull(int row, int column);
+
+	/**
+	 * The values of a {@link ColumnKind#LONG} column, with {@code 0} in place of nulls.
+	 * The array is not copied, and its length is the number of rows.
+	 *
+	 * @param column The zero-based column index
+	 *
+	 * @throws IllegalArgumentException If the column is not a {@link ColumnKind#LONG} column
+	 */
+	long[] getLongColumn(int column);
+
+	/**
+	 * The values of a {@link ColumnKind#INT} column, with {@code 0} in place of nulls.
+	 * The array is not copied, and its length is the number of rows.
+	 *
+	 * @param column The zero-based column index
+	 *
+	 * @throws IllegalArgumentException If the column is not a {@link ColumnKind#INT} column
+	 */
+	int[] getIntColumn(int column);
+
+	/**
+	 * The values of a {@link ColumnKind#DOUBLE} column, with {@code 0} in place of nulls.
+	 * The array is not copied, and its length is the number of rows.
+	 *
+	 * @param column The zero-based column index
+	 *
+	 * @throws IllegalArgumentException If the column is not a {@link ColumnKind#DOUBLE} column
+	 */
+	double[] getDoubleColumn(int column);
+
+	/**
+	 * The codes of the values of a {@link ColumnKind#STRING} column, that is, their indexes
+	 * in the {@linkplain #getStringDictionary dictionary} of the column, with {@code -1} in
+	 * place of nulls.  The array is not copied, and its length is the number of rows.
+	 *
+	 * @param column The zero-based column index
+	 *
+	 * @throws IllegalArgumentException If the column is not a {@link ColumnKind#STRING} column
+	 */
+	int[] getStringCodes(int column);
+
+	/**
+	 * The distinct values of a {@link ColumnKind#STRING} column, in order of first occurrence
+	 *
+	 * @param column The zero-based column index
+	 *
+	 * @throws IllegalArgumentException If the column is not a {@link ColumnKind#STRING} column
+	 */
+	String[] getStringDictionary(int column);
+
+	/**
+	 * The value of the given column in the given row, boxed if the column stores primitive values
+	 *
+	 * @param row The zero-based row index
+	 * @param column The zero-based column index
+	 */
+	Object getObject(int row, int column);
+}
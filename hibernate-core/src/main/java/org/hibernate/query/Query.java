@@ -16,6 +16,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
@@ -132,6 +133,47 @@ public interface Query<R> extends TypedQuery<R>, CommonQueryContract {
 		return list();
 	}
 
+	/**
+	 * Return the results of a scalar or DTO projection query column by column, with the
+	 * numeric values of each column in a primitive array, rather than as a list of rows.
+	 * This avoids allocating an object per row and boxing each value when reading large
+	 * numbers of rows.
+	 * <p/>
+	 * Results read this way are neither read from nor put into the query cache, and
+	 * {@link TupleTransformer}s and {@link ResultListTransformer}s do not apply.
+	 *
+	 * @return the results, by column
+	 *
+	 * @throws IllegalStateException If the query selects anything but basic values, such
+	 * as entities, embeddables or collections, or is not a select query
+	 *
+	 * @see ColumnarResult
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	ColumnarResult columnar();
+
+	/**
+	 * Execute the query without blocking the calling thread, through the
+	 * {@link org.hibernate.sql.exec.spi.NonBlockingSelectDriver} configured by
+	 * {@link org.hibernate.cfg.AvailableSettings#NON_BLOCKING_SELECT_DRIVER}.
+	 * <p/>
+	 * The rows are read into the session once the driver has returned them, on the thread
+	 * completing the returned stage.  The session must not be used until then.  The query
+	 * is executed by the driver, on a connection of its own, hence outside of the JDBC
+	 * transaction of the session.  Results executed this way are neither read from nor put
+	 * into the query cache, and {@link ResultListTransformer}s do not apply.
+	 *
+	 * @return a stage completed by the result list
+	 *
+	 * @throws IllegalStateException If the query is not an HQL or criteria select query
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	CompletionStage<List<R>> listAsync();
+
 	default Stream<R> getResultStream() {
 		return stream();
 	}
@@ -22,6 +22,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import jakarta.persistence.CacheRetrieveMode;
@@ -54,6 +57,7 @@ import org.hibernate.metamodel.model.domain.ManagedDomainType;
 import org.hibernate.property.access.spi.BuiltInPropertyAccessStrategies;
 import org.hibernate.property.access.spi.Getter;
 import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.query.ColumnarResult;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.QueryParameter;
@@ -1468,6 +1472,92 @@ public abstract class AbstractQuery<R> implements QueryImplementor<R> {
 
 	protected abstract List<R> doList();
 
+	@Override
+	public ColumnarResult columnar() {
+		beforeQuery( false );
+		boolean success = false;
+		try {
+			final ColumnarResult result = doColumnar();
+			success = true;
+			return result;
+		}
+		catch (IllegalQueryOperationException e) {
+			throw new IllegalStateException( e );
+		}
+		catch (TypeMismatchException e) {
+			throw new IllegalArgumentException( e );
+		}
+		catch (HibernateException he) {
+			throw getSession().getExceptionConverter().convert( he, getLockOptions() );
+		}
+		finally {
+			afterQuery( success );
+		}
+	}
+
+	protected ColumnarResult doColumnar() {
+		throw new IllegalStateException( "Columnar results are only supported for select queries" );
+	}
+
+	@Override
+	public CompletionStage<List<R>> listAsync() {
+		beforeQuery( false );
+		final CompletionStage<List<R>> stage;
+		try {
+			stage = doListAsync();
+		}
+		catch (RuntimeException e) {
+			afterQuery( false );
+			throw convertListException( e );
+		}
+
+		final CompletableFuture<List<R>> result = new CompletableFuture<>();
+		stage.whenComplete(
+				(list, failure) -> {
+					Throwable error = failure;
+					try {
+						afterQuery( error == null );
+					}
+					catch (RuntimeException e) {
+						if ( error == null ) {
+							error = e;
+						}
+					}
+					if ( error == null ) {
+						result.complete( list );
+					}
+					else {
+						final Throwable cause = error instanceof CompletionException && error.getCause() != null
+								? error.getCause()
+								: error;
+						result.completeExceptionally(
+								cause instanceof RuntimeException
+										? convertListException( (RuntimeException) cause )
+										: cause
+						);
+					}
+				}
+		);
+		return result;
+	}
+
+	private RuntimeException convertListException(RuntimeException e) {
+		if ( e instanceof IllegalQueryOperationException ) {
+			return new IllegalStateException( e );
+		}
+		else if ( e instanceof TypeMismatchException ) {
+			return new IllegalArgumentException( e );
+		}
+		else if ( e instanceof HibernateException ) {
+			return getSession().getExceptionConverter().convert( (HibernateException) e, getLockOptions() );
+		}
+		return e;
+	}
+
+	protected CompletionStage<List<R>> doListAsync() {
+		throw new IllegalStateException( "Non-blocking execution is only supported for HQL and criteria select queries" );
+	}
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
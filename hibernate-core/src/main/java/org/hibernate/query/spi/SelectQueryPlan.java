@@ -7,9 +7,11 @@
 package org.hibernate.query.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
+import org.hibernate.query.ColumnarResult;
 import org.hibernate.query.Query;
 
 /**
@@ -42,4 +44,15 @@ public interface SelectQueryPlan<R> extends QueryPlan {
 	 */
 	ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext);
 
+	/**
+	 * Perform (execute) the query returning a ColumnarResult
+	 */
+	ColumnarResult performColumnar(DomainQueryExecutionContext executionContext);
+
+	/**
+	 * Perform (execute) the query through the configured
+	 * {@link org.hibernate.sql.exec.spi.NonBlockingSelectDriver}, returning a List
+	 */
+	CompletionStage<List<R>> performListAsync(DomainQueryExecutionContext executionContext);
+
 }
@@ -11,10 +11,13 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.EmptyScrollableResults;
+import org.hibernate.query.ColumnarResult;
+import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.results.ResultSetMapping;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -161,4 +164,50 @@ public class NativeSelectQueryPlanImpl<R> implements NativeSelectQueryPlan<R> {
 				null
 		);
 	}
+
+	@Override
+	public ColumnarResult performColumnar(DomainQueryExecutionContext executionContext) {
+		final List<JdbcParameterBinder> jdbcParameterBinders;
+		final JdbcParameterBindings jdbcParameterBindings;
+
+		final QueryParameterBindings queryParameterBindings = executionContext.getQueryParameterBindings();
+		if ( parameterList == null || parameterList.isEmpty() ) {
+			jdbcParameterBinders = Collections.emptyList();
+			jdbcParameterBindings = JdbcParameterBindings.NO_BINDINGS;
+		}
+		else {
+			jdbcParameterBinders = new ArrayList<>( parameterList.size() );
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( parameterList.size() );
+
+			jdbcParameterBindings.registerNativeQueryParameters(
+					queryParameterBindings,
+					parameterList,
+					jdbcParameterBinders,
+					executionContext.getSession().getFactory()
+			);
+		}
+
+		executionContext.getSession().autoFlushIfRequired( affectedTableNames );
+
+		final JdbcSelect jdbcSelect = new JdbcSelect(
+				sql,
+				jdbcParameterBinders,
+				resultSetMapping,
+				affectedTableNames,
+				Collections.emptySet()
+		);
+
+		return JdbcSelectExecutorStandardImpl.INSTANCE.columnar(
+				jdbcSelect,
+				jdbcParameterBindings,
+				SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext )
+		);
+	}
+
+	@Override
+	public CompletionStage<List<R>> performListAsync(DomainQueryExecutionContext executionContext) {
+		// the results of a native query are mapped by name, using the metadata of the JDBC ResultSet,
+		// which a NonBlockingSelectDriver does not provide
+		throw new IllegalQueryOperationException( "Non-blocking execution is not supported for native queries" );
+	}
 }
@@ -9,15 +9,19 @@ package org.hibernate.query.sqm.internal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.internal.EmptyScrollableResults;
+import org.hibernate.query.ColumnarResult;
 import org.hibernate.query.Limit;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.NotYetImplementedFor6Exception;
 import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.results.internal.ColumnarResultImpl;
 
 /**
  * @author Steve Ebersole
@@ -71,6 +75,45 @@ public class AggregatedSelectQueryPlanImpl<R> implements SelectQueryPlan<R> {
 		return overallResults;
 	}
 
+	@Override
+	public CompletionStage<List<R>> performListAsync(DomainQueryExecutionContext executionContext) {
+		final Limit effectiveLimit = executionContext.getQueryOptions().getEffectiveLimit();
+		final int maxRowsJpa = effectiveLimit.getMaxRowsJpa();
+		if ( maxRowsJpa == 0 ) {
+			return CompletableFuture.completedFuture( Collections.emptyList() );
+		}
+		final List<R> overallResults = new ArrayList<>();
+		final int[] elementsToSkip = { effectiveLimit.getFirstRowJpa() };
+
+		// the query plans are executed one after the other, since they share the session
+		CompletionStage<List<R>> stage = CompletableFuture.completedFuture( overallResults );
+		for ( SelectQueryPlan<R> aggregatedQueryPlan : aggregatedQueryPlans ) {
+			stage = stage.thenCompose(
+					results -> {
+						if ( results.size() >= maxRowsJpa ) {
+							return CompletableFuture.completedFuture( results );
+						}
+						return aggregatedQueryPlan.performListAsync( executionContext ).thenApply(
+								list -> {
+									final int size = list.size();
+									if ( size <= elementsToSkip[0] ) {
+										elementsToSkip[0] -= size;
+									}
+									else {
+										final long remainingRows = (long) maxRowsJpa - results.size();
+										final int end = (int) Math.min( size, elementsToSkip[0] + remainingRows );
+										results.addAll( list.subList( elementsToSkip[0], end ) );
+										elementsToSkip[0] = 0;
+									}
+									return results;
+								}
+						);
+					}
+			);
+		}
+		return stage;
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
 		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
@@ -78,4 +121,36 @@ public class AggregatedSelectQueryPlanImpl<R> implements SelectQueryPlan<R> {
 		}
 		throw new NotYetImplementedFor6Exception();
 	}
+
+	@Override
+	public ColumnarResult performColumnar(DomainQueryExecutionContext executionContext) {
+		final Limit effectiveLimit = executionContext.getQueryOptions().getEffectiveLimit();
+		final int maxRowsJpa = effectiveLimit.getMaxRowsJpa();
+		int elementsToSkip = effectiveLimit.getFirstRowJpa();
+		ColumnarResultImpl overallResult = null;
+
+		for ( SelectQueryPlan<R> aggregatedQueryPlan : aggregatedQueryPlans ) {
+			final ColumnarResultImpl result = (ColumnarResultImpl) aggregatedQueryPlan.performColumnar( executionContext );
+			if ( overallResult == null ) {
+				overallResult = result.emptyCopy();
+			}
+			final int size = result.getRowCount();
+			if ( size <= elementsToSkip ) {
+				// More elements to skip than the result size
+				elementsToSkip -= size;
+				continue;
+			}
+			final long remainingRows = (long) maxRowsJpa - overallResult.getRowCount();
+			final int end = (int) Math.min( size, elementsToSkip + remainingRows );
+			overallResult.appendRows( result, elementsToSkip, end );
+			elementsToSkip = 0;
+			if ( overallResult.getRowCount() >= maxRowsJpa ) {
+				break;
+			}
+		}
+
+		assert overallResult != null;
+		overallResult.finishUp();
+		return overallResult;
+	}
 }
@@ -7,10 +7,13 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
@@ -21,12 +24,17 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.metamodel.mapping.MappingModelExpressable;
+import org.hibernate.query.ColumnarResult;
 import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.Limit;
 import org.hibernate.query.criteria.JpaSelection;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -74,8 +82,11 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
+	private final SqmInterpreter<ColumnarResult, Void> columnarInterpreter;
+	private final SqmInterpreter<CompletionStage<List<R>>, Void> listAsyncInterpreter;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private final List<QueryParameterImplementor<?>> multiValuedParameters;
+	private final BoundedConcurrentHashMap<TranslationKey, CacheableSqmInterpretation> cacheableSqmInterpretations;
 
 	@SuppressWarnings("WeakerAccess")
 	public ConcreteSqmSelectQueryPlan(
@@ -83,95 +94,161 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			String hql,
 			DomainParameterXref domainParameterXref,
 			Class<R> resultType,
-			QueryOptions queryOptions) {
+			QueryOptions queryOptions,
+			int maxTranslationCount) {
 		this.sqm = sqm;
 		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
+		this.multiValuedParameters = new ArrayList<>();
+		for ( QueryParameterImplementor<?> queryParameter : domainParameterXref.getQueryParameters().keySet() ) {
+			if ( queryParameter.allowsMultiValuedBinding() ) {
+				multiValuedParameters.add( queryParameter );
+			}
+		}
+		this.cacheableSqmInterpretations = new BoundedConcurrentHashMap<>(
+				Math.max( 1, maxTranslationCount ),
+				1,
+				BoundedConcurrentHashMap.Eviction.LRU
+		);
+
 		this.rowTransformer = determineRowTransformer( sqm, resultType, queryOptions );
 
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcSelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						Collections.emptyList(),
-						jdbcParameterBindings
-				);
-
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					Collections.emptyList(),
+					jdbcParameterBindings
+			);
 
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
-							@Override
-							public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
-								subSelectFetchKeyHandler.addKey( entityKey );
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
+						@Override
+						public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+							subSelectFetchKeyHandler.addKey( entityKey );
+						}
+
+						@Override
+						public String getQueryIdentifier(String sql) {
+							if ( CRITERIA_HQL_STRING.equals( hql ) ) {
+								return "[CRITERIA] " + sql;
 							}
+							return hql;
+						}
+
+						@Override
+						public boolean hasQueryExecutionToBeAddedToStatistics() {
+							return true;
+						}
+					},
+					rowTransformer,
+					ListResultsConsumer.UniqueSemantic.FILTER
+			);
+		};
 
-							@Override
-							public String getQueryIdentifier(String sql) {
-								if ( CRITERIA_HQL_STRING.equals( hql ) ) {
-									return "[CRITERIA] " + sql;
-								}
-								return hql;
-							}
+		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					Collections.emptyList(),
+					jdbcParameterBindings
+			);
 
-							@Override
-							public boolean hasQueryExecutionToBeAddedToStatistics() {
-								return true;
-							}
-						},
-						rowTransformer,
-						ListResultsConsumer.UniqueSemantic.FILTER
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
+					.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			final ScrollableResultsImplementor<R> result = jdbcSelectExecutor.scroll(
+					sqmInterpretation.getJdbcSelect(),
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
+					rowTransformer
+			);
+
+			return result;
 		};
 
-		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						Collections.emptyList(),
-						jdbcParameterBindings
-				);
+		this.columnarInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
+			final SharedSessionContractImplementor session = executionContext.getSession();
+			final JdbcSelect jdbcSelect = sqmInterpretation.getJdbcSelect();
 
-				final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
-						.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				final ScrollableResultsImplementor<R> result = jdbcSelectExecutor.scroll(
-						sqmInterpretation.getJdbcSelect(),
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
-						rowTransformer
-				);
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
 
-				return result;
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().columnar(
+					jdbcSelect,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
+						@Override
+						public String getQueryIdentifier(String sql) {
+							if ( CRITERIA_HQL_STRING.equals( hql ) ) {
+								return "[CRITERIA] " + sql;
+							}
+							return hql;
+						}
+
+						@Override
+						public boolean hasQueryExecutionToBeAddedToStatistics() {
+							return true;
+						}
+					}
+			);
+		};
+
+		this.listAsyncInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
+			final SharedSessionContractImplementor session = executionContext.getSession();
+			final JdbcSelect jdbcSelect = sqmInterpretation.getJdbcSelect();
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					Collections.emptyList(),
+					jdbcParameterBindings
+			);
+
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().listAsync(
+					jdbcSelect,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
+						@Override
+						public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+							subSelectFetchKeyHandler.addKey( entityKey );
+						}
+
+						@Override
+						public String getQueryIdentifier(String sql) {
+							if ( CRITERIA_HQL_STRING.equals( hql ) ) {
+								return "[CRITERIA] " + sql;
+							}
+							return hql;
+						}
+
+						@Override
+						public boolean hasQueryExecutionToBeAddedToStatistics() {
+							return true;
+						}
+					},
+					rowTransformer,
+					ListResultsConsumer.UniqueSemantic.FILTER
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
 		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		//		etc - because those all cause the plan to not be cached.
+		// NOTE2 (regarding NOTE) : multi-valued parameter expansion does not veto
+		//		caching of the plan.  The expansions are created by each translation,
+		//		which is cached by the number of values bound - see `TranslationKey`.
 	}
 
 	@SuppressWarnings("unchecked")
@@ -273,62 +350,107 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return withCacheableSqmInterpretation( executionContext, scrollMode, scrollInterpreter );
 	}
 
+	@Override
+	public ColumnarResult performColumnar(DomainQueryExecutionContext executionContext) {
+		return withCacheableSqmInterpretation( executionContext, null, columnarInterpreter );
+	}
+
+	@Override
+	public CompletionStage<List<R>> performListAsync(DomainQueryExecutionContext executionContext) {
+		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
+			return CompletableFuture.completedFuture( Collections.emptyList() );
+		}
+		return withCacheableSqmInterpretation( executionContext, null, listAsyncInterpreter );
+	}
+
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
-		// NOTE : VERY IMPORTANT - intentional double-lock checking
-		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+		// NOTE : the translations are not built under a lock - concurrent executions needing the same
+		//		translation for the first time may each build it, and the last one is kept
 
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
+		final TranslationKey translationKey = createTranslationKey( executionContext );
+		CacheableSqmInterpretation localCopy = cacheableSqmInterpretations.get( translationKey );
 		JdbcParameterBindings jdbcParameterBindings = null;
 
-		if ( localCopy == null ) {
-			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
-				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation(
-							sqm,
-							domainParameterXref,
-							executionContext
-					);
-					jdbcParameterBindings = localCopy.firstParameterBindings;
-					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
-				}
-			}
-		}
-		else {
+		if ( localCopy != null ) {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
 			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
 			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
 				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 			}
 			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
 			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation(
-						sqm,
-						domainParameterXref,
-						executionContext
-				);
-				jdbcParameterBindings = localCopy.firstParameterBindings;
-				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
+				localCopy = null;
 			}
 		}
 
-		if ( jdbcParameterBindings == null ) {
+		if ( localCopy == null ) {
+			// each translation gets its own copy of the xref, since it keeps the
+			// expansions of the multi-valued parameters for binding them later
+			localCopy = buildCacheableSqmInterpretation(
+					sqm,
+					domainParameterXref.copy(),
+					executionContext
+			);
+			jdbcParameterBindings = localCopy.firstParameterBindings;
+			localCopy.firstParameterBindings = null;
+			if ( isReusable( translationKey, localCopy ) ) {
+				cacheableSqmInterpretations.put( translationKey, localCopy );
+			}
+		}
+		else if ( jdbcParameterBindings == null ) {
 			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 		}
 
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
+	private TranslationKey createTranslationKey(DomainQueryExecutionContext executionContext) {
+		final QueryParameterBindings parameterBindings = executionContext.getQueryParameterBindings();
+		final SessionFactoryImplementor sessionFactory = executionContext.getSession().getFactory();
+		final int[] bindValueCounts = new int[multiValuedParameters.size()];
+		for ( int i = 0; i < bindValueCounts.length; i++ ) {
+			final QueryParameterBinding<?> binding = parameterBindings.getBinding( multiValuedParameters.get( i ) );
+			if ( binding.isMultiValued() ) {
+				bindValueCounts[i] = SqmUtil.determineInListPaddedSize( binding.getBindValues().size(), sessionFactory );
+			}
+			else {
+				bindValueCounts[i] = -1;
+			}
+		}
+		final Limit limit = executionContext.getQueryOptions().getLimit();
+		return new TranslationKey(
+				bindValueCounts,
+				limit != null && limit.getFirstRow() != null,
+				limit != null && limit.getMaxRows() != null
+		);
+	}
+
+	/**
+	 * A translation can only be reused for other executions with the same key if the expansions
+	 * of each multi-valued parameter match the (padded) number of values in the key.  This is not
+	 * the case when a parameter is expanded outside of an IN list, which is never padded.
+	 */
+	private boolean isReusable(TranslationKey translationKey, CacheableSqmInterpretation sqmInterpretation) {
+		final DomainParameterXref translationXref = sqmInterpretation.getDomainParameterXref();
+		for ( int i = 0; i < translationKey.bindValueCounts.length; i++ ) {
+			final int bindValueCount = translationKey.bindValueCounts[i];
+			if ( bindValueCount < 0 ) {
+				continue;
+			}
+			for ( SqmParameter sqmParameter : translationXref.getSqmParameters( multiValuedParameters.get( i ) ) ) {
+				if ( translationXref.getExpansions( sqmParameter ).size() != bindValueCount - 1 ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				session.getFactory().getDomainModel(),
 				sqmInterpretation.getTableGroupAccess()::findTableGroup,
@@ -389,6 +511,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				sqmInterpretation.getSqlAst(),
 				jdbcSelect,
 				tableGroupAccess,
+				domainParameterXref,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
 				jdbcParameterBindings
@@ -407,6 +530,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		private final SelectStatement selectStatement;
 		private final JdbcSelect jdbcSelect;
 		private final FromClauseAccess tableGroupAccess;
+		private final DomainParameterXref domainParameterXref;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter, List<List<JdbcParameter>>>> jdbcParamsXref;
 		private final Map<SqmParameter, MappingModelExpressable> sqmParameterMappingModelTypes;
 		private transient JdbcParameterBindings firstParameterBindings;
@@ -415,12 +539,14 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				SelectStatement selectStatement,
 				JdbcSelect jdbcSelect,
 				FromClauseAccess tableGroupAccess,
+				DomainParameterXref domainParameterXref,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter, List<List<JdbcParameter>>>> jdbcParamsXref,
 				Map<SqmParameter,MappingModelExpressable> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
 			this.tableGroupAccess = tableGroupAccess;
+			this.domainParameterXref = domainParameterXref;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
 			this.firstParameterBindings = firstParameterBindings;
@@ -438,6 +564,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return tableGroupAccess;
 		}
 
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
+		}
+
 		Map<QueryParameterImplementor<?>, Map<SqmParameter, List<List<JdbcParameter>>>> getJdbcParamsXref() {
 			return jdbcParamsXref;
 		}
@@ -454,4 +584,44 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			this.firstParameterBindings = firstParameterBindings;
 		}
 	}
+
+	/**
+	 * Identifies the translation needed for an execution of the plan: the SQL AST depends on the
+	 * number of values bound to the multi-valued parameters, and the SQL on the presence of a limit
+	 * and offset.  The lock options are part of the key of the plan itself.
+	 */
+	private static final class TranslationKey {
+		private final int[] bindValueCounts;
+		private final boolean hasFirstRow;
+		private final boolean hasMaxRows;
+
+		private TranslationKey(int[] bindValueCounts, boolean hasFirstRow, boolean hasMaxRows) {
+			this.bindValueCounts = bindValueCounts;
+			this.hasFirstRow = hasFirstRow;
+			this.hasMaxRows = hasMaxRows;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			final TranslationKey that = (TranslationKey) o;
+			return hasFirstRow == that.hasFirstRow
+					&& hasMaxRows == that.hasMaxRows
+					&& Arrays.equals( bindValueCounts, that.bindValueCounts );
+		}
+
+		@Override
+		public int hashCode() {
+			int result = Arrays.hashCode( bindValueCounts );
+			result = 31 * result + ( hasFirstRow ? 1 : 0 );
+			result = 31 * result + ( hasMaxRows ? 1 : 0 );
+			return result;
+		}
+	}
 }
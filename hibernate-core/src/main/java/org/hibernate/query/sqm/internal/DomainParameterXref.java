@@ -164,6 +164,22 @@ public class DomainParameterXref {
 		this.parameterResolutions = parameterResolutions;
 	}
 
+	/**
+	 * Create a copy of this xref which maintains its own expansions, so that the expansions
+	 * created for a translation can be kept along with it
+	 */
+	public DomainParameterXref copy() {
+		final Map<SqmParameter, QueryParameterImplementor<?>> queryParamBySqmParamCopy = new IdentityHashMap<>( queryParamBySqmParam );
+		final DomainParameterXref copy = new DomainParameterXref( sqmParamsByQueryParam, queryParamBySqmParamCopy, parameterResolutions );
+		if ( expansions != null ) {
+			copy.expansions = new IdentityHashMap<>( expansions.size() );
+			for ( Map.Entry<SqmParameter, List<SqmParameter>> entry : expansions.entrySet() ) {
+				copy.expansions.put( entry.getKey(), new ArrayList<>( entry.getValue() ) );
+			}
+		}
+		return copy;
+	}
+
 	/**
 	 * Does this xref contain any parameters?
 	 */
@@ -244,18 +260,4 @@ public class DomainParameterXref {
 		return sqmParameters == null ? Collections.emptyList() : sqmParameters;
 	}
 
-	public void clearExpansions() {
-		if ( expansions == null ) {
-			return;
-		}
-
-		for ( List<SqmParameter> expansionList : expansions.values() ) {
-			for ( SqmParameter expansion : expansionList ) {
-				queryParamBySqmParam.remove( expansion );
-			}
-		}
-
-		expansions.clear();
-	}
-
 }
@@ -15,6 +15,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -33,6 +34,7 @@ import org.hibernate.metamodel.model.domain.BasicDomainType;
 import org.hibernate.metamodel.model.domain.DomainType;
 import org.hibernate.metamodel.model.domain.EntityDomainType;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.ColumnarResult;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryTypeMismatchException;
@@ -816,7 +818,8 @@ public class QuerySqmImpl<R>
 				hqlString,
 				domainParameterXref,
 				resultType,
-				queryOptions
+				queryOptions,
+				getSessionFactory().getSessionFactoryOptions().getQueryPlanCacheMaxTranslations()
 		);
 	}
 
@@ -828,6 +831,29 @@ public class QuerySqmImpl<R>
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	protected ColumnarResult doColumnar() {
+		SqmUtil.verifyIsSelectStatement( getSqmStatement(), hqlString );
+		getSession().prepareForQueryExecution( requiresTxn( getLockOptions().findGreatestLockMode() ) );
+
+		return resolveSelectQueryPlan().performColumnar( this );
+	}
+
+	@Override
+	protected CompletionStage<List<R>> doListAsync() {
+		SqmUtil.verifyIsSelectStatement( getSqmStatement(), hqlString );
+		final SqmSelectStatement<?> selectStatement = (SqmSelectStatement<?>) getSqmStatement();
+		if ( queryOptions.hasLimit() && selectStatement.containsCollectionFetches() ) {
+			// in-memory pagination would need the whole results
+			throw new IllegalQueryOperationException(
+					"firstResult/maxResults specified with collection fetch are not supported by non-blocking execution"
+			);
+		}
+		getSession().prepareForQueryExecution( requiresTxn( getLockOptions().findGreatestLockMode() ) );
+
+		return resolveSelectQueryPlan().performListAsync( this );
+	}
+
 	@Override
 	protected int doExecuteUpdate() {
 		SqmUtil.verifyIsNonSelectStatement( getSqmStatement(), hqlString );
@@ -20,8 +20,11 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.NotYetImplementedFor6Exception;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.MathHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.Bindable;
@@ -231,37 +234,41 @@ public class SqmUtil {
 				else if ( domainParamBinding.isMultiValued() ) {
 					final Collection<?> bindValues = domainParamBinding.getBindValues();
 					final Iterator<?> valueItr = bindValues.iterator();
+					Object bindValue = null;
 
 					// the original SqmParameter is the one we are processing.. create a binding for it..
 					for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
 						final List<JdbcParameter> jdbcParams = jdbcParamsBinds.get( i );
+						bindValue = valueItr.next();
 						createValueBindings(
 								jdbcParameterBindings,
 								queryParam,
 								domainParamBinding,
 								parameterType,
 								jdbcParams,
-								valueItr.next(),
+								bindValue,
 								tableGroupLocator,
 								session
 						);
 					}
 
-					// an then one for each of the expansions
+					// an then one for each of the expansions - an IN list padded to a bucket
+					// size has more expansions than values, which repeat the last value
 					final List<SqmParameter> expansions = domainParameterXref.getExpansions( sqmParameter );
-					assert expansions.size() == bindValues.size() - 1;
-					int expansionPosition = 0;
-					while ( valueItr.hasNext() ) {
-						final SqmParameter expansionSqmParam = expansions.get( expansionPosition++ );
+					assert expansions.size() >= bindValues.size() - 1;
+					for ( SqmParameter expansionSqmParam : expansions ) {
 						final List<List<JdbcParameter>> jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
 						for ( int i = 0; i < jdbcParamBinds.size(); i++ ) {
 							List<JdbcParameter> expansionJdbcParams = jdbcParamBinds.get( i );
+							if ( valueItr.hasNext() ) {
+								bindValue = valueItr.next();
+							}
 							createValueBindings(
 									jdbcParameterBindings,
 									queryParam, domainParamBinding,
 									parameterType,
 									expansionJdbcParams,
-									valueItr.next(),
+									bindValue,
 									tableGroupLocator,
 									session
 							);
@@ -424,6 +431,26 @@ public class SqmUtil {
 		return basicType;
 	}
 
+	/**
+	 * Determine the number of parameters an IN list with the given number of bind values is
+	 * padded to, when {@link SessionFactoryOptions#inClauseParameterPaddingEnabled() padding}
+	 * is enabled.  The list is padded to the next power of two, unless it has to be split into
+	 * several IN predicates because of the {@link Dialect#getInExpressionCountLimit() limit} of
+	 * the database, in which case the padding is left to the rendering of the SQL.
+	 */
+	public static int determineInListPaddedSize(int bindValueCount, SessionFactoryImplementor sessionFactory) {
+		if ( bindValueCount <= 2 || !sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
+			return bindValueCount;
+		}
+
+		final int paddedSize = MathHelper.ceilingPowerOfTwo( bindValueCount );
+		final int inExprLimit = sessionFactory.getJdbcServices().getDialect().getInExpressionCountLimit();
+		if ( inExprLimit > 0 && paddedSize > inExprLimit ) {
+			return bindValueCount;
+		}
+		return paddedSize;
+	}
+
 	public static SqmStatement.ParameterResolutions resolveParameters(SqmStatement<?> statement) {
 		if ( statement.getQuerySource() == SqmQuerySource.CRITERIA ) {
 			final CriteriaParameterCollector parameterCollector = new CriteriaParameterCollector();
@@ -131,6 +131,7 @@ import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescript
 import org.hibernate.query.sqm.function.SelfRenderingAggregateFunctionSqlAstExpression;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.internal.SqmMappingModelHelper;
+import org.hibernate.query.sqm.internal.SqmUtil;
 import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
 import org.hibernate.query.sqm.sql.internal.BasicValuedPathInterpretation;
 import org.hibernate.query.sqm.sql.internal.DiscriminatedAssociationPathInterpretation;
@@ -5332,10 +5333,14 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		);
 
 		try {
+			// when IN clause parameter padding is enabled, the list is padded right away,
+			// so that translations are shared by all the list sizes padded to the same size
+			final int paddedSize = SqmUtil.determineInListPaddedSize(
+					domainParamBinding.getBindValues().size(),
+					creationContext.getSessionFactory()
+			);
 			inListPredicate.addExpression( consumeSingleSqmParameter( sqmParameter ) );
-			iterator.next();
-			while ( iterator.hasNext() ) {
-				iterator.next();
+			for ( int i = 1; i < paddedSize; i++ ) {
 				// for each bind value create an "expansion"
 				final SqmParameter<?> sqmParamToConsume = sqmParameter.copy();
 				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
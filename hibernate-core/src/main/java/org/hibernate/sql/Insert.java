@@ -5,6 +5,7 @@
  * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
  */
 package org.hibernate.sql;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -86,6 +87,17 @@ public class Insert {
 		return this;
 	}
 
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * The columns of the statement, with the expression of the value of each
+	 */
+	public Map<String,String> getColumns() {
+		return Collections.unmodifiableMap( columns );
+	}
+
 	public String toStatementString() {
 		StringBuilder buf = new StringBuilder( columns.size()*15 + tableName.length() + 10 );
 		if ( comment != null ) {
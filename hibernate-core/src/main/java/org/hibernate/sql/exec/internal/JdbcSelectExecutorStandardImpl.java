@@ -8,26 +8,33 @@ package org.hibernate.sql.exec.internal;
 
 import java.io.Serializable;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
+import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
 import org.hibernate.ScrollMode;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.query.ColumnarResult;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.query.Limit;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
@@ -35,19 +42,23 @@ import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.SqlExecLogger;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.exec.spi.NonBlockingSelectDriver;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerPassThruImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesArray;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesReadAhead;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
@@ -56,6 +67,7 @@ import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.ColumnarResultsConsumer;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowReader;
@@ -101,7 +113,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 						.getJdbcCoordinator()
 						.getStatementPreparer()
 						.prepareStatement( sql ),
-				ListResultsConsumer.instance( uniqueSemantic )
+				ListResultsConsumer.instance( uniqueSemantic ),
+				0
 		);
 	}
 
@@ -114,6 +127,10 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			RowTransformer<R> rowTransformer) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+		// rows can only be read ahead if the cursor is never moved backwards
+		final int readAheadSize = scrollMode == ScrollMode.FORWARD_ONLY
+				? session.getFactory().getSessionFactoryOptions().getScrollReadAheadSize()
+				: 0;
 		return executeQueryScroll(
 				jdbcSelect,
 				jdbcParameterBindings,
@@ -124,7 +141,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 						false,
 						scrollMode
 				),
-				ScrollableResultsConsumer.instance()
+				ScrollableResultsConsumer.instance(),
+				readAheadSize
 		);
 	}
 
@@ -148,13 +166,158 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		return stream.onClose( scrollableResults::close );
 	}
 
+	@Override
+	public ColumnarResult columnar(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext) {
+		return executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				RowTransformerPassThruImpl.instance(),
+				(sql) -> executionContext.getSession()
+						.getJdbcCoordinator()
+						.getStatementPreparer()
+						.prepareStatement( sql ),
+				ColumnarResultsConsumer.INSTANCE,
+				0
+		);
+	}
+
+	@Override
+	public <R> CompletionStage<List<R>> listAsync(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ListResultsConsumer.UniqueSemantic uniqueSemantic) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+		final NonBlockingSelectDriver driver = factory.getServiceRegistry().getService( NonBlockingSelectDriver.class );
+		if ( driver == null ) {
+			throw new HibernateException(
+					"Unable to execute non-blocking select, no driver configured (see "
+							+ AvailableSettings.NON_BLOCKING_SELECT_DRIVER + ")"
+			);
+		}
+
+		// the SQL and the binding of the parameters are those of JDBC execution, but the
+		// statement is never executed: any attempt to access the JDBC metadata of the results
+		// (which native queries need to resolve their mapping) fails
+		final DeferredResultSetAccess deferredResultSetAccess = new DeferredResultSetAccess(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				(sql) -> {
+					throw new HibernateException( "The results of non-blocking selects have no JDBC metadata" );
+				}
+		);
+		final NonBlockingSelectImpl select = new NonBlockingSelectImpl( deferredResultSetAccess.getFinalSql() );
+		try {
+			deferredResultSetAccess.bindParameters( select.getStatement() );
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Unable to bind parameters of non-blocking select [" + select.getSql() + "]"
+			);
+		}
+		final int rowsToSkip = deferredResultSetAccess.getRowsToSkip();
+		final JdbcValuesMapping jdbcValuesMapping = jdbcSelect.getJdbcValuesMappingProducer()
+				.resolve( deferredResultSetAccess, factory );
+
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final boolean stats = executionContext.hasQueryExecutionToBeAddedToStatistics()
+				&& statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0L;
+
+		return driver.executeQuery( select, session ).thenApply(
+				(rows) -> {
+					// not a JdbcValuesCacheHit, so that the loaded entities are put into the second-level cache
+					final JdbcValues jdbcValues = new JdbcValuesArray(
+							toValuesArrays( rows, rowsToSkip, jdbcValuesMapping, session ),
+							jdbcValuesMapping
+					);
+					final List<R> result = applyReadOnly(
+							executionContext,
+							() -> processResults(
+									jdbcValues,
+									executionContext,
+									rowTransformer,
+									ListResultsConsumer.instance( uniqueSemantic ),
+									deferredResultSetAccess.usesFollowOnLocking()
+							)
+					);
+					if ( stats ) {
+						statistics.queryExecutedNanoseconds(
+								executionContext.getQueryIdentifier( jdbcSelect.getSql() ),
+								result.size(),
+								System.nanoTime() - startTime
+						);
+					}
+					return result;
+				}
+		);
+	}
+
+	/**
+	 * Arrange the values of each row returned by a NonBlockingSelectDriver, in select order,
+	 * as the values arrays read by the RowReader, wrapping each into the Java type of its selection
+	 */
+	private static Object[][] toValuesArrays(
+			List<Object[]> rows,
+			int rowsToSkip,
+			JdbcValuesMapping jdbcValuesMapping,
+			SharedSessionContractImplementor session) {
+		final List<SqlSelection> sqlSelections = jdbcValuesMapping.getSqlSelections();
+		final JavaType<?>[] javaTypes = new JavaType[sqlSelections.size()];
+		for ( int i = 0; i < javaTypes.length; i++ ) {
+			final JdbcMappingContainer expressionType = sqlSelections.get( i ).getExpressionType();
+			if ( expressionType != null && expressionType.getJdbcTypeCount() == 1 ) {
+				javaTypes[i] = expressionType.getJdbcMappings().get( 0 ).getJavaTypeDescriptor();
+			}
+		}
+
+		final Object[][] data = new Object[Math.max( 0, rows.size() - rowsToSkip )][];
+		for ( int i = 0; i < data.length; i++ ) {
+			final Object[] row = rows.get( rowsToSkip + i );
+			final Object[] values = new Object[jdbcValuesMapping.getRowSize()];
+			for ( int j = 0; j < javaTypes.length; j++ ) {
+				final SqlSelection sqlSelection = sqlSelections.get( j );
+				final Object value = row[sqlSelection.getJdbcResultSetIndex() - 1];
+				values[sqlSelection.getValuesArrayPosition()] = value == null || javaTypes[j] == null
+						? value
+						: javaTypes[j].wrap( value, session );
+			}
+			data[i] = values;
+		}
+		return data;
+	}
+
 	private <T, R> T executeQuery(
 			JdbcSelect jdbcSelect,
 			JdbcParameterBindings jdbcParameterBindings,
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer,
 			Function<String, PreparedStatement> statementCreator,
-			ResultsConsumer<T, R> resultsConsumer) {
+			ResultsConsumer<T, R> resultsConsumer,
+			int readAheadSize) {
+		return applyReadOnly(
+				executionContext,
+				() -> doExecuteQuery(
+						jdbcSelect,
+						jdbcParameterBindings,
+						executionContext,
+						rowTransformer,
+						statementCreator,
+						resultsConsumer,
+						readAheadSize
+				)
+		);
+	}
+
+	private static <T> T applyReadOnly(ExecutionContext executionContext, Supplier<T> execution) {
 		final PersistenceContext persistenceContext = executionContext.getSession().getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
 		Boolean readOnly = executionContext.getQueryOptions().isReadOnly();
@@ -164,14 +327,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			persistenceContext.setDefaultReadOnly( readOnly );
 		}
 		try {
-			return doExecuteQuery(
-					jdbcSelect,
-					jdbcParameterBindings,
-					executionContext,
-					rowTransformer,
-					statementCreator,
-					resultsConsumer
-			);
+			return execution.get();
 		}
 		finally {
 			if ( readOnly != null ) {
@@ -186,14 +342,16 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer,
 			Function<String, PreparedStatement> statementCreator,
-			ResultsConsumer<T, R> resultsConsumer) {
+			ResultsConsumer<T, R> resultsConsumer,
+			int readAheadSize) {
 		return doExecuteQuery(
 				jdbcSelect,
 				jdbcParameterBindings,
 				getScrollContext( executionContext, executionContext.getSession().getPersistenceContext() ),
 				rowTransformer,
 				statementCreator,
-				resultsConsumer
+				resultsConsumer,
+				readAheadSize
 		);
 	}
 
@@ -329,7 +487,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer,
 			Function<String, PreparedStatement> statementCreator,
-			ResultsConsumer<T, R> resultsConsumer) {
+			ResultsConsumer<T, R> resultsConsumer,
+			int readAheadSize) {
 
 		final DeferredResultSetAccess deferredResultSetAccess = new DeferredResultSetAccess(
 				jdbcSelect,
@@ -337,14 +496,76 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				executionContext,
 				statementCreator
 		);
-		final JdbcValues jdbcValues = resolveJdbcValuesSource(
+		final JdbcValues resolvedJdbcValues = resolveJdbcValuesSource(
 				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
 				jdbcSelect,
 				resultsConsumer.canResultsBeCached(),
 				executionContext,
 				deferredResultSetAccess
 		);
+		final boolean resultSetValues = resolvedJdbcValues instanceof JdbcValuesResultSetImpl;
+		final JdbcValues jdbcValues;
+		if ( readAheadSize > 0 && resultSetValues ) {
+			// execute the statement on this thread, so that the thread reading rows ahead never
+			// touches the session or its JdbcCoordinator, but only the ResultSet
+			final ResultSet resultSet;
+			try {
+				resultSet = deferredResultSetAccess.getResultSet();
+			}
+			catch (RuntimeException e) {
+				deferredResultSetAccess.release();
+				throw e;
+			}
+			jdbcValues = new JdbcValuesReadAhead(
+					(JdbcValuesResultSetImpl) resolvedJdbcValues,
+					resultSet,
+					executionContext.getSession(),
+					readAheadSize
+			);
+		}
+		else {
+			jdbcValues = resolvedJdbcValues;
+		}
+
+		final boolean stats;
+		long startTime = 0;
+		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		if ( executionContext.hasQueryExecutionToBeAddedToStatistics() && resultSetValues ) {
+			stats = statistics.isStatisticsEnabled();
+			if ( stats ) {
+				startTime = System.nanoTime();
+			}
+		}
+		else {
+			stats = false;
+		}
+
+		final T result = processResults(
+				jdbcValues,
+				executionContext,
+				rowTransformer,
+				resultsConsumer,
+				deferredResultSetAccess.usesFollowOnLocking()
+		);
+
+		if ( stats ) {
+			final long endTime = System.nanoTime();
+			statistics.queryExecutedNanoseconds(
+					executionContext.getQueryIdentifier( jdbcSelect.getSql() ),
+					getResultSize( result ),
+					endTime - startTime
+			);
+		}
 
+		return result;
+	}
+
+	private <T, R> T processResults(
+			JdbcValues jdbcValues,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ResultsConsumer<T, R> resultsConsumer,
+			boolean usesFollowOnLocking) {
 		if ( rowTransformer == null ) {
 			final TupleTransformer<R> tupleTransformer = executionContext.getQueryOptions().getTupleTransformer();
 			if ( tupleTransformer == null ) {
@@ -360,20 +581,6 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			}
 		}
 
-		final boolean stats;
-		long startTime = 0;
-		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
-		if ( executionContext.hasQueryExecutionToBeAddedToStatistics()
-				&& jdbcValues instanceof JdbcValuesResultSetImpl ) {
-			stats = statistics.isStatisticsEnabled();
-			if ( stats ) {
-				startTime = System.nanoTime();
-			}
-		}
-		else {
-			stats = false;
-		}
-
 		/*
 		 * Processing options effectively are only used for entity loading.  Here we don't need these values.
 		 */
@@ -411,7 +618,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				// because these lock options are only for Initializers.
 				// If we wouldn't omit this, the follow on lock requests would be no-ops,
 				// because the EntityEntrys would already have the desired lock mode
-				deferredResultSetAccess.usesFollowOnLocking()
+				usesFollowOnLocking
 						? LockOptions.NONE
 						: executionContext.getQueryOptions().getLockOptions(),
 				rowTransformer,
@@ -425,7 +632,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				jdbcValues
 		);
 
-		final T result = resultsConsumer.consume(
+		return resultsConsumer.consume(
 				jdbcValues,
 				executionContext.getSession(),
 				processingOptions,
@@ -433,24 +640,15 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				rowProcessingState,
 				rowReader
 		);
-
-		if ( stats ) {
-			final long endTime = System.nanoTime();
-			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-			statistics.queryExecuted(
-					executionContext.getQueryIdentifier( jdbcSelect.getSql() ),
-					getResultSize( result ),
-					milliseconds
-			);
-		}
-
-		return result;
 	}
 
 	private <T> int getResultSize(T result) {
 		if ( result instanceof List ) {
 			return ( (List) result ).size();
 		}
+		if ( result instanceof ColumnarResult ) {
+			return ( (ColumnarResult) result ).getRowCount();
+		}
 		return -1;
 	}
 
@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.sql.exec.spi.NonBlockingSelectDriver;
+
+/**
+ * Service initiator for the NonBlockingSelectDriver service, initiating the driver named by
+ * {@link AvailableSettings#NON_BLOCKING_SELECT_DRIVER}, if any
+ */
+public class NonBlockingSelectDriverInitiator implements StandardServiceInitiator<NonBlockingSelectDriver> {
+	/**
+	 * Singleton access
+	 */
+	public static final NonBlockingSelectDriverInitiator INSTANCE = new NonBlockingSelectDriverInitiator();
+
+	@Override
+	public NonBlockingSelectDriver initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		final Object setting = configurationValues.get( AvailableSettings.NON_BLOCKING_SELECT_DRIVER );
+		if ( setting == null ) {
+			return null;
+		}
+		return registry.getService( StrategySelector.class ).resolveStrategy( NonBlockingSelectDriver.class, setting );
+	}
+
+	@Override
+	public Class<NonBlockingSelectDriver> getServiceInitiated() {
+		return NonBlockingSelectDriver.class;
+	}
+}
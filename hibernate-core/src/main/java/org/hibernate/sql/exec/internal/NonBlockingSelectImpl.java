@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.sql.exec.spi.NonBlockingSelect;
+
+/**
+ * Standard NonBlockingSelect implementation, capturing the parameter values and options bound by
+ * Hibernate to the {@link #getStatement() statement} it exposes, so that the standard binding of
+ * parameters (value converters, {@link org.hibernate.type.descriptor.ValueBinder}s, limits) also
+ * applies to non-blocking execution.
+ * <p/>
+ * Only the {@code setXxx} methods of the statement taking a parameter index and a value are supported,
+ * since only the values are passed to the driver: the overloads also taking a {@link java.util.Calendar},
+ * a target SQL type or a length are rejected.  These, as any other method, for example
+ * {@code getConnection()} as called by the binders of LOBs and arrays, fail with a
+ * {@link SQLFeatureNotSupportedException}, which is handled as any other JDBC failure to bind.
+ */
+public class NonBlockingSelectImpl implements NonBlockingSelect, InvocationHandler {
+	private final String sql;
+	private final List<Object> parameterValues = new ArrayList<>();
+	private final PreparedStatement statement;
+	private int maxRows;
+	private int queryTimeout;
+	private int fetchSize;
+
+	public NonBlockingSelectImpl(String sql) {
+		this.sql = sql;
+		this.statement = (PreparedStatement) Proxy.newProxyInstance(
+				PreparedStatement.class.getClassLoader(),
+				new Class[] { PreparedStatement.class },
+				this
+		);
+	}
+
+	/**
+	 * The statement to bind the parameters and options to
+	 */
+	public PreparedStatement getStatement() {
+		return statement;
+	}
+
+	@Override
+	public String getSql() {
+		return sql;
+	}
+
+	@Override
+	public List<Object> getParameterValues() {
+		return Collections.unmodifiableList( parameterValues );
+	}
+
+	@Override
+	public int getMaxRows() {
+		return maxRows;
+	}
+
+	@Override
+	public int getQueryTimeout() {
+		return queryTimeout;
+	}
+
+	@Override
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws SQLFeatureNotSupportedException {
+		final String name = method.getName();
+		switch ( name ) {
+			case "setMaxRows":
+				maxRows = (Integer) args[0];
+				return null;
+			case "setQueryTimeout":
+				queryTimeout = (Integer) args[0];
+				return null;
+			case "setFetchSize":
+				fetchSize = (Integer) args[0];
+				return null;
+			case "setNull":
+				setParameterValue( (Integer) args[0], null );
+				return null;
+			case "toString":
+				return "NonBlockingSelect(" + sql + ")";
+			case "hashCode":
+				return System.identityHashCode( proxy );
+			case "equals":
+				return proxy == args[0];
+		}
+		if ( name.startsWith( "set" ) && args != null && args.length >= 2 && method.getParameterTypes()[0] == int.class ) {
+			if ( args.length > 2 ) {
+				// setTimestamp(int, Timestamp, Calendar), setObject(int, Object, int), ...: the extra
+				// arguments change how the value is sent, which the driver could not know about
+				throw new SQLFeatureNotSupportedException(
+						"Operation not supported by non-blocking selects : PreparedStatement#" + name + " with "
+								+ args.length + " arguments, only the parameter values are passed to the driver"
+				);
+			}
+			// setInt(int, int), setString(int, String), ...
+			setParameterValue( (Integer) args[0], args[1] );
+			return null;
+		}
+		throw new SQLFeatureNotSupportedException( "Operation not supported by non-blocking selects : PreparedStatement#" + name );
+	}
+
+	private void setParameterValue(int position, Object value) {
+		while ( parameterValues.size() < position ) {
+			parameterValues.add( null );
+		}
+		parameterValues.set( position - 1, value );
+	}
+}
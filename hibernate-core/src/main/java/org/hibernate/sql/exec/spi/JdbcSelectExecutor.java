@@ -7,10 +7,12 @@
 package org.hibernate.sql.exec.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
+import org.hibernate.query.ColumnarResult;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
@@ -43,4 +45,28 @@ public interface JdbcSelectExecutor {
 			JdbcParameterBindings jdbcParameterBindings,
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer);
+
+	/**
+	 * Execute a select reading the values of its rows into columns
+	 *
+	 * @see org.hibernate.query.Query#columnar()
+	 */
+	ColumnarResult columnar(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext);
+
+	/**
+	 * Execute a select through the {@link NonBlockingSelectDriver}, without blocking the
+	 * calling thread.  The rows are processed when the driver completes, on the thread
+	 * completing the returned stage, and the session must not be used until then.
+	 *
+	 * @see org.hibernate.query.Query#listAsync()
+	 */
+	<R> CompletionStage<List<R>> listAsync(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ListResultsConsumer.UniqueSemantic uniqueSemantic);
 }
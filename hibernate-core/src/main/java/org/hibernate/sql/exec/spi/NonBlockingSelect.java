@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.spi;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * A select statement to be executed by a {@link NonBlockingSelectDriver}, with its parameters
+ * already bound.
+ */
+@Incubating
+public interface NonBlockingSelect {
+	/**
+	 * The SQL to execute, with limits, locks and comments already applied
+	 */
+	String getSql();
+
+	/**
+	 * The values of the parameters of the SQL, in order, as bound by Hibernate to a
+	 * {@link java.sql.PreparedStatement}.  {@code null} values are bound SQL nulls.
+	 * Selects whose parameters are bound along with a {@link java.util.Calendar}, a target SQL
+	 * type or a length cannot be executed without blocking.
+	 */
+	List<Object> getParameterValues();
+
+	/**
+	 * The maximum number of rows to read, or {@code 0} for no limit
+	 */
+	int getMaxRows();
+
+	/**
+	 * The query timeout in seconds, or {@code 0} for no timeout
+	 */
+	int getQueryTimeout();
+
+	/**
+	 * The number of rows to fetch at once, or {@code 0} for the default of the driver
+	 */
+	int getFetchSize();
+}
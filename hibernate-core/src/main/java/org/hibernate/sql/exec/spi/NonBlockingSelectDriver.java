@@ -0,0 +1,38 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.spi;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.service.Service;
+
+/**
+ * Executes select statements without blocking the calling thread, on behalf of
+ * {@link JdbcSelectExecutor#listAsync}.  Hibernate renders the SQL and binds the parameters,
+ * while the driver performs the I/O, and the returned rows are then processed by the standard
+ * {@link org.hibernate.sql.results.spi.RowReader} pipeline.
+ * <p/>
+ * The driver is responsible for the connection the statement is executed on; it does not take
+ * part in the JDBC transaction of the session, unless the driver itself ties them together.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#NON_BLOCKING_SELECT_DRIVER
+ */
+@Incubating
+public interface NonBlockingSelectDriver extends Service {
+	/**
+	 * Execute the select.
+	 *
+	 * @return A stage completed with the rows read, each an array holding the value of each
+	 * column of the select in order.  The values need not be of the exact Java type Hibernate
+	 * extracts from JDBC, as long as they can be {@link org.hibernate.type.descriptor.java.JavaType#wrap wrapped}
+	 * into it - for instance, any {@link Number} for a numeric column.
+	 */
+	CompletionStage<List<Object[]>> executeQuery(NonBlockingSelect select, SharedSessionContractImplementor session);
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.sql.results.caching;
 
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -14,5 +15,11 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 public interface QueryCachePutManager {
 	void registerJdbcRow(Object[] values);
 
+	/**
+	 * Register an entity read from the results
+	 */
+	default void registerEntityKey(EntityKey entityKey) {
+	}
+
 	void finishUp(SharedSessionContractImplementor session);
 }
@@ -8,10 +8,13 @@ package org.hibernate.sql.results.caching.internal;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
@@ -29,6 +32,7 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
 	private final List<Object> dataToCache = new ArrayList<>();
+	private final Set<EntityKey> entityKeys;
 
 	public QueryCachePutManagerEnabledImpl(
 			QueryResultsCache queryCache,
@@ -36,10 +40,21 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 			QueryKey queryKey,
 			String queryIdentifier,
 			JdbcValuesMetadata metadataForCache) {
+		this( queryCache, statistics, queryKey, queryIdentifier, metadataForCache, false );
+	}
+
+	public QueryCachePutManagerEnabledImpl(
+			QueryResultsCache queryCache,
+			StatisticsImplementor statistics,
+			QueryKey queryKey,
+			String queryIdentifier,
+			JdbcValuesMetadata metadataForCache,
+			boolean recordEntityKeys) {
 		this.queryCache = queryCache;
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
+		this.entityKeys = recordEntityKeys ? new HashSet<>() : null;
 		if ( metadataForCache != null ) {
 			dataToCache.add( metadataForCache );
 		}
@@ -55,12 +70,20 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 		dataToCache.add( Arrays.copyOf( values, values.length ) );
 	}
 
+	@Override
+	public void registerEntityKey(EntityKey entityKey) {
+		if ( entityKeys != null ) {
+			entityKeys.add( entityKey );
+		}
+	}
+
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		if ( queryKey != null ) {
 			final boolean put = queryCache.put(
 					queryKey,
 					dataToCache,
+					entityKeys,
 					session
 			);
 			if ( put && statistics.isStatisticsEnabled() ) {
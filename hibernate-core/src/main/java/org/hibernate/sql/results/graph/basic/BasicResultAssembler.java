@@ -45,6 +45,13 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		this.valueConverter = valueConverter;
 	}
 
+	/**
+	 * The position of the raw value in the JDBC values array
+	 */
+	public int getValuesArrayPosition() {
+		return valuesArrayPosition;
+	}
+
 	/**
 	 * Access to the raw value (unconverted, if a converter applied)
 	 */
@@ -90,7 +97,7 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 	}
 
 	/**
-	 * Exposed for testing purposes
+	 * The converter applied to the raw value, if any
 	 */
 	@Internal
 	public BasicValueConverter<J, ?> getValueConverter() {
@@ -347,6 +347,7 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 
 		//		2) build the EntityKey
 		this.entityKey = new EntityKey( id, concreteDescriptor );
+		rowProcessingState.registerEntityKey( entityKey );
 
 		if ( jdbcValuesSourceProcessingState.findInitializer( entityKey ) == null ) {
 			jdbcValuesSourceProcessingState.registerInitilaizer( entityKey, this );
@@ -118,14 +118,14 @@ public class EntitySelectFetchInitializer extends AbstractFetchParentAccess impl
 		final SharedSessionContractImplementor session = rowProcessingState.getSession();
 		final String entityName = concreteDescriptor.getEntityName();
 
-		final EntityKey entityKey = new EntityKey( entityIdentifier, concreteDescriptor );
-
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-		entityInstance = persistenceContext.getEntity( entityKey );
+		entityInstance = persistenceContext.getEntity( concreteDescriptor, entityIdentifier );
 		if ( entityInstance != null ) {
 			return;
 		}
 
+		final EntityKey entityKey = new EntityKey( entityIdentifier, concreteDescriptor );
+
 		Initializer initializer = rowProcessingState.getJdbcValuesSourceProcessingState()
 				.findInitializer( entityKey );
 
@@ -20,6 +20,10 @@ public class ArgumentDomainResult<A> implements DomainResult<A> {
 		this.realDomainResult = realDomainResult;
 	}
 
+	public DomainResult<A> getRealDomainResult() {
+		return realDomainResult;
+	}
+
 	@Override
 	public String getResultVariable() {
 		return realDomainResult.getResultVariable();
@@ -57,6 +57,10 @@ public class DynamicInstantiationResultImpl<R> implements DynamicInstantiationRe
 		return resultVariable;
 	}
 
+	public List<ArgumentDomainResult<?>> getArgumentResults() {
+		return argumentResults;
+	}
+
 	@Override
 	public boolean containsAnyNonScalarResults() {
 		//noinspection ForLoopReplaceableByForEach
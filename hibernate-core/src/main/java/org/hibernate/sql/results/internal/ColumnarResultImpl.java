@@ -0,0 +1,515 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.results.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.metamodel.model.convert.spi.BasicValueConverter;
+import org.hibernate.query.ColumnarResult;
+import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.results.graph.basic.BasicResult;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+
+/**
+ * Standard ColumnarResult implementation, filled row by row from a ResultSet.
+ * <p/>
+ * There is a column for each basic result of the query.  The values of primitive columns are
+ * read with the primitive getters of the ResultSet, and all other values with the
+ * {@link org.hibernate.type.descriptor.ValueExtractor} of their SqlSelection, followed by
+ * the {@link BasicValueConverter} of the result, if any.  Results selecting the same value
+ * share the same column, which is read only once per row.
+ */
+public class ColumnarResultImpl implements ColumnarResult {
+	private static final int MIN_CAPACITY = 16;
+
+	private final List<BasicResult<?>> results;
+	private final List<SqlSelection> sqlSelections;
+	// the column of each result
+	private final Column[] columns;
+	// the distinct columns, in the order of their position in the ResultSet
+	private final Column[] readColumns;
+	private int capacity;
+	private int rowCount;
+
+	/**
+	 * @param results The basic results of the query, each having a {@link BasicResultAssembler}
+	 * @param sqlSelections The SqlSelections of the query
+	 * @param expectedRowCount The number of rows to allocate the columns for
+	 */
+	public ColumnarResultImpl(List<BasicResult<?>> results, List<SqlSelection> sqlSelections, int expectedRowCount) {
+		this.results = results;
+		this.sqlSelections = sqlSelections;
+		this.capacity = Math.max( MIN_CAPACITY, expectedRowCount );
+
+		final Map<Integer, SqlSelection> sqlSelectionsByPosition = new HashMap<>();
+		for ( SqlSelection sqlSelection : sqlSelections ) {
+			sqlSelectionsByPosition.put( sqlSelection.getValuesArrayPosition(), sqlSelection );
+		}
+
+		this.columns = new Column[results.size()];
+		final Map<Integer, Column> columnsByPosition = new HashMap<>();
+		for ( int i = 0; i < columns.length; i++ ) {
+			final BasicResult<?> result = results.get( i );
+			final BasicResultAssembler<?> assembler = (BasicResultAssembler<?>) result.getAssembler();
+			final int position = assembler.getValuesArrayPosition();
+			Column column = columnsByPosition.get( position );
+			if ( column == null ) {
+				column = createColumn( result, assembler, sqlSelectionsByPosition.get( position ), capacity );
+				columnsByPosition.put( position, column );
+			}
+			columns[i] = column;
+		}
+
+		final List<Column> distinctColumns = new ArrayList<>( columnsByPosition.values() );
+		distinctColumns.sort( Comparator.comparingInt( column -> column.sqlSelection.getJdbcResultSetIndex() ) );
+		this.readColumns = distinctColumns.toArray( new Column[0] );
+	}
+
+	private static Column createColumn(
+			BasicResult<?> result,
+			BasicResultAssembler<?> assembler,
+			SqlSelection sqlSelection,
+			int capacity) {
+		final BasicValueConverter<?, ?> converter = assembler.getValueConverter();
+		if ( converter != null ) {
+			// the values only have the type of the result once converted, so never read them as primitives
+			final Class<?> javaType = result.getResultJavaTypeDescriptor().getJavaTypeClass();
+			return javaType == String.class
+					? new StringColumn( sqlSelection, converter, capacity )
+					: new ObjectColumn( sqlSelection, converter, javaType, capacity );
+		}
+
+		final JdbcMappingContainer expressionType = sqlSelection.getExpressionType();
+		if ( expressionType == null || expressionType.getJdbcTypeCount() != 1 ) {
+			return new ObjectColumn( sqlSelection, null, Object.class, capacity );
+		}
+
+		final JdbcMapping jdbcMapping = expressionType.getJdbcMappings().get( 0 );
+		final Class<?> javaType = jdbcMapping.getJavaTypeDescriptor().getJavaTypeClass();
+		final JdbcType jdbcType = jdbcMapping.getJdbcTypeDescriptor();
+		if ( javaType == String.class ) {
+			return new StringColumn( sqlSelection, null, capacity );
+		}
+		else if ( jdbcType.isNumber() ) {
+			if ( javaType == Long.class ) {
+				return new LongColumn( sqlSelection, capacity );
+			}
+			else if ( javaType == Integer.class || javaType == Short.class || javaType == Byte.class ) {
+				return new IntColumn( sqlSelection, javaType, capacity );
+			}
+			else if ( javaType == Double.class || javaType == Float.class ) {
+				return new DoubleColumn( sqlSelection, javaType, capacity );
+			}
+		}
+		return new ObjectColumn( sqlSelection, null, javaType, capacity );
+	}
+
+	/**
+	 * Create an empty ColumnarResult with the same columns as this one
+	 */
+	public ColumnarResultImpl emptyCopy() {
+		return new ColumnarResultImpl( results, sqlSelections, 0 );
+	}
+
+	/**
+	 * Append the given rows of another ColumnarResult with the same columns as this one
+	 *
+	 * @param source The ColumnarResult to copy the rows from
+	 * @param fromRow The first row to copy, inclusive
+	 * @param toRow The last row to copy, exclusive
+	 */
+	public void appendRows(ColumnarResultImpl source, int fromRow, int toRow) {
+		if ( source.readColumns.length != readColumns.length ) {
+			throw new IllegalQueryOperationException( "Unable to combine columnar results with different columns" );
+		}
+		ensureCapacity( rowCount + toRow - fromRow );
+		for ( int i = 0; i < readColumns.length; i++ ) {
+			final Column column = readColumns[i];
+			final Column sourceColumn = source.readColumns[i];
+			if ( column.getClass() != sourceColumn.getClass() ) {
+				throw new IllegalQueryOperationException(
+						"Unable to combine a " + sourceColumn.kind + " column with a " + column.kind + " column"
+				);
+			}
+			column.appendRows( sourceColumn, fromRow, toRow, rowCount );
+		}
+		rowCount += toRow - fromRow;
+	}
+
+	private void ensureCapacity(int requiredCapacity) {
+		if ( requiredCapacity > capacity ) {
+			capacity = Math.max( requiredCapacity, capacity + ( capacity >> 1 ) );
+			for ( Column column : readColumns ) {
+				column.resize( capacity );
+			}
+		}
+	}
+
+	/**
+	 * Read the values of the current row of the ResultSet
+	 */
+	public void readRow(ResultSet resultSet, SharedSessionContractImplementor session) throws SQLException {
+		ensureCapacity( rowCount + 1 );
+		for ( Column column : readColumns ) {
+			column.read( resultSet, rowCount, session );
+		}
+		rowCount++;
+	}
+
+	/**
+	 * Trim the columns to the number of rows read
+	 */
+	public void finishUp() {
+		if ( capacity != rowCount ) {
+			capacity = rowCount;
+			for ( Column column : readColumns ) {
+				column.resize( rowCount );
+			}
+		}
+	}
+
+	@Override
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	@Override
+	public ColumnKind getColumnKind(int column) {
+		return columns[column].kind;
+	}
+
+	@Override
+	public Class<?> getColumnJavaType(int column) {
+		return columns[column].javaType;
+	}
+
+	@Override
+	public boolean isNull(int row, int column) {
+		checkRow( row );
+		return columns[column].isNull( row );
+	}
+
+	@Override
+	public long[] getLongColumn(int column) {
+		return ( (LongColumn) getColumn( column, ColumnKind.LONG ) ).values;
+	}
+
+	@Override
+	public int[] getIntColumn(int column) {
+		return ( (IntColumn) getColumn( column, ColumnKind.INT ) ).values;
+	}
+
+	@Override
+	public double[] getDoubleColumn(int column) {
+		return ( (DoubleColumn) getColumn( column, ColumnKind.DOUBLE ) ).values;
+	}
+
+	@Override
+	public int[] getStringCodes(int column) {
+		return ( (StringColumn) getColumn( column, ColumnKind.STRING ) ).codes;
+	}
+
+	@Override
+	public String[] getStringDictionary(int column) {
+		return ( (StringColumn) getColumn( column, ColumnKind.STRING ) ).dictionary.toArray( new String[0] );
+	}
+
+	@Override
+	public Object getObject(int row, int column) {
+		checkRow( row );
+		return columns[column].getObject( row );
+	}
+
+	private Column getColumn(int column, ColumnKind kind) {
+		final Column result = columns[column];
+		if ( result.kind != kind ) {
+			throw new IllegalArgumentException(
+					"Column " + column + " is a " + result.kind + " column, not a " + kind + " column"
+			);
+		}
+		return result;
+	}
+
+	private void checkRow(int row) {
+		if ( row < 0 || row >= rowCount ) {
+			throw new IndexOutOfBoundsException( "Row " + row + " out of " + rowCount );
+		}
+	}
+
+	private abstract static class Column {
+		final ColumnKind kind;
+		final Class<?> javaType;
+		final SqlSelection sqlSelection;
+		final BasicValueConverter<?, ?> converter;
+
+		Column(ColumnKind kind, Class<?> javaType, SqlSelection sqlSelection, BasicValueConverter<?, ?> converter) {
+			this.kind = kind;
+			this.javaType = javaType;
+			this.sqlSelection = sqlSelection;
+			this.converter = converter;
+		}
+
+		abstract void read(ResultSet resultSet, int row, SharedSessionContractImplementor session) throws SQLException;
+
+		/**
+		 * Read the value with the extractor of the SqlSelection, and convert it to its domain value
+		 */
+		Object extract(ResultSet resultSet, SharedSessionContractImplementor session) throws SQLException {
+			final Object jdbcValue = sqlSelection.getJdbcValueExtractor()
+					.extract( resultSet, sqlSelection.getJdbcResultSetIndex(), session );
+			//noinspection unchecked,rawtypes
+			return converter == null ? jdbcValue : ( (BasicValueConverter) converter ).toDomainValue( jdbcValue );
+		}
+
+		abstract void appendRows(Column source, int fromRow, int toRow, int atRow);
+
+		abstract void resize(int capacity);
+
+		abstract boolean isNull(int row);
+
+		abstract Object getObject(int row);
+	}
+
+	private abstract static class PrimitiveColumn extends Column {
+		private final BitSet nulls = new BitSet();
+
+		PrimitiveColumn(ColumnKind kind, Class<?> javaType, SqlSelection sqlSelection) {
+			super( kind, javaType, sqlSelection, null );
+		}
+
+		void readNull(ResultSet resultSet, int row) throws SQLException {
+			if ( resultSet.wasNull() ) {
+				nulls.set( row );
+			}
+		}
+
+		void appendNulls(PrimitiveColumn source, int fromRow, int toRow, int atRow) {
+			for ( int row = source.nulls.nextSetBit( fromRow ); row >= 0 && row < toRow; row = source.nulls.nextSetBit( row + 1 ) ) {
+				nulls.set( atRow + row - fromRow );
+			}
+		}
+
+		@Override
+		boolean isNull(int row) {
+			return nulls.get( row );
+		}
+
+		@Override
+		Object getObject(int row) {
+			return isNull( row ) ? null : getValue( row );
+		}
+
+		abstract Object getValue(int row);
+	}
+
+	private static class LongColumn extends PrimitiveColumn {
+		private long[] values;
+
+		LongColumn(SqlSelection sqlSelection, int capacity) {
+			super( ColumnKind.LONG, Long.class, sqlSelection );
+			this.values = new long[capacity];
+		}
+
+		@Override
+		void read(ResultSet resultSet, int row, SharedSessionContractImplementor session) throws SQLException {
+			values[row] = resultSet.getLong( sqlSelection.getJdbcResultSetIndex() );
+			readNull( resultSet, row );
+		}
+
+		@Override
+		void appendRows(Column source, int fromRow, int toRow, int atRow) {
+			System.arraycopy( ( (LongColumn) source ).values, fromRow, values, atRow, toRow - fromRow );
+			appendNulls( (PrimitiveColumn) source, fromRow, toRow, atRow );
+		}
+
+		@Override
+		void resize(int capacity) {
+			values = Arrays.copyOf( values, capacity );
+		}
+
+		@Override
+		Object getValue(int row) {
+			return values[row];
+		}
+	}
+
+	private static class IntColumn extends PrimitiveColumn {
+		private int[] values;
+
+		IntColumn(SqlSelection sqlSelection, Class<?> javaType, int capacity) {
+			super( ColumnKind.INT, javaType, sqlSelection );
+			this.values = new int[capacity];
+		}
+
+		@Override
+		void read(ResultSet resultSet, int row, SharedSessionContractImplementor session) throws SQLException {
+			values[row] = resultSet.getInt( sqlSelection.getJdbcResultSetIndex() );
+			readNull( resultSet, row );
+		}
+
+		@Override
+		void appendRows(Column source, int fromRow, int toRow, int atRow) {
+			System.arraycopy( ( (IntColumn) source ).values, fromRow, values, atRow, toRow - fromRow );
+			appendNulls( (PrimitiveColumn) source, fromRow, toRow, atRow );
+		}
+
+		@Override
+		void resize(int capacity) {
+			values = Arrays.copyOf( values, capacity );
+		}
+
+		@Override
+		Object getValue(int row) {
+			final int value = values[row];
+			if ( javaType == Short.class ) {
+				return (short) value;
+			}
+			else if ( javaType == Byte.class ) {
+				return (byte) value;
+			}
+			return value;
+		}
+	}
+
+	private static class DoubleColumn extends PrimitiveColumn {
+		private double[] values;
+
+		DoubleColumn(SqlSelection sqlSelection, Class<?> javaType, int capacity) {
+			super( ColumnKind.DOUBLE, javaType, sqlSelection );
+			this.values = new double[capacity];
+		}
+
+		@Override
+		void read(ResultSet resultSet, int row, SharedSessionContractImplementor session) throws SQLException {
+			values[row] = resultSet.getDouble( sqlSelection.getJdbcResultSetIndex() );
+			readNull( resultSet, row );
+		}
+
+		@Override
+		void appendRows(Column source, int fromRow, int toRow, int atRow) {
+			System.arraycopy( ( (DoubleColumn) source ).values, fromRow, values, atRow, toRow - fromRow );
+			appendNulls( (PrimitiveColumn) source, fromRow, toRow, atRow );
+		}
+
+		@Override
+		void resize(int capacity) {
+			values = Arrays.copyOf( values, capacity );
+		}
+
+		@Override
+		Object getValue(int row) {
+			final double value = values[row];
+			return javaType == Float.class ? (Object) (float) value : (Object) value;
+		}
+	}
+
+	private static class StringColumn extends Column {
+		private final Map<String, Integer> codesByValue = new HashMap<>();
+		private final List<String> dictionary = new ArrayList<>();
+		private int[] codes;
+
+		StringColumn(SqlSelection sqlSelection, BasicValueConverter<?, ?> converter, int capacity) {
+			super( ColumnKind.STRING, String.class, sqlSelection, converter );
+			this.codes = new int[capacity];
+		}
+
+		@Override
+		void read(ResultSet resultSet, int row, SharedSessionContractImplementor session) throws SQLException {
+			codes[row] = encode( (String) extract( resultSet, session ) );
+		}
+
+		private int encode(String value) {
+			if ( value == null ) {
+				return -1;
+			}
+			Integer code = codesByValue.get( value );
+			if ( code == null ) {
+				code = dictionary.size();
+				codesByValue.put( value, code );
+				dictionary.add( value );
+			}
+			return code;
+		}
+
+		@Override
+		void appendRows(Column source, int fromRow, int toRow, int atRow) {
+			final StringColumn stringSource = (StringColumn) source;
+			for ( int row = fromRow; row < toRow; row++ ) {
+				final int code = stringSource.codes[row];
+				codes[atRow + row - fromRow] = encode( code < 0 ? null : stringSource.dictionary.get( code ) );
+			}
+		}
+
+		@Override
+		void resize(int capacity) {
+			codes = Arrays.copyOf( codes, capacity );
+		}
+
+		@Override
+		boolean isNull(int row) {
+			return codes[row] < 0;
+		}
+
+		@Override
+		Object getObject(int row) {
+			final int code = codes[row];
+			return code < 0 ? null : dictionary.get( code );
+		}
+	}
+
+	private static class ObjectColumn extends Column {
+		private Object[] values;
+
+		ObjectColumn(SqlSelection sqlSelection, BasicValueConverter<?, ?> converter, Class<?> javaType, int capacity) {
+			super( ColumnKind.OBJECT, javaType, sqlSelection, converter );
+			this.values = new Object[capacity];
+		}
+
+		@Override
+		void read(ResultSet resultSet, int row, SharedSessionContractImplementor session) throws SQLException {
+			values[row] = extract( resultSet, session );
+		}
+
+		@Override
+		void appendRows(Column source, int fromRow, int toRow, int atRow) {
+			System.arraycopy( ( (ObjectColumn) source ).values, fromRow, values, atRow, toRow - fromRow );
+		}
+
+		@Override
+		void resize(int capacity) {
+			values = Arrays.copyOf( values, capacity );
+		}
+
+		@Override
+		boolean isNull(int row) {
+			return values[row] == null;
+		}
+
+		@Override
+		Object getObject(int row) {
+			return values[row];
+		}
+	}
+}
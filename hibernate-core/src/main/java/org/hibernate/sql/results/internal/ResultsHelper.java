@@ -42,7 +42,9 @@ import org.hibernate.sql.results.ResultsLogger;
 import org.hibernate.sql.results.graph.AssemblerCreationState;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.jdbc.internal.StandardJdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -108,6 +110,17 @@ public class ResultsHelper {
 
 		logInitializers( initializerMap );
 
+		final JdbcValuesMapping valuesMapping = jdbcValues.getValuesMapping();
+		if ( valuesMapping instanceof StandardJdbcValuesMapping ) {
+			//noinspection rawtypes
+			return ( (StandardJdbcValuesMapping) valuesMapping ).getRowReaderCompiler().createRowReader(
+					(List) assemblers,
+					initializers,
+					rowTransformer,
+					sessionFactory
+			);
+		}
+
 		//noinspection rawtypes
 		return new StandardRowReader<>( (List) assemblers, initializers, rowTransformer );
 	}
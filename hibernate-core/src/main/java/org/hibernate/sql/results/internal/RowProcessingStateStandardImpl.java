@@ -9,6 +9,7 @@ package org.hibernate.sql.results.internal;
 import java.util.List;
 
 import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.NavigablePath;
 import org.hibernate.query.spi.QueryOptions;
@@ -146,6 +147,11 @@ public class RowProcessingStateStandardImpl implements RowProcessingState {
 	public void registerNonExists(EntityFetch fetch) {
 	}
 
+	@Override
+	public void registerEntityKey(EntityKey entityKey) {
+		jdbcValues.registerEntityKey( entityKey );
+	}
+
 	@Override
 	public boolean isQueryCacheHit() {
 		return jdbcValues instanceof JdbcValuesCacheHit;
@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.results.internal;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.results.ResultsLogger;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.spi.CompiledRowReader;
+import org.hibernate.sql.results.spi.RowReader;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+/**
+ * Creates the row readers of a given JdbcValuesMapping, switching from {@link StandardRowReader}
+ * to a generated {@link CompiledRowReader} once the mapping has been read
+ * {@link org.hibernate.cfg.AvailableSettings#COMPILED_ROW_READER_THRESHOLD} times.
+ * <p/>
+ * The generated classes are kept by the compiler, hence by the mapping, and are never shared
+ * with other mappings, so that the call sites of each generated class only see the assemblers
+ * and initializers of a single query.
+ */
+@SuppressWarnings("rawtypes")
+public class RowReaderCompiler {
+	private static final CompiledClass NOT_COMPILED = new CompiledClass( null );
+
+	private final AtomicInteger readCount = new AtomicInteger();
+	private final ConcurrentHashMap<String, CompiledClass> compiledClasses = new ConcurrentHashMap<>( 2 );
+
+	@SuppressWarnings("unchecked")
+	public <R> RowReader<R> createRowReader(
+			List<DomainResultAssembler> assemblers,
+			List<Initializer> initializers,
+			RowTransformer<R> rowTransformer,
+			SessionFactoryImplementor sessionFactory) {
+		final int threshold = sessionFactory.getSessionFactoryOptions().getCompiledRowReaderThreshold();
+		if ( threshold > 0 && ( readCount.get() >= threshold || readCount.incrementAndGet() >= threshold ) ) {
+			final CompiledRowReader.InitializerKind[] initializerKinds = new CompiledRowReader.InitializerKind[initializers.size()];
+			final StringBuilder shape = new StringBuilder().append( assemblers.size() ).append( ':' );
+			for ( int i = 0; i < initializerKinds.length; i++ ) {
+				initializerKinds[i] = CompiledRowReader.InitializerKind.of( initializers.get( i ) );
+				shape.append( initializerKinds[i].ordinal() );
+			}
+
+			final CompiledClass compiledClass = compiledClasses.computeIfAbsent(
+					shape.toString(),
+					key -> compile( assemblers.size(), initializerKinds, sessionFactory )
+			);
+			if ( compiledClass.constructor != null ) {
+				try {
+					return (RowReader<R>) compiledClass.constructor.newInstance( assemblers, initializers, rowTransformer );
+				}
+				catch (ReflectiveOperationException e) {
+					throw new HibernateException( "Unable to instantiate compiled row reader", e );
+				}
+			}
+		}
+
+		return new StandardRowReader<>( assemblers, initializers, rowTransformer );
+	}
+
+	private static CompiledClass compile(
+			int assemblerCount,
+			CompiledRowReader.InitializerKind[] initializerKinds,
+			SessionFactoryImplementor sessionFactory) {
+		final Class<?> rowReaderClass = sessionFactory.getServiceRegistry()
+				.getService( BytecodeProvider.class )
+				.getCompiledRowReaderClass( assemblerCount, initializerKinds );
+		if ( rowReaderClass == null ) {
+			return NOT_COMPILED;
+		}
+
+		ResultsLogger.LOGGER.debugf(
+				"Generated row reader %s for %s assemblers and %s initializers",
+				rowReaderClass.getName(),
+				assemblerCount,
+				initializerKinds.length
+		);
+		try {
+			return new CompiledClass( rowReaderClass.getConstructor( List.class, List.class, RowTransformer.class ) );
+		}
+		catch (NoSuchMethodException e) {
+			throw new HibernateException( "Unable to locate the constructor of compiled row reader " + rowReaderClass.getName(), e );
+		}
+	}
+
+	private static class CompiledClass {
+		private final Constructor<?> constructor;
+
+		private CompiledClass(Constructor<?> constructor) {
+			this.constructor = constructor;
+		}
+	}
+}
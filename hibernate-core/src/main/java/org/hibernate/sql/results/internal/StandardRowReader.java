@@ -92,6 +92,14 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 		coordinateInitializers( rowProcessingState, options );
 
+		final Object[] resultRow = assembleRow( rowProcessingState, options );
+
+		afterRow( rowProcessingState, options );
+
+		return rowTransformer.transformRow( resultRow );
+	}
+
+	protected Object[] assembleRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
 		final Object[] resultRow = new Object[ assemblerCount ];
 
 		for ( int i = 0; i < assemblerCount; i++ ) {
@@ -100,12 +108,10 @@ public class StandardRowReader<T> implements RowReader<T> {
 			resultRow[i] = assembler.assemble( rowProcessingState, options );
 		}
 
-		afterRow( rowProcessingState, options );
-
-		return rowTransformer.transformRow( resultRow );
+		return resultRow;
 	}
 
-	private void afterRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
+	protected void afterRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#afterRow" );
 
 		initializers.forEach( (initializer) -> {
@@ -114,7 +120,7 @@ public class StandardRowReader<T> implements RowReader<T> {
 	}
 
 	@SuppressWarnings("ForLoopReplaceableByForEach")
-	private void coordinateInitializers(
+	protected void coordinateInitializers(
 			RowProcessingState rowProcessingState,
 			JdbcValuesSourceProcessingOptions options) {
 
@@ -6,6 +6,7 @@
  */
 package org.hibernate.sql.results.jdbc.internal;
 
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
@@ -35,6 +36,11 @@ public abstract class AbstractJdbcValues implements JdbcValues {
 
 	protected abstract boolean processNext(RowProcessingState rowProcessingState);
 
+	@Override
+	public void registerEntityKey(EntityKey entityKey) {
+		queryCachePutManager.registerEntityKey( entityKey );
+	}
+
 	@Override
 	public boolean previous(RowProcessingState rowProcessingState) {
 		// NOTE : we do not even bother interacting with the query-cache put manager because
@@ -161,49 +161,70 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		return usesFollowOnLocking;
 	}
 
+	/**
+	 * Apply the options of the query to the given statement for the {@link #getFinalSql() final SQL},
+	 * and bind its parameters, including those of the limit
+	 */
+	public void bindParameters(PreparedStatement preparedStatement) throws SQLException {
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+
+		// set options
+		if ( queryOptions != null ) {
+			if ( queryOptions.getFetchSize() != null ) {
+				preparedStatement.setFetchSize( queryOptions.getFetchSize() );
+			}
+			if ( queryOptions.getTimeout() != null ) {
+				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
+			}
+		}
+
+		// bind parameters
+		// 		todo : validate that all query parameters were bound?
+		int paramBindingPosition = 1;
+		paramBindingPosition += limitHandler.bindLimitParametersAtStartOfQuery( limit, preparedStatement, paramBindingPosition );
+		for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
+			parameterBinder.bindParameterValue(
+					preparedStatement,
+					paramBindingPosition++,
+					jdbcParameterBindings,
+					executionContext
+			);
+		}
+
+		paramBindingPosition += limitHandler.bindLimitParametersAtEndOfQuery( limit, preparedStatement, paramBindingPosition );
+
+		if ( !jdbcSelect.usesLimitParameters() && limit != null && limit.getMaxRows() != null ) {
+			limitHandler.setMaxRows( limit, preparedStatement );
+		}
+		else {
+			final int maxRows = jdbcSelect.getMaxRows();
+			if ( maxRows != Integer.MAX_VALUE ) {
+				preparedStatement.setMaxRows( maxRows );
+			}
+		}
+	}
+
+	/**
+	 * The number of rows of the results to skip, for dialects that don't support an offset clause
+	 */
+	public int getRowsToSkip() {
+		if ( !jdbcSelect.usesLimitParameters() && limit != null && limit.getFirstRow() != null && !limitHandler.supportsLimitOffset() ) {
+			return limit.getFirstRow();
+		}
+		else {
+			return jdbcSelect.getRowsToSkip();
+		}
+	}
+
 	private void executeQuery() {
 		final LogicalConnectionImplementor logicalConnection = getPersistenceContext().getJdbcCoordinator().getLogicalConnection();
-		final QueryOptions queryOptions = executionContext.getQueryOptions();
 
 		try {
 			LOG.tracef( "Executing query to retrieve ResultSet : %s", finalSql );
 			// prepare the query
 			preparedStatement = statementCreator.apply( finalSql );
 
-			// set options
-			if ( queryOptions != null ) {
-				if ( queryOptions.getFetchSize() != null ) {
-					preparedStatement.setFetchSize( queryOptions.getFetchSize() );
-				}
-				if ( queryOptions.getTimeout() != null ) {
-					preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
-				}
-			}
-
-			// bind parameters
-			// 		todo : validate that all query parameters were bound?
-			int paramBindingPosition = 1;
-			paramBindingPosition += limitHandler.bindLimitParametersAtStartOfQuery( limit, preparedStatement, paramBindingPosition );
-			for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
-				parameterBinder.bindParameterValue(
-						preparedStatement,
-						paramBindingPosition++,
-						jdbcParameterBindings,
-						executionContext
-				);
-			}
-
-			paramBindingPosition += limitHandler.bindLimitParametersAtEndOfQuery( limit, preparedStatement, paramBindingPosition );
-
-			if ( !jdbcSelect.usesLimitParameters() && limit != null && limit.getMaxRows() != null ) {
-				limitHandler.setMaxRows( limit, preparedStatement );
-			}
-			else {
-				final int maxRows = jdbcSelect.getMaxRows();
-				if ( maxRows != Integer.MAX_VALUE ) {
-					preparedStatement.setMaxRows( maxRows );
-				}
-			}
+			bindParameters( preparedStatement );
 
 			final SessionEventListenerManager eventListenerManager = executionContext.getSession()
 					.getEventListenerManager();
@@ -222,13 +243,7 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			}
 
 			// For dialects that don't support an offset clause
-			final int rowsToSkip;
-			if ( !jdbcSelect.usesLimitParameters() && limit != null && limit.getFirstRow() != null && !limitHandler.supportsLimitOffset() ) {
-				rowsToSkip = limit.getFirstRow();
-			}
-			else {
-				rowsToSkip = jdbcSelect.getRowsToSkip();
-			}
+			final int rowsToSkip = getRowsToSkip();
 			if ( rowsToSkip != 0 ) {
 				try {
 					resultSet.absolute( rowsToSkip );
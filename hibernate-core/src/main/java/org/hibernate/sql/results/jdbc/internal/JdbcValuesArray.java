@@ -0,0 +1,192 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import org.hibernate.sql.results.ResultsLogger;
+import org.hibernate.sql.results.caching.internal.QueryCachePutManagerDisabledImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+/**
+ * A JdbcValuesSource implementation over rows which were already read, e.g. by a
+ * {@link org.hibernate.sql.exec.spi.NonBlockingSelectDriver}.  The values are never
+ * put into the query cache.
+ *
+ * @see JdbcValuesCacheHit
+ */
+public class JdbcValuesArray extends AbstractJdbcValues {
+	private Object[][] data;
+	private final int numberOfRows;
+	private final JdbcValuesMapping resolvedMapping;
+	private int position = -1;
+
+	public JdbcValuesArray(Object[][] data, JdbcValuesMapping resolvedMapping) {
+		super( QueryCachePutManagerDisabledImpl.INSTANCE );
+		this.data = data;
+		this.numberOfRows = data.length;
+		this.resolvedMapping = resolvedMapping;
+	}
+
+	@Override
+	protected boolean processNext(RowProcessingState rowProcessingState) {
+		ResultsLogger.LOGGER.tracef( "JdbcValuesArray#processNext : position = %i; numberOfRows = %i", position, numberOfRows );
+
+		// NOTE : explicitly skipping limit handling because the rows ought to
+		// 		already be limited (e.g. the cache key of cached results includes limits)
+
+		position++;
+
+		if ( position >= numberOfRows ) {
+			position = numberOfRows;
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override
+	protected boolean processPrevious(RowProcessingState rowProcessingState) {
+		ResultsLogger.LOGGER.tracef( "JdbcValuesArray#processPrevious : position = %i; numberOfRows = %i", position, numberOfRows );
+
+		// NOTE : explicitly skipping limit handling because the rows ought to
+		// 		already be limited (e.g. the cache key of cached results includes limits)
+
+		position--;
+
+		if ( position >= numberOfRows ) {
+			position = numberOfRows;
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override
+	protected boolean processScroll(int numberOfRows, RowProcessingState rowProcessingState) {
+		ResultsLogger.LOGGER.tracef( "JdbcValuesArray#processScroll(%i) : position = %i; numberOfRows = %i", numberOfRows, position, this.numberOfRows );
+
+		// NOTE : explicitly skipping limit handling because the rows ought to
+		// 		already be limited (e.g. the cache key of cached results includes limits)
+
+		position += numberOfRows;
+
+		if ( position > this.numberOfRows ) {
+			position = this.numberOfRows;
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override
+	public int getPosition() {
+		return position;
+	}
+
+	@Override
+	protected boolean processPosition(int position, RowProcessingState rowProcessingState) {
+		ResultsLogger.LOGGER.tracef( "JdbcValuesArray#processPosition(%i) : position = %i; numberOfRows = %i", position, this.position, this.numberOfRows );
+
+		// NOTE : explicitly skipping limit handling because the rows ought to
+		// 		already be limited (e.g. the cache key of cached results includes limits)
+
+		if ( position < 0 ) {
+			// we need to subtract it from `numberOfRows`
+			final int newPosition = numberOfRows + position;
+			ResultsLogger.LOGGER.debugf(
+					"Translated negative absolute position `%i` into `%` based on `%i` number of rows",
+					position,
+					newPosition,
+					numberOfRows
+			);
+			position = newPosition;
+		}
+
+		if ( position > numberOfRows ) {
+			ResultsLogger.LOGGER.debugf(
+					"Absolute position `%i` exceeded number of rows `%i`",
+					position,
+					numberOfRows
+			);
+			this.position = numberOfRows;
+			return false;
+		}
+
+		this.position = position;
+		return true;
+	}
+
+	@Override
+	public boolean isBeforeFirst(RowProcessingState rowProcessingState) {
+		return position < 0;
+	}
+
+	@Override
+	public void beforeFirst(RowProcessingState rowProcessingState) {
+		position = -1;
+	}
+
+	@Override
+	public boolean isFirst(RowProcessingState rowProcessingState) {
+		return position == 0;
+	}
+
+	@Override
+	public boolean first(RowProcessingState rowProcessingState) {
+		position = 0;
+		return numberOfRows > 0;
+	}
+
+	@Override
+	public boolean isAfterLast(RowProcessingState rowProcessingState) {
+		return position >= numberOfRows;
+	}
+
+	@Override
+	public void afterLast(RowProcessingState rowProcessingState) {
+		position = numberOfRows;
+	}
+
+	@Override
+	public boolean isLast(RowProcessingState rowProcessingState) {
+		if ( numberOfRows == 0 ) {
+			return position == 0;
+		}
+		else {
+			return position == numberOfRows - 1;
+		}
+	}
+
+	@Override
+	public boolean last(RowProcessingState rowProcessingState) {
+		if ( numberOfRows == 0 ) {
+			position = 0;
+			return false;
+		}
+
+		position = numberOfRows - 1;
+		return true;
+	}
+
+	@Override
+	public JdbcValuesMapping getValuesMapping() {
+		return resolvedMapping;
+	}
+
+	@Override
+	public Object[] getCurrentRowValuesArray() {
+		if ( position >= numberOfRows ) {
+			return null;
+		}
+		return data[position];
+	}
+
+	@Override
+	protected void release() {
+		data = null;
+	}
+}
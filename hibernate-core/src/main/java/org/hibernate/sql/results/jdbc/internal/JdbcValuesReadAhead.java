@@ -0,0 +1,311 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.sql.exec.ExecutionException;
+import org.hibernate.sql.results.ResultsLogger;
+import org.hibernate.sql.results.caching.internal.QueryCachePutManagerDisabledImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+/**
+ * JdbcValuesSource implementation which reads the rows of a {@link JdbcValuesResultSetImpl}
+ * ahead of time on a background thread, buffering at most a fixed number of rows.
+ * <p/>
+ * The JDBC values of each row are extracted by the background thread, so that the consuming
+ * thread only has to assemble the results from values already read.  Only forward movement
+ * of the cursor is supported, and results are never put into the query cache.
+ * <p/>
+ * The statement must already be executed when the rows are read ahead: the background thread
+ * only ever moves the cursor of the given ResultSet and extracts values from it, and leaves
+ * anything involving the session, such as translating a failure, to the consuming thread.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SCROLL_READ_AHEAD_SIZE
+ */
+public class JdbcValuesReadAhead extends AbstractJdbcValues {
+	private static final Object[] END_OF_ROWS = new Object[0];
+	private static final long READER_WAIT_MILLIS = 100;
+	private static final MethodHandle VIRTUAL_THREAD_FACTORY = locateVirtualThreadFactory();
+
+	private final JdbcValuesResultSetImpl delegate;
+	private final ResultSet resultSet;
+	private final WrapperOptions wrapperOptions;
+	private final int bufferSize;
+	private final BlockingQueue<Object[]> buffer;
+	// one permit per row the reader may add to the buffer
+	private final Semaphore rowPermits;
+	private final CountDownLatch readerFinished = new CountDownLatch( 1 );
+
+	private volatile boolean closed;
+	private volatile Exception readFailure;
+
+	private boolean readerStarted;
+	// the row following the current one, when already taken from the buffer
+	private Object[] nextRow;
+	private Object[] currentRow;
+	private int position = -1;
+	private boolean afterLast;
+
+	/**
+	 * @param delegate The JdbcValues of the executed statement
+	 * @param resultSet The ResultSet of the executed statement
+	 * @param wrapperOptions The options of the values extracted by the background thread
+	 * @param bufferSize The maximum number of rows read ahead
+	 */
+	public JdbcValuesReadAhead(
+			JdbcValuesResultSetImpl delegate,
+			ResultSet resultSet,
+			WrapperOptions wrapperOptions,
+			int bufferSize) {
+		super( QueryCachePutManagerDisabledImpl.INSTANCE );
+		this.delegate = delegate;
+		this.resultSet = resultSet;
+		this.wrapperOptions = wrapperOptions;
+		this.bufferSize = bufferSize;
+		// room for the end marker, so that the reader never blocks after the last row
+		this.buffer = new ArrayBlockingQueue<>( bufferSize + 1 );
+		this.rowPermits = new Semaphore( bufferSize );
+	}
+
+	@Override
+	public JdbcValuesMapping getValuesMapping() {
+		return delegate.getValuesMapping();
+	}
+
+	@Override
+	public Object[] getCurrentRowValuesArray() {
+		return currentRow;
+	}
+
+	@Override
+	protected boolean processNext(RowProcessingState rowProcessingState) {
+		final Object[] row = takeNextRow();
+		if ( row == END_OF_ROWS ) {
+			if ( position >= 0 ) {
+				afterLast = true;
+			}
+			currentRow = null;
+			return false;
+		}
+		currentRow = row;
+		position++;
+		return true;
+	}
+
+	private Object[] takeNextRow() {
+		final Object[] row = peekNextRow();
+		if ( row != END_OF_ROWS ) {
+			nextRow = null;
+		}
+		return row;
+	}
+
+	private Object[] peekNextRow() {
+		if ( nextRow == null ) {
+			if ( !readerStarted ) {
+				startReader();
+			}
+			try {
+				nextRow = buffer.take();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ExecutionException( "Interrupted while waiting for rows read ahead", e );
+			}
+			if ( nextRow != END_OF_ROWS ) {
+				rowPermits.release();
+			}
+			else if ( readFailure != null ) {
+				throw translate( readFailure );
+			}
+		}
+		return nextRow;
+	}
+
+	private void startReader() {
+		readerStarted = true;
+		final Thread reader = newReaderThread( this::readRows );
+		reader.setName( "Hibernate read-ahead" );
+		reader.setDaemon( true );
+		reader.start();
+	}
+
+	private void readRows() {
+		try {
+			final int rowSize = delegate.getValuesMapping().getRowSize();
+			while ( !closed && resultSet.next() ) {
+				final Object[] row = new Object[rowSize];
+				delegate.readRowValues( resultSet, row, wrapperOptions );
+				bufferRow( row );
+			}
+		}
+		catch (Exception e) {
+			readFailure = e;
+		}
+		finally {
+			// the buffer always has room for the end marker, see rowPermits
+			buffer.add( END_OF_ROWS );
+			readerFinished.countDown();
+		}
+	}
+
+	private void bufferRow(Object[] row) throws SQLException, InterruptedException {
+		// wait for the consumer to make room, but stop waiting when the results are released, or
+		// when the ResultSet is closed underneath, e.g. by closing the session
+		while ( !rowPermits.tryAcquire( READER_WAIT_MILLIS, TimeUnit.MILLISECONDS ) ) {
+			if ( closed ) {
+				return;
+			}
+			if ( resultSet.isClosed() ) {
+				throw new ExecutionException( "ResultSet was closed while reading rows ahead" );
+			}
+		}
+		// the permits released on release() only serve to wake up the reader
+		if ( !closed ) {
+			buffer.add( row );
+		}
+	}
+
+	private RuntimeException translate(Exception failure) {
+		if ( failure instanceof SQLException ) {
+			return delegate.makeExecutionException( "Error reading rows ahead", (SQLException) failure );
+		}
+		else if ( failure instanceof InterruptedException ) {
+			return new ExecutionException( "Interrupted while reading rows ahead", failure );
+		}
+		else {
+			return (RuntimeException) failure;
+		}
+	}
+
+	@Override
+	protected void release() {
+		if ( readerStarted ) {
+			closed = true;
+			rowPermits.release( bufferSize );
+			try {
+				// make sure the reader is not using the ResultSet anymore before releasing it
+				do {
+					buffer.clear();
+				} while ( !readerFinished.await( 10, TimeUnit.MILLISECONDS ) );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				ResultsLogger.LOGGER.debug( "Interrupted while waiting for the read-ahead thread to finish" );
+			}
+		}
+		delegate.release();
+	}
+
+	@Override
+	public int getPosition() {
+		return position;
+	}
+
+	@Override
+	public boolean isBeforeFirst(RowProcessingState rowProcessingState) {
+		return position < 0 && peekNextRow() != END_OF_ROWS;
+	}
+
+	@Override
+	public boolean isFirst(RowProcessingState rowProcessingState) {
+		return position == 0 && currentRow != null;
+	}
+
+	@Override
+	public boolean isAfterLast(RowProcessingState rowProcessingState) {
+		return afterLast;
+	}
+
+	@Override
+	public boolean isLast(RowProcessingState rowProcessingState) {
+		return currentRow != null && peekNextRow() == END_OF_ROWS;
+	}
+
+	@Override
+	protected boolean processPrevious(RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	@Override
+	protected boolean processScroll(int numberOfRows, RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	@Override
+	protected boolean processPosition(int position, RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	@Override
+	public void beforeFirst(RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean first(RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	@Override
+	public void afterLast(RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	@Override
+	public boolean last(RowProcessingState rowProcessingState) {
+		throw forwardOnly();
+	}
+
+	private static UnsupportedOperationException forwardOnly() {
+		return new UnsupportedOperationException( "Rows read ahead can only be scrolled forward" );
+	}
+
+	private static Thread newReaderThread(Runnable task) {
+		if ( VIRTUAL_THREAD_FACTORY != null ) {
+			try {
+				return (Thread) VIRTUAL_THREAD_FACTORY.invoke( task );
+			}
+			catch (Throwable t) {
+				throw new HibernateException( "Unable to create virtual thread for reading rows ahead", t );
+			}
+		}
+		return new Thread( task );
+	}
+
+	/**
+	 * Resolves {@code Thread.ofVirtual().unstarted( Runnable )} reflectively, since virtual threads
+	 * are not available on all supported JVMs.
+	 */
+	private static MethodHandle locateVirtualThreadFactory() {
+		try {
+			final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			final Class<?> builderClass = Class.forName( "java.lang.Thread$Builder" );
+			final Class<?> virtualBuilderClass = Class.forName( "java.lang.Thread$Builder$OfVirtual" );
+			final Object builder = lookup.findStatic( Thread.class, "ofVirtual", MethodType.methodType( virtualBuilderClass ) )
+					.invoke();
+			return lookup.findVirtual( builderClass, "unstarted", MethodType.methodType( Thread.class, Runnable.class ) )
+					.bindTo( builder );
+		}
+		catch (Throwable t) {
+			return null;
+		}
+	}
+}
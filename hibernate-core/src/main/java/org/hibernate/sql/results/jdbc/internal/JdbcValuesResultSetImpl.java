@@ -6,6 +6,7 @@
  */
 package org.hibernate.sql.results.jdbc.internal;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 
@@ -17,12 +18,14 @@ import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.ExecutionException;
 import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.results.internal.ColumnarResultImpl;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerDisabledImpl;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.WrapperOptions;
 
 /**
  * JdbcValuesSource implementation for a JDBC ResultSet as the source
@@ -70,7 +73,8 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 					factory.getStatistics(),
 					queryCacheKey,
 					queryIdentifier,
-					metadataForCache
+					metadataForCache,
+					factory.getCache().getTimestampsCache().isEntityInvalidationEnabled()
 			);
 		}
 		else {
@@ -283,7 +287,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		}
 	}
 
-	private ExecutionException makeExecutionException(String message, SQLException cause) {
+	ExecutionException makeExecutionException(String message, SQLException cause) {
 		return new ExecutionException(
 				message,
 				executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
@@ -294,12 +298,22 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	}
 
 	private void readCurrentRowValues() throws SQLException {
+		readRowValues( resultSetAccess.getResultSet(), currentRowJdbcValues, executionContext.getSession() );
+	}
+
+	/**
+	 * Read the values of the row the given ResultSet is positioned on into the given array.
+	 * <p/>
+	 * The session is only involved as the {@link WrapperOptions} of the value extractors, so
+	 * that rows may be read on a thread other than the one owning the session.
+	 */
+	void readRowValues(ResultSet resultSet, Object[] values, WrapperOptions options) {
 		for ( final SqlSelection sqlSelection : sqlSelections ) {
 			try {
-				currentRowJdbcValues[ sqlSelection.getValuesArrayPosition() ] = sqlSelection.getJdbcValueExtractor().extract(
-						resultSetAccess.getResultSet(),
+				values[ sqlSelection.getValuesArrayPosition() ] = sqlSelection.getJdbcValueExtractor().extract(
+						resultSet,
 						sqlSelection.getJdbcResultSetIndex(),
-						executionContext.getSession()
+						options
 				);
 			}
 			catch (Exception e) {
@@ -311,6 +325,22 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		}
 	}
 
+	/**
+	 * Read the remaining rows of the ResultSet into the given columns, without extracting
+	 * the values of each row into the current row values
+	 */
+	public void readRemainingRows(ColumnarResultImpl columnarResult) {
+		try {
+			final ResultSet resultSet = resultSetAccess.getResultSet();
+			while ( resultSet.next() ) {
+				columnarResult.readRow( resultSet, executionContext.getSession() );
+			}
+		}
+		catch (SQLException e) {
+			throw makeExecutionException( "Error reading ResultSet rows into columns", e );
+		}
+	}
+
 	@Override
 	protected void release() {
 		resultSetAccess.release();
@@ -13,6 +13,7 @@ import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.results.graph.AssemblerCreationState;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.internal.RowReaderCompiler;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 
 /**
@@ -21,6 +22,7 @@ import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 public class StandardJdbcValuesMapping implements JdbcValuesMapping {
 	private final List<SqlSelection> sqlSelections;
 	private final List<DomainResult<?>> domainResults;
+	private final RowReaderCompiler rowReaderCompiler = new RowReaderCompiler();
 
 	public StandardJdbcValuesMapping(
 			List<SqlSelection> sqlSelections,
@@ -39,6 +41,13 @@ public class StandardJdbcValuesMapping implements JdbcValuesMapping {
 		return domainResults;
 	}
 
+	/**
+	 * The compiler of the row readers reading the values of this mapping
+	 */
+	public RowReaderCompiler getRowReaderCompiler() {
+		return rowReaderCompiler;
+	}
+
 	@Override
 	public int getRowSize() {
 		return sqlSelections.size();
@@ -6,6 +6,7 @@
  */
 package org.hibernate.sql.results.jdbc.spi;
 
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -74,6 +75,12 @@ public interface JdbcValues {
 	 */
 	Object[] getCurrentRowValuesArray();
 
+	/**
+	 * Register an entity read from the current row, see {@link RowProcessingState#registerEntityKey}
+	 */
+	default void registerEntityKey(EntityKey entityKey) {
+	}
+
 	/**
 	 * Give implementations a chance to finish processing
 	 */
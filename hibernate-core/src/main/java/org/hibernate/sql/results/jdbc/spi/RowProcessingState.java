@@ -6,6 +6,7 @@
  */
 package org.hibernate.sql.results.jdbc.spi;
 
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.query.NavigablePath;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.spi.ExecutionContext;
@@ -53,6 +54,13 @@ public interface RowProcessingState extends ExecutionContext {
 
 	void registerNonExists(EntityFetch fetch);
 
+	/**
+	 * Callback for each entity read from the current "row", allowing to record
+	 * the entities on which the cached results of the query depend
+	 */
+	default void registerEntityKey(EntityKey entityKey) {
+	}
+
 	boolean isQueryCacheHit();
 
 	/**
@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.results.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.ColumnarResult;
+import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.basic.BasicResult;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.sql.results.graph.instantiation.internal.ArgumentDomainResult;
+import org.hibernate.sql.results.graph.instantiation.internal.DynamicInstantiationResultImpl;
+import org.hibernate.sql.results.internal.ColumnarResultImpl;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+
+/**
+ * ResultsConsumer reading the values of a projection query column by column into a
+ * {@link ColumnarResult}, bypassing the RowReader and the assembly of each row.
+ * <p/>
+ * Only applies to queries selecting basic values, possibly as the arguments of a dynamic
+ * instantiation, each of which becomes a column.
+ */
+public class ColumnarResultsConsumer implements ResultsConsumer<ColumnarResult, Object> {
+	/**
+	 * Singleton access
+	 */
+	public static final ColumnarResultsConsumer INSTANCE = new ColumnarResultsConsumer();
+
+	private ColumnarResultsConsumer() {
+	}
+
+	@Override
+	public ColumnarResult consume(
+			JdbcValues jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<Object> rowReader) {
+		RuntimeException ex = null;
+		try {
+			final JdbcValuesMapping valuesMapping = jdbcValues.getValuesMapping();
+			final List<BasicResult<?>> basicResults = new ArrayList<>();
+			for ( DomainResult<?> domainResult : valuesMapping.getDomainResults() ) {
+				collectBasicResults( domainResult, basicResults );
+			}
+			// results are never read from, nor put into, the query cache
+			assert jdbcValues instanceof JdbcValuesResultSetImpl;
+
+			final Integer fetchSize = jdbcValuesSourceProcessingState.getExecutionContext()
+					.getQueryOptions()
+					.getFetchSize();
+			final ColumnarResultImpl result = new ColumnarResultImpl(
+					basicResults,
+					valuesMapping.getSqlSelections(),
+					fetchSize == null ? 0 : fetchSize
+			);
+			( (JdbcValuesResultSetImpl) jdbcValues ).readRemainingRows( result );
+			result.finishUp();
+			return result;
+		}
+		catch (RuntimeException e) {
+			ex = e;
+		}
+		finally {
+			try {
+				rowReader.finishUp( jdbcValuesSourceProcessingState );
+				jdbcValues.finishUp( session );
+			}
+			catch (RuntimeException e) {
+				if ( ex != null ) {
+					ex.addSuppressed( e );
+				}
+				else {
+					ex = e;
+				}
+			}
+			finally {
+				if ( ex != null ) {
+					throw ex;
+				}
+			}
+		}
+		throw new IllegalStateException( "Should not reach this!" );
+	}
+
+	/**
+	 * Collect the basic results making up the given result, each of which becomes a column
+	 */
+	private static void collectBasicResults(DomainResult<?> domainResult, List<BasicResult<?>> basicResults) {
+		if ( domainResult instanceof DynamicInstantiationResultImpl ) {
+			for ( ArgumentDomainResult<?> argumentResult : ( (DynamicInstantiationResultImpl<?>) domainResult ).getArgumentResults() ) {
+				collectBasicResults( argumentResult.getRealDomainResult(), basicResults );
+			}
+		}
+		else if ( domainResult instanceof BasicResult
+				&& ( (BasicResult<?>) domainResult ).getAssembler() instanceof BasicResultAssembler ) {
+			basicResults.add( (BasicResult<?>) domainResult );
+		}
+		else {
+			throw new IllegalQueryOperationException(
+					"Columnar results are only supported for queries selecting basic values, found : "
+							+ domainResult.getResultJavaTypeDescriptor().getJavaType().getTypeName()
+			);
+		}
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return false;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.results.spi;
+
+import java.util.List;
+
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.graph.collection.CollectionInitializer;
+import org.hibernate.sql.results.graph.entity.internal.EntityDelayedFetchInitializer;
+import org.hibernate.sql.results.internal.StandardRowReader;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+/**
+ * Base class of the row readers generated by a {@link org.hibernate.bytecode.spi.BytecodeProvider}
+ * for a given number of assemblers and given kinds of initializers.
+ * <p/>
+ * The generated subclasses implement the processing of a row as a straight sequence of calls,
+ * each to a given element of {@link #assemblers} or {@link #initializers}, in the order of
+ * {@link StandardRowReader}.  Each call then has a call site of its own, which stays monomorphic
+ * as long as the subclass is only used to read the results of a single query.
+ *
+ * @see org.hibernate.sql.results.internal.RowReaderCompiler
+ */
+@SuppressWarnings("rawtypes")
+public abstract class CompiledRowReader<T> extends StandardRowReader<T> {
+	/**
+	 * The kind of an initializer, which determines the phases of
+	 * {@link #coordinateInitializers} in which it is called
+	 */
+	public enum InitializerKind {
+		/**
+		 * Initializers of collections, whose keys are resolved after those of other initializers
+		 */
+		COLLECTION,
+		/**
+		 * Initializers of delayed entity fetches, whose instances are resolved after those of other initializers
+		 */
+		DELAYED_FETCH,
+		/**
+		 * All other initializers
+		 */
+		OTHER;
+
+		public static InitializerKind of(Initializer initializer) {
+			if ( initializer instanceof CollectionInitializer ) {
+				return COLLECTION;
+			}
+			else if ( initializer instanceof EntityDelayedFetchInitializer ) {
+				return DELAYED_FETCH;
+			}
+			return OTHER;
+		}
+	}
+
+	protected final DomainResultAssembler[] assemblers;
+	protected final Initializer[] initializers;
+
+	protected CompiledRowReader(
+			List<DomainResultAssembler> resultAssemblers,
+			List<Initializer> initializers,
+			RowTransformer<T> rowTransformer) {
+		super( resultAssemblers, initializers, rowTransformer );
+		this.assemblers = resultAssemblers.toArray( new DomainResultAssembler[0] );
+		this.initializers = initializers.toArray( new Initializer[0] );
+	}
+
+	@Override
+	protected abstract void coordinateInitializers(
+			RowProcessingState rowProcessingState,
+			JdbcValuesSourceProcessingOptions options);
+
+	@Override
+	protected abstract Object[] assembleRow(
+			RowProcessingState rowProcessingState,
+			JdbcValuesSourceProcessingOptions options);
+
+	@Override
+	protected abstract void afterRow(
+			RowProcessingState rowProcessingState,
+			JdbcValuesSourceProcessingOptions options);
+}
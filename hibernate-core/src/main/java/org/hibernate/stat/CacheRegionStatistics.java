@@ -73,4 +73,18 @@ public interface CacheRegionStatistics extends Serializable {
 	 * is returned instead.
 	 */
 	long getSizeInMemory();
+
+	/**
+	 * The number of elements evicted by the cache provider to respect the
+	 * size bounds of the region.
+	 *
+	 * This is an optional value contingent upon the underlying cache provider
+	 * providing extended stats support via
+	 * {@link org.hibernate.cache.spi.ExtendedStatisticsSupport}.  If the provider
+	 * does not support extended stats, {@link #NO_EXTENDED_STAT_SUPPORT_RETURN}
+	 * is returned instead.
+	 */
+	default long getEvictionCount() {
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
 }
@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+/**
+ * The state and activity of the connection pool built into Hibernate.
+ *
+ * @see Statistics#getConnectionPoolStatistics()
+ * @see org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl
+ */
+public interface ConnectionPoolStatistics {
+	/**
+	 * The number of connections open, in use or idle
+	 */
+	int getConnectionCount();
+
+	/**
+	 * The number of connections in use
+	 */
+	int getActiveConnectionCount();
+
+	/**
+	 * The number of idle connections
+	 */
+	int getIdleConnectionCount();
+
+	/**
+	 * The number of threads waiting for a connection
+	 */
+	int getPendingThreadCount();
+
+	/**
+	 * The maximum number of connections
+	 */
+	int getMaxSize();
+
+	/**
+	 * The number of connections obtained from the pool
+	 */
+	long getAcquisitionCount();
+
+	/**
+	 * The number of times no connection became available within the maximum wait
+	 */
+	long getAcquisitionTimeoutCount();
+
+	/**
+	 * The number of idle connections closed for being invalid, or idle for too long
+	 */
+	long getEvictionCount();
+
+	/**
+	 * The longest time, in milliseconds, taken to obtain a connection from the pool
+	 */
+	long getMaxAcquisitionTime();
+}
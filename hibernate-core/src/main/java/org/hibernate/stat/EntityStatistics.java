@@ -50,4 +50,23 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The distribution of the times taken by loading this entity by its identifier, other
+	 * than as an association fetch, or {@code null} if
+	 * {@value org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS}
+	 * is not enabled.
+	 */
+	default LatencyStatistics getLoadLatency() {
+		return null;
+	}
+
+	/**
+	 * The distribution of the times taken by fetching this entity by its identifier, or
+	 * {@code null} if {@value org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS}
+	 * is not enabled.
+	 */
+	default LatencyStatistics getFetchLatency() {
+		return null;
+	}
 }
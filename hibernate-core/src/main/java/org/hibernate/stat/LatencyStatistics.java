@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * The distribution of the times taken by an operation, such as the executions of a query,
+ * kept when {@value org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS}
+ * is enabled.
+ * <p/>
+ * All times are in microseconds.  Percentiles are approximations, within about 6% of the
+ * actual value.
+ *
+ * @see QueryStatistics#getExecutionLatency()
+ * @see EntityStatistics#getLoadLatency()
+ * @see EntityStatistics#getFetchLatency()
+ */
+public interface LatencyStatistics extends Serializable {
+	/**
+	 * The number of times recorded
+	 */
+	long getCount();
+
+	/**
+	 * The highest time recorded
+	 */
+	long getMaxTime();
+
+	/**
+	 * The time below which the given percentage of the recorded times fall
+	 *
+	 * @param percentile The percentile, between 0 and 100
+	 */
+	long getTimeAtPercentile(double percentile);
+
+	/**
+	 * The median of the recorded times
+	 */
+	default long getP50Time() {
+		return getTimeAtPercentile( 50 );
+	}
+
+	/**
+	 * The 95th percentile of the recorded times
+	 */
+	default long getP95Time() {
+		return getTimeAtPercentile( 95 );
+	}
+
+	/**
+	 * The 99th percentile of the recorded times
+	 */
+	default long getP99Time() {
+		return getTimeAtPercentile( 99 );
+	}
+
+	/**
+	 * The 99.9th percentile of the recorded times
+	 */
+	default long getP999Time() {
+		return getTimeAtPercentile( 99.9 );
+	}
+}
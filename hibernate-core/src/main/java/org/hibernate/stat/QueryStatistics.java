@@ -99,4 +99,13 @@ public interface QueryStatistics extends Serializable {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The distribution of the execution times of this query, or {@code null} if
+	 * {@value org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS}
+	 * is not enabled.
+	 */
+	default LatencyStatistics getExecutionLatency() {
+		return null;
+	}
 }
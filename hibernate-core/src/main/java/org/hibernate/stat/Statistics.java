@@ -234,6 +234,14 @@ public interface Statistics {
 	 */
 	long getConnectCount();
 
+	/**
+	 * The state and activity of the connection pool, or {@code null} if connections are not
+	 * obtained from the connection pool built into Hibernate.
+	 */
+	default ConnectionPoolStatistics getConnectionPoolStatistics() {
+		return null;
+	}
+
 	/**
      * Global number of cacheable entities/collections successfully retrieved from the cache
      */
@@ -74,6 +74,14 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, SecondL
 		return NO_EXTENDED_STAT_SUPPORT_RETURN;
 	}
 
+	@Override
+	public long getEvictionCount() {
+		if ( region instanceof ExtendedStatisticsSupport ) {
+			return ( (ExtendedStatisticsSupport) region ).getEvictionCount();
+		}
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
 	void incrementHitCount() {
 		hitCount.increment();
 	}
@@ -96,6 +104,7 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, SecondL
 				.append( ",elementCountInMemory=" ).append( this.getElementCountInMemory() )
 				.append( ",elementCountOnDisk=" ).append( this.getElementCountOnDisk() )
 				.append( ",sizeInMemory=" ).append( this.getSizeInMemory() )
+				.append( ",evictionCount=" ).append( this.getEvictionCount() )
 				.append( ']' );
 		return buf.toString();
 	}
@@ -26,14 +26,18 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LatencyHistogram loadLatency;
+	private final LatencyHistogram fetchLatency;
 
-	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
+	EntityStatisticsImpl(EntityPersister rootEntityDescriptor, boolean latencyHistogramsEnabled) {
 		super(
 				() -> rootEntityDescriptor.getCacheAccessStrategy() != null
 						? rootEntityDescriptor.getCacheAccessStrategy().getRegion()
 						: null
 		);
 		this.rootEntityName = rootEntityDescriptor.getRootEntityName();
+		this.loadLatency = latencyHistogramsEnabled ? new LatencyHistogram() : null;
+		this.fetchLatency = latencyHistogramsEnabled ? new LatencyHistogram() : null;
 	}
 
 	public long getDeleteCount() {
@@ -60,6 +64,16 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		return optimisticFailureCount.sum();
 	}
 
+	@Override
+	public LatencyHistogram getLoadLatency() {
+		return loadLatency;
+	}
+
+	@Override
+	public LatencyHistogram getFetchLatency() {
+		return fetchLatency;
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -84,6 +98,18 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		optimisticFailureCount.increment();
 	}
 
+	void recordLoadLatency(long nanoseconds) {
+		if ( loadLatency != null ) {
+			loadLatency.recordNanoseconds( nanoseconds );
+		}
+	}
+
+	void recordFetchLatency(long nanoseconds) {
+		if ( fetchLatency != null ) {
+			fetchLatency.recordNanoseconds( nanoseconds );
+		}
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
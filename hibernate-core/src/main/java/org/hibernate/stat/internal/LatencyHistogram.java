@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.LatencyStatistics;
+
+/**
+ * A lock-free histogram of times, in microseconds, with log-linear buckets in the manner of
+ * HdrHistogram: the times between two consecutive powers of two are split into
+ * 16 buckets of equal width, which bounds the relative error of the
+ * reported percentiles while keeping the histogram small.
+ * <p/>
+ * Times above 2^32 microseconds, a bit more than an hour, are counted in the highest bucket.
+ */
+public class LatencyHistogram implements LatencyStatistics {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_MAGNITUDE = 31;
+	private static final long MAX_TRACKABLE_TIME = ( 1L << ( MAX_MAGNITUDE + 1 ) ) - 1;
+	private static final int BUCKET_COUNT = ( MAX_MAGNITUDE - SUB_BUCKET_BITS + 2 ) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKET_COUNT );
+	private final LongAdder count = new LongAdder();
+	private final AtomicLong maxTime = new AtomicLong();
+
+	/**
+	 * Record a time, in nanoseconds
+	 */
+	public void recordNanoseconds(long nanoseconds) {
+		record( TimeUnit.NANOSECONDS.toMicros( nanoseconds ) );
+	}
+
+	/**
+	 * Record a time, in microseconds
+	 */
+	public void record(long microseconds) {
+		final long time = Math.min( Math.max( microseconds, 0 ), MAX_TRACKABLE_TIME );
+		counts.incrementAndGet( bucketIndex( time ) );
+		count.increment();
+		//noinspection StatementWithEmptyBody
+		for ( long old = maxTime.get(); time > old && !maxTime.compareAndSet( old, time ); old = maxTime.get() ) {
+		}
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getMaxTime() {
+		return maxTime.get();
+	}
+
+	@Override
+	public long getTimeAtPercentile(double percentile) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100 : " + percentile );
+		}
+
+		// the total is summed from the buckets, rather than read from `count`,
+		// so that it matches the bucket counts in presence of concurrent updates
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			total += counts.get( i );
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+
+		final long rank = Math.max( 1, (long) Math.ceil( percentile / 100 * total ) );
+		long seen = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			seen += counts.get( i );
+			if ( seen >= rank ) {
+				return Math.min( highestEquivalentTime( i ), maxTime.get() );
+			}
+		}
+		return maxTime.get();
+	}
+
+	static int bucketIndex(long time) {
+		final int magnitude = 63 - Long.numberOfLeadingZeros( time | 1 );
+		final int shift = Math.max( 0, magnitude - SUB_BUCKET_BITS );
+		return ( shift << SUB_BUCKET_BITS ) + (int) ( time >>> shift );
+	}
+
+	static long highestEquivalentTime(int bucketIndex) {
+		final int shift = Math.max( 0, ( bucketIndex >> SUB_BUCKET_BITS ) - 1 );
+		final long subBucket = bucketIndex - ( (long) shift << SUB_BUCKET_BITS );
+		return ( ( subBucket + 1 ) << shift ) - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyStatistics"
+				+ "[count=" + getCount()
+				+ ",p50=" + getP50Time()
+				+ ",p95=" + getP95Time()
+				+ ",p99=" + getP99Time()
+				+ ",p999=" + getP999Time()
+				+ ",max=" + getMaxTime()
+				+ ']';
+	}
+}
@@ -37,12 +37,18 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
+	private final LatencyHistogram executionLatency;
 
 	private final Lock readLock;
 	private final Lock writeLock;
 
 	public QueryStatisticsImpl(String query) {
+		this( query, false );
+	}
+
+	public QueryStatisticsImpl(String query, boolean latencyHistogramEnabled) {
 		this.query = query;
+		this.executionLatency = latencyHistogramEnabled ? new LatencyHistogram() : null;
 		ReadWriteLock lock = new ReentrantReadWriteLock();
 		this.readLock = lock.readLock();
 		this.writeLock = lock.writeLock();
@@ -153,6 +159,11 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return planCompilationTotalMicroseconds.get();
 	}
 
+	@Override
+	public LatencyHistogram getExecutionLatency() {
+		return executionLatency;
+	}
+
 	/**
 	 * add statistics report of a DB query
 	 *
@@ -176,6 +187,17 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		}
 	}
 
+	/**
+	 * add the execution time of a DB query to the latency histogram, if any
+	 *
+	 * @param nanoseconds time taken
+	 */
+	void recordExecutionLatency(long nanoseconds) {
+		if ( executionLatency != null ) {
+			executionLatency.recordNanoseconds( nanoseconds );
+		}
+	}
+
 	/**
 	 * add plan statistics report of a DB query
 	 *
@@ -7,6 +7,7 @@
 package org.hibernate.stat.internal;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -15,12 +16,14 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.ConnectionPoolStatistics;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -42,6 +45,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final String cacheRegionPrefix;
 	private final boolean secondLevelCacheEnabled;
 	private final boolean queryCacheEnabled;
+	private final boolean latencyHistogramsEnabled;
+	private final ConnectionProvider connectionProvider;
 
 	private volatile boolean isStatisticsEnabled;
 	private volatile long startTime;
@@ -127,6 +132,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		cacheRegionPrefix = sessionFactoryOptions.getCacheRegionPrefix();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
+		latencyHistogramsEnabled = sessionFactoryOptions.isStatisticsLatencyHistogramsEnabled();
+		connectionProvider = sessionFactory.getServiceRegistry().getService( ConnectionProvider.class );
 	}
 
 	/**
@@ -273,6 +280,18 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void entityLoadExecuted(String entityName, boolean fetch, long nanoseconds) {
+		if ( latencyHistogramsEnabled ) {
+			if ( fetch ) {
+				getEntityStatistics( entityName ).recordFetchLatency( nanoseconds );
+			}
+			else {
+				getEntityStatistics( entityName ).recordLoadLatency( nanoseconds );
+			}
+		}
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -652,7 +671,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	public QueryStatisticsImpl getQueryStatistics(String queryString) {
 		return queryStatsMap.getOrCompute(
 				queryString,
-				QueryStatisticsImpl::new
+				this::instantiateQueryStatistics
 		);
 	}
 
@@ -708,6 +727,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryExecutedNanoseconds(String hql, int rows, long nanoseconds) {
+		queryExecuted( hql, rows, TimeUnit.NANOSECONDS.toMillis( nanoseconds ) );
+		if ( latencyHistogramsEnabled && hql != null ) {
+			getQueryStatistics( hql ).recordExecutionLatency( nanoseconds );
+		}
+	}
+
 	@Override
 	public void queryCacheHit(String hql, String regionName) {
 		LOG.tracef( "Statistics#queryCacheHit( `%s`, `%s` )", hql, regionName );
@@ -805,6 +832,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return connectCount.sum();
 	}
 
+	@Override
+	public ConnectionPoolStatistics getConnectionPoolStatistics() {
+		// resolved on each call, as the pool is replaced when the provider is configured again
+		return connectionProvider != null && connectionProvider.isUnwrappableAs( ConnectionPoolStatistics.class )
+				? connectionProvider.unwrap( ConnectionPoolStatistics.class )
+				: null;
+	}
+
 	@Override
 	public long getSuccessfulTransactionCount() {
 		return committedTransactionCount.sum();
@@ -953,7 +988,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	}
 
 	private EntityStatisticsImpl instantiateEntityStatistics(final String entityName) {
-		return new EntityStatisticsImpl( metamodel.entityPersister( entityName ) );
+		return new EntityStatisticsImpl( metamodel.entityPersister( entityName ), latencyHistogramsEnabled );
+	}
+
+	private QueryStatisticsImpl instantiateQueryStatistics(final String queryString) {
+		return new QueryStatisticsImpl( queryString, latencyHistogramsEnabled );
 	}
 
 	private CollectionStatisticsImpl instantiateCollectionStatistics(final String role) {
@@ -6,6 +6,8 @@
  */
 package org.hibernate.stat.spi;
 
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
 import org.hibernate.stat.Statistics;
@@ -70,6 +72,17 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchEntity(String entityName);
 
+	/**
+	 * Callback about the time taken by loading an entity from the database by its identifier,
+	 * for the latency histograms of the entity.
+	 *
+	 * @param entityName The name of the entity loaded.
+	 * @param fetch Whether the entity was loaded as an association {@linkplain #fetchEntity fetch}
+	 * @param nanoseconds The time taken, in nanoseconds
+	 */
+	default void entityLoadExecuted(String entityName, boolean fetch, long nanoseconds) {
+	}
+
 	/**
 	 * Callback about an entity being updated.
 	 *
@@ -233,6 +246,18 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryExecuted(String hql, int rows, long time);
 
+	/**
+	 * Callback indicating execution of a sql/hql query, timed in nanoseconds for the
+	 * latency histogram of the query
+	 *
+	 * @param hql The query
+	 * @param rows Number of rows returned
+	 * @param nanoseconds execution time, in nanoseconds
+	 */
+	default void queryExecutedNanoseconds(String hql, int rows, long nanoseconds) {
+		queryExecuted( hql, rows, TimeUnit.NANOSECONDS.toMillis( nanoseconds ) );
+	}
+
 	/**
 	 * Callback indicating a hit to the timestamp cache
 	 */
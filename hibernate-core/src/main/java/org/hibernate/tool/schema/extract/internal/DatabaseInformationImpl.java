@@ -7,23 +7,38 @@
 package org.hibernate.tool.schema.extract.internal;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.boot.model.naming.Identifier;
 import org.hibernate.boot.model.relational.Namespace;
 import org.hibernate.boot.model.relational.QualifiedSequenceName;
 import org.hibernate.boot.model.relational.QualifiedTableName;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.resource.transaction.spi.DdlTransactionIsolator;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.tool.schema.extract.spi.DatabaseInformation;
 import org.hibernate.tool.schema.extract.spi.ExtractionContext;
 import org.hibernate.tool.schema.extract.spi.InformationExtractor;
 import org.hibernate.tool.schema.extract.spi.NameSpaceTablesInformation;
+import org.hibernate.tool.schema.extract.spi.SchemaExtractionException;
 import org.hibernate.tool.schema.extract.spi.SequenceInformation;
 import org.hibernate.tool.schema.extract.spi.TableInformation;
+import org.hibernate.tool.schema.internal.exec.JdbcConnectionAccessProvidedConnectionImpl;
 import org.hibernate.tool.schema.spi.SchemaManagementTool;
 
 /**
@@ -36,6 +51,12 @@ public class DatabaseInformationImpl
 	private final ExtractionContext extractionContext;
 	private final InformationExtractor extractor;
 
+	private final ServiceRegistry serviceRegistry;
+	private final DdlTransactionIsolator ddlTransactionIsolator;
+	private final SchemaManagementTool tool;
+	private final int extractionThreads;
+	private ExecutorService extractionExecutor;
+
 	private final Map<QualifiedSequenceName, SequenceInformation> sequenceInformationMap = new HashMap<>();
 
 	public DatabaseInformationImpl(
@@ -46,6 +67,14 @@ public class DatabaseInformationImpl
 			SchemaManagementTool tool) throws SQLException {
 		this.jdbcEnvironment = jdbcEnvironment;
 		this.sqlStringGenerationContext = sqlStringGenerationContext;
+		this.serviceRegistry = serviceRegistry;
+		this.ddlTransactionIsolator = ddlTransactionIsolator;
+		this.tool = tool;
+		this.extractionThreads = ConfigurationHelper.getInt(
+				AvailableSettings.HBM2DDL_JDBC_METADATA_EXTRACTOR_THREADS,
+				serviceRegistry.getService( ConfigurationService.class ).getSettings(),
+				1
+		);
 		this.extractionContext = tool.getExtractionTool().createExtractionContext(
 				serviceRegistry,
 				jdbcEnvironment,
@@ -141,8 +170,102 @@ public class DatabaseInformationImpl
 		return locateSequenceInformation( sequenceName );
 	}
 
+	@Override
+	public void extractIndexesAndForeignKeys(Iterable<TableInformation> tables) {
+		final Queue<TableInformationImpl> pending = new ConcurrentLinkedQueue<>();
+		for ( TableInformation table : tables ) {
+			if ( table instanceof TableInformationImpl
+					&& !( (TableInformationImpl) table ).areIndexesAndForeignKeysExtracted() ) {
+				pending.add( (TableInformationImpl) table );
+			}
+		}
+
+		final JdbcConnectionAccess connectionAccess = ddlTransactionIsolator.getJdbcContext().getJdbcConnectionAccess();
+		final int threads = Math.min( extractionThreads, pending.size() );
+		if ( threads <= 1 || connectionAccess instanceof JdbcConnectionAccessProvidedConnectionImpl ) {
+			// leave it to on demand extraction, as there is a single connection anyway
+			return;
+		}
+
+		final ExtractionContext.DatabaseObjectAccess tableAccess = new SharedDatabaseObjectAccess();
+		final ExecutorService executor = getExtractionExecutor();
+		try {
+			final List<Future<?>> extractions = new ArrayList<>( threads );
+			for ( int i = 0; i < threads; i++ ) {
+				extractions.add( executor.submit(
+						() -> extractIndexesAndForeignKeys( pending, connectionAccess, tableAccess )
+				) );
+			}
+			for ( Future<?> extraction : extractions ) {
+				extraction.get();
+			}
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new SchemaExtractionException( "Unable to extract index and foreign key information", e.getCause() );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SchemaExtractionException( "Interrupted while extracting index and foreign key information", e );
+		}
+	}
+
+	/**
+	 * The threads extracting index and foreign key information, shared by all namespaces, and stopped
+	 * on {@link #cleanup()}
+	 */
+	private ExecutorService getExtractionExecutor() {
+		if ( extractionExecutor == null ) {
+			final AtomicInteger threadCount = new AtomicInteger();
+			extractionExecutor = Executors.newFixedThreadPool(
+					extractionThreads,
+					runnable -> {
+						final Thread thread = new Thread(
+								runnable,
+								"Hibernate schema metadata extractor " + threadCount.incrementAndGet()
+						);
+						thread.setDaemon( true );
+						return thread;
+					}
+			);
+		}
+		return extractionExecutor;
+	}
+
+	/**
+	 * Extracts the information of the pending tables through a connection of its own, until none is left
+	 */
+	private void extractIndexesAndForeignKeys(
+			Queue<TableInformationImpl> pending,
+			JdbcConnectionAccess connectionAccess,
+			ExtractionContext.DatabaseObjectAccess tableAccess) {
+		final ExtractionContext extractionContext = new ExtractionContextImpl(
+				serviceRegistry,
+				jdbcEnvironment,
+				sqlStringGenerationContext,
+				connectionAccess,
+				tableAccess
+		);
+		try {
+			final InformationExtractor extractor = tool.getExtractionTool().createInformationExtractor( extractionContext );
+			TableInformationImpl table;
+			while ( ( table = pending.poll() ) != null ) {
+				table.extractIndexesAndForeignKeys( extractor );
+			}
+		}
+		finally {
+			extractionContext.cleanup();
+		}
+	}
+
 	@Override
 	public void cleanup() {
+		if ( extractionExecutor != null ) {
+			extractionExecutor.shutdownNow();
+			extractionExecutor = null;
+		}
 		extractionContext.cleanup();
 	}
 
@@ -160,4 +283,25 @@ public class DatabaseInformationImpl
 
 		return sequenceInformationMap.get( sequenceName );
 	}
+
+	/**
+	 * Gives the extractors of the extraction threads access to the tables referenced by foreign keys,
+	 * which are located through the extractor of this DatabaseInformation, one thread at a time, and only
+	 * once per table.
+	 */
+	private class SharedDatabaseObjectAccess implements ExtractionContext.DatabaseObjectAccess {
+		private final Map<QualifiedTableName, TableInformation> tables = new HashMap<>();
+
+		@Override
+		public TableInformation locateTableInformation(QualifiedTableName tableName) {
+			synchronized ( this ) {
+				return tables.computeIfAbsent( tableName, DatabaseInformationImpl.this::locateTableInformation );
+			}
+		}
+
+		@Override
+		public SequenceInformation locateSequenceInformation(QualifiedSequenceName sequenceName) {
+			return DatabaseInformationImpl.this.locateSequenceInformation( sequenceName );
+		}
+	}
 }
@@ -93,16 +93,20 @@ public class TableInformationImpl implements TableInformation {
 
 	protected Map<Identifier, ForeignKeyInformation> foreignKeys() {
 		if ( foreignKeys == null ) {
-			final Map<Identifier, ForeignKeyInformation> fkMap = new HashMap<>();
-			final Iterable<ForeignKeyInformation> fks = extractor.getForeignKeys( this );
-			for ( ForeignKeyInformation fk : fks ) {
-				fkMap.put( fk.getForeignKeyIdentifier(), fk );
-			}
-			this.foreignKeys = fkMap;
+			extractForeignKeys( extractor );
 		}
 		return foreignKeys;
 	}
 
+	private void extractForeignKeys(InformationExtractor extractor) {
+		final Map<Identifier, ForeignKeyInformation> fkMap = new HashMap<>();
+		final Iterable<ForeignKeyInformation> fks = extractor.getForeignKeys( this );
+		for ( ForeignKeyInformation fk : fks ) {
+			fkMap.put( fk.getForeignKeyIdentifier(), fk );
+		}
+		this.foreignKeys = fkMap;
+	}
+
 	@Override
 	public ForeignKeyInformation getForeignKey(Identifier fkIdentifier) {
 		return foreignKeys().get( new Identifier(
@@ -118,16 +122,38 @@ public class TableInformationImpl implements TableInformation {
 
 	protected Map<Identifier, IndexInformation> indexes() {
 		if ( indexes == null ) {
-			final Map<Identifier, IndexInformation> indexMap = new HashMap<>();
-			final Iterable<IndexInformation> indexes = extractor.getIndexes( this );
-			for ( IndexInformation index : indexes ) {
-				indexMap.put( index.getIndexIdentifier(), index );
-			}
-			this.indexes = indexMap;
+			extractIndexes( extractor );
 		}
 		return indexes;
 	}
 
+	private void extractIndexes(InformationExtractor extractor) {
+		final Map<Identifier, IndexInformation> indexMap = new HashMap<>();
+		final Iterable<IndexInformation> indexes = extractor.getIndexes( this );
+		for ( IndexInformation index : indexes ) {
+			indexMap.put( index.getIndexIdentifier(), index );
+		}
+		this.indexes = indexMap;
+	}
+
+	/**
+	 * Extract the index and foreign key information of this table, if not done yet, through the given
+	 * extractor rather than the one this table was extracted by.  Allows extracting the information of
+	 * several tables at the same time, each through an extractor (and connection) of its own.
+	 */
+	public void extractIndexesAndForeignKeys(InformationExtractor extractor) {
+		if ( indexes == null ) {
+			extractIndexes( extractor );
+		}
+		if ( foreignKeys == null ) {
+			extractForeignKeys( extractor );
+		}
+	}
+
+	public boolean areIndexesAndForeignKeysExtracted() {
+		return indexes != null && foreignKeys != null;
+	}
+
 	@Override
 	public void addColumn(ColumnInformation columnIdentifier) {
 		columns.put( columnIdentifier.getColumnIdentifier(), columnIdentifier );
@@ -111,5 +111,14 @@ public interface DatabaseInformation {
 	 */
 	boolean catalogExists(Identifier catalog);
 
+	/**
+	 * Extract the index and foreign key information of the given tables up front, rather than on demand,
+	 * table by table.  The default implementation does nothing.
+	 *
+	 * @param tables The tables, as obtained from this DatabaseInformation
+	 */
+	default void extractIndexesAndForeignKeys(Iterable<TableInformation> tables) {
+	}
+
 	void cleanup();
 }
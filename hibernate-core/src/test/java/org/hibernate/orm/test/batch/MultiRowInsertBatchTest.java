@@ -0,0 +1,117 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.OracleDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SkipForDialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that batched inserts are executed as multi-row INSERT statements
+ */
+@DomainModel(
+		annotatedClasses = MultiRowInsertBatchTest.Product.class
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = AvailableSettings.BATCH_MULTI_ROW_INSERTS, value = "true")
+		}
+)
+@SessionFactory(statementInspectorClass = SQLStatementInspector.class)
+@SkipForDialect(dialectClass = OracleDialect.class, reason = "Oracle does not support multi-row VALUES lists")
+public class MultiRowInsertBatchTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testMultiRowInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 25; i++ ) {
+						session.persist( new Product( i, "product " + i ) );
+					}
+				}
+		);
+
+		// the statement for 10 rows is prepared once and reused for the second chunk
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries ).hasSize( 2 );
+		assertThat( sqlQueries.get( 0 ) ).startsWith( "insert" );
+		assertThat( countRows( sqlQueries.get( 0 ) ) ).isEqualTo( 10 );
+		assertThat( countRows( sqlQueries.get( 1 ) ) ).isEqualTo( 5 );
+
+		scope.inTransaction(
+				session -> {
+					final List<Product> products = session.createQuery( "from Product order by id", Product.class )
+							.list();
+					assertThat( products ).hasSize( 25 );
+					for ( int i = 0; i < 25; i++ ) {
+						assertThat( products.get( i ).id ).isEqualTo( i );
+						assertThat( products.get( i ).name ).isEqualTo( "product " + i );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testFlushWithPartialBatch(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 3; i++ ) {
+						session.persist( new Product( i, "product " + i ) );
+					}
+					session.flush();
+					assertThat( session.createQuery( "select count(p) from Product p", Long.class ).getSingleResult() )
+							.isEqualTo( 3L );
+				}
+		);
+	}
+
+	private static int countRows(String sql) {
+		return sql.split( "\\), \\(" ).length;
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "multi_row_product")
+	public static class Product {
+		@Id
+		public Integer id;
+		public String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that multi-row INSERT statements respect the row count limit of the Dialect
+ */
+@RequiresDialect(H2Dialect.class)
+@DomainModel(
+		annotatedClasses = MultiRowInsertRowCountLimitTest.Tag.class
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = AvailableSettings.BATCH_MULTI_ROW_INSERTS, value = "true")
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.DIALECT,
+				provider = MultiRowInsertRowCountLimitTest.DialectProvider.class
+		)
+)
+@SessionFactory(statementInspectorClass = SQLStatementInspector.class)
+public class MultiRowInsertRowCountLimitTest {
+	private static final int ROW_COUNT_LIMIT = 4;
+
+	public static class DialectProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return RowCountLimitH2Dialect.class.getName();
+		}
+	}
+
+	public static class RowCountLimitH2Dialect extends H2Dialect {
+		@Override
+		public int getValuesListRowCountLimit() {
+			return ROW_COUNT_LIMIT;
+		}
+	}
+
+	@Test
+	public void testRowCountLimit(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 10; i++ ) {
+						session.persist( new Tag( i ) );
+					}
+				}
+		);
+
+		// the statement for 4 rows is prepared once and reused for the second chunk
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries ).hasSize( 2 );
+		assertThat( countRows( sqlQueries.get( 0 ) ) ).isEqualTo( ROW_COUNT_LIMIT );
+		assertThat( countRows( sqlQueries.get( 1 ) ) ).isEqualTo( 2 );
+
+		scope.inTransaction(
+				session -> assertThat(
+						session.createQuery( "select count(t) from Tag t", Long.class ).getSingleResult()
+				).isEqualTo( 10L )
+		);
+	}
+
+	private static int countRows(String sql) {
+		return sql.split( "\\), \\(" ).length;
+	}
+
+	@Entity(name = "Tag")
+	@Table(name = "multi_row_tag")
+	public static class Tag {
+		@Id
+		public Integer id;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -8,10 +8,15 @@ package org.hibernate.orm.test.bootstrap.scanning;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 
+import org.hibernate.boot.archive.scan.internal.SnapshotScanner;
 import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.internal.StandardScanner;
@@ -70,6 +75,56 @@ public class ScannerTest extends PackagingTestCase {
 		}
 	}
 
+	@Test
+	public void testSnapshotScanner() throws Exception {
+		File defaultPar = buildDefaultPar();
+		addPackageToClasspath( defaultPar );
+
+		PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( defaultPar.toURL() );
+		ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+		Path snapshotFile = Files.createTempDirectory( "scan" ).resolve( "scan-snapshot.txt" );
+		AtomicInteger scans = new AtomicInteger();
+		Scanner countingScanner = (environment, scanOptions, params) -> {
+			scans.incrementAndGet();
+			return new StandardScanner().scan( environment, scanOptions, params );
+		};
+
+		ScanResult scanResult = new SnapshotScanner( countingScanner, snapshotFile )
+				.scan( env, options, StandardScanParameters.INSTANCE );
+		assertEquals( 1, scans.get() );
+		assertTrue( Files.exists( snapshotFile ) );
+
+		// the archive is unchanged, the snapshot is used
+		ScanResult snapshotResult = new SnapshotScanner( countingScanner, snapshotFile )
+				.scan( env, options, StandardScanParameters.INSTANCE );
+		assertEquals( 1, scans.get() );
+		assertEquals( 3, snapshotResult.getLocatedClasses().size() );
+		assertClassesContained( snapshotResult, ApplicationServer.class );
+		assertClassesContained( snapshotResult, Version.class );
+		assertEquals( scanResult.getLocatedPackages().size(), snapshotResult.getLocatedPackages().size() );
+		assertEquals( 2, snapshotResult.getLocatedMappingFiles().size() );
+		for ( MappingFileDescriptor mappingFileDescriptor : snapshotResult.getLocatedMappingFiles() ) {
+			InputStream stream = mappingFileDescriptor.getStreamAccess().accessInputStream();
+			assertNotNull( stream );
+			stream.close();
+		}
+
+		// a stale snapshot is replaced
+		List<String> lines = Files.readAllLines( snapshotFile );
+		lines.set( 0, "fingerprint 0" );
+		Files.write( snapshotFile, lines );
+		new SnapshotScanner( countingScanner, snapshotFile ).scan( env, options, StandardScanParameters.INSTANCE );
+		assertEquals( 2, scans.get() );
+		new SnapshotScanner( countingScanner, snapshotFile ).scan( env, options, StandardScanParameters.INSTANCE );
+		assertEquals( 2, scans.get() );
+
+		// a modified archive is scanned again
+		assertTrue( defaultPar.setLastModified( defaultPar.lastModified() + 10_000 ) );
+		new SnapshotScanner( countingScanner, snapshotFile ).scan( env, options, StandardScanParameters.INSTANCE );
+		assertEquals( 3, scans.get() );
+	}
+
 	private void assertClassesContained(ScanResult scanResult, Class classToCheckFor) {
 		for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
 			if ( classDescriptor.getName().equals( classToCheckFor.getName() ) ) {
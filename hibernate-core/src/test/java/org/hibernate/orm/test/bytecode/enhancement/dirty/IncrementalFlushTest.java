@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SelfDirtinessNotifier;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that incremental flushes only visit the entities changed since the last flush, along with
+ * those whose changes are not tracked, and still flush every change.
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+public class IncrementalFlushTest extends BaseCoreFunctionalTestCase {
+
+	private static final int ITEM_COUNT = 10;
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Item.class, Shelf.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.INCREMENTAL_FLUSH, "true" );
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= ITEM_COUNT; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+			final Shelf shelf = new Shelf( 1 );
+			shelf.labels.add( "top" );
+			session.persist( shelf );
+		} );
+	}
+
+	@After
+	public void cleanup() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Item" ).executeUpdate();
+			session.createQuery( "from Shelf", Shelf.class ).list().forEach( session::remove );
+		} );
+	}
+
+	@Test
+	public void testOnlyChangedEntitiesAreVisited() {
+		doInHibernate( this::sessionFactory, session -> {
+			final FlushCounter counter = new FlushCounter();
+			session.addEventListeners( counter );
+
+			final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+			session.find( Shelf.class, 1 );
+
+			// the loaded entities are visited once
+			session.flush();
+			session.flush();
+			// the shelf, having a collection, is always visited
+			assertEquals( 1, counter.entities );
+
+			items.get( 2 ).setName( "changed" );
+			session.flush();
+			assertEquals( 2, counter.entities );
+
+			// the change is visible to queries, which auto-flush
+			items.get( 5 ).setName( "changed too" );
+			assertEquals(
+					Long.valueOf( 2 ),
+					session.createQuery( "select count(i) from Item i where i.name like 'changed%'", Long.class )
+							.getSingleResult()
+			);
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "changed", session.find( Item.class, 3 ).getName() );
+			assertEquals( "changed too", session.find( Item.class, 6 ).getName() );
+			assertEquals( "item 4", session.find( Item.class, 4 ).getName() );
+		} );
+	}
+
+	@Test
+	public void testRemovedAndPersistedEntitiesAreFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Item", Item.class ).list();
+			session.flush();
+			session.flush();
+
+			session.remove( session.find( Item.class, 1 ) );
+			session.persist( new Item( ITEM_COUNT + 1, "new" ) );
+			session.flush();
+
+			session.find( Item.class, ITEM_COUNT + 1 ).setName( "new and changed" );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertNull( session.find( Item.class, 1 ) );
+			final Item item = session.find( Item.class, ITEM_COUNT + 1 );
+			assertNotNull( item );
+			assertEquals( "new and changed", item.getName() );
+		} );
+	}
+
+	@Test
+	public void testEnhancedEntitiesNotifyTheirChanges() {
+		assertTrue( SelfDirtinessNotifier.class.isAssignableFrom( Item.class ) );
+	}
+
+	@Test
+	public void testEntitiesAreVisitedWithInterceptor() {
+		try ( Session session = sessionFactory().withOptions().interceptor( new FlushInterceptor() ).openSession() ) {
+			session.getTransaction().begin();
+			final FlushCounter counter = new FlushCounter();
+			session.addEventListeners( counter );
+
+			session.createQuery( "from Item", Item.class ).list();
+			session.flush();
+			// the interceptor gets to see every entity, as without incremental flushes
+			session.flush();
+			assertEquals( ITEM_COUNT, counter.entities );
+			session.getTransaction().commit();
+		}
+	}
+
+	private static class FlushInterceptor extends EmptyInterceptor {
+		@Override
+		public void preFlush(Iterator<Object> entities) {
+		}
+	}
+
+	private static class FlushCounter extends BaseSessionEventListener {
+		private int entities = -1;
+
+		@Override
+		public void flushEnd(int numberOfEntities, int numberOfCollections) {
+			entities = numberOfEntities;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Shelf")
+	public static class Shelf {
+		@Id
+		private Integer id;
+		@ElementCollection
+		private List<String> labels = new ArrayList<>();
+
+		public Shelf() {
+		}
+
+		public Shelf(Integer id) {
+			this.id = id;
+		}
+	}
+}
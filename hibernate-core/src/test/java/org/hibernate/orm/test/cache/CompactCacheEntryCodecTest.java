@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.LockMode;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.internal.CompactCacheEntryCodec;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.internal.util.SerializationHelper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompactCacheEntryCodecTest {
+
+	@Test
+	public void testRoundTrip() {
+		final Timestamp timestamp = new Timestamp( 1_600_000_000_123L );
+		timestamp.setNanos( 123_456_789 );
+		final Serializable[] state = {
+				null,
+				"text",
+				"",
+				Integer.MIN_VALUE,
+				-1L,
+				Long.MAX_VALUE,
+				(short) 42,
+				(byte) -7,
+				Boolean.TRUE,
+				'x',
+				3.5f,
+				-0.25d,
+				new BigDecimal( "-12345.6789" ),
+				new BigInteger( "123456789012345678901234567890" ),
+				new byte[] { 1, 2, 3 },
+				UUID.randomUUID(),
+				new Date( 1_600_000_000_000L ),
+				new java.sql.Date( 1_600_000_000_000L ),
+				new java.sql.Time( 1_600_000_000_000L ),
+				timestamp,
+				LocalDate.of( 2021, 3, 14 ),
+				LocalTime.of( 23, 59, 58, 999 ),
+				LocalDateTime.of( 1969, 12, 31, 12, 0 ),
+				Instant.ofEpochSecond( -1, 5 ),
+				LockMode.PESSIMISTIC_WRITE,
+				new Serializable[] { "street", 12 },
+				LazyPropertyInitializer.UNFETCHED_PROPERTY,
+				new StringBuilder( "serialized" )
+		};
+		final StandardCacheEntryImpl entry = new StandardCacheEntryImpl(
+				state,
+				"Person",
+				7,
+				CompactCacheEntryCodec.INSTANCE
+		);
+
+		final CacheEntry copy = (CacheEntry) SerializationHelper.clone( entry );
+		assertThat( copy ).isInstanceOf( StandardCacheEntryImpl.class );
+		assertThat( copy.getSubclass() ).isEqualTo( "Person" );
+		assertThat( copy.getVersion() ).isEqualTo( 7 );
+
+		final Serializable[] copiedState = copy.getDisassembledState();
+		assertThat( copiedState ).hasSize( state.length );
+		for ( int i = 0; i < state.length - 1; i++ ) {
+			if ( state[i] instanceof Object[] ) {
+				assertThat( (Object[]) copiedState[i] ).containsExactly( (Object[]) state[i] );
+			}
+			else {
+				assertThat( copiedState[i] ).isEqualTo( state[i] );
+			}
+		}
+		assertThat( copiedState[state.length - 1].toString() ).isEqualTo( "serialized" );
+		assertThat( copiedState[2] ).isInstanceOf( String.class );
+	}
+
+	@Test
+	public void testCompactness() {
+		final Serializable[] state = {
+				"Jane",
+				"Doe",
+				42,
+				123L,
+				new BigDecimal( "1999.99" ),
+				LocalDate.of( 1980, 1, 1 ),
+				Boolean.FALSE,
+				null
+		};
+		final byte[] javaSerialized = SerializationHelper.serialize(
+				new StandardCacheEntryImpl( state, "Person", 1, null )
+		);
+		final byte[] compact = SerializationHelper.serialize(
+				new StandardCacheEntryImpl( state, "Person", 1, CompactCacheEntryCodec.INSTANCE )
+		);
+		assertThat( compact.length * 2 ).isLessThan( javaSerialized.length );
+		assertThat( CompactCacheEntryCodec.INSTANCE.encode(
+				new StandardCacheEntryImpl( state, "Person", 1, null )
+		).length ).isLessThan( 50 );
+	}
+}
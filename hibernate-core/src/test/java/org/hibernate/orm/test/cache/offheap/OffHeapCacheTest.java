@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache.offheap;
+
+import java.util.Arrays;
+
+import org.hibernate.cache.offheap.internal.OffHeapCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffHeapCacheTest {
+	// a single segment of 256 blocks
+	private static final int MAX_SIZE = 16 * 1024;
+	private static final int BLOCK_SIZE = 64;
+
+	@Test
+	public void testPutAndGet() {
+		final OffHeapCache cache = new OffHeapCache( MAX_SIZE, MAX_SIZE, BLOCK_SIZE );
+		final byte[] small = bytes( 10, (byte) 1 );
+		final byte[] large = bytes( 1000, (byte) 2 );
+		cache.put( "small", small );
+		cache.put( "large", large );
+		cache.put( "empty", new byte[0] );
+
+		assertThat( cache.get( "small" ) ).isEqualTo( small );
+		assertThat( cache.get( "large" ) ).isEqualTo( large );
+		assertThat( cache.get( "empty" ) ).isEmpty();
+		assertThat( cache.get( "missing" ) ).isNull();
+		assertThat( cache.getEntryCount() ).isEqualTo( 3 );
+		assertThat( cache.getSizeInBytes() ).isEqualTo( ( 1 + 16 + 1 ) * BLOCK_SIZE );
+
+		final byte[] replacement = bytes( 100, (byte) 3 );
+		cache.put( "large", replacement );
+		assertThat( cache.get( "large" ) ).isEqualTo( replacement );
+		assertThat( cache.getSizeInBytes() ).isEqualTo( ( 1 + 2 + 1 ) * BLOCK_SIZE );
+
+		cache.remove( "small" );
+		assertThat( cache.contains( "small" ) ).isFalse();
+		assertThat( cache.getEntryCount() ).isEqualTo( 2 );
+
+		cache.clear();
+		assertThat( cache.getEntryCount() ).isEqualTo( 0 );
+		assertThat( cache.getSizeInBytes() ).isEqualTo( 0 );
+		assertThat( cache.get( "large" ) ).isNull();
+	}
+
+	@Test
+	public void testSizeBound() {
+		final OffHeapCache cache = new OffHeapCache( MAX_SIZE, MAX_SIZE, BLOCK_SIZE );
+		for ( int i = 0; i < 1000; i++ ) {
+			cache.put( i, bytes( 100, (byte) i ) );
+			assertThat( cache.getSizeInBytes() ).isLessThanOrEqualTo( MAX_SIZE );
+		}
+		assertThat( cache.getEvictionCount() ).isGreaterThan( 0 );
+		assertThat( cache.getEntryCount() ).isLessThanOrEqualTo( MAX_SIZE / ( 2 * BLOCK_SIZE ) );
+
+		// values larger than the whole cache are never stored
+		cache.put( "huge", bytes( MAX_SIZE + 1, (byte) 0 ) );
+		assertThat( cache.contains( "huge" ) ).isFalse();
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final OffHeapCache cache = new OffHeapCache( MAX_SIZE, MAX_SIZE, BLOCK_SIZE );
+		for ( int i = 0; i < 50; i++ ) {
+			cache.put( "hot" + i, bytes( 100, (byte) i ) );
+		}
+		for ( int round = 0; round < 5; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				assertThat( cache.get( "hot" + i ) ).isNotNull();
+			}
+		}
+
+		// a scan of entries read only once must not flush the frequently read ones
+		for ( int i = 0; i < 1000; i++ ) {
+			cache.put( "scan" + i, bytes( 100, (byte) i ) );
+		}
+		for ( int i = 0; i < 50; i++ ) {
+			assertThat( cache.get( "hot" + i ) ).isEqualTo( bytes( 100, (byte) i ) );
+		}
+	}
+
+	private static byte[] bytes(int length, byte value) {
+		final byte[] bytes = new byte[length];
+		Arrays.fill( bytes, value );
+		return bytes;
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache.offheap;
+
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.offheap.OffHeapRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests entity and query caching with the {@link OffHeapRegionFactory}
+ */
+@DomainModel(
+		annotatedClasses = OffHeapRegionFactoryTest.Country.class
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+				@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.offheap.OffHeapRegionFactory"),
+				@Setting(name = OffHeapRegionFactory.MAX_SIZE + ".country", value = "65536")
+		}
+)
+@SessionFactory
+public class OffHeapRegionFactoryTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Country( 1, "Belgium" ) );
+					session.persist( new Country( 2, "Netherlands" ) );
+				}
+		);
+	}
+
+	@Test
+	public void testEntityCaching(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictAllRegions();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> session.get( Country.class, 1 ) );
+		scope.inTransaction(
+				session -> {
+					final Country country = session.get( Country.class, 1 );
+					assertThat( country.name ).isEqualTo( "Belgium" );
+				}
+		);
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( "country" );
+		assertThat( regionStatistics.getPutCount() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getHitCount() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getElementCountInMemory() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getSizeInMemory() ).isGreaterThan( 0 );
+		assertThat( regionStatistics.getEvictionCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testEntityUpdate(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.get( Country.class, 2 ).name = "Nederland" );
+		scope.inTransaction(
+				session -> {
+					// the cache returns copies, so the value is the one written on update
+					assertThat( session.get( Country.class, 2 ).name ).isEqualTo( "Nederland" );
+				}
+		);
+		scope.inTransaction( session -> session.get( Country.class, 2 ).name = "Netherlands" );
+	}
+
+	@Test
+	public void testQueryCaching(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction(
+					session -> {
+						final List<Country> countries = session.createQuery( "from Country order by id", Country.class )
+								.setCacheable( true )
+								.list();
+						assertThat( countries ).hasSize( 2 );
+					}
+			);
+		}
+
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Country")
+	@Table(name = "offheap_country")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "country")
+	public static class Country {
+		@Id
+		public Integer id;
+		public String name;
+
+		public Country() {
+		}
+
+		public Country(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
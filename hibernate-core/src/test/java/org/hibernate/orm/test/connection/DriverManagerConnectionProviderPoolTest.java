@@ -0,0 +1,299 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl.PooledConnections;
+import org.hibernate.internal.log.ConnectionPoolingLogger;
+import org.hibernate.stat.ConnectionPoolStatistics;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.hibernate.testing.logger.LoggerInspectionRule;
+import org.hibernate.testing.logger.Triggerable;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the waiting, timeouts, validation and metrics of the connection pool built into
+ * {@link DriverManagerConnectionProviderImpl}.
+ */
+public class DriverManagerConnectionProviderPoolTest extends BaseUnitTestCase {
+
+	@Rule
+	public LoggerInspectionRule logInspection = new LoggerInspectionRule( ConnectionPoolingLogger.CONNECTIONS_LOGGER );
+
+	private DriverManagerConnectionProviderImpl connectionProvider;
+
+	@After
+	public void tearDown() {
+		if ( connectionProvider != null ) {
+			connectionProvider.stop();
+		}
+	}
+
+	private ConnectionPoolStatistics configure(int poolSize, long maxWait) {
+		return configure( new DriverManagerConnectionProviderImpl(), poolSize, maxWait, new HashMap<>() );
+	}
+
+	private ConnectionPoolStatistics configure(
+			DriverManagerConnectionProviderImpl provider,
+			int poolSize,
+			long maxWait,
+			Map<Object, Object> additionalSettings) {
+		final Map<Object, Object> settings = new HashMap<>( Environment.getProperties() );
+		settings.put( AvailableSettings.POOL_SIZE, Integer.toString( poolSize ) );
+		settings.put( DriverManagerConnectionProviderImpl.MAX_WAIT, Long.toString( maxWait ) );
+		// the pool is validated by the tests
+		settings.put( DriverManagerConnectionProviderImpl.VALIDATION_INTERVAL, "3600" );
+		settings.putAll( additionalSettings );
+		connectionProvider = provider;
+		connectionProvider.configure( settings );
+		return connectionProvider.unwrap( ConnectionPoolStatistics.class );
+	}
+
+	@Test
+	public void testReleasedConnectionIsReusedBySameThread() throws Exception {
+		final ConnectionPoolStatistics statistics = configure( 5, 1000 );
+
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		connectionProvider.closeConnection( second );
+		connectionProvider.closeConnection( first );
+
+		final Connection reused = connectionProvider.getConnection();
+		assertSame( first, reused );
+		assertEquals( 1, statistics.getActiveConnectionCount() );
+		assertEquals( 2, statistics.getConnectionCount() );
+		assertEquals( 3, statistics.getAcquisitionCount() );
+		connectionProvider.closeConnection( reused );
+	}
+
+	@Test
+	public void testTimeoutWhenExhausted() throws Exception {
+		final ConnectionPoolStatistics statistics = configure( 2, 100 );
+
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		try {
+			connectionProvider.getConnection();
+			fail( "Expecting the pool to be exhausted" );
+		}
+		catch (HibernateException expected) {
+		}
+
+		assertEquals( 2, statistics.getActiveConnectionCount() );
+		assertEquals( 0, statistics.getIdleConnectionCount() );
+		assertEquals( 1, statistics.getAcquisitionTimeoutCount() );
+		assertEquals( 0, statistics.getPendingThreadCount() );
+
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+		assertEquals( 2, statistics.getIdleConnectionCount() );
+	}
+
+	@Test
+	public void testReleasedConnectionIsHandedToWaitingThread() throws Exception {
+		final ConnectionPoolStatistics statistics = configure( 1, 10_000 );
+
+		final Connection connection = connectionProvider.getConnection();
+		final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> {
+			try {
+				return connectionProvider.getConnection();
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+		} );
+
+		final long deadline = System.currentTimeMillis() + 5_000;
+		while ( statistics.getPendingThreadCount() == 0 ) {
+			assertTrue( "Expecting a thread waiting for a connection", System.currentTimeMillis() < deadline );
+			Thread.sleep( 10 );
+		}
+
+		connectionProvider.closeConnection( connection );
+		final Connection handedOver = waiting.get( 5, TimeUnit.SECONDS );
+		assertSame( connection, handedOver );
+		assertEquals( 0, statistics.getPendingThreadCount() );
+		assertEquals( 1, statistics.getActiveConnectionCount() );
+
+		connectionProvider.closeConnection( handedOver );
+		assertEquals( 0, statistics.getActiveConnectionCount() );
+	}
+
+	@Test
+	public void testIdleConnectionsAreEvicted() throws Exception {
+		final Map<Object, Object> settings = new HashMap<>();
+		settings.put( DriverManagerConnectionProviderImpl.MIN_SIZE, "1" );
+		settings.put( DriverManagerConnectionProviderImpl.IDLE_TIMEOUT, "1" );
+		final ConnectionPoolStatistics statistics = configure( new DriverManagerConnectionProviderImpl(), 5, 1000, settings );
+
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		final Connection third = connectionProvider.getConnection();
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+		connectionProvider.closeConnection( third );
+		assertEquals( 3, statistics.getIdleConnectionCount() );
+
+		// not idle for long enough yet
+		( (PooledConnections) statistics ).validate();
+		assertEquals( 3, statistics.getIdleConnectionCount() );
+
+		Thread.sleep( 1_100 );
+		( (PooledConnections) statistics ).validate();
+		// the minimum size is kept
+		assertEquals( 1, statistics.getConnectionCount() );
+		assertEquals( 1, statistics.getIdleConnectionCount() );
+		assertEquals( 2, statistics.getEvictionCount() );
+	}
+
+	@Test
+	public void testInvalidConnectionsAreEvicted() throws Exception {
+		final InvalidatingConnectionProvider provider = new InvalidatingConnectionProvider();
+		final ConnectionPoolStatistics statistics = configure( provider, 5, 1000, new HashMap<>() );
+
+		final Connection connection = connectionProvider.getConnection();
+		final Connection other = connectionProvider.getConnection();
+		connectionProvider.closeConnection( connection );
+		connectionProvider.closeConnection( other );
+		assertEquals( 2, statistics.getIdleConnectionCount() );
+
+		provider.invalidConnections.add( connection );
+		( (PooledConnections) statistics ).validate();
+		assertTrue( connection.isClosed() );
+		assertFalse( other.isClosed() );
+		assertEquals( 1, statistics.getEvictionCount() );
+		assertEquals( 1, statistics.getConnectionCount() );
+
+		final Connection reused = connectionProvider.getConnection();
+		assertNotSame( connection, reused );
+		connectionProvider.closeConnection( reused );
+	}
+
+	@Test
+	public void testValidationUsesConnectionIsValid() throws Exception {
+		configure( 1, 1000 );
+
+		final Connection connection = connectionProvider.getConnection();
+		assertTrue( connectionProvider.isValid( connection ) );
+		connectionProvider.closeConnection( connection );
+
+		connectionProvider.releasePooledConnections();
+		assertTrue( connection.isClosed() );
+		assertFalse( connectionProvider.isValid( connection ) );
+
+		// the connection last released by this thread is not handed out again
+		final Connection reopened = connectionProvider.getConnection();
+		assertNotSame( connection, reopened );
+		connectionProvider.closeConnection( reopened );
+	}
+
+	@Test
+	public void testValidationCanBeDisabled() throws Exception {
+		final Map<Object, Object> settings = new HashMap<>();
+		settings.put( DriverManagerConnectionProviderImpl.VALIDATION_TIMEOUT, "0" );
+		configure( new DriverManagerConnectionProviderImpl(), 1, 1000, settings );
+
+		final Connection connection = connectionProvider.getConnection();
+		connectionProvider.closeConnection( connection );
+		connectionProvider.releasePooledConnections();
+		assertTrue( connectionProvider.isValid( connection ) );
+	}
+
+	@Test
+	public void testLeakDetection() throws Exception {
+		final Map<Object, Object> settings = new HashMap<>();
+		settings.put( DriverManagerConnectionProviderImpl.LEAK_DETECTION_THRESHOLD, "1" );
+		final ConnectionPoolStatistics statistics = configure( new DriverManagerConnectionProviderImpl(), 2, 1000, settings );
+		final Triggerable leakReport = logInspection.watchForLogMessages( "Connection obtained by thread" );
+
+		final Connection connection = connectionProvider.getConnection();
+		( (PooledConnections) statistics ).validate();
+		assertFalse( leakReport.wasTriggered() );
+
+		Thread.sleep( 1_100 );
+		( (PooledConnections) statistics ).validate();
+		assertTrue( leakReport.wasTriggered() );
+
+		connectionProvider.closeConnection( connection );
+	}
+
+	@Test
+	public void testNoValidationWhenObtainingAndReleasing() throws Exception {
+		final CountingConnectionProvider provider = new CountingConnectionProvider();
+		final ConnectionPoolStatistics statistics = configure( provider, 2, 1000, new HashMap<>() );
+
+		for ( int i = 0; i < 10; i++ ) {
+			connectionProvider.closeConnection( connectionProvider.getConnection() );
+		}
+		assertEquals( 0, provider.validations.get() );
+
+		// only the background validation checks the idle connections
+		( (PooledConnections) statistics ).validate();
+		assertEquals( statistics.getIdleConnectionCount(), provider.validations.get() );
+	}
+
+	@Test
+	public void testValidateOnBorrow() throws Exception {
+		final Map<Object, Object> settings = new HashMap<>();
+		settings.put( DriverManagerConnectionProviderImpl.VALIDATE_ON_BORROW, "true" );
+		final CountingConnectionProvider provider = new CountingConnectionProvider();
+		configure( provider, 2, 1000, settings );
+
+		for ( int i = 0; i < 10; i++ ) {
+			connectionProvider.closeConnection( connectionProvider.getConnection() );
+		}
+		assertEquals( 10, provider.validations.get() );
+	}
+
+	/**
+	 * Counts the validations of connections
+	 */
+	public static class CountingConnectionProvider extends DriverManagerConnectionProviderImpl {
+		private final AtomicInteger validations = new AtomicInteger();
+
+		@Override
+		public boolean isValid(Connection connection) throws SQLException {
+			validations.incrementAndGet();
+			return super.isValid( connection );
+		}
+	}
+
+	/**
+	 * Considers the given connections as no longer valid
+	 */
+	public static class InvalidatingConnectionProvider extends DriverManagerConnectionProviderImpl {
+		private final Set<Connection> invalidConnections = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public boolean isValid(Connection connection) throws SQLException {
+			return !invalidConnections.contains( connection ) && super.isValid( connection );
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.dialect;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.dialect.bulk.MySQLLoadDataBulkInsertSupport;
+import org.hibernate.dialect.bulk.PostgreSQLCopyBulkInsertSupport;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the text sent by the bulk insert supports of PostgreSQL ({@code COPY}) and MySQL ({@code LOAD DATA})
+ */
+public class BulkInsertTextTest {
+	private static final String[] COLUMNS = { "id", "name", "data", "amount", "active" };
+
+	private static final List<Object[]> ROWS = Arrays.asList(
+			new Object[] { 1, "tab\tnew line\nreturn\rback\\slash", new byte[] { 0x01, (byte) 0xab }, new BigDecimal( "1E+3" ), true },
+			new Object[] { 2, null, null, null, false }
+	);
+
+	@Test
+	public void testPostgreSQLCopyText() throws SQLException {
+		final CapturingPostgreSQLCopy copy = new CapturingPostgreSQLCopy();
+		copy.load( "item", COLUMNS, ROWS, null );
+		assertEquals(
+				"1\ttab\\tnew line\\nreturn\\rback\\\\slash\t\\\\x01ab\t1000\ttrue\n"
+						+ "2\t\\N\t\\N\t\\N\tfalse\n",
+				copy.text
+		);
+	}
+
+	@Test
+	public void testMySQLLoadDataText() throws SQLException {
+		final CapturingMySQLLoadData loadData = new CapturingMySQLLoadData();
+		loadData.load( "item", COLUMNS, ROWS, null );
+		assertEquals(
+				"1\ttab\\tnew line\\nreturn\\rback\\\\slash\t01ab\t1000\t1\n"
+						+ "2\t\\N\t\\N\t\\N\t0\n",
+				loadData.text
+		);
+	}
+
+	private static class CapturingPostgreSQLCopy extends PostgreSQLCopyBulkInsertSupport {
+		private String text;
+
+		@Override
+		protected long load(String tableName, String[] columnNames, List<Object[]> rows, String text, Connection connection) {
+			this.text = text;
+			return rows.size();
+		}
+	}
+
+	private static class CapturingMySQLLoadData extends MySQLLoadDataBulkInsertSupport {
+		private String text;
+
+		@Override
+		protected long load(String tableName, String[] columnNames, List<Object[]> rows, String text, Connection connection) {
+			this.text = text;
+			return rows.size();
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests dirty checking with {@link AvailableSettings#USE_DIRTY_CHECK_OPTIMIZER} enabled
+ */
+@DomainModel( annotatedClasses = DirtyCheckOptimizerTest.Item.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.USE_DIRTY_CHECK_OPTIMIZER, value = "true" ) )
+public class DirtyCheckOptimizerTest {
+
+	@AfterEach
+	public void cleanUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testFindDirty(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getEntityPersister( Item.class.getName() );
+		final Item item = new Item( 1L, "item", 2, LocalDate.of( 2021, 1, 1 ), new BigDecimal( "1.50" ) );
+		final Object[] previousState = persister.getPropertyValues( item );
+
+		scope.inSession(
+				session -> {
+					assertNull( persister.findDirty( persister.getPropertyValues( item ), previousState, item, session ) );
+
+					item.setName( "changed" );
+					item.setPrice( new BigDecimal( "1.5" ) );
+					assertArrayEquals(
+							new int[] { indexOf( persister, "name" ) },
+							persister.findDirty( persister.getPropertyValues( item ), previousState, item, session )
+					);
+
+					item.setQuantity( 3 );
+					item.setReleased( null );
+					item.setPrice( new BigDecimal( "2" ) );
+					final int[] dirty = persister.findDirty( persister.getPropertyValues( item ), previousState, item, session );
+					Arrays.sort( dirty );
+					final int[] expected = new int[] {
+							indexOf( persister, "name" ),
+							indexOf( persister, "price" ),
+							indexOf( persister, "quantity" ),
+							indexOf( persister, "released" )
+					};
+					Arrays.sort( expected );
+					assertArrayEquals( expected, dirty );
+				}
+		);
+	}
+
+	@Test
+	public void testFlush(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.persist( new Item( 1L, "item", 2, LocalDate.of( 2021, 1, 1 ), BigDecimal.ONE ) )
+		);
+
+		scope.getSessionFactory().getStatistics().clear();
+		scope.inTransaction(
+				session -> session.get( Item.class, 1L )
+		);
+		assertEquals( 0, scope.getSessionFactory().getStatistics().getEntityUpdateCount() );
+
+		scope.inTransaction(
+				session -> session.get( Item.class, 1L ).setQuantity( 5 )
+		);
+		assertEquals( 1, scope.getSessionFactory().getStatistics().getEntityUpdateCount() );
+
+		scope.inTransaction(
+				session -> assertEquals( 5, session.get( Item.class, 1L ).getQuantity() )
+		);
+	}
+
+	private static int indexOf(EntityPersister persister, String propertyName) {
+		return Arrays.asList( persister.getPropertyNames() ).indexOf( propertyName );
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+		private int quantity;
+		private LocalDate released;
+		private BigDecimal price;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, int quantity, LocalDate released, BigDecimal price) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+			this.released = released;
+			this.price = price;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+
+		public LocalDate getReleased() {
+			return released;
+		}
+
+		public void setReleased(LocalDate released) {
+			this.released = released;
+		}
+
+		public BigDecimal getPrice() {
+			return price;
+		}
+
+		public void setPrice(BigDecimal price) {
+			this.price = price;
+		}
+	}
+}
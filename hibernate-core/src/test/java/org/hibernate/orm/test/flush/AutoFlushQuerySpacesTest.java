@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import org.hibernate.BaseSessionEventListener;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that auto-flushes skip dirty checking the persistence context when no entity mapped to
+ * the spaces of the query has been associated with it, and only then
+ */
+@DomainModel(
+		annotatedClasses = {
+				AutoFlushQuerySpacesTest.Account.class,
+				AutoFlushQuerySpacesTest.Country.class,
+				AutoFlushQuerySpacesTest.Transfer.class
+		}
+)
+@SessionFactory
+public class AutoFlushQuerySpacesTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Account( 1, "checking" ) );
+					session.persist( new Country( 1, "Andorra" ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete from Transfer" ).executeUpdate();
+					session.createQuery( "delete from Account" ).executeUpdate();
+					session.createQuery( "delete from Country" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testQueryOnUntouchedSpaces(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final PartialFlushCounter counter = new PartialFlushCounter();
+					session.addEventListeners( counter );
+
+					session.find( Account.class, 1 ).name = "savings";
+
+					session.createQuery( "from Country", Country.class ).list();
+					assertThat( counter.entities ).isEqualTo( 0 );
+
+					final Long count = session.createQuery(
+							"select count(a) from Account a where a.name = 'savings'",
+							Long.class
+					).getSingleResult();
+					assertThat( counter.entities ).isEqualTo( 1 );
+					assertThat( count ).isEqualTo( 1L );
+				}
+		);
+	}
+
+	@Test
+	public void testCascadingEntities(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final PartialFlushCounter counter = new PartialFlushCounter();
+					session.addEventListeners( counter );
+
+					// the transfer might cascade to entities of any kind
+					final Transfer transfer = new Transfer( 1, session.find( Account.class, 1 ) );
+					session.persist( transfer );
+					transfer.account.name = "savings";
+
+					final Long count = session.createQuery(
+							"select count(a) from Account a where a.name = 'savings'",
+							Long.class
+					).getSingleResult();
+					assertThat( counter.entities ).isGreaterThan( 0 );
+					assertThat( count ).isEqualTo( 1L );
+				}
+		);
+	}
+
+	private static class PartialFlushCounter extends BaseSessionEventListener {
+		private int entities = -1;
+
+		@Override
+		public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+			entities = numberOfEntities;
+		}
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		public Integer id;
+		public String name;
+
+		public Account() {
+		}
+
+		public Account(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+		@Id
+		public Integer id;
+		public String name;
+
+		public Country() {
+		}
+
+		public Country(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Transfer")
+	public static class Transfer {
+		@Id
+		public Integer id;
+		@ManyToOne(cascade = CascadeType.ALL)
+		public Account account;
+
+		public Transfer() {
+		}
+
+		public Transfer(Integer id, Account account) {
+			this.id = id;
+			this.account = account;
+		}
+	}
+}
@@ -6,6 +6,18 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -17,6 +29,7 @@ import org.hibernate.testing.orm.junit.BaseUnitTest;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -299,6 +312,81 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicPooledLoConcurrentOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 3 );
+		final Optimizer optimizer = buildPooledLoConcurrentOptimizer( 1, 3 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		// half of the range is used: the next range is read ahead
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 4, sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 3, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 4, sequence.getCurrentValue() );
+
+		// the range read ahead is used, without hitting the database
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 4, sequence.getCurrentValue() );
+		assertEquals( 4, optimizer.getLastSourceValue().makeValue().intValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 5, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 7, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledLoConcurrentOptimizerUsage() throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 5_000;
+		final int increment = 10;
+		final ConcurrentSourceMock sequence = new ConcurrentSourceMock( 1, increment );
+		final Optimizer optimizer = buildPooledLoConcurrentOptimizer( 1, increment );
+
+		final Set<Long> generated = ConcurrentHashMap.newKeySet();
+		final CountDownLatch start = new CountDownLatch( 1 );
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					start.await();
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						final Long next = (Long) optimizer.generate( sequence );
+						assertTrue( generated.add( next ), "Value generated twice : " + next );
+					}
+					return null;
+				} ) );
+			}
+			start.countDown();
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals( threads * valuesPerThread, generated.size() );
+		// every range read is used, apart from the one read ahead and ranges lost to a race
+		assertTrue( sequence.getTimesCalled() * increment >= threads * valuesPerThread );
+		assertTrue( sequence.getTimesCalled() <= threads * valuesPerThread / increment + threads + 1 );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -319,6 +407,10 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledLoConcurrentOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -386,4 +478,34 @@ public class OptimizerUnitTest {
 		}
 	}
 
+	/**
+	 * A sequence which may be called by several threads, as a database sequence would be.
+	 */
+	private static class ConcurrentSourceMock implements AccessCallback {
+		private final AtomicLong value;
+		private final int increment;
+		private final AtomicInteger timesCalled = new AtomicInteger();
+
+		public ConcurrentSourceMock(long initialValue, int increment) {
+			this.value = new AtomicLong( initialValue - increment );
+			this.increment = increment;
+		}
+
+		@Override
+		public IntegralDataTypeHolder getNextValue() {
+			timesCalled.incrementAndGet();
+			return new IdentifierGeneratorHelper.BasicHolder( Long.class )
+					.initialize( value.addAndGet( increment ) );
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return null;
+		}
+
+		public int getTimesCalled() {
+			return timesCalled.get();
+		}
+	}
+
 }
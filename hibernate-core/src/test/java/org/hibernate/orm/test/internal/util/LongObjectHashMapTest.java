@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.internal.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.LongObjectHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongObjectHashMapTest {
+
+	@Test
+	public void testBasicOperations() {
+		final LongObjectHashMap<String> map = new LongObjectHashMap<>();
+		assertThat( map.isEmpty() ).isTrue();
+		assertThat( map.get( 1L ) ).isNull();
+
+		assertThat( map.put( 1L, "one" ) ).isNull();
+		assertThat( map.put( -1L, "minus one" ) ).isNull();
+		assertThat( map.put( Long.MAX_VALUE, "max" ) ).isNull();
+		assertThat( map.size() ).isEqualTo( 3 );
+
+		assertThat( map.put( 1L, "uno" ) ).isEqualTo( "one" );
+		assertThat( map.size() ).isEqualTo( 3 );
+		assertThat( map.get( 1L ) ).isEqualTo( "uno" );
+		assertThat( map.get( -1L ) ).isEqualTo( "minus one" );
+		assertThat( map.get( Long.MAX_VALUE ) ).isEqualTo( "max" );
+		assertThat( map.containsKey( 0L ) ).isFalse();
+
+		assertThat( map.remove( -1L ) ).isEqualTo( "minus one" );
+		assertThat( map.remove( -1L ) ).isNull();
+		assertThat( map.containsKey( -1L ) ).isFalse();
+		assertThat( map.size() ).isEqualTo( 2 );
+
+		map.clear();
+		assertThat( map.isEmpty() ).isTrue();
+		assertThat( map.get( 1L ) ).isNull();
+	}
+
+	@Test
+	public void testAgainstHashMap() {
+		final LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+		final Map<Long, Long> expected = new HashMap<>();
+		final Random random = new Random( 42 );
+
+		for ( int i = 0; i < 100_000; i++ ) {
+			// a narrow key range, so that removals hit existing keys and probe sequences collide
+			final long key = random.nextInt( 2_000 ) - 1_000;
+			switch ( random.nextInt( 3 ) ) {
+				case 0:
+				case 1:
+					assertThat( map.put( key, key * 2 ) ).isEqualTo( expected.put( key, key * 2 ) );
+					break;
+				default:
+					assertThat( map.remove( key ) ).isEqualTo( expected.remove( key ) );
+			}
+			assertThat( map.size() ).isEqualTo( expected.size() );
+		}
+
+		for ( long key = -1_000; key < 1_000; key++ ) {
+			assertThat( map.get( key ) ).isEqualTo( expected.get( key ) );
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests multi-loading from a {@link org.hibernate.StatelessSession}, sequentially and in parallel
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.MULTI_LOAD_MAX_THREADS, value = "" + StatelessMultiLoadTest.MAX_THREADS )
+)
+@DomainModel(
+		annotatedClasses = StatelessMultiLoadTest.Item.class
+)
+@SessionFactory(
+		statementInspectorClass = StatelessMultiLoadTest.LoadingThreadsInspector.class
+)
+public class StatelessMultiLoadTest {
+
+	static final int MAX_THREADS = 3;
+
+	private static final int ITEM_COUNT = 37;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inStatelessTransaction(
+				session -> {
+					for ( int i = 1; i <= ITEM_COUNT; i++ ) {
+						session.insert( new Item( i, "Item " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testSequentialLoad(SessionFactoryScope scope) {
+		scope.inStatelessSession(
+				session -> {
+					final List<Item> results = session.byMultipleIds( Item.class )
+							.withBatchSize( 5 )
+							.multiLoad( 7, 3, 99, 12 );
+					assertThat( results ).hasSize( 4 );
+					assertThat( results.get( 0 ).id ).isEqualTo( 7 );
+					assertThat( results.get( 1 ).id ).isEqualTo( 3 );
+					assertThat( results.get( 2 ) ).isNull();
+					assertThat( results.get( 3 ).id ).isEqualTo( 12 );
+				}
+		);
+	}
+
+	@Test
+	public void testParallelOrderedLoad(SessionFactoryScope scope) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int i = ITEM_COUNT + 3; i > 0; i-- ) {
+			ids.add( i );
+		}
+
+		scope.inStatelessSession(
+				session -> {
+					final List<Item> results = session.byMultipleIds( Item.class )
+							.withBatchSize( 5 )
+							.withParallelism( 3 )
+							.multiLoad( ids );
+					assertThat( results ).hasSize( ids.size() );
+					for ( int i = 0; i < ids.size(); i++ ) {
+						final Integer id = ids.get( i );
+						if ( id > ITEM_COUNT ) {
+							assertThat( results.get( i ) ).isNull();
+						}
+						else {
+							assertThat( results.get( i ).id ).isEqualTo( id );
+							assertThat( results.get( i ).name ).isEqualTo( "Item " + id );
+						}
+					}
+				}
+		);
+
+		assertThat( LoadingThreadsInspector.THREAD_NAMES.size() ).isBetween( 2, MAX_THREADS );
+	}
+
+	@Test
+	public void testParallelUnorderedLoad(SessionFactoryScope scope) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int i = 1; i <= ITEM_COUNT + 3; i++ ) {
+			ids.add( i );
+		}
+
+		scope.inStatelessSession(
+				session -> {
+					final List<Item> results = session.byMultipleIds( Item.class )
+							.withBatchSize( 5 )
+							.withParallelism( 4 )
+							.enableOrderedReturn( false )
+							.multiLoad( ids );
+					assertThat( results.stream().filter( Objects::nonNull ).map( item -> item.id ).collect( Collectors.toList() ) )
+							.hasSize( ITEM_COUNT )
+							.containsExactlyInAnyOrderElementsOf( ids.subList( 0, ITEM_COUNT ) );
+				}
+		);
+
+		assertThat( LoadingThreadsInspector.THREAD_NAMES.size() ).isBetween( 2, MAX_THREADS );
+	}
+
+	/**
+	 * Records the threads loading batches.  The first batch loaded by each thread waits for another
+	 * thread to load a batch, so that the batches are known to be loaded by more than one thread.
+	 */
+	public static class LoadingThreadsInspector implements StatementInspector {
+		private static final Set<String> THREAD_NAMES = ConcurrentHashMap.newKeySet();
+		private static final CountDownLatch TWO_THREADS = new CountDownLatch( 2 );
+
+		@Override
+		public String inspect(String sql) {
+			final String threadName = Thread.currentThread().getName();
+			if ( threadName.startsWith( "Hibernate multi-load" ) && THREAD_NAMES.add( threadName ) ) {
+				TWO_THREADS.countDown();
+				try {
+					TWO_THREADS.await( 10, TimeUnit.SECONDS );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return sql;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		public Integer id;
+		public String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
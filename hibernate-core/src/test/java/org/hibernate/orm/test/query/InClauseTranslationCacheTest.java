@@ -0,0 +1,164 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.sql.SqmTranslator;
+import org.hibernate.query.sqm.sql.StandardSqmTranslatorFactory;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.spi.SqlAstCreationContext;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the SQL translations of a query with a multi-valued parameter are cached
+ * by the padded number of values bound to the parameter
+ */
+@DomainModel(
+		annotatedClasses = InClauseTranslationCacheTest.Person.class
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, value = "true"),
+				@Setting(
+						name = AvailableSettings.SEMANTIC_QUERY_TRANSLATOR,
+						value = "org.hibernate.orm.test.query.InClauseTranslationCacheTest$CountingSqmTranslatorFactory"
+				)
+		}
+)
+@SessionFactory(statementInspectorClass = SQLStatementInspector.class)
+public class InClauseTranslationCacheTest {
+
+	private static final String QUERY = "select p from Person p where p.id in :ids order by p.id";
+	private static final String LIMITED_QUERY = "select p from Person p where p.id in :ids order by p.name";
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 10; i++ ) {
+						session.persist( new Person( i, "Person nr " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Person" ).executeUpdate() );
+	}
+
+	@BeforeEach
+	public void resetCounter() {
+		CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.set( 0 );
+	}
+
+	@Test
+	public void testTranslationIsSharedWithinPaddingBucket(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		assertThat( findIds( scope, QUERY, 1, 2, 3 ) ).containsExactly( 1, 2, 3 );
+		assertThat( findIds( scope, QUERY, 4, 5, 6, 7 ) ).containsExactly( 4, 5, 6, 7 );
+		assertThat( findIds( scope, QUERY, 8, 9, 10 ) ).containsExactly( 8, 9, 10 );
+		assertThat( CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() ).isEqualTo( 1 );
+
+		assertThat( findIds( scope, QUERY, 1, 2, 3, 4, 5 ) ).containsExactly( 1, 2, 3, 4, 5 );
+		assertThat( findIds( scope, QUERY, 2, 4, 6, 8, 10, 12 ) ).containsExactly( 2, 4, 6, 8, 10 );
+		assertThat( CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() ).isEqualTo( 2 );
+
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries.get( 0 ) ).contains( "in(?,?,?,?)" );
+		assertThat( sqlQueries.get( 3 ) ).contains( "in(?,?,?,?,?,?,?,?)" );
+	}
+
+	@Test
+	public void testLimitIsPartOfTranslationKey(SessionFactoryScope scope) {
+		assertThat( findIds( scope, LIMITED_QUERY, 1, 2, 3 ) ).containsExactly( 1, 2, 3 );
+		scope.inTransaction(
+				session -> {
+					final List<Person> people = session.createQuery( LIMITED_QUERY, Person.class )
+							.setParameter( "ids", Arrays.asList( 1, 2, 3, 4 ) )
+							.setMaxResults( 2 )
+							.list();
+					assertThat( people ).extracting( person -> person.id ).containsExactly( 1, 2 );
+				}
+		);
+		assertThat( findIds( scope, LIMITED_QUERY, 2, 3, 4 ) ).containsExactly( 2, 3, 4 );
+		assertThat( CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() ).isEqualTo( 2 );
+	}
+
+	private static List<Integer> findIds(SessionFactoryScope scope, String query, Integer... ids) {
+		return scope.fromTransaction(
+				session -> session.createQuery( query, Person.class )
+						.setParameter( "ids", Arrays.asList( ids ) )
+						.list()
+		).stream().map( person -> person.id ).collect( Collectors.toList() );
+	}
+
+	public static class CountingSqmTranslatorFactory extends StandardSqmTranslatorFactory {
+		static final AtomicInteger SELECT_TRANSLATIONS = new AtomicInteger();
+
+		@Override
+		public SqmTranslator<SelectStatement> createSelectTranslator(
+				SqmSelectStatement<?> sqmSelectStatement,
+				QueryOptions queryOptions,
+				DomainParameterXref domainParameterXref,
+				QueryParameterBindings domainParameterBindings,
+				LoadQueryInfluencers loadQueryInfluencers,
+				SqlAstCreationContext creationContext) {
+			SELECT_TRANSLATIONS.incrementAndGet();
+			return super.createSelectTranslator(
+					sqmSelectStatement,
+					queryOptions,
+					domainParameterXref,
+					domainParameterBindings,
+					loadQueryInfluencers,
+					creationContext
+			);
+		}
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		public Integer id;
+		public String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,274 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.exec.internal.NonBlockingSelectImpl;
+import org.hibernate.sql.exec.spi.NonBlockingSelect;
+import org.hibernate.sql.exec.spi.NonBlockingSelectDriver;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link org.hibernate.query.Query#listAsync()} through a {@link NonBlockingSelectDriver}
+ * executing the selects over JDBC, on a thread of its own
+ */
+@DomainModel(
+		annotatedClasses = { NonBlockingSelectTest.Owner.class, NonBlockingSelectTest.Pet.class }
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(
+						name = AvailableSettings.NON_BLOCKING_SELECT_DRIVER,
+						value = "org.hibernate.orm.test.query.NonBlockingSelectTest$JdbcSelectDriver"
+				),
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(
+						name = AvailableSettings.CACHE_REGION_FACTORY,
+						value = "org.hibernate.testing.cache.CachingRegionFactory"
+				)
+		}
+)
+@SessionFactory
+public class NonBlockingSelectTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = new Owner( 1, "Jane" );
+					session.persist( owner );
+					session.persist( new Pet( 1, "Rex", 7, owner ) );
+					session.persist( new Pet( 2, "Tom", 3, owner ) );
+					session.persist( new Pet( 3, "Nemo", 1, null ) );
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete from Pet" ).executeUpdate();
+					session.createQuery( "delete from Owner" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testEntityResults(SessionFactoryScope scope) {
+		scope.inSession(
+				session -> {
+					final List<Pet> pets = await( session.createQuery( "select p from Pet p join fetch p.owner order by p.id", Pet.class )
+							.listAsync() );
+					assertThat( pets ).hasSize( 2 );
+					assertThat( pets.get( 0 ).name ).isEqualTo( "Rex" );
+					assertThat( pets.get( 1 ).name ).isEqualTo( "Tom" );
+					assertThat( pets.get( 0 ).owner ).isSameAs( pets.get( 1 ).owner );
+					assertThat( session.contains( pets.get( 0 ) ) ).isTrue();
+					assertThat( session.find( Pet.class, 1 ) ).isSameAs( pets.get( 0 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testScalarResultsWithParameters(SessionFactoryScope scope) {
+		scope.inSession(
+				session -> {
+					final List<Object[]> results = await( session.createQuery(
+							"select p.name, p.age from Pet p where p.age > :age order by p.age",
+							Object[].class
+					)
+							.setParameter( "age", 2 )
+							.setMaxResults( 1 )
+							.listAsync() );
+					assertThat( results ).hasSize( 1 );
+					assertThat( results.get( 0 ) ).containsExactly( "Tom", 3 );
+				}
+		);
+	}
+
+	@Test
+	public void testNoResults(SessionFactoryScope scope) {
+		scope.inSession(
+				session -> {
+					final List<String> names = await( session.createQuery( "select p.name from Pet p where p.age > 100", String.class )
+							.listAsync() );
+					assertThat( names ).isEmpty();
+				}
+		);
+	}
+
+	@Test
+	public void testEntitiesArePutIntoSecondLevelCache(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.inSession(
+				session -> {
+					final List<Pet> pets = await( session.createQuery( "select p from Pet p join fetch p.owner", Pet.class )
+							.listAsync() );
+					assertThat( pets ).hasSize( 2 );
+				}
+		);
+		assertThat( scope.getSessionFactory().getCache().containsEntity( Owner.class, 1 ) ).isTrue();
+	}
+
+	@Test
+	public void testUnsupportedStatementOperation() {
+		// e.g. the binders of LOBs and arrays, which create them through the connection
+		final NonBlockingSelectImpl select = new NonBlockingSelectImpl( "select name from Pet" );
+		assertThrows( SQLFeatureNotSupportedException.class, () -> select.getStatement().getConnection() );
+	}
+
+	@Test
+	public void testUnsupportedParameterOverloads() {
+		// only the values are passed to the driver, which could not apply a Calendar or a target SQL type
+		final NonBlockingSelectImpl select = new NonBlockingSelectImpl( "select name from Pet where id = ?" );
+		final PreparedStatement statement = select.getStatement();
+		assertThrows(
+				SQLFeatureNotSupportedException.class,
+				() -> statement.setTimestamp( 1, new Timestamp( 0L ), Calendar.getInstance() )
+		);
+		assertThrows( SQLFeatureNotSupportedException.class, () -> statement.setObject( 1, "1", Types.INTEGER ) );
+		assertThat( select.getParameterValues() ).isEmpty();
+	}
+
+	@Test
+	public void testNativeQuery(SessionFactoryScope scope) {
+		scope.inSession(
+				session -> assertThrows(
+						IllegalStateException.class,
+						() -> session.createNativeQuery( "select name from Pet" ).listAsync()
+				)
+		);
+	}
+
+	private static <T> List<T> await(CompletionStage<List<T>> stage) {
+		try {
+			return stage.toCompletableFuture().get( 1, TimeUnit.MINUTES );
+		}
+		catch (Exception e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	/**
+	 * Executes the selects on the connections of the session factory, each on a thread of the common pool
+	 */
+	public static class JdbcSelectDriver implements NonBlockingSelectDriver {
+		@Override
+		public CompletionStage<List<Object[]>> executeQuery(
+				NonBlockingSelect select,
+				SharedSessionContractImplementor session) {
+			final ConnectionProvider connectionProvider = session.getFactory()
+					.getServiceRegistry()
+					.getService( ConnectionProvider.class );
+			return CompletableFuture.supplyAsync(
+					() -> {
+						try {
+							final Connection connection = connectionProvider.getConnection();
+							try ( PreparedStatement statement = connection.prepareStatement( select.getSql() ) ) {
+								final List<Object> parameterValues = select.getParameterValues();
+								for ( int i = 0; i < parameterValues.size(); i++ ) {
+									statement.setObject( i + 1, parameterValues.get( i ) );
+								}
+								statement.setMaxRows( select.getMaxRows() );
+								try ( ResultSet resultSet = statement.executeQuery() ) {
+									final int columnCount = resultSet.getMetaData().getColumnCount();
+									final List<Object[]> rows = new ArrayList<>();
+									while ( resultSet.next() ) {
+										final Object[] row = new Object[columnCount];
+										for ( int i = 0; i < columnCount; i++ ) {
+											row[i] = resultSet.getObject( i + 1 );
+										}
+										rows.add( row );
+									}
+									return rows;
+								}
+							}
+							finally {
+								connectionProvider.closeConnection( connection );
+							}
+						}
+						catch (SQLException e) {
+							throw new CompletionException( e );
+						}
+					}
+			);
+		}
+	}
+
+	@Entity(name = "Owner")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Owner {
+		@Id
+		public Integer id;
+		public String name;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	public static class Pet {
+		@Id
+		public Integer id;
+		public String name;
+		public int age;
+		@ManyToOne
+		public Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String name, int age, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.age = age;
+			this.owner = owner;
+		}
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.results;
+
+import org.hibernate.query.ColumnarResult;
+import org.hibernate.query.ColumnarResult.ColumnKind;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests reading the results of projection queries by column, with {@link org.hibernate.query.Query#columnar()}
+ */
+@DomainModel(
+		annotatedClasses = ColumnarResultTest.Measurement.class
+)
+@SessionFactory
+public class ColumnarResultTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 100; i++ ) {
+						session.persist(
+								new Measurement(
+										(long) i,
+										i % 2 == 0 ? "even" : "odd",
+										i % 10 == 0 ? null : i,
+										i / 4.0,
+										i % 2 == 0 ? Unit.KELVIN : Unit.CELSIUS,
+										i % 3 == 0
+								)
+						);
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testScalarProjection(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final ColumnarResult result = session.createQuery(
+							"select m.id, m.sensor, m.reading, m.weight from Measurement m order by m.id"
+					).columnar();
+
+					assertThat( result.getRowCount() ).isEqualTo( 100 );
+					assertThat( result.getColumnCount() ).isEqualTo( 4 );
+					assertThat( result.getColumnKind( 0 ) ).isEqualTo( ColumnKind.LONG );
+					assertThat( result.getColumnKind( 1 ) ).isEqualTo( ColumnKind.STRING );
+					assertThat( result.getColumnKind( 2 ) ).isEqualTo( ColumnKind.INT );
+					assertThat( result.getColumnKind( 3 ) ).isEqualTo( ColumnKind.DOUBLE );
+
+					final long[] ids = result.getLongColumn( 0 );
+					final int[] sensorCodes = result.getStringCodes( 1 );
+					final String[] sensors = result.getStringDictionary( 1 );
+					final int[] readings = result.getIntColumn( 2 );
+					final double[] weights = result.getDoubleColumn( 3 );
+					assertThat( ids ).hasSize( 100 );
+					assertThat( sensors ).containsExactly( "odd", "even" );
+
+					for ( int row = 0; row < 100; row++ ) {
+						final int i = row + 1;
+						assertThat( ids[row] ).isEqualTo( i );
+						assertThat( sensors[sensorCodes[row]] ).isEqualTo( i % 2 == 0 ? "even" : "odd" );
+						assertThat( weights[row] ).isEqualTo( i / 4.0 );
+						if ( i % 10 == 0 ) {
+							assertThat( result.isNull( row, 2 ) ).isTrue();
+							assertThat( result.getObject( row, 2 ) ).isNull();
+						}
+						else {
+							assertThat( result.isNull( row, 2 ) ).isFalse();
+							assertThat( readings[row] ).isEqualTo( i );
+							assertThat( result.getObject( row, 2 ) ).isEqualTo( i );
+						}
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testAggregateProjection(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final ColumnarResult result = session.createQuery(
+							"select m.sensor, count(m), sum(m.weight) from Measurement m group by m.sensor order by m.sensor"
+					).columnar();
+
+					assertThat( result.getRowCount() ).isEqualTo( 2 );
+					assertThat( result.getObject( 0, 0 ) ).isEqualTo( "even" );
+					assertThat( result.getLongColumn( 1 ) ).containsExactly( 50, 50 );
+					assertThat( result.getObject( 1, 0 ) ).isEqualTo( "odd" );
+				}
+		);
+	}
+
+	@Test
+	public void testDynamicInstantiation(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final ColumnarResult result = session.createQuery(
+							"select new " + Reading.class.getName() + "(m.id, m.weight) from Measurement m where m.id <= 3 order by m.id"
+					).columnar();
+
+					assertThat( result.getColumnCount() ).isEqualTo( 2 );
+					assertThat( result.getLongColumn( 0 ) ).containsExactly( 1, 2, 3 );
+					assertThat( result.getDoubleColumn( 1 ) ).containsExactly( 0.25, 0.5, 0.75 );
+				}
+		);
+	}
+
+	@Test
+	public void testConvertedValues(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final ColumnarResult result = session.createQuery(
+							"select m.unit, m.calibrated from Measurement m order by m.id"
+					).columnar();
+
+					assertThat( result.getColumnCount() ).isEqualTo( 2 );
+					assertThat( result.getColumnKind( 0 ) ).isEqualTo( ColumnKind.OBJECT );
+					assertThat( result.getColumnJavaType( 0 ) ).isEqualTo( Unit.class );
+					assertThat( result.getColumnKind( 1 ) ).isEqualTo( ColumnKind.OBJECT );
+					assertThat( result.getColumnJavaType( 1 ) ).isEqualTo( Boolean.class );
+					for ( int row = 0; row < 100; row++ ) {
+						final int i = row + 1;
+						assertThat( result.getObject( row, 0 ) ).isEqualTo( i % 2 == 0 ? Unit.KELVIN : Unit.CELSIUS );
+						assertThat( result.getObject( row, 1 ) ).isEqualTo( i % 3 == 0 );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testSameValueSelectedTwice(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final ColumnarResult result = session.createQuery(
+							"select m.id, m.sensor, m.id from Measurement m where m.id <= 3 order by m.id"
+					).columnar();
+
+					assertThat( result.getColumnCount() ).isEqualTo( 3 );
+					assertThat( result.getLongColumn( 0 ) ).containsExactly( 1, 2, 3 );
+					assertThat( result.getObject( 0, 1 ) ).isEqualTo( "odd" );
+					assertThat( result.getLongColumn( 2 ) ).containsExactly( 1, 2, 3 );
+				}
+		);
+	}
+
+	@Test
+	public void testNativeQuery(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final ColumnarResult result = session.createNativeQuery(
+							"select id, weight from Measurement where id <= 3 order by id"
+					).columnar();
+
+					assertThat( result.getColumnCount() ).isEqualTo( 2 );
+					assertThat( result.getRowCount() ).isEqualTo( 3 );
+					assertThat( ( (Number) result.getObject( 2, 0 ) ).longValue() ).isEqualTo( 3L );
+					assertThat( ( (Number) result.getObject( 2, 1 ) ).doubleValue() ).isEqualTo( 0.75 );
+				}
+		);
+	}
+
+	@Test
+	public void testEntityProjectionIsRejected(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> assertThatThrownBy(
+						() -> session.createQuery( "select m from Measurement m" ).columnar()
+				).isInstanceOf( IllegalStateException.class )
+		);
+	}
+
+	@Test
+	public void testWrongColumnKind(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final ColumnarResult result = session.createQuery( "select m.id from Measurement m" ).columnar();
+					assertThatThrownBy( () -> result.getDoubleColumn( 0 ) ).isInstanceOf( IllegalArgumentException.class );
+				}
+		);
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		public Long id;
+		public String sensor;
+		public Integer reading;
+		public double weight;
+		@Enumerated(EnumType.ORDINAL)
+		public Unit unit;
+		@Convert(converter = YesNoConverter.class)
+		public Boolean calibrated;
+
+		public Measurement() {
+		}
+
+		public Measurement(Long id, String sensor, Integer reading, double weight, Unit unit, Boolean calibrated) {
+			this.id = id;
+			this.sensor = sensor;
+			this.reading = reading;
+			this.weight = weight;
+			this.unit = unit;
+			this.calibrated = calibrated;
+		}
+	}
+
+	public enum Unit {
+		CELSIUS,
+		KELVIN
+	}
+
+	public static class YesNoConverter implements AttributeConverter<Boolean, String> {
+		@Override
+		public String convertToDatabaseColumn(Boolean attribute) {
+			return attribute == null ? null : attribute ? "Y" : "N";
+		}
+
+		@Override
+		public Boolean convertToEntityAttribute(String dbData) {
+			return dbData == null ? null : "Y".equals( dbData );
+		}
+	}
+
+	public static class Reading {
+		public final Long id;
+		public final double weight;
+
+		public Reading(Long id, double weight) {
+			this.id = id;
+			this.weight = weight;
+		}
+	}
+}
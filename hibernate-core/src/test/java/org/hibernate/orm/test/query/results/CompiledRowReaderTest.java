@@ -0,0 +1,181 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.results;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the results read by generated row readers, used once a query has been executed
+ * {@link AvailableSettings#COMPILED_ROW_READER_THRESHOLD} times, match those of the standard row reader
+ */
+@DomainModel(
+		annotatedClasses = { CompiledRowReaderTest.Author.class, CompiledRowReaderTest.Book.class }
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.COMPILED_ROW_READER_THRESHOLD, value = "2")
+		}
+)
+@SessionFactory
+public class CompiledRowReaderTest {
+
+	private static final int EXECUTIONS = 4;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						final Author author = new Author( i, "Author " + i );
+						session.persist( author );
+						for ( int j = 1; j <= i; j++ ) {
+							final Book book = new Book( i * 10 + j, "Book " + i + "." + j, author );
+							author.books.add( book );
+							session.persist( book );
+						}
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete from Book" ).executeUpdate();
+					session.createQuery( "delete from Author" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testScalarResults(SessionFactoryScope scope) {
+		for ( int execution = 0; execution < EXECUTIONS; execution++ ) {
+			scope.inTransaction(
+					session -> {
+						final List<Object[]> results = session.createQuery(
+								"select b.id, b.title, b.author.name from Book b order by b.id",
+								Object[].class
+						).list();
+						assertThat( results ).hasSize( 6 );
+						assertThat( results.get( 0 ) ).containsExactly( 11, "Book 1.1", "Author 1" );
+						assertThat( results.get( 5 ) ).containsExactly( 33, "Book 3.3", "Author 3" );
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testEntityResultsWithFetchedAssociation(SessionFactoryScope scope) {
+		for ( int execution = 0; execution < EXECUTIONS; execution++ ) {
+			scope.inTransaction(
+					session -> {
+						final List<Book> books = session.createQuery(
+								"select b from Book b join fetch b.author order by b.id",
+								Book.class
+						).list();
+						assertThat( books ).hasSize( 6 );
+						for ( Book book : books ) {
+							assertThat( Hibernate.isInitialized( book.author ) ).isTrue();
+							assertThat( book.title ).startsWith( "Book " + book.author.id + "." );
+						}
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testEntityResultsWithLazyAssociation(SessionFactoryScope scope) {
+		for ( int execution = 0; execution < EXECUTIONS; execution++ ) {
+			scope.inTransaction(
+					session -> {
+						final Book book = session.createQuery( "select b from Book b where b.id = 22", Book.class )
+								.getSingleResult();
+						assertThat( book.title ).isEqualTo( "Book 2.2" );
+						assertThat( Hibernate.isInitialized( book.author ) ).isFalse();
+						assertThat( book.author.name ).isEqualTo( "Author 2" );
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testEntityResultsWithFetchedCollection(SessionFactoryScope scope) {
+		for ( int execution = 0; execution < EXECUTIONS; execution++ ) {
+			scope.inTransaction(
+					session -> {
+						final List<Author> authors = session.createQuery(
+								"select distinct a from Author a left join fetch a.books order by a.id",
+								Author.class
+						).list();
+						assertThat( authors ).hasSize( 3 );
+						for ( Author author : authors ) {
+							assertThat( Hibernate.isInitialized( author.books ) ).isTrue();
+							assertThat( author.books ).hasSize( author.id );
+						}
+					}
+			);
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		public Integer id;
+		public String name;
+		@OneToMany(mappedBy = "author")
+		public Set<Book> books = new HashSet<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		public Integer id;
+		public String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		public Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
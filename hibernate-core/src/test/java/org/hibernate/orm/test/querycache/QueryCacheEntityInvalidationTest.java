@@ -0,0 +1,164 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that, with entity invalidation, cached query results are only invalidated by
+ * changes to the entities they contain, or by insertions into the tables they were read from
+ */
+@DomainModel(
+		annotatedClasses = QueryCacheEntityInvalidationTest.Product.class
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE_ENTITY_INVALIDATION, value = "true")
+		}
+)
+@SessionFactory(generateStatistics = true)
+public class QueryCacheEntityInvalidationTest {
+
+	private static final String ENTITY_QUERY = "select p from Product p where p.category = :category order by p.id";
+	private static final String SCALAR_QUERY = "select p.name from Product p where p.category = :category order by p.id";
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Product( 1, "Hammer", "tools" ) );
+					session.persist( new Product( 2, "Saw", "tools" ) );
+					session.persist( new Product( 3, "Apple", "food" ) );
+				}
+		);
+		scope.getSessionFactory().getCache().evictAll();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testUpdateOfOtherEntityKeepsResults(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( findProductNames( scope ) ).containsExactly( "Hammer", "Saw" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+
+		scope.inTransaction( session -> session.find( Product.class, 3 ).name = "Pear" );
+
+		assertThat( findProductNames( scope ) ).containsExactly( "Hammer", "Saw" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testUpdateOfContainedEntityInvalidatesResults(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( findProductNames( scope ) ).containsExactly( "Hammer", "Saw" );
+
+		scope.inTransaction( session -> session.find( Product.class, 2 ).name = "Drill" );
+
+		assertThat( findProductNames( scope ) ).containsExactly( "Hammer", "Drill" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testDeletionOfContainedEntityInvalidatesResults(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( findProductNames( scope ) ).containsExactly( "Hammer", "Saw" );
+
+		scope.inTransaction( session -> session.remove( session.find( Product.class, 1 ) ) );
+
+		assertThat( findProductNames( scope ) ).containsExactly( "Saw" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testInsertionInvalidatesResults(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( findProductNames( scope ) ).containsExactly( "Hammer", "Saw" );
+
+		scope.inTransaction( session -> session.persist( new Product( 4, "Wrench", "tools" ) ) );
+
+		assertThat( findProductNames( scope ) ).containsExactly( "Hammer", "Saw", "Wrench" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testProjectionIsInvalidatedPerTable(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( findProjectedNames( scope ) ).containsExactly( "Hammer", "Saw" );
+		assertThat( findProjectedNames( scope ) ).containsExactly( "Hammer", "Saw" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.find( Product.class, 3 ).name = "Pear" );
+
+		assertThat( findProjectedNames( scope ) ).containsExactly( "Hammer", "Saw" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static List<String> findProductNames(SessionFactoryScope scope) {
+		return scope.fromTransaction(
+				session -> session.createQuery( ENTITY_QUERY, Product.class )
+						.setParameter( "category", "tools" )
+						.setCacheable( true )
+						.list()
+		).stream().map( product -> product.name ).collect( Collectors.toList() );
+	}
+
+	private static List<String> findProjectedNames(SessionFactoryScope scope) {
+		return scope.fromTransaction(
+				session -> session.createQuery( SCALAR_QUERY, String.class )
+						.setParameter( "category", "tools" )
+						.setCacheable( true )
+						.list()
+		);
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		public Integer id;
+		public String name;
+		public String category;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, String category) {
+			this.id = id;
+			this.name = name;
+			this.category = category;
+		}
+	}
+}
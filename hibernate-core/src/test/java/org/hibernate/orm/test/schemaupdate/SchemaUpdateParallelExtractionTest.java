@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.schemaupdate;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.tool.hbm2ddl.SchemaExport;
+import org.hibernate.tool.hbm2ddl.SchemaUpdate;
+import org.hibernate.tool.schema.JdbcMetadaAccessStrategy;
+import org.hibernate.tool.schema.TargetType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests that the indexes and foreign keys of existing tables are found when their information is
+ * extracted by several threads.
+ */
+public class SchemaUpdateParallelExtractionTest {
+
+	private File output;
+	private StandardServiceRegistry ssr;
+	private MetadataImplementor metadata;
+
+	@Before
+	public void setUp() throws IOException {
+		output = File.createTempFile( "update_script", ".sql" );
+		output.deleteOnExit();
+		ssr = new StandardServiceRegistryBuilder()
+				.applySetting(
+						AvailableSettings.HBM2DDL_JDBC_METADATA_EXTRACTOR_STRATEGY,
+						JdbcMetadaAccessStrategy.GROUPED.toString()
+				)
+				.applySetting( AvailableSettings.HBM2DDL_JDBC_METADATA_EXTRACTOR_THREADS, "3" )
+				.build();
+
+		final MetadataSources metadataSources = new MetadataSources( ssr );
+		metadataSources.addAnnotatedClass( Author.class );
+		metadataSources.addAnnotatedClass( Book.class );
+		metadataSources.addAnnotatedClass( Chapter.class );
+		metadataSources.addAnnotatedClass( Shelf.class );
+
+		metadata = (MetadataImplementor) metadataSources.buildMetadata();
+		metadata.validate();
+	}
+
+	@After
+	public void tearsDown() {
+		new SchemaExport().setHaltOnError( true )
+				.setOutputFile( output.getAbsolutePath() )
+				.setFormat( false )
+				.drop( EnumSet.of( TargetType.DATABASE ), metadata );
+		StandardServiceRegistryBuilder.destroy( ssr );
+	}
+
+	@Test
+	public void testSchemaUpdate() throws Exception {
+		new SchemaUpdate().setHaltOnError( true )
+				.execute( EnumSet.of( TargetType.DATABASE ), metadata );
+
+		new SchemaUpdate().setHaltOnError( true )
+				.setOutputFile( output.getAbsolutePath() )
+				.setFormat( false )
+				.execute( EnumSet.of( TargetType.DATABASE, TargetType.SCRIPT ), metadata );
+
+		final String fileContent = new String( Files.readAllBytes( output.toPath() ) );
+		assertThat( "The update output file should be empty", fileContent, is( "" ) );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "author", indexes = @Index(name = "idx_author_name", columnList = "name"))
+	public static class Author {
+		@Id
+		long id;
+		String name;
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "book", indexes = @Index(name = "idx_book_title", columnList = "title"))
+	public static class Book {
+		@Id
+		long id;
+		String title;
+
+		@ManyToOne
+		@JoinColumn(foreignKey = @ForeignKey(name = "fk_book_author"))
+		Author author;
+
+		@ManyToMany
+		Set<Shelf> shelves = new HashSet<>();
+	}
+
+	@Entity(name = "Chapter")
+	@Table(name = "chapter")
+	public static class Chapter {
+		@Id
+		long id;
+
+		@ManyToOne
+		@JoinColumn(foreignKey = @ForeignKey(name = "fk_chapter_book"))
+		Book book;
+	}
+
+	@Entity(name = "Shelf")
+	@Table(name = "shelf")
+	public static class Shelf {
+		@Id
+		long id;
+		String label;
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.session;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the session lifecycle on virtual threads, and fails if a virtual thread pins its carrier
+ * while blocking inside a monitor held by Hibernate.
+ * <p/>
+ * Pinning is detected through the {@code jdk.VirtualThreadPinned} JFR event rather than through
+ * {@code -Djdk.tracePinnedThreads}, which must be set when the JVM starts and only prints the
+ * stack traces.  Only events without any Hibernate frame in their stack trace are ignored, so
+ * that pinning within the JDBC driver still fails the test when the driver is called from
+ * Hibernate.  Skipped if virtual threads are not available.
+ */
+@DomainModel(
+		annotatedClasses = VirtualThreadPinningTest.Ticket.class
+)
+@SessionFactory
+public class VirtualThreadPinningTest {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int TASK_COUNT = 50;
+
+	@Test
+	public void testSessionLifecycle(SessionFactoryScope scope) throws Exception {
+		final List<RecordedEvent> pinnedEvents = runOnVirtualThreads(
+				() -> {
+					final Long id = scope.fromTransaction(
+							session -> {
+								final Ticket ticket = new Ticket( "open" );
+								session.persist( ticket );
+								return ticket.id;
+							}
+					);
+					scope.inTransaction(
+							session -> {
+								final Ticket ticket = session.find( Ticket.class, id );
+								ticket.status = "closed";
+								session.createQuery( "select t from Ticket t where t.status = :status", Ticket.class )
+										.setParameter( "status", "open" )
+										.setMaxResults( 5 )
+										.list();
+							}
+					);
+					scope.inTransaction( session -> session.remove( session.getReference( Ticket.class, id ) ) );
+					return null;
+				}
+		);
+		assertThat( pinnedEvents ).isEmpty();
+	}
+
+	@Test
+	public void testOptimizers() throws Exception {
+		for ( StandardOptimizerDescriptor descriptor : StandardOptimizerDescriptor.values() ) {
+			final Optimizer optimizer = OptimizerFactory.buildOptimizer(
+					descriptor.getExternalName(),
+					Long.class,
+					2,
+					1
+			);
+			final BlockingSource source = new BlockingSource();
+			final List<RecordedEvent> pinnedEvents = runOnVirtualThreads( () -> optimizer.generate( source ) );
+			assertThat( pinnedEvents ).as( descriptor.getExternalName() ).isEmpty();
+		}
+	}
+
+	/**
+	 * Runs {@link #TASK_COUNT} executions of the task, each on its own virtual thread, and
+	 * returns the pinning events attributable to Hibernate.
+	 */
+	private static List<RecordedEvent> runOnVirtualThreads(Callable<?> task) throws Exception {
+		final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		assumeTrue( executor != null, "Virtual threads are not available" );
+
+		final Path dump = Files.createTempFile( "pinning", ".jfr" );
+		try ( Recording recording = new Recording() ) {
+			recording.enable( PINNED_EVENT ).withThreshold( Duration.ZERO ).withStackTrace();
+			recording.start();
+			try {
+				final List<Future<?>> futures = new ArrayList<>();
+				for ( int i = 0; i < TASK_COUNT; i++ ) {
+					futures.add( executor.submit( task ) );
+				}
+				for ( Future<?> future : futures ) {
+					future.get( 1, TimeUnit.MINUTES );
+				}
+			}
+			finally {
+				executor.shutdown();
+				recording.stop();
+			}
+			recording.dump( dump );
+			return RecordingFile.readAllEvents( dump )
+					.stream()
+					.filter( event -> PINNED_EVENT.equals( event.getEventType().getName() ) )
+					.filter( VirtualThreadPinningTest::isCausedByHibernate )
+					.collect( Collectors.toList() );
+		}
+		finally {
+			Files.deleteIfExists( dump );
+		}
+	}
+
+	private static boolean isCausedByHibernate(RecordedEvent event) {
+		if ( event.getStackTrace() == null ) {
+			return false;
+		}
+		for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+			if ( frame.getMethod().getType().getName().startsWith( "org.hibernate." ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (ReflectiveOperationException e) {
+			// JDK without virtual threads, or with virtual threads as a disabled preview feature
+			return null;
+		}
+	}
+
+	/**
+	 * A source of values which blocks on each access, as a database would
+	 */
+	private static class BlockingSource implements AccessCallback {
+		private final AtomicLong value = new AtomicLong();
+
+		@Override
+		public IntegralDataTypeHolder getNextValue() {
+			try {
+				Thread.sleep( 1 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			final IdentifierGeneratorHelper.BasicHolder holder = new IdentifierGeneratorHelper.BasicHolder( Long.class );
+			holder.initialize( value.incrementAndGet() );
+			return holder;
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return null;
+		}
+	}
+
+	@Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		@GeneratedValue(generator = "ticket_seq")
+		@SequenceGenerator(name = "ticket_seq", allocationSize = 5)
+		public Long id;
+		public String status;
+
+		public Ticket() {
+		}
+
+		public Ticket(String status) {
+			this.status = status;
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.stat.internal.LatencyHistogram;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testEmptyHistogram() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals( 0, histogram.getCount() );
+		assertEquals( 0, histogram.getMaxTime() );
+		assertEquals( 0, histogram.getP99Time() );
+	}
+
+	@Test
+	public void testSmallTimesAreExact() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for ( int i = 0; i < 16; i++ ) {
+			histogram.record( i );
+		}
+		assertEquals( 16, histogram.getCount() );
+		assertEquals( 15, histogram.getMaxTime() );
+		assertEquals( 7, histogram.getP50Time() );
+		assertEquals( 15, histogram.getTimeAtPercentile( 100 ) );
+	}
+
+	@Test
+	public void testPercentilesOfUniformDistribution() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for ( int i = 1; i <= 100_000; i++ ) {
+			histogram.record( i );
+		}
+		assertEquals( 100_000, histogram.getCount() );
+		assertEquals( 100_000, histogram.getMaxTime() );
+		assertApproximately( 50_000, histogram.getP50Time() );
+		assertApproximately( 95_000, histogram.getP95Time() );
+		assertApproximately( 99_000, histogram.getP99Time() );
+		assertApproximately( 99_900, histogram.getP999Time() );
+	}
+
+	@Test
+	public void testPercentilesOfSkewedDistribution() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for ( int i = 0; i < 990; i++ ) {
+			histogram.recordNanoseconds( TimeUnit.MILLISECONDS.toNanos( 2 ) );
+		}
+		for ( int i = 0; i < 10; i++ ) {
+			histogram.recordNanoseconds( TimeUnit.SECONDS.toNanos( 3 ) );
+		}
+		assertApproximately( 2_000, histogram.getP50Time() );
+		assertApproximately( 2_000, histogram.getP99Time() );
+		assertApproximately( 3_000_000, histogram.getP999Time() );
+		assertEquals( 3_000_000, histogram.getMaxTime() );
+	}
+
+	@Test
+	public void testNegativeAndHugeTimes() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record( -5 );
+		histogram.record( Long.MAX_VALUE );
+		assertEquals( 2, histogram.getCount() );
+		assertEquals( 0, histogram.getTimeAtPercentile( 50 ) );
+		assertThat( histogram.getTimeAtPercentile( 100 ), greaterThanOrEqualTo( 1L << 32 ) );
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidPercentile() {
+		new LatencyHistogram().getTimeAtPercentile( 101 );
+	}
+
+	private static void assertApproximately(long expected, long actual) {
+		assertThat( actual, allOf( greaterThanOrEqualTo( expected ), lessThanOrEqualTo( expected + expected / 16 ) ) );
+	}
+}
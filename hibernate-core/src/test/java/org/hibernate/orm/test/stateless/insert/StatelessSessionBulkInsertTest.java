@@ -0,0 +1,255 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless.insert;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link org.hibernate.StatelessSession#bulkInsert} through a {@link BulkInsertSupport} loading
+ * the rows with batched inserts, checking which rows are loaded by it and which are inserted one at a time
+ */
+@RequiresDialect(H2Dialect.class)
+@DomainModel(
+		annotatedClasses = {
+				StatelessSessionBulkInsertTest.Reading.class,
+				StatelessSessionBulkInsertTest.Vehicle.class,
+				StatelessSessionBulkInsertTest.Truck.class,
+				StatelessSessionBulkInsertTest.LogEntry.class
+		}
+)
+@ServiceRegistry(
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.DIALECT,
+				provider = StatelessSessionBulkInsertTest.DialectProvider.class
+		)
+)
+@SessionFactory
+public class StatelessSessionBulkInsertTest {
+
+	private static final Map<String, Integer> LOADED_ROWS = new ConcurrentHashMap<>();
+
+	@BeforeEach
+	public void clearLoadedRows() {
+		LOADED_ROWS.clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createQuery( "delete from Reading" ).executeUpdate();
+					session.createQuery( "delete from Vehicle" ).executeUpdate();
+					session.createQuery( "delete from LogEntry" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testGeneratedIdentifiersAndVersions(SessionFactoryScope scope) {
+		final List<Reading> readings = IntStream.range( 0, 120 )
+				.mapToObj( i -> new Reading( "sensor " + i % 3, i * 0.5 ) )
+				.collect( Collectors.toList() );
+		scope.inStatelessTransaction(
+				session -> assertThat( session.bulkInsert( Reading.class, readings.stream() ) ).isEqualTo( 120L )
+		);
+
+		assertThat( LOADED_ROWS ).containsEntry( "Reading", 120 );
+		assertThat( readings ).allSatisfy( reading -> assertThat( reading.id ).isNotNull() );
+		scope.inTransaction(
+				session -> {
+					final Reading reading = session.find( Reading.class, readings.get( 7 ).id );
+					assertThat( reading.sensor ).isEqualTo( "sensor 1" );
+					assertThat( reading.amount ).isEqualTo( 3.5 );
+					assertThat( reading.version ).isEqualTo( 0 );
+				}
+		);
+	}
+
+	@Test
+	public void testDiscriminatorLiterals(SessionFactoryScope scope) {
+		scope.inStatelessTransaction(
+				session -> session.bulkInsert(
+						Vehicle.class,
+						Stream.of( new Vehicle( 1, "bike" ), new Truck( 2, "truck", 40 ), new Vehicle( 3, "scooter" ) )
+				)
+		);
+
+		assertThat( LOADED_ROWS ).containsEntry( "Vehicle", 3 );
+		scope.inTransaction(
+				session -> {
+					assertThat( session.find( Vehicle.class, 2 ) ).isInstanceOf( Truck.class );
+					assertThat( ( (Truck) session.find( Vehicle.class, 2 ) ).capacity ).isEqualTo( 40 );
+					assertThat( session.find( Vehicle.class, 3 ) ).isNotInstanceOf( Truck.class );
+				}
+		);
+	}
+
+	@Test
+	public void testIdentityIsInsertedRowByRow(SessionFactoryScope scope) {
+		final List<LogEntry> entries = IntStream.range( 0, 5 )
+				.mapToObj( i -> new LogEntry( "entry " + i ) )
+				.collect( Collectors.toList() );
+		scope.inStatelessTransaction(
+				session -> assertThat( session.bulkInsert( LogEntry.class, entries.stream() ) ).isEqualTo( 5L )
+		);
+
+		assertThat( LOADED_ROWS ).doesNotContainKey( "LogEntry" );
+		assertThat( entries ).allSatisfy( entry -> assertThat( entry.id ).isNotNull() );
+		scope.inTransaction(
+				session -> assertThat( session.createQuery( "select count(e) from LogEntry e", Long.class )
+						.getSingleResult() ).isEqualTo( 5L )
+		);
+	}
+
+	public static class DialectProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return BulkLoadingH2Dialect.class.getName();
+		}
+	}
+
+	public static class BulkLoadingH2Dialect extends H2Dialect {
+
+		public BulkLoadingH2Dialect() {
+		}
+
+		@Override
+		public BulkInsertSupport getBulkInsertSupport() {
+			return BatchedInsertBulkInsertSupport.INSTANCE;
+		}
+	}
+
+	/**
+	 * Loads the rows with batched inserts, keeping count of the loaded rows
+	 */
+	private static class BatchedInsertBulkInsertSupport implements BulkInsertSupport {
+		private static final BatchedInsertBulkInsertSupport INSTANCE = new BatchedInsertBulkInsertSupport();
+
+		@Override
+		public boolean isAvailable(Connection connection) {
+			return true;
+		}
+
+		@Override
+		public long load(String tableName, String[] columnNames, List<Object[]> rows, Connection connection)
+				throws SQLException {
+			final String sql = "insert into " + tableName + " (" + String.join( ", ", columnNames ) + ") values ("
+					+ Stream.of( columnNames ).map( column -> "?" ).collect( Collectors.joining( ", " ) ) + ")";
+			try ( PreparedStatement statement = connection.prepareStatement( sql ) ) {
+				for ( Object[] row : rows ) {
+					for ( int i = 0; i < row.length; i++ ) {
+						statement.setObject( i + 1, row[i] );
+					}
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+			LOADED_ROWS.merge( tableName, rows.size(), Integer::sum );
+			return rows.size();
+		}
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		@GeneratedValue(generator = "reading_seq")
+		@SequenceGenerator(name = "reading_seq", allocationSize = 50)
+		public Long id;
+		@Version
+		public Integer version;
+		public String sensor;
+		public double amount;
+
+		public Reading() {
+		}
+
+		public Reading(String sensor, double amount) {
+			this.sensor = sensor;
+			this.amount = amount;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	@DiscriminatorValue("V")
+	public static class Vehicle {
+		@Id
+		public Integer id;
+		public String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Truck")
+	@DiscriminatorValue("T")
+	public static class Truck extends Vehicle {
+		public Integer capacity;
+
+		public Truck() {
+		}
+
+		public Truck(Integer id, String name, Integer capacity) {
+			super( id, name );
+			this.capacity = capacity;
+		}
+	}
+
+	@Entity(name = "LogEntry")
+	public static class LogEntry {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		public Long id;
+		public String message;
+
+		public LogEntry() {
+		}
+
+		public LogEntry(String message) {
+			this.message = message;
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stream.basic;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+/**
+ * Tests streaming and forward-only scrolling with rows read ahead on a background thread
+ */
+@DomainModel(
+		annotatedClasses = ReadAheadStreamTest.Item.class
+)
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.SCROLL_READ_AHEAD_SIZE, value = "8")
+)
+@SessionFactory
+public class ReadAheadStreamTest {
+	private static final int ITEMS = 100;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < ITEMS; i++ ) {
+						session.persist( new Item( i, "item " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testStream(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					try (Stream<Item> stream = session.createQuery( "from Item order by id", Item.class ).stream()) {
+						final List<Integer> ids = stream.map( item -> item.id ).collect( Collectors.toList() );
+						assertThat( ids ).hasSize( ITEMS );
+						for ( int i = 0; i < ITEMS; i++ ) {
+							assertThat( ids.get( i ) ).isEqualTo( i );
+						}
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testEarlyClose(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					try (Stream<Item> stream = session.createQuery( "from Item order by id", Item.class ).stream()) {
+						assertThat( stream.findFirst().get().id ).isEqualTo( 0 );
+					}
+					assertThat(
+							session.getJdbcCoordinator()
+									.getLogicalConnection()
+									.getResourceRegistry()
+									.hasRegisteredResources()
+					).isFalse();
+				}
+		);
+	}
+
+	@Test
+	public void testEmptyResult(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					try (Stream<Item> stream = session.createQuery( "from Item where id < 0", Item.class ).stream()) {
+						assertThat( stream.count() ).isEqualTo( 0L );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testStatementFailure(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					assertThrows(
+							PersistenceException.class,
+							() -> {
+								try (Stream<Integer> stream = session.createQuery(
+										"select 10 / (50 - id) from Item order by id",
+										Integer.class
+								).stream()) {
+									stream.forEach( value -> {} );
+								}
+							}
+					);
+					assertThat(
+							session.getJdbcCoordinator()
+									.getLogicalConnection()
+									.getResourceRegistry()
+									.hasRegisteredResources()
+					).isFalse();
+				}
+		);
+	}
+
+	@Test
+	public void testSessionClosedWhileReading(SessionFactoryScope scope) {
+		final Session session = scope.getSessionFactory().openSession();
+		final Stream<Item> stream = session.createQuery( "from Item order by id", Item.class ).stream();
+		final Iterator<Item> items = stream.iterator();
+		assertThat( items.next().id ).isEqualTo( 0 );
+
+		session.close();
+
+		assertTimeout(
+				Duration.ofSeconds( 10 ),
+				() -> {
+					// the rows read ahead before closing may still be returned, but the
+					// results must not silently end early, nor wait for the reader forever
+					assertThrows(
+							RuntimeException.class,
+							() -> {
+								while ( items.hasNext() ) {
+									items.next();
+								}
+							}
+					);
+					stream.close();
+				}
+		);
+	}
+
+	@Test
+	public void testForwardOnlyScroll(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					try (ScrollableResults<Item> results = session.createQuery( "from Item order by id", Item.class )
+							.scroll( ScrollMode.FORWARD_ONLY )) {
+						int count = 0;
+						while ( results.next() ) {
+							assertThat( results.get().id ).isEqualTo( count );
+							assertThat( results.isLast() ).isEqualTo( count == ITEMS - 1 );
+							count++;
+						}
+						assertThat( count ).isEqualTo( ITEMS );
+						assertThrows( UnsupportedOperationException.class, results::previous );
+					}
+				}
+		);
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "read_ahead_item")
+	public static class Item {
+		@Id
+		public Integer id;
+		public String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
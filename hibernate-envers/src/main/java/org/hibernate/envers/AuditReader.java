@@ -7,6 +7,7 @@
 package org.hibernate.envers;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -110,6 +111,53 @@ public interface AuditReader {
 			Number revision, boolean includeDeletions) throws IllegalArgumentException,
 			NotAuditedException, IllegalStateException;
 
+	/**
+	 * Find the entities with the given primary keys at the given revision, loading them in as few
+	 * queries as possible rather than one query per entity.  The *-to-one audited relations of the
+	 * found entities are loaded in batches as well, when first accessed.
+	 *
+	 * @param cls Class of the entities.
+	 * @param primaryKeys Primary keys of the entities.
+	 * @param revision Revision in which to get the entities.
+	 * @param <T> The type of the entities to find
+	 *
+	 * @return A map of the found entity instances at the given revision, keyed by primary key, in the
+	 *         order of the given primary keys.  Primary keys of entities that didn't exist at that revision
+	 *         are not part of the map.
+	 *
+	 * @throws IllegalArgumentException If cls or primaryKeys is null or revision is less or equal to 0.
+	 * @throws NotAuditedException When entities of the given class are not audited.
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 */
+	<T> Map<Object, T> findAll(Class<T> cls, Collection<?> primaryKeys, Number revision) throws
+			IllegalArgumentException, NotAuditedException, IllegalStateException;
+
+	/**
+	 * Find the entities with the given primary keys at the given revision with the specified entityName,
+	 * possibly including deleted entities in the search.
+	 *
+	 * @param cls Class of the entities.
+	 * @param entityName Name of the entity (if can't be guessed basing on the {@code cls}).
+	 * @param primaryKeys Primary keys of the entities.
+	 * @param revision Revision in which to get the entities.
+	 * @param includeDeletions Whether to include deleted entities in the search.
+	 * @param <T> The type of the entities to find
+	 *
+	 * @return A map of the found entity instances at the given revision, keyed by primary key, in the
+	 *         order of the given primary keys.  Primary keys of entities that didn't exist at that revision
+	 *         are not part of the map.
+	 *
+	 * @throws IllegalArgumentException If cls or primaryKeys is null or revision is less or equal to 0.
+	 * @throws NotAuditedException When entities of the given class are not audited.
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 *
+	 * @see #findAll(Class, Collection, Number)
+	 */
+	<T> Map<Object, T> findAll(
+			Class<T> cls, String entityName, Collection<?> primaryKeys,
+			Number revision, boolean includeDeletions) throws IllegalArgumentException,
+			NotAuditedException, IllegalStateException;
+
 	/**
 	 * Get a list of revision numbers, at which an entity was modified.
 	 *
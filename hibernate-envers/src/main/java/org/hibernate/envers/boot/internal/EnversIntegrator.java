@@ -115,10 +115,19 @@ public class EnversIntegrator implements Integrator {
 					new EnversPreCollectionUpdateEventListenerImpl( enversService )
 			);
 		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Start draining the audit outbox, if audit data is written asynchronously
+		if ( enversService.getAuditOutbox() != null ) {
+			enversService.getAuditOutbox().start( sessionFactory );
+		}
 	}
 
 	@Override
 	public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
-		// nothing to do
+		final EnversService enversService = serviceRegistry.getService( EnversService.class );
+		if ( enversService != null && enversService.isInitialized() && enversService.getAuditOutbox() != null ) {
+			enversService.getAuditOutbox().stop();
+		}
 	}
 }
@@ -14,6 +14,7 @@ import org.hibernate.envers.internal.entities.EntitiesConfigurations;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.synchronization.AuditProcessManager;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.service.Service;
@@ -59,6 +60,13 @@ public interface EnversService extends Service {
 
 	AuditProcessManager getAuditProcessManager();
 
+	/**
+	 * The outbox the audit data is written to, when written asynchronously.
+	 *
+	 * @return the outbox, or {@code null} if audit data is written synchronously
+	 */
+	AuditOutbox getAuditOutbox();
+
 	AuditStrategy getAuditStrategy();
 
 	EntitiesConfigurations getEntitiesConfigurations();
@@ -49,6 +49,8 @@ public class Configuration {
 	private static final String DEFAULT_REVEND_FIELD = "REVEND";
 	private static final String DEFAULT_REV_TSTMP_FIELD = "REVEND_TSTMP";
 	private static final String DEFAULT_SETORDINAL_FIELD = "SETORDINAL";
+	private static final int DEFAULT_ASYNC_AUDIT_DRAIN_INTERVAL = 1000;
+	private static final int DEFAULT_ASYNC_AUDIT_MAX_ATTEMPTS = 3;
 
 	private final EnversService enversService;
 
@@ -71,6 +73,9 @@ public class Configuration {
 	private final boolean modifiedFlagsEnabled;
 	private final boolean modifiedFlagsDefined;
 	private final boolean findByRevisionExactMatch;
+	private final boolean asyncAuditWriting;
+	private final long asyncAuditDrainInterval;
+	private final int asyncAuditMaxAttempts;
 
 	private final boolean trackEntitiesChanged;
 	private boolean trackEntitiesOverride;
@@ -129,6 +134,16 @@ public class Configuration {
 
 		findByRevisionExactMatch = configProps.getBoolean( EnversSettings.FIND_BY_REVISION_EXACT_MATCH, false );
 
+		asyncAuditWriting = configProps.getBoolean( EnversSettings.ASYNC_AUDIT_WRITING, false );
+		asyncAuditDrainInterval = configProps.getLong(
+				EnversSettings.ASYNC_AUDIT_DRAIN_INTERVAL,
+				DEFAULT_ASYNC_AUDIT_DRAIN_INTERVAL
+		);
+		asyncAuditMaxAttempts = configProps.getInt(
+				EnversSettings.ASYNC_AUDIT_MAX_ATTEMPTS,
+				DEFAULT_ASYNC_AUDIT_MAX_ATTEMPTS
+		);
+
 		auditTablePrefix = configProps.getString( EnversSettings.AUDIT_TABLE_PREFIX, DEFAULT_PREFIX );
 		auditTableSuffix = configProps.getString( EnversSettings.AUDIT_TABLE_SUFFIX, DEFAULT_SUFFIX );
 
@@ -226,6 +241,18 @@ public class Configuration {
 		return findByRevisionExactMatch;
 	}
 
+	public boolean isAsyncAuditWriting() {
+		return asyncAuditWriting;
+	}
+
+	public long getAsyncAuditDrainInterval() {
+		return asyncAuditDrainInterval;
+	}
+
+	public int getAsyncAuditMaxAttempts() {
+		return asyncAuditMaxAttempts;
+	}
+
 	public boolean isRevisionEndTimestampEnabled() {
 		return revisionEndTimestampEnabled;
 	}
@@ -421,6 +448,14 @@ public class Configuration {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		long getLong(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getLong( propertyName, properties, defaultValue );
+		}
+
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
@@ -172,4 +172,49 @@ public interface EnversSettings {
 	 * @since 4.3.0
 	 */
 	String CASCADE_DELETE_REVISION = "org.hibernate.envers.cascade_delete_revision";
+
+	/**
+	 * Enables the asynchronous writing of audit data.  Rather than writing the audit rows within the audited
+	 * transaction, the audit data of each transaction is written, as a single entry, to an outbox table which
+	 * is expanded into the audit tables by a background drainer.  Revisions are still generated within the
+	 * audited transaction, and the entries are expanded in revision order.
+	 * <p>
+	 * The audit data must be {@link java.io.Serializable}, and is only visible to audit queries once drained.
+	 * Only the classes of basic values and of the types mapped by the session factory, such as components
+	 * and identifier classes, are deserialized from the outbox.
+	 * <p>
+	 * An entry which can not be expanded is eventually marked as failed, see {@link #ASYNC_AUDIT_MAX_ATTEMPTS}.
+	 * Its audit rows are then missing: with the
+	 * {@link org.hibernate.envers.strategy.internal.ValidityAuditStrategy validity audit strategy}, the
+	 * expansion of later revisions of the same entities fails too, as the audit rows whose end revision they
+	 * update are not found, so that their entries end up marked as failed as well.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 6.0
+	 */
+	String ASYNC_AUDIT_WRITING = "org.hibernate.envers.async_audit_writing";
+
+	/**
+	 * The delay, in milliseconds, between two drains of the outbox table used when
+	 * {@link #ASYNC_AUDIT_WRITING asynchronous audit writing} is enabled.
+	 *
+	 * Defaults to {@literal 1000}.
+	 *
+	 * @since 6.0
+	 */
+	String ASYNC_AUDIT_DRAIN_INTERVAL = "org.hibernate.envers.async_audit_drain_interval";
+
+	/**
+	 * The number of times the drainer attempts to expand an entry of the outbox table used when
+	 * {@link #ASYNC_AUDIT_WRITING asynchronous audit writing} is enabled.  Until then, later entries wait
+	 * for the failing entry, so that revisions are expanded in order.  Once the attempts are exhausted,
+	 * the entry is kept in the outbox but marked as failed, an error is logged, and later entries are
+	 * expanded.
+	 *
+	 * Defaults to {@literal 3}.
+	 *
+	 * @since 6.0
+	 */
+	String ASYNC_AUDIT_MAX_ATTEMPTS = "org.hibernate.envers.async_audit_max_attempts";
 }
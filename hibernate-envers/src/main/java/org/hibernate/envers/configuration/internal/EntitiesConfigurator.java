@@ -12,14 +12,20 @@ import java.util.Map;
 
 import org.hibernate.boot.jaxb.hbm.spi.JaxbHbmHibernateMapping;
 import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.envers.boot.model.BasicAttribute;
+import org.hibernate.envers.boot.model.Column;
 import org.hibernate.envers.boot.model.PersistentEntity;
+import org.hibernate.envers.boot.model.RootPersistentEntity;
+import org.hibernate.envers.boot.model.SimpleIdentifier;
 import org.hibernate.envers.boot.spi.EnversMetadataBuildingContext;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.configuration.internal.metadata.AuditMetadataGenerator;
+import org.hibernate.envers.configuration.internal.metadata.AuditTableData;
 import org.hibernate.envers.configuration.internal.metadata.EntityMappingData;
 import org.hibernate.envers.configuration.internal.metadata.reader.AnnotationsMetadataReader;
 import org.hibernate.envers.configuration.internal.metadata.reader.ClassAuditingData;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.tools.StringTools;
 import org.hibernate.envers.internal.tools.graph.GraphTopologicalSort;
 import org.hibernate.mapping.PersistentClass;
@@ -104,6 +110,14 @@ public class EntitiesConfigurator {
 
 				metadataBuildingContext.getMappingCollector().addDocument( mappingData.getMapping() );
 			}
+
+			if ( configuration.isAsyncAuditWriting() ) {
+				final EntityMappingData mappingData = new EntityMappingData();
+				mappingData.addMapping( generateAuditOutboxMapping( configuration ) );
+				mappingData.build();
+
+				metadataBuildingContext.getMappingCollector().addDocument( mappingData.getMapping() );
+			}
 		}
 
 		return new EntitiesConfigurations(
@@ -111,4 +125,40 @@ public class EntitiesConfigurator {
 				auditMetaGen.getNotAuditedEntityConfigurations()
 		);
 	}
+
+	private PersistentEntity generateAuditOutboxMapping(Configuration configuration) {
+		final RootPersistentEntity mapping = new RootPersistentEntity(
+				new AuditTableData(
+						AuditOutbox.ENTITY_NAME,
+						AuditOutbox.TABLE_NAME,
+						configuration.getDefaultSchemaName(),
+						configuration.getDefaultCatalogName()
+				),
+				null
+		);
+
+		final SimpleIdentifier identifier = new SimpleIdentifier( AuditOutbox.REVISION_PROPERTY_NAME, "long" );
+		identifier.setGeneratorClass( "assigned" );
+		identifier.addColumn( new Column( AuditOutbox.REVISION_COLUMN_NAME ) );
+		mapping.setIdentifier( identifier );
+
+		final BasicAttribute payload = new BasicAttribute(
+				AuditOutbox.PAYLOAD_PROPERTY_NAME,
+				"materialized_blob",
+				true,
+				false
+		);
+		payload.addColumn( new Column( AuditOutbox.PAYLOAD_COLUMN_NAME ) );
+		mapping.addAttribute( payload );
+
+		final BasicAttribute attempts = new BasicAttribute( AuditOutbox.ATTEMPTS_PROPERTY_NAME, "integer", true, true, false );
+		attempts.addColumn( new Column( AuditOutbox.ATTEMPTS_COLUMN_NAME ) );
+		mapping.addAttribute( attempts );
+
+		final BasicAttribute failed = new BasicAttribute( AuditOutbox.FAILED_PROPERTY_NAME, "boolean", true, true, false );
+		failed.addColumn( new Column( AuditOutbox.FAILED_COLUMN_NAME ) );
+		mapping.addAttribute( failed );
+
+		return mapping;
+	}
 }
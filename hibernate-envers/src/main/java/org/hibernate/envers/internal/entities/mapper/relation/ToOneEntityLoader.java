@@ -45,7 +45,8 @@ public final class ToOneEntityLoader {
 	}
 
 	/**
-	 * Creates proxy of referenced *-to-one entity.
+	 * Creates proxy of referenced *-to-one entity. Proxies of audited entities are registered with the reader,
+	 * so that they may be initialized in batches.
 	 */
 	public static Object createProxy(
 			AuditReaderImplementor versionsReader,
@@ -59,6 +60,9 @@ public final class ToOneEntityLoader {
 				.getFactory()
 				.getMetamodel()
 				.entityPersister( entityName );
+		if ( enversService.getEntitiesConfigurations().getNotVersionEntityConfiguration( entityName ) == null ) {
+			versionsReader.addBatchFetchCandidate( entityClass, entityName, entityId, revision, removed );
+		}
 		return persister.createProxy(
 				entityId,
 				new ToOneDelegateSessionImplementor( versionsReader, entityClass, entityId, revision, removed, enversService )
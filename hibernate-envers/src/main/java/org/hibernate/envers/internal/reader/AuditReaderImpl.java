@@ -7,9 +7,13 @@
 package org.hibernate.envers.internal.reader;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -25,9 +29,16 @@ import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
+import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.entities.mapper.id.SingleIdMapper;
+import org.hibernate.envers.internal.entities.mapper.id.VirtualEntitySingleIdMapper;
 import org.hibernate.envers.internal.synchronization.AuditProcess;
+import org.hibernate.envers.internal.tools.Triple;
 import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.AuditQueryCreator;
+import org.hibernate.envers.query.criteria.AuditCriterion;
+import org.hibernate.envers.query.criteria.AuditDisjunction;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.query.Query;
@@ -48,6 +59,8 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 	private final Session session;
 	private final FirstLevelCache firstLevelCache;
 	private final CrossTypeRevisionChangesReader crossTypeRevisionChangesReader;
+	private final Map<Triple<String, Number, Boolean>, BatchFetchCandidates> batchFetchCandidates = new HashMap<>();
+	private boolean collectingBatchFetchCandidates;
 
 	public AuditReaderImpl(
 			EnversService enversService,
@@ -115,6 +128,13 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 			return (T) firstLevelCache.get( entityName, revision, primaryKey );
 		}
 
+		if ( batchFetch( entityName, primaryKey, revision, includeDeletions ) ) {
+			// Entities which don't exist at the revision are not cached
+			return firstLevelCache.contains( entityName, revision, primaryKey )
+					? (T) firstLevelCache.get( entityName, revision, primaryKey )
+					: null;
+		}
+
 		Object result;
 		try {
 			// The result is put into the cache by the entity instantiator called from the query
@@ -131,6 +151,135 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return (T) result;
 	}
 
+	@Override
+	public <T> Map<Object, T> findAll(Class<T> cls, Collection<?> primaryKeys, Number revision)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
+		cls = getTargetClassIfProxied( cls );
+		return this.findAll( cls, cls.getName(), primaryKeys, revision, false );
+	}
+
+	@Override
+	@SuppressWarnings({"unchecked"})
+	public <T> Map<Object, T> findAll(
+			Class<T> cls,
+			String entityName,
+			Collection<?> primaryKeys,
+			Number revision,
+			boolean includeDeletions) throws IllegalArgumentException, NotAuditedException, IllegalStateException {
+		cls = getTargetClassIfProxied( cls );
+		checkNotNull( cls, "Entity class" );
+		checkNotNull( entityName, "Entity name" );
+		checkNotNull( primaryKeys, "Primary keys" );
+		checkNotNull( revision, "Entity revision" );
+		checkPositive( revision, "Entity revision" );
+		checkSession();
+
+		loadAll( cls, entityName, primaryKeys, revision, includeDeletions );
+
+		final Map<Object, T> result = new LinkedHashMap<>();
+		for ( Object primaryKey : primaryKeys ) {
+			if ( firstLevelCache.contains( entityName, revision, primaryKey ) ) {
+				result.put( primaryKey, (T) firstLevelCache.get( entityName, revision, primaryKey ) );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Loads the entities of the given ids which aren't cached yet, using as many queries as required
+	 * by the limit of the dialect on the size of in lists.  The results are put into the cache by the
+	 * entity instantiator called from the queries, and the proxies of their *-to-one audited relations
+	 * are registered as batch fetch candidates.
+	 */
+	private void loadAll(
+			Class<?> cls,
+			String entityName,
+			Collection<?> primaryKeys,
+			Number revision,
+			boolean includeDeletions) {
+		final List<Object> uncached = new ArrayList<>();
+		for ( Object primaryKey : primaryKeys ) {
+			checkNotNull( primaryKey, "Primary key" );
+			if ( !firstLevelCache.contains( entityName, revision, primaryKey ) ) {
+				uncached.add( primaryKey );
+			}
+		}
+		if ( uncached.isEmpty() ) {
+			return;
+		}
+
+		final int inExpressionCountLimit = sessionImplementor.getJdbcServices().getDialect().getInExpressionCountLimit();
+		final int chunkSize = inExpressionCountLimit > 0 ? inExpressionCountLimit : uncached.size();
+
+		final boolean wasCollecting = collectingBatchFetchCandidates;
+		collectingBatchFetchCandidates = true;
+		try {
+			for ( int i = 0; i < uncached.size(); i += chunkSize ) {
+				final List<Object> chunk = uncached.subList( i, Math.min( i + chunkSize, uncached.size() ) );
+				final AuditQuery query = createQuery().forEntitiesAtRevision( cls, entityName, revision, includeDeletions );
+				query.add( idRestriction( entityName, chunk ) ).getResultList();
+			}
+		}
+		finally {
+			collectingBatchFetchCandidates = wasCollecting;
+		}
+	}
+
+	private AuditCriterion idRestriction(String entityName, List<Object> primaryKeys) {
+		final IdMapper idMapper = enversService.getEntitiesConfigurations().get( entityName ).getIdMapper();
+		if ( idMapper instanceof SingleIdMapper && !( idMapper instanceof VirtualEntitySingleIdMapper ) ) {
+			return AuditEntity.id().in( primaryKeys );
+		}
+		// Composite ids are mapped to several properties, which can't be restricted by an in list
+		final AuditDisjunction disjunction = AuditEntity.disjunction();
+		for ( Object primaryKey : primaryKeys ) {
+			disjunction.add( AuditEntity.id().eq( primaryKey ) );
+		}
+		return disjunction;
+	}
+
+	@Override
+	public void addBatchFetchCandidate(
+			Class<?> entityClass,
+			String entityName,
+			Object entityId,
+			Number revision,
+			boolean removed) {
+		if ( !collectingBatchFetchCandidates ) {
+			return;
+		}
+		batchFetchCandidates.computeIfAbsent(
+				new Triple<>( entityName, revision, removed ),
+				key -> new BatchFetchCandidates( entityClass )
+		).ids.add( entityId );
+	}
+
+	/**
+	 * Loads the given entity along with the other batch fetch candidates of the same entity name and
+	 * revision, if it is one of them.
+	 *
+	 * @return {@code true} if the entity was a batch fetch candidate, and has been loaded
+	 */
+	private boolean batchFetch(String entityName, Object primaryKey, Number revision, boolean includeDeletions) {
+		final Triple<String, Number, Boolean> key = new Triple<>( entityName, revision, includeDeletions );
+		final BatchFetchCandidates candidates = batchFetchCandidates.get( key );
+		if ( candidates == null || !candidates.ids.contains( primaryKey ) ) {
+			return false;
+		}
+		batchFetchCandidates.remove( key );
+		loadAll( candidates.entityClass, entityName, candidates.ids, revision, includeDeletions );
+		return true;
+	}
+
+	private static class BatchFetchCandidates {
+		private final Class<?> entityClass;
+		private final Set<Object> ids = new LinkedHashSet<>();
+
+		private BatchFetchCandidates(Class<?> entityClass) {
+			this.entityClass = entityClass;
+		}
+	}
+
 	@Override
 	public List<Number> getRevisions(Class<?> cls, Object primaryKey)
 			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
@@ -21,4 +21,11 @@ public interface AuditReaderImplementor extends AuditReader {
 	Session getSession();
 
 	FirstLevelCache getFirstLevelCache();
+
+	/**
+	 * Registers the id of a referenced *-to-one audited entity, whose proxy is created while reading
+	 * the results of {@link #findAll}, so that the proxies of the same entity name and revision are
+	 * initialized together, by a single query.
+	 */
+	void addBatchFetchCandidate(Class<?> entityClass, String entityName, Object entityId, Number revision, boolean removed);
 }
@@ -0,0 +1,496 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.IdentifiableType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.Type;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.exception.AuditException;
+import org.jboss.logging.Logger;
+
+/**
+ * The outbox table used when audit data is written asynchronously.
+ * <p>
+ * The audit data of each transaction is captured in an {@link AuditOutboxBatch}, and written as a
+ * single entry of the outbox, keyed by revision number, within the audited transaction.  A background
+ * drainer then expands the entries into the audit tables, in revision order, each in a transaction of
+ * its own.  As the revision entity is persisted within the audited transaction, it is not part of the
+ * entries, which only refer to it.
+ * <p>
+ * An entry which can not be expanded is attempted again by later drains, holding back the entries of later
+ * revisions, up to the {@link Configuration#getAsyncAuditMaxAttempts() configured number of attempts}.  It is
+ * then marked as failed and logged as an error: it is kept in the outbox, but no longer drained, so that it
+ * can be inspected and repaired.
+ * <p>
+ * Only the classes of the payloads themselves, of basic values and of the types mapped by the session factory
+ * are deserialized from the entries.
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#ASYNC_AUDIT_WRITING
+ */
+public class AuditOutbox {
+	private static final Logger log = Logger.getLogger( AuditOutbox.class );
+
+	public static final String ENTITY_NAME = "org.hibernate.envers.AuditOutbox";
+	public static final String TABLE_NAME = "REVOUTBOX";
+	public static final String REVISION_PROPERTY_NAME = "revision";
+	public static final String REVISION_COLUMN_NAME = "REV";
+	public static final String PAYLOAD_PROPERTY_NAME = "payload";
+	public static final String PAYLOAD_COLUMN_NAME = "PAYLOAD";
+	public static final String ATTEMPTS_PROPERTY_NAME = "attempts";
+	public static final String ATTEMPTS_COLUMN_NAME = "ATTEMPTS";
+	public static final String FAILED_PROPERTY_NAME = "failed";
+	public static final String FAILED_COLUMN_NAME = "FAILED";
+
+	/**
+	 * The version of the format of the payloads, written first, to be incremented on incompatible changes
+	 */
+	private static final int PAYLOAD_FORMAT_VERSION = 1;
+
+	private final Configuration configuration;
+	private final ClassLoaderService classLoaderService;
+
+	private ScheduledExecutorService drainer;
+	private volatile PayloadFilter payloadFilter;
+
+	public AuditOutbox(Configuration configuration, ClassLoaderService classLoaderService) {
+		this.configuration = configuration;
+		this.classLoaderService = classLoaderService;
+	}
+
+	/**
+	 * Writes the audit data of a revision to the outbox.
+	 *
+	 * @param session Session of the audited transaction
+	 * @param revisionData The revision data, already persisted
+	 * @param batch The captured audit data
+	 */
+	public void write(Session session, Object revisionData, AuditOutboxBatch batch) {
+		if ( batch.isEmpty() ) {
+			return;
+		}
+
+		final Number revisionNumber = configuration.getRevisionInfo()
+				.getRevisionInfoNumberReader()
+				.getRevisionNumber( revisionData );
+
+		final Map<String, Object> entry = new HashMap<>();
+		entry.put( REVISION_PROPERTY_NAME, revisionNumber.longValue() );
+		entry.put( PAYLOAD_PROPERTY_NAME, serialize( revisionNumber, revisionData, batch ) );
+		entry.put( ATTEMPTS_PROPERTY_NAME, 0 );
+		entry.put( FAILED_PROPERTY_NAME, false );
+		session.save( ENTITY_NAME, entry );
+	}
+
+	/**
+	 * Expands the entries of the outbox into the audit tables, until the outbox is empty, except for
+	 * the entries marked as failed.
+	 *
+	 * @param sessionFactory The session factory
+	 * @return the number of entries expanded
+	 */
+	public int drain(SessionFactoryImplementor sessionFactory) {
+		int drained = 0;
+		DrainResult result;
+		while ( ( result = drainEntry( sessionFactory ) ) != DrainResult.EMPTY ) {
+			if ( result == DrainResult.EXPANDED ) {
+				drained++;
+			}
+		}
+		return drained;
+	}
+
+	/**
+	 * Expands the entry of the lowest revision, in a transaction of its own: the audit strategy
+	 * completes the audit data of a revision when the transaction completes, as it would for the
+	 * audited transaction.
+	 */
+	@SuppressWarnings("unchecked")
+	private DrainResult drainEntry(SessionFactoryImplementor sessionFactory) {
+		Object revision = null;
+		try ( Session session = sessionFactory.openSession() ) {
+			final Transaction transaction = session.beginTransaction();
+			try {
+				// the entry is locked so that a concurrent drainer waits rather than expanding it twice
+				final List<Map<String, Object>> entries = session.createQuery(
+						"from " + ENTITY_NAME + " e where e." + FAILED_PROPERTY_NAME + " = false"
+								+ " order by e." + REVISION_PROPERTY_NAME
+				)
+						.setLockMode( LockModeType.PESSIMISTIC_WRITE )
+						.setMaxResults( 1 )
+						.list();
+
+				if ( entries.isEmpty() ) {
+					transaction.commit();
+					return DrainResult.EMPTY;
+				}
+
+				final Map<String, Object> entry = entries.get( 0 );
+				revision = entry.get( REVISION_PROPERTY_NAME );
+				expand( sessionFactory, session, (byte[]) entry.get( PAYLOAD_PROPERTY_NAME ) );
+				session.delete( ENTITY_NAME, entry );
+
+				transaction.commit();
+				return DrainResult.EXPANDED;
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				if ( revision == null || !recordFailure( sessionFactory, revision, e ) ) {
+					throw e;
+				}
+				return DrainResult.FAILED;
+			}
+		}
+	}
+
+	/**
+	 * Records a failed attempt to expand the entry of the given revision, marking the entry as failed
+	 * once the attempts are exhausted.
+	 *
+	 * @return {@code true} if the entry was marked as failed
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean recordFailure(SessionFactoryImplementor sessionFactory, Object revision, RuntimeException failure) {
+		try ( Session session = sessionFactory.openSession() ) {
+			final Transaction transaction = session.beginTransaction();
+			try {
+				final Map<String, Object> entry = (Map<String, Object>) session.get( ENTITY_NAME, revision );
+				if ( entry == null ) {
+					// expanded by a concurrent drainer
+					transaction.commit();
+					return false;
+				}
+				final int attempts = ( (Number) entry.get( ATTEMPTS_PROPERTY_NAME ) ).intValue() + 1;
+				final boolean failed = attempts >= configuration.getAsyncAuditMaxAttempts();
+				entry.put( ATTEMPTS_PROPERTY_NAME, attempts );
+				entry.put( FAILED_PROPERTY_NAME, failed );
+				transaction.commit();
+
+				if ( failed ) {
+					log.errorf(
+							failure,
+							"Unable to expand the audit outbox entry of revision %s after %s attempts;"
+									+ " the entry is marked as failed, and kept in the audit outbox",
+							revision,
+							attempts
+					);
+				}
+				return failed;
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				failure.addSuppressed( e );
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Starts draining the outbox in the background, at the configured interval.
+	 *
+	 * @param sessionFactory The session factory
+	 */
+	public synchronized void start(SessionFactoryImplementor sessionFactory) {
+		if ( drainer != null ) {
+			return;
+		}
+		drainer = Executors.newSingleThreadScheduledExecutor(
+				runnable -> {
+					final Thread thread = new Thread( runnable, "Hibernate Envers audit outbox drainer" );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		final long interval = configuration.getAsyncAuditDrainInterval();
+		drainer.scheduleWithFixedDelay(
+				() -> {
+					try {
+						drain( sessionFactory );
+					}
+					catch (RuntimeException e) {
+						// the entries are kept, and expanded by the next drain
+						log.warn( "Unable to drain the audit outbox", e );
+					}
+				},
+				interval,
+				interval,
+				TimeUnit.MILLISECONDS
+		);
+	}
+
+	/**
+	 * Stops draining the outbox in the background, waiting for a drain in progress to complete.
+	 */
+	public synchronized void stop() {
+		if ( drainer == null ) {
+			return;
+		}
+		drainer.shutdown();
+		try {
+			if ( !drainer.awaitTermination( 30, TimeUnit.SECONDS ) ) {
+				log.warn( "Timed out waiting for the audit outbox drainer to stop" );
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		drainer = null;
+	}
+
+	private byte[] serialize(Number revisionNumber, Object revisionData, AuditOutboxBatch batch) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new PayloadOutputStream( bytes, revisionData ) ) {
+			out.writeInt( PAYLOAD_FORMAT_VERSION );
+			out.writeObject( revisionNumber );
+			out.writeObject( batch );
+		}
+		catch (IOException e) {
+			throw new AuditException(
+					"Unable to write the audit data of revision " + revisionNumber + " to the audit outbox;"
+							+ " asynchronous audit writing requires serializable audit data",
+					e
+			);
+		}
+		return bytes.toByteArray();
+	}
+
+	private void expand(SessionFactoryImplementor sessionFactory, Session session, byte[] payload) {
+		final PayloadFilter filter = getPayloadFilter( sessionFactory );
+		try ( PayloadInputStream in = new PayloadInputStream( new ByteArrayInputStream( payload ), filter ) ) {
+			final int formatVersion = in.readInt();
+			if ( formatVersion != PAYLOAD_FORMAT_VERSION ) {
+				throw new AuditException( "Unsupported format version of an audit outbox entry : " + formatVersion );
+			}
+			final Number revisionNumber = (Number) in.readObject();
+			in.revision = session.get(
+					configuration.getRevisionInfo().getRevisionInfoEntityName(),
+					revisionNumber
+			);
+			if ( in.revision == null ) {
+				throw new AuditException( "Unable to find revision " + revisionNumber + " of an audit outbox entry" );
+			}
+			final AuditOutboxBatch batch = (AuditOutboxBatch) in.readObject();
+			batch.perform( session, configuration, in.revision );
+		}
+		catch (IOException | ClassNotFoundException e) {
+			throw new AuditException( "Unable to read an audit outbox entry", e );
+		}
+	}
+
+	private PayloadFilter getPayloadFilter(SessionFactoryImplementor sessionFactory) {
+		PayloadFilter filter = payloadFilter;
+		if ( filter == null ) {
+			// the mapped types do not change once the session factory is built
+			filter = new PayloadFilter( sessionFactory );
+			payloadFilter = filter;
+		}
+		return filter;
+	}
+
+	private enum DrainResult {
+		/**
+		 * No entry left to expand
+		 */
+		EMPTY,
+		/**
+		 * An entry was expanded
+		 */
+		EXPANDED,
+		/**
+		 * An entry could not be expanded, and was marked as failed
+		 */
+		FAILED
+	}
+
+	/**
+	 * Stands for the revision data within a serialized payload
+	 */
+	private static class RevisionReference implements Serializable {
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * Replaces the references to the revision data, which is persisted along with the entry
+	 */
+	private static class PayloadOutputStream extends ObjectOutputStream {
+		private final Object revisionData;
+
+		private PayloadOutputStream(OutputStream out, Object revisionData) throws IOException {
+			super( out );
+			this.revisionData = revisionData;
+			enableReplaceObject( true );
+		}
+
+		@Override
+		protected Object replaceObject(Object obj) {
+			return obj == revisionData ? new RevisionReference() : obj;
+		}
+	}
+
+	/**
+	 * Resolves the classes of the audit data through the {@link ClassLoaderService}, and the
+	 * references to the revision data to the revision entity loaded by the drain.
+	 */
+	private class PayloadInputStream extends ObjectInputStream {
+		private Object revision;
+
+		private PayloadInputStream(InputStream in, ObjectInputFilter filter) throws IOException {
+			super( in );
+			enableResolveObject( true );
+			setObjectInputFilter( filter );
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			try {
+				return classLoaderService.classForName( desc.getName() );
+			}
+			catch (RuntimeException e) {
+				// primitive types and arrays
+				return super.resolveClass( desc );
+			}
+		}
+
+		@Override
+		protected Object resolveObject(Object obj) {
+			return obj instanceof RevisionReference ? revision : obj;
+		}
+	}
+
+	/**
+	 * Rejects the classes which neither belong to the payloads themselves, nor are basic types of identifiers
+	 * and audited values, nor are types mapped by the session factory, such as components and identifier classes
+	 */
+	private static class PayloadFilter implements ObjectInputFilter {
+		private static final Set<String> BASIC_TYPE_NAMES = new HashSet<>( Arrays.asList(
+				AuditOutboxBatch.class.getName(),
+				RevisionReference.class.getName(),
+				RevisionType.class.getName(),
+				"java.lang.Boolean",
+				"java.lang.Byte",
+				"java.lang.Character",
+				"java.lang.Double",
+				"java.lang.Enum",
+				"java.lang.Float",
+				"java.lang.Integer",
+				"java.lang.Long",
+				"java.lang.Number",
+				"java.lang.Short",
+				"java.lang.String",
+				"java.math.BigDecimal",
+				"java.math.BigInteger",
+				"java.net.URL",
+				"java.sql.Date",
+				"java.sql.Time",
+				"java.sql.Timestamp",
+				"java.time.Duration",
+				"java.time.Instant",
+				"java.time.LocalDate",
+				"java.time.LocalDateTime",
+				"java.time.LocalTime",
+				"java.time.OffsetDateTime",
+				"java.time.OffsetTime",
+				"java.time.Ser",
+				"java.time.ZoneOffset",
+				"java.time.ZoneRegion",
+				"java.time.ZonedDateTime",
+				"java.util.Calendar",
+				"java.util.Currency",
+				"java.util.Date",
+				"java.util.GregorianCalendar",
+				"java.util.HashMap",
+				"java.util.LinkedHashMap",
+				"java.util.Locale",
+				"java.util.SimpleTimeZone",
+				"java.util.TimeZone",
+				"java.util.UUID",
+				"sun.util.calendar.ZoneInfo"
+		) );
+
+		private final Set<String> allowedClassNames = new HashSet<>( BASIC_TYPE_NAMES );
+
+		private PayloadFilter(SessionFactoryImplementor sessionFactory) {
+			for ( ManagedType<?> managedType : sessionFactory.getJpaMetamodel().getManagedTypes() ) {
+				allow( managedType.getJavaType() );
+				if ( managedType instanceof IdentifiableType ) {
+					// the id class, if any
+					final Type<?> idType = ( (IdentifiableType<?>) managedType ).getIdType();
+					if ( idType != null ) {
+						allow( idType.getJavaType() );
+					}
+				}
+				for ( Attribute<?, ?> attribute : managedType.getAttributes() ) {
+					allow( attribute.getJavaType() );
+					if ( attribute instanceof PluralAttribute ) {
+						allow( ( (PluralAttribute<?, ?, ?>) attribute ).getElementType().getJavaType() );
+					}
+				}
+			}
+		}
+
+		private void allow(Class<?> type) {
+			// along with its serializable superclasses, whose descriptors are read too
+			while ( type != null && type != Object.class && Serializable.class.isAssignableFrom( type ) ) {
+				allowedClassNames.add( type.getName() );
+				type = type.getSuperclass();
+			}
+		}
+
+		@Override
+		public Status checkInput(FilterInfo filterInfo) {
+			Class<?> type = filterInfo.serialClass();
+			if ( type == null ) {
+				return Status.UNDECIDED;
+			}
+			while ( type.isArray() ) {
+				type = type.getComponentType();
+			}
+			if ( type.isPrimitive() || allowedClassNames.contains( type.getName() ) ) {
+				return Status.ALLOWED;
+			}
+			// the constants of enums declaring methods have classes of their own
+			final Class<?> superclass = type.getSuperclass();
+			if ( superclass != null && superclass.isEnum() && allowedClassNames.contains( superclass.getName() ) ) {
+				return Status.ALLOWED;
+			}
+			log.debugf( "Rejecting class %s read from an audit outbox entry", type.getName() );
+			return Status.REJECTED;
+		}
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.strategy.spi.AuditStrategy;
+
+/**
+ * The audit data of a revision, captured from the work units of a transaction when audit data is
+ * written asynchronously, and stored as a single entry of the {@link AuditOutbox outbox}.
+ * <p>
+ * As entries may outlive the version of the application which wrote them, the changes are written
+ * field by field rather than through the default serialization of their classes.  Only the ids and
+ * the values of the audit data are written as serialized objects.
+ *
+ * @see AuditOutbox
+ */
+public class AuditOutboxBatch implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final byte ENTITY_CHANGE = 1;
+	private static final byte COLLECTION_CHANGE = 2;
+
+	private transient List<Change> changes = new ArrayList<>();
+
+	/**
+	 * Captures the audit data of a regular entity.
+	 *
+	 * @param entityName Name of the audited entity
+	 * @param id Id of the entity
+	 * @param data Audit data to persist
+	 */
+	public void addEntityChange(String entityName, Object id, Map<String, Object> data) {
+		changes.add( new EntityChange( entityName, id, data ) );
+	}
+
+	/**
+	 * Captures the audit data of a collection ("middle") entity.
+	 *
+	 * @param entityName Name of the entity owning the collection
+	 * @param propertyName The name of the property holding the collection
+	 * @param changeData Collection change data to persist
+	 */
+	public void addCollectionChange(String entityName, String propertyName, PersistentCollectionChangeData changeData) {
+		changes.add( new CollectionChange( entityName, propertyName, changeData.getEntityName(), changeData.getData() ) );
+	}
+
+	public boolean isEmpty() {
+		return changes.isEmpty();
+	}
+
+	/**
+	 * Persists the captured audit data through the audit strategy, in the order it was captured.
+	 *
+	 * @param session Session, in which the audit data should be persisted
+	 * @param configuration The audit configuration
+	 * @param revision The revision data of the batch
+	 */
+	public void perform(Session session, Configuration configuration, Object revision) {
+		for ( Change change : changes ) {
+			change.perform( session, configuration, configuration.getAuditStrategy(), revision );
+		}
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		out.writeInt( changes.size() );
+		for ( Change change : changes ) {
+			change.write( out );
+		}
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		final int size = in.readInt();
+		changes = new ArrayList<>( size );
+		for ( int i = 0; i < size; i++ ) {
+			final byte kind = in.readByte();
+			switch ( kind ) {
+				case ENTITY_CHANGE:
+					changes.add( new EntityChange( in.readUTF(), in.readObject(), readData( in ) ) );
+					break;
+				case COLLECTION_CHANGE:
+					changes.add( new CollectionChange( in.readUTF(), in.readUTF(), in.readUTF(), readData( in ) ) );
+					break;
+				default:
+					throw new InvalidObjectException( "Unknown kind of audit change : " + kind );
+			}
+		}
+	}
+
+	private static void writeData(ObjectOutputStream out, Map<String, Object> data) throws IOException {
+		out.writeInt( data.size() );
+		for ( Map.Entry<String, Object> entry : data.entrySet() ) {
+			out.writeUTF( entry.getKey() );
+			out.writeObject( entry.getValue() );
+		}
+	}
+
+	private static Map<String, Object> readData(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		final int size = in.readInt();
+		final Map<String, Object> data = new HashMap<>();
+		for ( int i = 0; i < size; i++ ) {
+			data.put( in.readUTF(), in.readObject() );
+		}
+		return data;
+	}
+
+	private interface Change {
+		void perform(Session session, Configuration configuration, AuditStrategy auditStrategy, Object revision);
+
+		void write(ObjectOutputStream out) throws IOException;
+	}
+
+	private static class EntityChange implements Change {
+		private final String entityName;
+		private final Object id;
+		private final Map<String, Object> data;
+
+		private EntityChange(String entityName, Object id, Map<String, Object> data) {
+			this.entityName = entityName;
+			this.id = id;
+			this.data = data;
+		}
+
+		@Override
+		public void perform(Session session, Configuration configuration, AuditStrategy auditStrategy, Object revision) {
+			auditStrategy.perform( session, entityName, configuration, id, data, revision );
+		}
+
+		@Override
+		public void write(ObjectOutputStream out) throws IOException {
+			out.writeByte( ENTITY_CHANGE );
+			out.writeUTF( entityName );
+			out.writeObject( id );
+			writeData( out, data );
+		}
+	}
+
+	private static class CollectionChange implements Change {
+		private final String entityName;
+		private final String propertyName;
+		private final String middleEntityName;
+		private final Map<String, Object> data;
+
+		private CollectionChange(String entityName, String propertyName, String middleEntityName, Map<String, Object> data) {
+			this.entityName = entityName;
+			this.propertyName = propertyName;
+			this.middleEntityName = middleEntityName;
+			this.data = data;
+		}
+
+		@Override
+		public void perform(Session session, Configuration configuration, AuditStrategy auditStrategy, Object revision) {
+			// the changed element is not used by the audit strategies, and is not kept
+			auditStrategy.performCollectionChange(
+					session,
+					entityName,
+					propertyName,
+					configuration,
+					new PersistentCollectionChangeData( middleEntityName, data, null ),
+					revision
+			);
+		}
+
+		@Override
+		public void write(ObjectOutputStream out) throws IOException {
+			out.writeByte( COLLECTION_CHANGE );
+			out.writeUTF( entityName );
+			out.writeUTF( propertyName );
+			out.writeUTF( middleEntityName );
+			writeData( out, data );
+		}
+	}
+}
@@ -30,6 +30,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private static final Logger log = Logger.getLogger( AuditProcess.class );
 
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final AuditOutbox auditOutbox;
 	private final SessionImplementor session;
 
 	private final LinkedList<AuditWorkUnit> workUnits;
@@ -39,8 +40,9 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final EntityChangeNotifier entityChangeNotifier;
 	private Object revisionData;
 
-	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, AuditOutbox auditOutbox, SessionImplementor session) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.auditOutbox = auditOutbox;
 		this.session = session;
 
 		workUnits = new LinkedList<>();
@@ -121,9 +123,20 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			vwu.undo( session );
 		}
 
-		while ( (vwu = workUnits.poll()) != null ) {
-			vwu.perform( session, revisionData );
-			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+		if ( auditOutbox != null ) {
+			// Capturing the audit data, written to the outbox as a single entry
+			final AuditOutboxBatch batch = new AuditOutboxBatch();
+			while ( (vwu = workUnits.poll()) != null ) {
+				vwu.capture( batch, revisionData );
+				entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			}
+			auditOutbox.write( session, revisionData, batch );
+		}
+		else {
+			while ( (vwu = workUnits.poll()) != null ) {
+				vwu.perform( session, revisionData );
+				entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			}
 		}
 	}
 
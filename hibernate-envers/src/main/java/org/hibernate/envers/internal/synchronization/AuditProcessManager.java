@@ -23,11 +23,17 @@ import org.hibernate.event.spi.EventSource;
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final AuditOutbox auditOutbox;
 
-	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+	/**
+	 * @param revisionInfoGenerator The revision generator
+	 * @param auditOutbox The outbox to write the audit data to, {@code null} to write it synchronously
+	 */
+	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator, AuditOutbox auditOutbox) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.auditOutbox = auditOutbox;
 	}
 
 	public AuditProcess get(EventSource session) {
@@ -36,7 +42,7 @@ public class AuditProcessManager {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, auditOutbox, session );
 			auditProcesses.put( transaction, auditProcess );
 
 			session.getActionQueue().registerProcess(
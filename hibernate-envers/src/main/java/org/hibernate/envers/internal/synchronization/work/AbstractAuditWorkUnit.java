@@ -15,6 +15,7 @@ import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.synchronization.AuditOutboxBatch;
 import org.hibernate.envers.strategy.AuditStrategy;
 
 /**
@@ -69,6 +70,11 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 		setPerformed( data );
 	}
 
+	@Override
+	public void capture(AuditOutboxBatch batch, Object revisionData) {
+		batch.addEntityChange( getEntityName(), id, generateData( revisionData ) );
+	}
+
 	@Override
 	public Object getEntityId() {
 		return id;
@@ -10,6 +10,7 @@ import java.util.Map;
 
 import org.hibernate.Session;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.internal.synchronization.AuditOutboxBatch;
 
 /**
  * TODO: refactor constructors into factory methods
@@ -34,6 +35,16 @@ public interface AuditWorkUnit extends WorkUnitMergeVisitor, WorkUnitMergeDispat
 	 */
 	void perform(Session session, Object revisionData);
 
+	/**
+	 * Capture the audit data of this work unit, rather than performing it, when audit data is written
+	 * asynchronously.
+	 *
+	 * @param batch Batch, in which the audit data should be captured.
+	 * @param revisionData The current revision data, which will be used to populate the work unit with the correct
+	 * revision relation.
+	 */
+	void capture(AuditOutboxBatch batch, Object revisionData);
+
 	void undo(Session session);
 
 	/**
@@ -11,15 +11,20 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -41,11 +46,13 @@ import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.AuditStrategyContext;
 import org.hibernate.envers.strategy.spi.MappingContext;
+import org.hibernate.envers.tools.Pair;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.property.access.spi.Getter;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.sql.Update;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.CollectionType;
@@ -67,7 +74,9 @@ import org.hibernate.type.Type;
  * <p>
  * This has a few important consequences which must be considered:
  * <ul>
- * <li>Persisting audit information is sightly slower due to an extra update required</li>
+ * <li>Persisting audit information is sightly slower due to an extra update required; the updates of
+ * a transaction are executed in JDBC batches, per audit table, when {@code hibernate.jdbc.batch_size}
+ * is set</li>
  * <li>Retreiving audit information is considerably faster</li>
  * </ul>
  *
@@ -84,6 +93,11 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 	private final SessionCacheCleaner sessionCacheCleaner;
 
+	/**
+	 * The revision end updates not yet executed, per session
+	 */
+	private final Map<EventSource, List<RevisionEndUpdate>> revisionEndUpdates = new ConcurrentHashMap<>();
+
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
 	}
@@ -169,48 +183,20 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
-						configuration,
-						id,
-						revision
-				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+		final RevisionType revisionType = getRevisionType( configuration, data );
+		if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+			// Queue the update, executed along with the other updates of the transaction by a completion
+			// process, to guarantee execution of UPDATE statement after INSERT.
+			getRevisionEndUpdates( (EventSource) session ).add(
+					new RevisionEndUpdate(
+							entityName,
+							auditedEntityName,
+							configuration,
+							id,
+							revision,
+							reuseEntityIdentifier && revisionType == RevisionType.ADD
+					)
+			);
 		}
 		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
@@ -451,6 +437,149 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return false;
 	}
 
+	private List<RevisionEndUpdate> getRevisionEndUpdates(EventSource session) {
+		List<RevisionEndUpdate> updates = revisionEndUpdates.get( session );
+		if ( updates == null ) {
+			// No worries about registering a session twice - a session is single thread
+			updates = new ArrayList<>();
+			revisionEndUpdates.put( session, updates );
+
+			session.getActionQueue().registerProcess(
+					(BeforeTransactionCompletionProcess) sessionImplementor -> {
+						final List<RevisionEndUpdate> pending = revisionEndUpdates.remove( session );
+						if ( pending != null ) {
+							executeRevisionEndUpdates( sessionImplementor, pending );
+						}
+					}
+			);
+			session.getActionQueue().registerProcess(
+					(AfterTransactionCompletionProcess) (success, sessionImplementor) -> revisionEndUpdates.remove( session )
+			);
+		}
+		return updates;
+	}
+
+	/**
+	 * Executes the revision end updates of a transaction, grouping the updates of each audit table
+	 * in JDBC batches when batching is enabled.
+	 *
+	 * @param session the session
+	 * @param updates the revision end updates, in the order they were performed
+	 */
+	private void executeRevisionEndUpdates(SessionImplementor session, List<RevisionEndUpdate> updates) {
+		// Group the update contexts by statement, that is per audit table
+		final Map<String, List<Pair<RevisionEndUpdate, UpdateContext>>> contextsByStatement = new LinkedHashMap<>();
+		for ( RevisionEndUpdate update : updates ) {
+			final List<UpdateContext> contexts = getUpdateContexts(
+					update.entityName,
+					update.auditedEntityName,
+					session,
+					update.configuration,
+					update.id,
+					update.revision
+			);
+
+			if ( contexts.isEmpty() ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Failed to build update contexts for entity %s and id %s",
+								update.auditedEntityName,
+								update.id
+						)
+				);
+			}
+
+			for ( UpdateContext context : contexts ) {
+				contextsByStatement.computeIfAbsent( context.toStatementString(), sql -> new ArrayList<>() )
+						.add( Pair.make( update, context ) );
+			}
+		}
+
+		final Integer batchSize = session.getConfiguredJdbcBatchSize();
+		for ( Map.Entry<String, List<Pair<RevisionEndUpdate, UpdateContext>>> entry : contextsByStatement.entrySet() ) {
+			final List<Pair<RevisionEndUpdate, UpdateContext>> contexts = entry.getValue();
+			if ( batchSize == null || batchSize <= 1 || contexts.size() == 1 ) {
+				for ( Pair<RevisionEndUpdate, UpdateContext> context : contexts ) {
+					verifyRowCount( context.getFirst(), executeUpdate( session, context.getSecond() ) );
+				}
+			}
+			else {
+				executeBatchedUpdates( session, entry.getKey(), contexts, batchSize );
+			}
+		}
+	}
+
+	/**
+	 * Executes update contexts sharing the same statement as JDBC batches of at most {@code batchSize}
+	 * updates, verifying the number of rows affected by each of them.
+	 *
+	 * @param session the session
+	 * @param sql the statement of the update contexts
+	 * @param contexts the update contexts, along with the revision end update each belongs to
+	 * @param batchSize the maximum number of updates per batch
+	 */
+	private void executeBatchedUpdates(
+			SessionImplementor session,
+			String sql,
+			List<Pair<RevisionEndUpdate, UpdateContext>> contexts,
+			int batchSize) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		session.doWork(
+				connection -> {
+					try {
+						for ( int start = 0; start < contexts.size(); start += batchSize ) {
+							final int end = Math.min( start + batchSize, contexts.size() );
+							for ( int i = start; i < end; i++ ) {
+								int index = 1;
+								for ( QueryParameterBinding binding : contexts.get( i ).getSecond().getBindings() ) {
+									index += binding.bind( index, statement, session );
+								}
+								statement.addBatch();
+							}
+
+							final int[] rowCounts;
+							try {
+								observer.jdbcExecuteBatchStart();
+								rowCounts = statement.executeBatch();
+							}
+							finally {
+								observer.jdbcExecuteBatchEnd();
+							}
+
+							for ( int i = 0; i < rowCounts.length && start + i < end; i++ ) {
+								// Some drivers do not report the number of rows affected by batched statements
+								if ( rowCounts[i] != Statement.SUCCESS_NO_INFO ) {
+									verifyRowCount( contexts.get( start + i ).getFirst(), rowCounts[i] );
+								}
+							}
+						}
+					}
+					finally {
+						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+						jdbcCoordinator.afterStatementExecution();
+					}
+				}
+		);
+	}
+
+	private void verifyRowCount(RevisionEndUpdate update, int rows) {
+		if ( rows != 1 && !update.allowNoPreviousRevision ) {
+			throw new AuditException(
+					String.format(
+							Locale.ENGLISH,
+							"Cannot update previous revision for entity %s and id %s (%s rows modified).",
+							update.auditedEntityName,
+							update.id,
+							rows
+					)
+			);
+		}
+	}
+
 	/**
 	 * Executes the {@link UpdateContext} within the scope of the specified session.
 	 *
@@ -650,6 +779,35 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return rootAuditEntity.getTableName();
 	}
 
+	/**
+	 * An update of the revision end of the previous audit row of an entity, queued until the
+	 * completion of the transaction.
+	 */
+	private static class RevisionEndUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Configuration configuration;
+		private final Object id;
+		private final Object revision;
+		// whether the entity may have no previous revision, when a removed entity identifier is reused
+		private final boolean allowNoPreviousRevision;
+
+		public RevisionEndUpdate(
+				String entityName,
+				String auditedEntityName,
+				Configuration configuration,
+				Object id,
+				Object revision,
+				boolean allowNoPreviousRevision) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.configuration = configuration;
+			this.id = id;
+			this.revision = revision;
+			this.allowNoPreviousRevision = allowNoPreviousRevision;
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.auditReader;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.reader.FirstLevelCache;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefEdEntity;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefIngEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that {@link AuditReader#findAll} finds the same entities as {@link AuditReader#find}, and
+ * initializes the proxies of their *-to-one relations in batches.
+ */
+public class FindAllTest extends BaseEnversJPAFunctionalTestCase {
+	private static final List<Integer> ING_IDS = Arrays.asList( 1, 2, 3, 4, 99 );
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SetRefEdEntity.class, SetRefIngEntity.class };
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final SetRefEdEntity ed1 = new SetRefEdEntity( 1, "data_ed_1" );
+		final SetRefEdEntity ed2 = new SetRefEdEntity( 2, "data_ed_2" );
+		final SetRefEdEntity ed3 = new SetRefEdEntity( 3, "data_ed_3" );
+		em.persist( ed1 );
+		em.persist( ed2 );
+		em.persist( ed3 );
+		em.persist( new SetRefIngEntity( 1, "data_ing_1", ed1 ) );
+		em.persist( new SetRefIngEntity( 2, "data_ing_2", ed2 ) );
+		em.persist( new SetRefIngEntity( 3, "data_ing_3", ed3 ) );
+		em.persist( new SetRefIngEntity( 4, "data_ing_4", ed1 ) );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.remove( em.find( SetRefIngEntity.class, 1 ) );
+		em.find( SetRefEdEntity.class, 2 ).setData( "data_ed_2_changed" );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testFindAllMatchesFind() {
+		for ( Integer revision : Arrays.asList( 1, 2 ) ) {
+			final AuditReader auditReader = AuditReaderFactory.get( createIsolatedEntityManager() );
+			final Map<Object, SetRefIngEntity> found = auditReader.findAll( SetRefIngEntity.class, ING_IDS, revision );
+
+			final AuditReader findReader = AuditReaderFactory.get( createIsolatedEntityManager() );
+			for ( Integer id : ING_IDS ) {
+				final SetRefIngEntity expected = findReader.find( SetRefIngEntity.class, id, revision );
+				assertEquals( expected, found.get( id ) );
+				assertEquals( expected != null, found.containsKey( id ) );
+				if ( expected != null ) {
+					assertEquals( expected.getReference().getData(), found.get( id ).getReference().getData() );
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFindAllPreservesOrder() {
+		final List<Integer> ids = Arrays.asList( 4, 2, 3 );
+		final Map<Object, SetRefIngEntity> found = AuditReaderFactory.get( createIsolatedEntityManager() )
+				.findAll( SetRefIngEntity.class, ids, 1 );
+		assertEquals( ids, Arrays.asList( found.keySet().toArray() ) );
+	}
+
+	@Test
+	public void testFindAllOfNoIds() {
+		assertTrue(
+				AuditReaderFactory.get( createIsolatedEntityManager() )
+						.findAll( SetRefIngEntity.class, Collections.emptyList(), 1 )
+						.isEmpty()
+		);
+	}
+
+	@Test
+	public void testReferencesFetchedInBatch() {
+		final AuditReaderImplementor auditReader =
+				(AuditReaderImplementor) AuditReaderFactory.get( createIsolatedEntityManager() );
+		final FirstLevelCache cache = auditReader.getFirstLevelCache();
+		final String edEntityName = SetRefEdEntity.class.getName();
+
+		final Map<Object, SetRefIngEntity> found = auditReader.findAll( SetRefIngEntity.class, ING_IDS, 2 );
+		assertFalse( cache.contains( edEntityName, 2, 1 ) );
+		assertFalse( cache.contains( edEntityName, 2, 2 ) );
+		assertFalse( cache.contains( edEntityName, 2, 3 ) );
+
+		// initializing a single reference loads all the references of the found entities
+		assertEquals( "data_ed_2_changed", found.get( 2 ).getReference().getData() );
+		assertTrue( cache.contains( edEntityName, 2, 1 ) );
+		assertTrue( cache.contains( edEntityName, 2, 3 ) );
+
+		assertEquals( "data_ed_1", found.get( 4 ).getReference().getData() );
+		assertEquals( "data_ed_3", found.get( 3 ).getReference().getData() );
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that an audit outbox entry which can not be expanded holds back later entries until its
+ * attempts are exhausted, and is then marked as failed and kept in the outbox.
+ */
+public class AsyncAuditWritingFailureTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer strId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.ASYNC_AUDIT_WRITING, "true" );
+		options.put( EnversSettings.ASYNC_AUDIT_MAX_ATTEMPTS, "2" );
+		// the outbox is drained by the test
+		options.put( EnversSettings.ASYNC_AUDIT_DRAIN_INTERVAL, "3600000" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity str = new StrTestEntity( "x" );
+		em.persist( str );
+		em.getTransaction().commit();
+
+		// an unreadable entry, of a revision drained first
+		em.getTransaction().begin();
+		final Map<String, Object> entry = new HashMap<>();
+		entry.put( AuditOutbox.REVISION_PROPERTY_NAME, 0L );
+		entry.put( AuditOutbox.PAYLOAD_PROPERTY_NAME, new byte[] { 1, 2, 3 } );
+		entry.put( AuditOutbox.ATTEMPTS_PROPERTY_NAME, 0 );
+		entry.put( AuditOutbox.FAILED_PROPERTY_NAME, false );
+		em.unwrap( Session.class ).save( AuditOutbox.ENTITY_NAME, entry );
+		em.getTransaction().commit();
+
+		em.close();
+
+		strId = str.getId();
+	}
+
+	@Test
+	@Priority(9)
+	public void testDrain() {
+		final AuditOutbox auditOutbox = serviceRegistry().getService( EnversService.class ).getAuditOutbox();
+		final SessionFactoryImplementor sessionFactory = entityManagerFactory().unwrap( SessionFactoryImplementor.class );
+
+		try {
+			auditOutbox.drain( sessionFactory );
+			fail( "Expecting the unreadable entry to fail the drain" );
+		}
+		catch (AuditException expected) {
+		}
+		assertEquals( 0, getAuditReader().getRevisions( StrTestEntity.class, strId ).size() );
+
+		// the attempts are exhausted, the entry is marked as failed and later entries are expanded
+		assertEquals( 1, auditOutbox.drain( sessionFactory ) );
+		assertEquals( 0, auditOutbox.drain( sessionFactory ) );
+	}
+
+	@Test
+	public void testFailedEntryIsKept() {
+		EntityManager em = getEntityManager();
+		final Number failedEntries = (Number) em.createQuery(
+				"select count(e) from " + AuditOutbox.ENTITY_NAME + " e where e." + AuditOutbox.FAILED_PROPERTY_NAME + " = true"
+		).getSingleResult();
+		em.close();
+		assertEquals( 1, failedEntries.intValue() );
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1 ), getAuditReader().getRevisions( StrTestEntity.class, strId ) );
+	}
+}
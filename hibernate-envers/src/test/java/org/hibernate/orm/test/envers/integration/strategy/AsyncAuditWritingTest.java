@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.collection.StringSetEntity;
+import org.hibernate.orm.test.envers.tools.TestTools;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that audit data written to the outbox, when written asynchronously, is only visible once
+ * the outbox is drained, and is then the same as if written synchronously.
+ */
+public class AsyncAuditWritingTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer strId;
+	private Integer setId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, StringSetEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( EnversSettings.ASYNC_AUDIT_WRITING, "true" );
+		// the outbox is drained by the test
+		options.put( EnversSettings.ASYNC_AUDIT_DRAIN_INTERVAL, "3600000" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity str = new StrTestEntity( "x" );
+		final StringSetEntity set = new StringSetEntity();
+		set.getStrings().add( "a" );
+		em.persist( str );
+		em.persist( set );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, str.getId() ).setStr( "y" );
+		em.find( StringSetEntity.class, set.getId() ).getStrings().add( "b" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, str.getId() ) );
+		em.getTransaction().commit();
+
+		em.close();
+
+		strId = str.getId();
+		setId = set.getId();
+	}
+
+	@Test
+	@Priority(9)
+	public void testNotAuditedBeforeDrain() {
+		assertEquals( Collections.emptyList(), getAuditReader().getRevisions( StrTestEntity.class, strId ) );
+		assertEquals( Collections.emptyList(), getAuditReader().getRevisions( StringSetEntity.class, setId ) );
+
+		EntityManager em = getEntityManager();
+		final Number entries = (Number) em.createQuery( "select count(e) from " + AuditOutbox.ENTITY_NAME + " e" )
+				.getSingleResult();
+		em.close();
+		assertEquals( 3, entries.intValue() );
+	}
+
+	@Test
+	@Priority(8)
+	public void testDrain() {
+		final AuditOutbox auditOutbox = serviceRegistry().getService( EnversService.class ).getAuditOutbox();
+		final SessionFactoryImplementor sessionFactory = entityManagerFactory().unwrap( SessionFactoryImplementor.class );
+		assertEquals( 3, auditOutbox.drain( sessionFactory ) );
+		assertEquals( 0, auditOutbox.drain( sessionFactory ) );
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, strId ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StringSetEntity.class, setId ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( "x", getAuditReader().find( StrTestEntity.class, strId, 1 ).getStr() );
+		assertEquals( "y", getAuditReader().find( StrTestEntity.class, strId, 2 ).getStr() );
+		assertNull( getAuditReader().find( StrTestEntity.class, strId, 3 ) );
+
+		assertEquals( TestTools.makeSet( "a" ), getAuditReader().find( StringSetEntity.class, setId, 1 ).getStrings() );
+		assertEquals( TestTools.makeSet( "a", "b" ), getAuditReader().find( StringSetEntity.class, setId, 2 ).getStrings() );
+	}
+
+	@Test
+	public void testOneOpenRevisionPerEntity() {
+		EntityManager em = getEntityManager();
+		final Number openRevisions = (Number) em.createNativeQuery( "select count(*) from STR_TEST_AUD where REVEND is null" )
+				.getSingleResult();
+		em.close();
+		assertEquals( 1, openRevisions.intValue() );
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that the revision ends set by the {@link ValidityAuditStrategy} are correct when the
+ * updates of a transaction are executed in JDBC batches.
+ */
+public class ValidityAuditStrategyBatchedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 12;
+
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final StrTestEntity entity = new StrTestEntity( "a" + i );
+			em.persist( entity );
+			ids.add( entity.getId() );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			em.find( StrTestEntity.class, id ).setStr( "b" + id );
+		}
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		for ( Integer id : ids.subList( 0, ENTITY_COUNT / 2 ) ) {
+			em.remove( em.find( StrTestEntity.class, id ) );
+		}
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		for ( Integer id : ids.subList( 0, ENTITY_COUNT / 2 ) ) {
+			assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+		}
+		for ( Integer id : ids.subList( ENTITY_COUNT / 2, ENTITY_COUNT ) ) {
+			assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+		}
+	}
+
+	@Test
+	public void testHistory() {
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final Integer id = ids.get( i );
+			assertEquals( "a" + i, getAuditReader().find( StrTestEntity.class, id, 1 ).getStr() );
+			assertEquals( "b" + id, getAuditReader().find( StrTestEntity.class, id, 2 ).getStr() );
+			if ( i < ENTITY_COUNT / 2 ) {
+				assertNull( getAuditReader().find( StrTestEntity.class, id, 3 ) );
+			}
+		}
+	}
+
+	@Test
+	public void testOneOpenRevisionPerEntity() {
+		EntityManager em = getEntityManager();
+		final Number openRevisions = (Number) em.createNativeQuery( "select count(*) from STR_TEST_AUD where REVEND is null" )
+				.getSingleResult();
+		final Number endedRevisions = (Number) em.createNativeQuery( "select count(*) from STR_TEST_AUD where REVEND is not null" )
+				.getSingleResult();
+		em.close();
+
+		assertEquals( ENTITY_COUNT, openRevisions.intValue() );
+		assertEquals( ENTITY_COUNT + ENTITY_COUNT / 2, endedRevisions.intValue() );
+	}
+}
@@ -24,6 +24,9 @@ import java.util.concurrent.TimeUnit;
  * A {@link MeterBinder} implementation that provides Hibernate query metrics. It exposes the
  * same statistics as would be exposed when calling {@link Statistics#getQueryStatistics(String)}.
  * Note that only SELECT queries are recorded in {@link QueryStatistics}.
+ * When {@value org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS} is enabled,
+ * the percentiles of the query execution times, and of the times taken to load each entity,
+ * are exposed as well.
  * <p>
  * Be aware of the potential for high cardinality of unique Hibernate queries executed by your
  * application when considering using this {@link MeterBinder}.
@@ -34,6 +37,8 @@ public class HibernateQueryMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99, 0.999 };
+
 	private final Iterable<Tag> tags;
 
 	private final SessionFactory sessionFactory;
@@ -102,7 +107,48 @@ public class HibernateQueryMetrics implements MeterBinder {
 
 		@Override
 		public void onPostLoad(PostLoadEvent event) {
-			registerQueryMetric( event.getSession().getFactory().getStatistics() );
+			final Statistics statistics = event.getSession().getFactory().getStatistics();
+			registerQueryMetric( statistics );
+			registerEntityLatencyMetric( statistics, event.getPersister().getEntityName() );
+		}
+
+		void registerEntityLatencyMetric(Statistics statistics, String entityName) {
+			final EntityStatistics entityStatistics = statistics.getEntityStatistics( entityName );
+			registerPercentiles(
+					"hibernate.entity.load.percentile",
+					entityStatistics.getLoadLatency(),
+					Tags.of( "entity", entityName ),
+					"Percentiles of the times taken to load an entity by identifier"
+			);
+			registerPercentiles(
+					"hibernate.entity.fetch.percentile",
+					entityStatistics.getFetchLatency(),
+					Tags.of( "entity", entityName ),
+					"Percentiles of the times taken to fetch an entity by identifier"
+			);
+		}
+
+		private void registerPercentiles(
+				String name,
+				LatencyStatistics latencyStatistics,
+				Iterable<Tag> extraTags,
+				String description) {
+			if ( latencyStatistics == null ) {
+				return;
+			}
+			for ( double percentile : PERCENTILES ) {
+				TimeGauge.builder(
+						name,
+						latencyStatistics,
+						TimeUnit.MICROSECONDS,
+						latency -> latency.getTimeAtPercentile( percentile * 100 )
+				)
+						.tags( tags )
+						.tags( extraTags )
+						.tags( "phi", Double.toString( percentile ) )
+						.description( description )
+						.register( meterRegistry );
+			}
 		}
 
 		void registerQueryMetric(Statistics statistics) {
@@ -182,6 +228,13 @@ public class HibernateQueryMetrics implements MeterBinder {
 						.tags( "query", query )
 						.description( "Number of rows processed for a query" )
 						.register( meterRegistry );
+
+				registerPercentiles(
+						"hibernate.query.execution.percentile",
+						queryStatistics.getExecutionLatency(),
+						Tags.of( "query", query ),
+						"Percentiles of the query execution time"
+				);
 			}
 		}
 	}
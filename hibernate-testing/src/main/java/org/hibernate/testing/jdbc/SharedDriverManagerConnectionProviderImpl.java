@@ -8,6 +8,7 @@ package org.hibernate.testing.jdbc;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
@@ -40,7 +41,10 @@ public class SharedDriverManagerConnectionProviderImpl extends DriverManagerConn
 			if ( config != null ) {
 				super.stop();
 			}
-			super.configure( configurationValues );
+			// connections are shared across tests, some of which break them
+			final Map<Object, Object> settings = new HashMap<>( configurationValues );
+			settings.putIfAbsent( VALIDATE_ON_BORROW, "true" );
+			super.configure( settings );
 			config = c;
 		}
 	}